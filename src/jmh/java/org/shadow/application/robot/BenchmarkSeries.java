@@ -0,0 +1,88 @@
+package org.shadow.application.robot;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.shadow.application.robot.common.model.Bar;
+
+/**
+ * Deterministic random-walk price series shared by the benchmarks, so every run and every window
+ * size measures the same data.
+ */
+public final class BenchmarkSeries {
+
+  private static final long SEED = 42;
+  private static final double START_PRICE = 100.0;
+  private static final double STEP_VOLATILITY = 0.002;
+
+  private final double[] opens;
+  private final double[] highs;
+  private final double[] lows;
+  private final double[] closes;
+  private final List<Bar> bars;
+
+  private BenchmarkSeries(int size) {
+    var random = new SplittableRandom(SEED);
+    this.opens = new double[size];
+    this.highs = new double[size];
+    this.lows = new double[size];
+    this.closes = new double[size];
+    this.bars = new ArrayList<>(size);
+
+    var time = Instant.parse("2024-01-01T00:00:00Z");
+    var price = START_PRICE;
+    for (var i = 0; i < size; i++) {
+      var open = price;
+      var close = open * (1 + STEP_VOLATILITY * random.nextGaussian());
+      var high = Math.max(open, close) * (1 + STEP_VOLATILITY * random.nextDouble());
+      var low = Math.min(open, close) * (1 - STEP_VOLATILITY * random.nextDouble());
+      opens[i] = open;
+      highs[i] = high;
+      lows[i] = low;
+      closes[i] = close;
+      bars.add(
+          new Bar(
+              time,
+              BigDecimal.valueOf(open),
+              BigDecimal.valueOf(high),
+              BigDecimal.valueOf(low),
+              BigDecimal.valueOf(close),
+              BigDecimal.valueOf(1 + random.nextInt(1_000))));
+      time = time.plus(Duration.ofMinutes(1));
+      price = close;
+    }
+  }
+
+  /**
+   * Generates a series of one-minute bars.
+   *
+   * @param size the number of bars
+   * @return the series
+   */
+  public static BenchmarkSeries generate(int size) {
+    return new BenchmarkSeries(size);
+  }
+
+  public double[] getOpens() {
+    return opens;
+  }
+
+  public double[] getHighs() {
+    return highs;
+  }
+
+  public double[] getLows() {
+    return lows;
+  }
+
+  public double[] getCloses() {
+    return closes;
+  }
+
+  public List<Bar> getBars() {
+    return bars;
+  }
+}
@@ -0,0 +1,194 @@
+package org.shadow.application.robot.explorer;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.shadow.application.robot.BenchmarkSeries;
+import org.shadow.application.robot.common.model.Bar;
+import org.shadow.application.robot.explorer.model.BinaryIsMomentumExplorationState;
+import org.shadow.application.robot.indicator.BollingerBandsIndicator;
+import org.shadow.application.robot.indicator.MACDIndicator;
+import org.shadow.application.robot.indicator.RSIIndicator;
+import org.shadow.application.robot.indicator.StochasticOscillatorIndicator;
+import org.shadow.application.robot.indicator.model.BollingerBandsResult;
+import org.shadow.application.robot.indicator.model.MACDCalculationResult;
+import org.shadow.application.robot.indicator.model.StochasticOscillatorResult;
+
+/**
+ * Measures both momentum checks of every explorer with the thresholds of the development
+ * configuration as a robot cycle runs them: each invocation rolls the window by one new bar, so the
+ * streaming indicator is fed a single O(1) update. For comparison, {@code calculate} of the same
+ * indicators recomputes the rolled window from scratch, and the warm-up feeds the whole window.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExplorerBenchmark {
+
+  /** Bars the window rolls over before it starts again at the beginning of the series. */
+  private static final int ROLLED_BARS = 4_096;
+
+  @Param({"50", "500", "5000"})
+  private int windowSize;
+
+  private final RSIBinaryExplorer rsiExplorer =
+      new RSIBinaryExplorer(1, 7, 25.0, 75.0, 35.0, 65.0, 45.0, 55.0);
+  private final MACDBinaryExplorer macdExplorer =
+      new MACDBinaryExplorer(1, 12, 26, 9, 0.5, 0.2, 0.05);
+  private final BollingerBandsBinaryExplorer bollingerBandsExplorer =
+      new BollingerBandsBinaryExplorer(1, 20, 2.0, 0.0, 1.0, 0.2, 0.8, 0.4, 0.6);
+  private final StochasticOscillatorExplorer stochasticOscillatorExplorer =
+      new StochasticOscillatorExplorer(1, 14, 3, 20.0, 80.0, 30.0, 70.0, 40.0, 60.0);
+
+  private final RSIIndicator rsiIndicator = new RSIIndicator(7);
+  private final MACDIndicator macdIndicator = new MACDIndicator(12, 26, 9);
+  private final BollingerBandsIndicator bollingerBandsIndicator =
+      new BollingerBandsIndicator(20, 2.0);
+  private final StochasticOscillatorIndicator stochasticOscillatorIndicator =
+      new StochasticOscillatorIndicator(14, 3);
+
+  private RollingWindow window;
+  private double[] closes;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    window = new RollingWindow(BenchmarkSeries.generate(windowSize + ROLLED_BARS).getBars());
+    closes = new double[windowSize];
+    rsiExplorer.warmUp(window);
+    macdExplorer.warmUp(window);
+    bollingerBandsExplorer.warmUp(window);
+    stochasticOscillatorExplorer.warmUp(window);
+  }
+
+  @Benchmark
+  public void warmUp() {
+    rsiExplorer.warmUp(window);
+    macdExplorer.warmUp(window);
+    bollingerBandsExplorer.warmUp(window);
+    stochasticOscillatorExplorer.warmUp(window);
+  }
+
+  @Benchmark
+  public BinaryIsMomentumExplorationState rsiToLong() {
+    window.roll();
+    return rsiExplorer.isMomentumToLong(window);
+  }
+
+  @Benchmark
+  public BinaryIsMomentumExplorationState rsiToShort() {
+    window.roll();
+    return rsiExplorer.isMomentumToShort(window);
+  }
+
+  @Benchmark
+  public BinaryIsMomentumExplorationState macdToLong() {
+    window.roll();
+    return macdExplorer.isMomentumToLong(window);
+  }
+
+  @Benchmark
+  public BinaryIsMomentumExplorationState macdToShort() {
+    window.roll();
+    return macdExplorer.isMomentumToShort(window);
+  }
+
+  @Benchmark
+  public BinaryIsMomentumExplorationState bollingerBandsToLong() {
+    window.roll();
+    return bollingerBandsExplorer.isMomentumToLong(window);
+  }
+
+  @Benchmark
+  public BinaryIsMomentumExplorationState bollingerBandsToShort() {
+    window.roll();
+    return bollingerBandsExplorer.isMomentumToShort(window);
+  }
+
+  @Benchmark
+  public BinaryIsMomentumExplorationState stochasticOscillatorToLong() {
+    window.roll();
+    return stochasticOscillatorExplorer.isMomentumToLong(window);
+  }
+
+  @Benchmark
+  public BinaryIsMomentumExplorationState stochasticOscillatorToShort() {
+    window.roll();
+    return stochasticOscillatorExplorer.isMomentumToShort(window);
+  }
+
+  @Benchmark
+  public Double rsiCalculate() {
+    window.roll();
+    return rsiIndicator.calculate(rolledCloses());
+  }
+
+  @Benchmark
+  public MACDCalculationResult macdCalculate() {
+    window.roll();
+    return macdIndicator.calculate(rolledCloses());
+  }
+
+  @Benchmark
+  public BollingerBandsResult bollingerBandsCalculate() {
+    window.roll();
+    return bollingerBandsIndicator.calculate(rolledCloses());
+  }
+
+  @Benchmark
+  public StochasticOscillatorResult stochasticOscillatorCalculate() {
+    window.roll();
+    return stochasticOscillatorIndicator.calculate(window);
+  }
+
+  private double[] rolledCloses() {
+    for (var i = 0; i < closes.length; i++) {
+      closes[i] = window.get(i).close().doubleValue();
+    }
+    return closes;
+  }
+
+  /**
+   * Window of {@code windowSize} consecutive bars of the series, rolled by one bar at a time like
+   * the bar window of a robot. At the end of the series it wraps around to its beginning, so a
+   * roll is always the single new bar a streaming feed continues from.
+   */
+  private final class RollingWindow extends AbstractList<Bar> {
+
+    private final List<Bar> series;
+    private int offset;
+
+    private RollingWindow(List<Bar> series) {
+      this.series = series;
+    }
+
+    private void roll() {
+      offset = offset + 1 == series.size() ? 0 : offset + 1;
+    }
+
+    @Override
+    public Bar get(int index) {
+      var seriesIndex = offset + index;
+      return series.get(seriesIndex < series.size() ? seriesIndex : seriesIndex - series.size());
+    }
+
+    @Override
+    public int size() {
+      return windowSize;
+    }
+  }
+}
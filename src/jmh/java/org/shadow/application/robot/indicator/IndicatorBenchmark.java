@@ -0,0 +1,121 @@
+package org.shadow.application.robot.indicator;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.shadow.application.robot.BenchmarkSeries;
+import org.shadow.application.robot.common.model.Bar;
+import org.shadow.application.robot.indicator.model.BollingerBandsResult;
+import org.shadow.application.robot.indicator.model.MACDCalculationResult;
+import org.shadow.application.robot.indicator.model.StochasticOscillatorResult;
+
+/**
+ * Measures {@code calculate} of every indicator over a full window of bars, and {@code
+ * calculateSeries} over the same bars into preallocated arrays, with the periods of the
+ * development configuration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndicatorBenchmark {
+
+  @Param({"50", "500", "5000"})
+  private int windowSize;
+
+  private final RSIIndicator rsiIndicator = new RSIIndicator(7);
+  private final MACDIndicator macdIndicator = new MACDIndicator(12, 26, 9);
+  private final BollingerBandsIndicator bollingerBandsIndicator =
+      new BollingerBandsIndicator(20, 2.0);
+  private final StochasticOscillatorIndicator stochasticOscillatorIndicator =
+      new StochasticOscillatorIndicator(14, 3);
+  private final ATRIndicator atrIndicator = new ATRIndicator(14);
+
+  private double[] highs;
+  private double[] lows;
+  private double[] closes;
+  private List<Bar> bars;
+  private double[] firstOutput;
+  private double[] secondOutput;
+  private double[] thirdOutput;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    var series = BenchmarkSeries.generate(windowSize);
+    highs = series.getHighs();
+    lows = series.getLows();
+    closes = series.getCloses();
+    bars = series.getBars();
+    firstOutput = new double[windowSize];
+    secondOutput = new double[windowSize];
+    thirdOutput = new double[windowSize];
+  }
+
+  @Benchmark
+  public Double rsi() {
+    return rsiIndicator.calculate(closes);
+  }
+
+  @Benchmark
+  public MACDCalculationResult macd() {
+    return macdIndicator.calculate(closes);
+  }
+
+  @Benchmark
+  public BollingerBandsResult bollingerBands() {
+    return bollingerBandsIndicator.calculate(closes);
+  }
+
+  @Benchmark
+  public StochasticOscillatorResult stochasticOscillator() {
+    return stochasticOscillatorIndicator.calculate(bars);
+  }
+
+  @Benchmark
+  public List<Double> atr() {
+    return atrIndicator.calculate(highs, lows, closes);
+  }
+
+  @Benchmark
+  public double[] rsiSeries() {
+    rsiIndicator.calculateSeries(closes, firstOutput);
+    return firstOutput;
+  }
+
+  @Benchmark
+  public double[] macdSeries() {
+    macdIndicator.calculateSeries(closes, firstOutput, secondOutput);
+    return secondOutput;
+  }
+
+  @Benchmark
+  public double[] bollingerBandsSeries() {
+    bollingerBandsIndicator.calculateSeries(closes, firstOutput, secondOutput, thirdOutput);
+    return thirdOutput;
+  }
+
+  @Benchmark
+  public double[] stochasticOscillatorSeries() {
+    stochasticOscillatorIndicator.calculateSeries(highs, lows, closes, firstOutput, secondOutput);
+    return secondOutput;
+  }
+
+  @Benchmark
+  public double[] atrSeries() {
+    atrIndicator.calculateSeries(highs, lows, closes, firstOutput);
+    return firstOutput;
+  }
+}
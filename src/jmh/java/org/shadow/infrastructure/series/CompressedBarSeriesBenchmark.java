@@ -0,0 +1,81 @@
+package org.shadow.infrastructure.series;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.shadow.application.robot.BenchmarkSeries;
+import org.shadow.application.robot.common.model.Bar;
+
+/**
+ * Measures sequential and block-level random decoding of a compressed bar series against reading
+ * the same closes from a list of bars, so decode throughput can be compared with indicator cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompressedBarSeriesBenchmark {
+
+  @Param({"5000", "500000"})
+  private int seriesSize;
+
+  private CompressedBarSeries series;
+  private List<Bar> bars;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    bars = BenchmarkSeries.generate(seriesSize).getBars();
+    series = new CompressedBarSeries();
+    for (var bar : bars) {
+      series.append(
+          bar.time().toEpochMilli(),
+          bar.open().doubleValue(),
+          bar.high().doubleValue(),
+          bar.low().doubleValue(),
+          bar.close().doubleValue(),
+          bar.volume().doubleValue());
+    }
+  }
+
+  @Benchmark
+  public double decodeAll() {
+    var sum = 0.0;
+    var cursor = series.cursor();
+    while (cursor.next()) {
+      sum += cursor.getClose();
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public double readBarList() {
+    var sum = 0.0;
+    for (var bar : bars) {
+      sum += bar.close().doubleValue();
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public double decodeWindowFromMiddle() {
+    var sum = 0.0;
+    var cursor = series.cursor(seriesSize / 2);
+    for (int i = 0; i < 500 && cursor.next(); i++) {
+      sum += cursor.getClose();
+    }
+    return sum;
+  }
+}
@@ -0,0 +1,74 @@
+package org.shadow.loadtest;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+/**
+ * Records the garbage collections reported by the JVM while the measurement runs. Concurrent
+ * cycles of ZGC and Shenandoah are reported by their own collector beans and are not pauses, so
+ * they are ignored.
+ */
+final class GcPauseRecorder implements NotificationListener, AutoCloseable {
+
+  private final List<NotificationEmitter> emitters = new ArrayList<>();
+  private final AtomicLong pauses = new AtomicLong();
+  private final AtomicLong totalPauseMillis = new AtomicLong();
+  private final LongAccumulator maxPauseMillis = new LongAccumulator(Math::max, 0);
+
+  GcPauseRecorder() {
+    for (var collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+      if (collector instanceof NotificationEmitter emitter) {
+        emitter.addNotificationListener(this, null, null);
+        emitters.add(emitter);
+      }
+    }
+  }
+
+  @Override
+  public void handleNotification(Notification notification, Object handback) {
+    if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(
+        notification.getType())) {
+      return;
+    }
+    var info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+    if (info.getGcName().endsWith("Cycles")) {
+      return;
+    }
+    var durationMillis = info.getGcInfo().getDuration();
+    pauses.incrementAndGet();
+    totalPauseMillis.addAndGet(durationMillis);
+    maxPauseMillis.accumulate(durationMillis);
+  }
+
+  long getPauses() {
+    return pauses.get();
+  }
+
+  long getTotalPauseMillis() {
+    return totalPauseMillis.get();
+  }
+
+  long getMaxPauseMillis() {
+    return maxPauseMillis.get();
+  }
+
+  @Override
+  public void close() {
+    for (var emitter : emitters) {
+      try {
+        emitter.removeNotificationListener(this);
+      } catch (ListenerNotFoundException e) {
+        // Already removed
+      }
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package org.shadow.loadtest;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Command line options of the load test, given as {@code --name=value}.
+ *
+ * @param robots the number of robots
+ * @param bars the number of measured bar boundaries
+ * @param warmupBars the number of boundaries run before measuring, must cover the bars robots need
+ *     before their strategy runs
+ * @param threads the parallelism of the pool running the robots
+ * @param historicalDataFile the series to replay instead of the configured synthetic market
+ * @param csv the file the result row is appended to
+ */
+record LoadTestOptions(
+    int robots,
+    int bars,
+    int warmupBars,
+    int threads,
+    Optional<String> historicalDataFile,
+    Path csv) {
+
+  static LoadTestOptions parse(String[] args) {
+    var robots = 100;
+    var bars = 1_000;
+    var warmupBars = 500;
+    var threads = Runtime.getRuntime().availableProcessors();
+    var historicalDataFile = Optional.<String>empty();
+    var csv = Path.of("build", "reports", "loadtest", "robot-cycles.csv");
+
+    for (var arg : args) {
+      if (!arg.startsWith("--") || !arg.contains("=")) {
+        throw new IllegalArgumentException("Expected --name=value but got " + arg);
+      }
+      var name = arg.substring(2, arg.indexOf('='));
+      var value = arg.substring(arg.indexOf('=') + 1);
+      switch (name) {
+        case "robots" -> robots = Integer.parseInt(value);
+        case "bars" -> bars = Integer.parseInt(value);
+        case "warmupBars" -> warmupBars = Integer.parseInt(value);
+        case "threads" -> threads = Integer.parseInt(value);
+        case "historicalDataFile" -> historicalDataFile = Optional.of(value);
+        case "csv" -> csv = Path.of(value);
+        default -> throw new IllegalArgumentException("Unknown option " + name);
+      }
+    }
+    if (robots <= 0 || bars <= 0 || warmupBars < 0 || threads <= 0) {
+      throw new IllegalArgumentException("Robots, bars and threads must be positive");
+    }
+    return new LoadTestOptions(robots, bars, warmupBars, threads, historicalDataFile, csv);
+  }
+}
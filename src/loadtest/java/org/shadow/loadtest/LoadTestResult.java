@@ -0,0 +1,75 @@
+package org.shadow.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Locale;
+
+/** Outcome of one load test run, one row of the trend CSV. */
+record LoadTestResult(
+    Instant timestamp,
+    int robots,
+    int bars,
+    int threads,
+    String timeframe,
+    String source,
+    long cycles,
+    long durationMillis,
+    double cyclesPerSecond,
+    long p50Micros,
+    long p99Micros,
+    long p999Micros,
+    long maxMicros,
+    long allocatedBytesPerCycle,
+    double allocationMegabytesPerSecond,
+    long gcPauses,
+    long gcPauseMillis,
+    long gcMaxPauseMillis) {
+
+  private static final String CSV_HEADER =
+      "timestamp,robots,bars,threads,timeframe,source,cycles,durationMillis,cyclesPerSecond,"
+          + "p50Micros,p99Micros,p999Micros,maxMicros,allocatedBytesPerCycle,"
+          + "allocationMegabytesPerSecond,gcPauses,gcPauseMillis,gcMaxPauseMillis";
+
+  /**
+   * Appends the result to a CSV file, writing the header first when the file is new.
+   *
+   * @param csv the file
+   * @throws IOException if the file cannot be written
+   */
+  void appendTo(Path csv) throws IOException {
+    if (csv.getParent() != null) {
+      Files.createDirectories(csv.getParent());
+    }
+    var row = new StringBuilder();
+    if (!Files.exists(csv) || Files.size(csv) == 0) {
+      row.append(CSV_HEADER).append(System.lineSeparator());
+    }
+    row.append(
+            String.format(
+                Locale.ROOT,
+                "%s,%d,%d,%d,%s,%s,%d,%d,%.1f,%d,%d,%d,%d,%d,%.1f,%d,%d,%d",
+                timestamp,
+                robots,
+                bars,
+                threads,
+                timeframe,
+                source,
+                cycles,
+                durationMillis,
+                cyclesPerSecond,
+                p50Micros,
+                p99Micros,
+                p999Micros,
+                maxMicros,
+                allocatedBytesPerCycle,
+                allocationMegabytesPerSecond,
+                gcPauses,
+                gcPauseMillis,
+                gcMaxPauseMillis))
+        .append(System.lineSeparator());
+    Files.writeString(csv, row, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+  }
+}
@@ -0,0 +1,52 @@
+package org.shadow.loadtest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.shadow.domain.client.BarsCollectorClient;
+import org.shadow.domain.client.model.Bar;
+import org.shadow.infrastructure.client.fake.BarListener;
+
+/**
+ * Replays one bar per collection from a historical series shared by all robots. Every robot starts
+ * at its own offset and wraps around at the end, so thousands of robots need a single copy of the
+ * series.
+ */
+final class ReplayBarsCollectorClient implements BarsCollectorClient {
+
+  private final List<Bar> bars;
+  private final String symbol;
+  private final BarListener barListener;
+
+  private int cursor;
+
+  /**
+   * @param bars the shared series
+   * @param offset the index of the first replayed bar
+   * @param symbol the symbol reported to the listener
+   * @param barListener notified of every replayed bar, may be null
+   */
+  ReplayBarsCollectorClient(List<Bar> bars, int offset, String symbol, BarListener barListener) {
+    if (bars.isEmpty()) {
+      throw new IllegalArgumentException("Series must contain at least one bar");
+    }
+    this.bars = bars;
+    this.cursor = offset % bars.size();
+    this.symbol = symbol;
+    this.barListener = barListener;
+  }
+
+  @Override
+  public void init() {}
+
+  @Override
+  public synchronized List<Bar> collectBars(
+      TimeUnit interval, long range, Instant timeFrom, Instant timeTo) {
+    var bar = bars.get(cursor);
+    cursor = (cursor + 1) % bars.size();
+    if (barListener != null) {
+      barListener.onBar(symbol, bar);
+    }
+    return List.of(bar);
+  }
+}
@@ -0,0 +1,203 @@
+package org.shadow.loadtest;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.shadow.application.metrics.CycleLatencyReporter;
+import org.shadow.application.metrics.CycleMetricsRegistry;
+import org.shadow.application.metrics.LatencyHistogram;
+import org.shadow.application.orchestration.BatchRobotScheduler;
+import org.shadow.application.orchestration.TaskScheduler;
+import org.shadow.application.robot.Robot;
+import org.shadow.config.Config;
+import org.shadow.config.factory.FakeExchangeOrderClientFactory;
+import org.shadow.config.factory.SinglePositionRobotFactory;
+import org.shadow.config.factory.SyntheticBarsCollectorClientFactory;
+import org.shadow.config.model.RobotConfiguration;
+import org.shadow.domain.client.BarsCollectorClient;
+import org.shadow.domain.client.model.Bar;
+import org.shadow.infrastructure.client.fake.BarListener;
+import org.shadow.infrastructure.file.HistoricalDataLoader;
+
+/**
+ * Load test of the robot cycle: builds N robots from the first robot of the configuration through
+ * {@link SinglePositionRobotFactory}, runs them against the fake exchange through a {@link
+ * BatchRobotScheduler} for M bar boundaries as fast as possible and reports how many robot cycles
+ * per second one box sustains, the cycle latency percentiles, the allocation rate and the GC
+ * pauses. Bars come from the configured synthetic market, or from a replayed historical file. The
+ * result is appended to a CSV file for trend tracking.
+ *
+ * <p>Run with {@code ./gradlew loadTest -Probots=1000 -Pbars=2000}.
+ */
+public class RobotCycleLoadTest {
+
+  private static final Logger logger = LogManager.getLogger(RobotCycleLoadTest.class);
+
+  public static void main(String[] args) throws IOException {
+    var options = LoadTestOptions.parse(args);
+    var config = Config.load();
+    var template = config.robotConfigurations().getFirst();
+
+    var exchangeOrderClient =
+        new FakeExchangeOrderClientFactory().createClient(config.exchangeConfiguration());
+    exchangeOrderClient.init();
+    var matchingEngine = exchangeOrderClient.getMatchingEngine();
+
+    var historicalBars =
+        options.historicalDataFile().isPresent()
+            ? loadHistoricalBars(options.historicalDataFile().get())
+            : List.<Bar>of();
+    var intervalMillis = template.unit().toMillis(template.interval());
+
+    var latencyHistogram = new LatencyHistogram();
+    var cycleMetricsRegistry = new CycleMetricsRegistry();
+    var robotFactory = new SinglePositionRobotFactory(cycleMetricsRegistry);
+    var robots = new ArrayList<Robot>(options.robots());
+    var syntheticClientFactory = new SyntheticBarsCollectorClientFactory();
+    for (int i = 0; i < options.robots(); i++) {
+      var robotConfiguration = withSymbol(template, template.symbol() + "#" + i);
+      BarsCollectorClient barsCollectorClient;
+      if (historicalBars.isEmpty()) {
+        var syntheticClient =
+            syntheticClientFactory.createClient(
+                config.exchangeConfiguration(), robotConfiguration);
+        if (matchingEngine != null) {
+          syntheticClient.addBarListener(matchingEngine);
+        }
+        barsCollectorClient = syntheticClient;
+      } else {
+        barsCollectorClient =
+            createReplayClient(
+                historicalBars, i, options.robots(), robotConfiguration.symbol(), matchingEngine);
+      }
+      barsCollectorClient.init();
+      var robot =
+          robotFactory.createRobot(robotConfiguration, barsCollectorClient, exchangeOrderClient);
+      robots.add(new TimedRobot(robot, latencyHistogram));
+    }
+    robots.forEach(Robot::init);
+
+    var pool = new ForkJoinPool(options.threads());
+    // The batch is driven directly instead of by its timer, so the task scheduler never starts
+    var batchScheduler =
+        new BatchRobotScheduler(
+            robots.getFirst().getRobotTimeframe(),
+            robots,
+            new TaskScheduler(Executors.newSingleThreadScheduledExecutor()),
+            pool,
+            intervalMillis);
+
+    logger.info(
+        "Warming up {} robots on {} threads for {} bars...",
+        options.robots(),
+        options.threads(),
+        options.warmupBars());
+    for (int i = 0; i < options.warmupBars(); i++) {
+      batchScheduler.runBatch();
+    }
+    var cycleLatencyReporter = new CycleLatencyReporter(cycleMetricsRegistry);
+    // Starts the phase latency interval after the warm-up
+    cycleLatencyReporter.report();
+    var warmupLatencies = latencyHistogram.snapshot();
+
+    logger.info("Measuring {} bars...", options.bars());
+    var threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    LoadTestResult result;
+    try (var gcPauseRecorder = new GcPauseRecorder()) {
+      var allocatedBytesBefore = threadMXBean.getTotalThreadAllocatedBytes();
+      var startNanos = System.nanoTime();
+      for (int i = 0; i < options.bars(); i++) {
+        batchScheduler.runBatch();
+      }
+      var durationNanos = System.nanoTime() - startNanos;
+      var allocatedBytes = threadMXBean.getTotalThreadAllocatedBytes() - allocatedBytesBefore;
+
+      var latencies = latencyHistogram.snapshot().minus(warmupLatencies);
+      var cycles = latencies.getTotalCount();
+      var durationSeconds = durationNanos / 1e9;
+      result =
+          new LoadTestResult(
+              Instant.now(),
+              options.robots(),
+              options.bars(),
+              options.threads(),
+              template.interval() + " " + template.unit(),
+              options.historicalDataFile().orElse("synthetic"),
+              cycles,
+              TimeUnit.NANOSECONDS.toMillis(durationNanos),
+              cycles / durationSeconds,
+              toMicros(latencies.getValueAtPercentile(50)),
+              toMicros(latencies.getValueAtPercentile(99)),
+              toMicros(latencies.getValueAtPercentile(99.9)),
+              toMicros(latencies.getMax()),
+              cycles > 0 ? allocatedBytes / cycles : 0,
+              allocatedBytes / durationSeconds / (1024 * 1024),
+              gcPauseRecorder.getPauses(),
+              gcPauseRecorder.getTotalPauseMillis(),
+              gcPauseRecorder.getMaxPauseMillis());
+    }
+
+    cycleLatencyReporter.report();
+    cycleLatencyReporter.close();
+    batchScheduler.stop();
+    pool.shutdown();
+    if (matchingEngine != null) {
+      matchingEngine.logSummary();
+    }
+
+    logger.info("Load test finished: {}", result);
+    result.appendTo(options.csv());
+    logger.info("Result appended to {}", options.csv().toAbsolutePath());
+  }
+
+  private static BarsCollectorClient createReplayClient(
+      List<Bar> historicalBars, int robot, int robots, String symbol, BarListener barListener) {
+    // Spread the robots over the series, so they do not all see the same market
+    var offset = (int) ((long) historicalBars.size() * robot / robots);
+    return new ReplayBarsCollectorClient(historicalBars, offset, symbol, barListener);
+  }
+
+  private static List<Bar> loadHistoricalBars(String historicalDataFile) throws IOException {
+    logger.info("Loading historical bars from {}", historicalDataFile);
+    var historicalDataBars = new HistoricalDataLoader().load(historicalDataFile);
+    return historicalDataBars.stream()
+        .map(
+            candlestick ->
+                new Bar(
+                    Instant.ofEpochMilli(candlestick.timestamp()),
+                    new BigDecimal(candlestick.open()),
+                    new BigDecimal(candlestick.high()),
+                    new BigDecimal(candlestick.low()),
+                    new BigDecimal(candlestick.close()),
+                    new BigDecimal(candlestick.volume())))
+        .toList();
+  }
+
+  private static RobotConfiguration withSymbol(RobotConfiguration template, String symbol) {
+    return new RobotConfiguration(
+        template.type(),
+        template.unit(),
+        template.interval(),
+        symbol,
+        template.orderConfiguration(),
+        template.historicalDataFile(),
+        template.explorerConfigurations(),
+        template.blockerConfigurations(),
+        template.notReadyMultiplier(),
+        template.minorMultiplier(),
+        template.mediumMultiplier(),
+        template.majorMultiplier());
+  }
+
+  private static long toMicros(long nanos) {
+    return TimeUnit.NANOSECONDS.toMicros(nanos);
+  }
+}
@@ -0,0 +1,74 @@
+package org.shadow.loadtest;
+
+import java.math.BigDecimal;
+import java.util.List;
+import org.shadow.application.metrics.LatencyHistogram;
+import org.shadow.application.robot.Robot;
+import org.shadow.application.robot.RobotTimeframe;
+import org.shadow.application.robot.common.model.Position;
+
+/** Decorates a robot to record the latency of every cycle it runs. */
+final class TimedRobot implements Robot {
+
+  private final Robot robot;
+  private final LatencyHistogram latencyHistogram;
+
+  TimedRobot(Robot robot, LatencyHistogram latencyHistogram) {
+    this.robot = robot;
+    this.latencyHistogram = latencyHistogram;
+  }
+
+  @Override
+  public void init() {
+    robot.init();
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return robot.isInitialized();
+  }
+
+  @Override
+  public void run() {
+    var startNanos = System.nanoTime();
+    robot.run();
+    latencyHistogram.record(System.nanoTime() - startNanos);
+  }
+
+  @Override
+  public void catchUp(int boundaries) {
+    var startNanos = System.nanoTime();
+    robot.catchUp(boundaries);
+    latencyHistogram.record(System.nanoTime() - startNanos);
+  }
+
+  @Override
+  public void stop() {
+    robot.stop();
+  }
+
+  @Override
+  public RobotTimeframe getRobotTimeframe() {
+    return robot.getRobotTimeframe();
+  }
+
+  @Override
+  public String getSymbol() {
+    return robot.getSymbol();
+  }
+
+  @Override
+  public List<Position> getPositions() {
+    return robot.getPositions();
+  }
+
+  @Override
+  public BigDecimal getPercentageFromDeposit() {
+    return robot.getPercentageFromDeposit();
+  }
+
+  @Override
+  public Integer getOrderFuturesMultiplier() {
+    return robot.getOrderFuturesMultiplier();
+  }
+}
@@ -0,0 +1,113 @@
+package org.shadow;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.shadow.domain.client.model.Bar;
+import org.shadow.infrastructure.file.HistoricalDataLoader;
+import org.shadow.infrastructure.store.PartitionedBarStore;
+
+/**
+ * Imports historical data files into a bar store and scans time ranges of it. Options are given
+ * as {@code --name=value}: {@code directory} of the store, {@code symbol}, {@code import} to append
+ * a historical data file to the symbol instead of scanning, and {@code from}/{@code to} to limit
+ * the scanned range.
+ */
+public class BarStoreTool {
+
+  private static final Logger logger = LogManager.getLogger(BarStoreTool.class);
+
+  private static final int IMPORT_BATCH_BARS = 100_000;
+
+  public static void main(String[] args) throws IOException {
+    var directory = Path.of("bar-store");
+    String symbol = null;
+    String importFile = null;
+    var from = Instant.EPOCH;
+    var to = Instant.now();
+
+    for (var arg : args) {
+      if (!arg.startsWith("--") || !arg.contains("=")) {
+        throw new IllegalArgumentException("Expected --name=value but got " + arg);
+      }
+      var name = arg.substring(2, arg.indexOf('='));
+      var value = arg.substring(arg.indexOf('=') + 1);
+      switch (name) {
+        case "directory" -> directory = Path.of(value);
+        case "symbol" -> symbol = value;
+        case "import" -> importFile = value;
+        case "from" -> from = Instant.parse(value);
+        case "to" -> to = Instant.parse(value);
+        default -> throw new IllegalArgumentException("Unknown option " + name);
+      }
+    }
+    if (symbol == null) {
+      throw new IllegalArgumentException("Missing --symbol");
+    }
+
+    try (var barStore = new PartitionedBarStore(directory)) {
+      if (importFile != null) {
+        importFile(barStore, symbol, importFile);
+      } else {
+        scan(barStore, symbol, from, to);
+      }
+    }
+  }
+
+  private static void importFile(PartitionedBarStore barStore, String symbol, String file)
+      throws IOException {
+    var startNanos = System.nanoTime();
+    var historicalDataBars = new HistoricalDataLoader().load(file);
+    var batch = new ArrayList<Bar>(IMPORT_BATCH_BARS);
+    var appended = 0L;
+    for (var historicalDataBar : historicalDataBars) {
+      batch.add(
+          new Bar(
+              Instant.ofEpochMilli(historicalDataBar.timestamp()),
+              new BigDecimal(historicalDataBar.open()),
+              new BigDecimal(historicalDataBar.high()),
+              new BigDecimal(historicalDataBar.low()),
+              new BigDecimal(historicalDataBar.close()),
+              new BigDecimal(historicalDataBar.volume())));
+      if (batch.size() == IMPORT_BATCH_BARS) {
+        appended += barStore.append(symbol, batch);
+        batch.clear();
+      }
+    }
+    appended += barStore.append(symbol, batch);
+    logger.info(
+        "Imported {} of {} bars of {} from {} in {} ms",
+        appended,
+        historicalDataBars.size(),
+        symbol,
+        file,
+        Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+  }
+
+  private static void scan(PartitionedBarStore barStore, String symbol, Instant from, Instant to)
+      throws IOException {
+    var partitions = barStore.getPartitions(symbol, from, to);
+    logger.info("{} partitions of {} overlap {} to {}", partitions.size(), symbol, from, to);
+    for (var partition : partitions) {
+      logger.info(
+          "  {}: {} bars from {} to {}",
+          partition.day(),
+          partition.bars(),
+          partition.firstTime(),
+          partition.lastTime());
+    }
+    var startNanos = System.nanoTime();
+    var bars = barStore.scan(symbol, from, to, bar -> {});
+    var elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+    logger.info(
+        "Scanned {} bars in {} ms ({} bars/s)",
+        bars,
+        elapsed.toMillis(),
+        bars * 1_000_000_000L / Math.max(1, elapsed.toNanos()));
+  }
+}
@@ -0,0 +1,152 @@
+package org.shadow;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.shadow.application.robot.explorer.model.BinaryIsMomentumExplorationState;
+import org.shadow.application.robot.strategy.model.BinaryDecisionAction;
+import org.shadow.infrastructure.journal.DecisionJournalReader;
+
+/**
+ * Offline reader of decision journals for post-trade analysis. Options are given as {@code
+ * --name=value}: {@code file}, {@code symbol} to only read the decisions of one symbol and {@code
+ * csv=true} to print every decision as CSV instead of a summary of the actions and explorer states.
+ */
+public class DecisionJournalTool {
+
+  private static final Logger logger = LogManager.getLogger(DecisionJournalTool.class);
+
+  public static void main(String[] args) throws IOException {
+    var file = Path.of("journal", "decisions.journal");
+    String symbol = null;
+    var csv = false;
+
+    for (var arg : args) {
+      if (!arg.startsWith("--") || !arg.contains("=")) {
+        throw new IllegalArgumentException("Expected --name=value but got " + arg);
+      }
+      var name = arg.substring(2, arg.indexOf('='));
+      var value = arg.substring(arg.indexOf('=') + 1);
+      switch (name) {
+        case "file" -> file = Path.of(value);
+        case "symbol" -> symbol = value;
+        case "csv" -> csv = Boolean.parseBoolean(value);
+        default -> throw new IllegalArgumentException("Unknown option " + name);
+      }
+    }
+
+    try (var reader = new DecisionJournalReader(file)) {
+      if (csv) {
+        printCsv(reader, symbol);
+      } else {
+        printSummary(reader, symbol);
+      }
+    }
+  }
+
+  private static void printCsv(DecisionJournalReader reader, String symbol) throws IOException {
+    var out =
+        new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16);
+    out.write(
+        "decisionTime,barTime,symbol,action,blocked,severityDifference,longStates,shortStates");
+    out.newLine();
+    var line = new StringBuilder(256);
+    reader.forEach(
+        entry -> {
+          if (symbol != null && !entry.hasSymbol(symbol)) {
+            return;
+          }
+          line.setLength(0);
+          line.append(Instant.ofEpochMilli(entry.getDecisionTimeMillis())).append(',');
+          if (entry.getBarTimeMillis() != Long.MIN_VALUE) {
+            line.append(Instant.ofEpochMilli(entry.getBarTimeMillis()));
+          }
+          line.append(',')
+              .append(entry.getSymbol())
+              .append(',')
+              .append(entry.getAction())
+              .append(',')
+              .append(entry.isBlocked())
+              .append(',')
+              .append(entry.getSeverityDifference())
+              .append(',');
+          for (int i = 0; i < entry.getExplorerCount(); i++) {
+            line.append(i > 0 ? " " : "").append(entry.getLongState(i));
+          }
+          line.append(',');
+          for (int i = 0; i < entry.getExplorerCount(); i++) {
+            line.append(i > 0 ? " " : "").append(entry.getShortState(i));
+          }
+          try {
+            out.append(line);
+            out.newLine();
+          } catch (IOException e) {
+            throw new IllegalStateException("Failed to write CSV", e);
+          }
+        });
+    out.flush();
+  }
+
+  private static void printSummary(DecisionJournalReader reader, String symbol)
+      throws IOException {
+    var states = BinaryIsMomentumExplorationState.values().length;
+    var actions = new long[BinaryDecisionAction.values().length];
+    var longStates = new long[DecisionJournalReader.MAX_EXPLORERS][states];
+    var shortStates = new long[DecisionJournalReader.MAX_EXPLORERS][states];
+    var totals = new long[3]; // decisions, blocked, explorers
+    var startNanos = System.nanoTime();
+
+    reader.forEach(
+        entry -> {
+          if (symbol != null && !entry.hasSymbol(symbol)) {
+            return;
+          }
+          totals[0]++;
+          if (entry.isBlocked()) {
+            totals[1]++;
+          }
+          actions[entry.getAction().ordinal()]++;
+          totals[2] = Math.max(totals[2], entry.getExplorerCount());
+          for (int i = 0; i < entry.getExplorerCount(); i++) {
+            longStates[i][entry.getLongState(i).ordinal()]++;
+            shortStates[i][entry.getShortState(i).ordinal()]++;
+          }
+        });
+
+    var elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+    logger.info(
+        "Scanned {} records in {} ms ({} records/s)",
+        reader.getRecords(),
+        elapsed.toMillis(),
+        reader.getRecords() * 1_000_000_000L / Math.max(1, elapsed.toNanos()));
+    logger.info("Decisions: {}, blocked: {}", totals[0], totals[1]);
+    for (var action : BinaryDecisionAction.values()) {
+      logger.info("  {}: {}", action, actions[action.ordinal()]);
+    }
+    for (int i = 0; i < totals[2]; i++) {
+      logger.info(
+          "Explorer {}: long {}, short {}",
+          i,
+          formatStates(longStates[i]),
+          formatStates(shortStates[i]));
+    }
+  }
+
+  private static String formatStates(long[] counts) {
+    var builder = new StringBuilder();
+    for (var state : BinaryIsMomentumExplorationState.values()) {
+      builder
+          .append(builder.isEmpty() ? "" : ", ")
+          .append(state)
+          .append('=')
+          .append(counts[state.ordinal()]);
+    }
+    return builder.toString();
+  }
+}
@@ -1,35 +1,84 @@
 package org.shadow;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.shadow.application.journal.DecisionJournal;
+import org.shadow.application.logging.HotPathLogging;
+import org.shadow.application.logging.LoggingMode;
+import org.shadow.application.metrics.CycleLatencyReporter;
+import org.shadow.application.metrics.CycleMetricsRegistry;
+import org.shadow.application.metrics.jfr.JfrEvents;
+import org.shadow.application.orchestration.BatchRobotScheduler;
+import org.shadow.application.orchestration.HierarchicalTimingWheel;
+import org.shadow.application.orchestration.OverrunPolicy;
+import org.shadow.application.orchestration.RobotInitializer;
 import org.shadow.application.orchestration.RobotManager;
 import org.shadow.application.orchestration.RobotScheduler;
+import org.shadow.application.orchestration.Scheduler;
 import org.shadow.application.orchestration.TaskScheduler;
+import org.shadow.application.orchestration.TimerMode;
+import org.shadow.application.orchestration.TimingWheelExecutor;
+import org.shadow.application.robot.PendingOrderTimeout;
+import org.shadow.application.robot.PipelinedSinglePositionRobot;
 import org.shadow.application.robot.Robot;
+import org.shadow.application.robot.recovery.StateTransitionLog;
+import org.shadow.application.robot.snapshot.RobotSnapshotStore;
 import org.shadow.config.Config;
 import org.shadow.config.factory.FakeBarsCollectorClientFactory;
 import org.shadow.config.factory.FakeExchangeOrderClientFactory;
 import org.shadow.config.factory.SinglePositionRobotFactory;
+import org.shadow.config.factory.SyntheticBarsCollectorClientFactory;
+import org.shadow.config.model.BarStoreConfiguration;
 import org.shadow.config.model.ExchangeConfiguration;
+import org.shadow.config.model.JournalConfiguration;
+import org.shadow.config.model.PipelineConfiguration;
 import org.shadow.config.model.RobotConfiguration;
+import org.shadow.config.model.SchedulingConfiguration;
+import org.shadow.config.model.SchedulingMode;
+import org.shadow.config.model.SnapshotConfiguration;
+import org.shadow.config.model.StartupConfiguration;
+import org.shadow.config.model.WalConfiguration;
 import org.shadow.config.validator.ConfigValidator;
 import org.shadow.config.validator.HistoricalDataFileValidator;
 import org.shadow.domain.client.BarsCollectorClient;
 import org.shadow.domain.client.ExchangeOrderClient;
+import org.shadow.infrastructure.client.fake.FakeBarsCollectorClient;
+import org.shadow.infrastructure.client.fake.FakeExchangeOrderClient;
+import org.shadow.infrastructure.client.synthetic.SyntheticBarsCollectorClient;
+import org.shadow.infrastructure.file.FileRobotSnapshotStore;
+import org.shadow.infrastructure.file.FileStateTransitionLog;
+import org.shadow.infrastructure.journal.MappedDecisionJournal;
+import org.shadow.infrastructure.metrics.PrometheusMetricsServer;
+import org.shadow.infrastructure.metrics.PrometheusMetricsWriter;
+import org.shadow.infrastructure.store.PartitionedBarStore;
+import org.shadow.infrastructure.store.StoringBarsCollectorClient;
 
 public class Main {
 
   private static final int TASK_SCHEDULER_THREAD_POOL_SIZE = 1;
+  private static final int TIMING_WHEEL_SIZE = 512;
   private static final Logger logger = LogManager.getLogger(Main.class);
 
   public static void main(String[] args) {
     logger.info("Starting application...");
     logger.warn("Robot must be used only with 1 minute time frame in production mode");
 
+    // Symbols whose interrupted opens an operator has checked on the exchange and resolved
+    final var resolvedOpenSymbols = parseResolvedOpenSymbols(args);
+
     final var config = Config.load();
     var configValidator = new ConfigValidator();
     configValidator.addValidator(new HistoricalDataFileValidator());
@@ -40,16 +89,79 @@ public class Main {
       logger.info("Configuration is valid.");
     }
 
+    var loggingMode =
+        switch (config.loggingConfiguration().mode()) {
+          case VERBOSE -> LoggingMode.VERBOSE;
+          case GARBAGE_FREE -> LoggingMode.GARBAGE_FREE;
+        };
+    HotPathLogging.configure(loggingMode, config.loggingConfiguration().summaryIntervalSeconds());
+    logger.info("Hot path logging mode: {}", loggingMode);
+
+    if (config.jfrConfiguration().enabled()) {
+      JfrEvents.register();
+      logger.info("JFR events enabled.");
+    }
+
     final var exchangeOrderClient = createExchangeOrderClient(config.exchangeConfiguration());
 
-    // Create robots from configuration
+    final var decisionJournal =
+        config.journalConfiguration().enabled()
+            ? openDecisionJournal(config.journalConfiguration())
+            : null;
+
+    final var snapshotStore =
+        config.snapshotConfiguration().enabled()
+            ? openSnapshotStore(config.snapshotConfiguration())
+            : null;
+
+    final var transitionLog =
+        config.walConfiguration().enabled()
+            ? openTransitionLog(config.walConfiguration())
+            : null;
+
+    final var barStore =
+        config.barStoreConfiguration().enabled()
+            ? openBarStore(config.barStoreConfiguration())
+            : null;
+
+    // One wheel for the order timeouts of all robots, also driving their schedulers in WHEEL mode;
+    // without either, no ticker thread is started
+    final var orderTimeoutMillis = config.exchangeConfiguration().orderTimeoutMillis();
+    final var timingWheel =
+        orderTimeoutMillis > 0 || config.schedulingConfiguration().mode() == SchedulingMode.WHEEL
+            ? HierarchicalTimingWheel.withDefaultWorkers(
+                config.schedulingConfiguration().wheelTickMillis(), TIMING_WHEEL_SIZE)
+            : null;
+    final var pendingOrderTimeout =
+        orderTimeoutMillis > 0
+            ? new PendingOrderTimeout(timingWheel, orderTimeoutMillis)
+            : PendingOrderTimeout.NONE;
+
+    // Create robots from configuration, all recording their cycle latencies into one registry
+    final var cycleMetricsRegistry = new CycleMetricsRegistry();
     final var robots =
         createRobots(
-            config.robotConfigurations(), config.exchangeConfiguration(), exchangeOrderClient);
+            config.robotConfigurations(),
+            config.exchangeConfiguration(),
+            config.pipelineConfiguration(),
+            exchangeOrderClient,
+            cycleMetricsRegistry,
+            decisionJournal != null ? decisionJournal : DecisionJournal.NONE,
+            snapshotStore != null ? snapshotStore : RobotSnapshotStore.NONE,
+            transitionLog != null ? transitionLog : StateTransitionLog.NONE,
+            pendingOrderTimeout,
+            barStore,
+            config.startupConfiguration());
     logger.info("Created {} robots", robots.size());
+    resolveInterruptedOpens(robots, resolvedOpenSymbols);
 
-    // Create schedulers for each robot
-    final var schedulers = createSchedulers(robots);
+    final var cycleLatencyReporter = new CycleLatencyReporter(cycleMetricsRegistry);
+    if (config.metricsConfiguration().reportIntervalSeconds() > 0) {
+      cycleLatencyReporter.start(config.metricsConfiguration().reportIntervalSeconds());
+    }
+
+    // Create schedulers for each robot, or one batch scheduler per timeframe
+    final var schedulers = createSchedulers(robots, config.schedulingConfiguration(), timingWheel);
 
     // Initialize the RobotManager
     final var robotManager =
@@ -58,10 +170,26 @@ public class Main {
     // Start the RobotManager
     robotManager.start();
 
+    final var metricsServer =
+        config.metricsConfiguration().httpEnabled()
+            ? startMetricsServer(
+                config.metricsConfiguration().httpPort(), cycleMetricsRegistry, schedulers)
+            : null;
+
     final var running = new AtomicBoolean(true);
 
     // Handle shutdown
-    handleShutdown(robotManager, running);
+    handleShutdown(
+        robotManager,
+        exchangeOrderClient,
+        cycleLatencyReporter,
+        metricsServer,
+        decisionJournal,
+        snapshotStore,
+        transitionLog,
+        barStore,
+        timingWheel,
+        running);
 
     // Main loop
     runMainLoop(running);
@@ -69,13 +197,42 @@ public class Main {
     logger.info("Application finished.");
   }
 
-  private static BarsCollectorClient createBarsCollectorClient(
-      ExchangeConfiguration exchangeConfiguration, RobotConfiguration robotConfiguration) {
-    var fakeBarsCollectorClientFactory = new FakeBarsCollectorClientFactory();
+  private static Set<String> parseResolvedOpenSymbols(String[] args) {
+    var symbols = new HashSet<String>();
+    for (var arg : args) {
+      if (!arg.startsWith("--") || !arg.contains("=")) {
+        throw new IllegalArgumentException("Expected --name=value but got " + arg);
+      }
+      var name = arg.substring(2, arg.indexOf('='));
+      var value = arg.substring(arg.indexOf('=') + 1);
+      switch (name) {
+        case "resolveInterruptedOpen" -> symbols.addAll(List.of(value.split(",")));
+        default -> throw new IllegalArgumentException("Unknown option " + name);
+      }
+    }
+    return symbols;
+  }
+
+  private static void resolveInterruptedOpens(List<Robot> robots, Set<String> symbols) {
+    for (var symbol : symbols) {
+      var symbolRobots = robots.stream().filter(robot -> robot.getSymbol().equals(symbol)).toList();
+      if (symbolRobots.isEmpty()) {
+        logger.warn("No robot trades {}; its interrupted open cannot be resolved", symbol);
+      }
+      symbolRobots.forEach(Robot::resolveInterruptedOpen);
+    }
+  }
 
+  private static BarsCollectorClient createBarsCollectorClient(
+      FakeBarsCollectorClientFactory fakeBarsCollectorClientFactory,
+      SyntheticBarsCollectorClientFactory syntheticBarsCollectorClientFactory,
+      ExchangeConfiguration exchangeConfiguration,
+      RobotConfiguration robotConfiguration) {
     return switch (exchangeConfiguration.type()) {
       case FAKE -> fakeBarsCollectorClientFactory.createClient(
           exchangeConfiguration, robotConfiguration);
+      case SYNTHETIC -> syntheticBarsCollectorClientFactory.createClient(
+          exchangeConfiguration, robotConfiguration);
     };
   }
 
@@ -85,7 +242,9 @@ public class Main {
 
     var client =
         switch (exchangeConfiguration.type()) {
-          case FAKE -> fakeExchangeOrderClientFactory.createClient(exchangeConfiguration);
+          // Synthetic bars are traded on the fake exchange as well
+          case FAKE, SYNTHETIC -> fakeExchangeOrderClientFactory.createClient(
+              exchangeConfiguration);
         };
 
     client.init();
@@ -96,37 +255,253 @@ public class Main {
   private static List<Robot> createRobots(
       List<RobotConfiguration> robotConfigurations,
       ExchangeConfiguration exchangeConfiguration,
-      ExchangeOrderClient exchangeOrderClient) {
-    var singlePositionRobotFactory = new SinglePositionRobotFactory();
-
-    return robotConfigurations.stream()
-        .<Robot>map(
-            robotConfiguration ->
-                switch (robotConfiguration.type()) {
-                  case SINGLE_POSITION -> {
-                    final var barsCollectorClient =
-                        createBarsCollectorClient(exchangeConfiguration, robotConfiguration);
-                    barsCollectorClient.init();
-                    yield singlePositionRobotFactory.createRobot(
-                        robotConfiguration, barsCollectorClient, exchangeOrderClient);
-                  }
-                })
+      PipelineConfiguration pipelineConfiguration,
+      ExchangeOrderClient exchangeOrderClient,
+      CycleMetricsRegistry cycleMetricsRegistry,
+      DecisionJournal decisionJournal,
+      RobotSnapshotStore snapshotStore,
+      StateTransitionLog transitionLog,
+      PendingOrderTimeout pendingOrderTimeout,
+      PartitionedBarStore barStore,
+      StartupConfiguration startupConfiguration) {
+    var singlePositionRobotFactory =
+        SinglePositionRobotFactory.builder()
+            .cycleMetricsRegistry(cycleMetricsRegistry)
+            .decisionJournal(decisionJournal)
+            .snapshotStore(snapshotStore)
+            .transitionLog(transitionLog)
+            .pendingOrderTimeout(pendingOrderTimeout)
+            .build();
+    // Shared by all robots, so robots replaying the same file load it once
+    var fakeBarsCollectorClientFactory = new FakeBarsCollectorClientFactory();
+    var syntheticBarsCollectorClientFactory = new SyntheticBarsCollectorClientFactory();
+
+    var robotSuppliers =
+        robotConfigurations.stream()
+            .<Supplier<Robot>>map(
+                robotConfiguration ->
+                    () ->
+                        createRobot(
+                            robotConfiguration,
+                            exchangeConfiguration,
+                            pipelineConfiguration,
+                            exchangeOrderClient,
+                            singlePositionRobotFactory,
+                            fakeBarsCollectorClientFactory,
+                            syntheticBarsCollectorClientFactory,
+                            barStore))
+            .toList();
+    try {
+      // Clients and robots are initialized here instead of one by one by their schedulers
+      return new RobotInitializer(startupConfiguration.parallelism()).initialize(robotSuppliers);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while initializing robots", e);
+    }
+  }
+
+  private static Robot createRobot(
+      RobotConfiguration robotConfiguration,
+      ExchangeConfiguration exchangeConfiguration,
+      PipelineConfiguration pipelineConfiguration,
+      ExchangeOrderClient exchangeOrderClient,
+      SinglePositionRobotFactory singlePositionRobotFactory,
+      FakeBarsCollectorClientFactory fakeBarsCollectorClientFactory,
+      SyntheticBarsCollectorClientFactory syntheticBarsCollectorClientFactory,
+      PartitionedBarStore barStore) {
+    return switch (robotConfiguration.type()) {
+      case SINGLE_POSITION -> {
+        var barsCollectorClient =
+            createBarsCollectorClient(
+                fakeBarsCollectorClientFactory,
+                syntheticBarsCollectorClientFactory,
+                exchangeConfiguration,
+                robotConfiguration);
+        barsCollectorClient.init();
+        attachMatchingEngine(barsCollectorClient, exchangeOrderClient);
+        if (barStore != null) {
+          barsCollectorClient =
+              new StoringBarsCollectorClient(
+                  barsCollectorClient, barStore, robotConfiguration.symbol());
+        }
+        var robot =
+            singlePositionRobotFactory.createRobot(
+                robotConfiguration, barsCollectorClient, exchangeOrderClient);
+        yield pipelineConfiguration.enabled()
+            ? new PipelinedSinglePositionRobot(robot, pipelineConfiguration.ringBufferSize())
+            : robot;
+      }
+    };
+  }
+
+  private static void attachMatchingEngine(
+      BarsCollectorClient barsCollectorClient, ExchangeOrderClient exchangeOrderClient) {
+    if (!(exchangeOrderClient instanceof FakeExchangeOrderClient fakeExchangeOrderClient)
+        || fakeExchangeOrderClient.getMatchingEngine() == null) {
+      return;
+    }
+    var matchingEngine = fakeExchangeOrderClient.getMatchingEngine();
+    if (barsCollectorClient instanceof FakeBarsCollectorClient fakeBarsCollectorClient) {
+      fakeBarsCollectorClient.addBarListener(matchingEngine);
+    } else if (barsCollectorClient instanceof SyntheticBarsCollectorClient syntheticClient) {
+      syntheticClient.addBarListener(matchingEngine);
+    }
+  }
+
+  private static List<? extends Scheduler> createSchedulers(
+      List<Robot> robots,
+      SchedulingConfiguration schedulingConfiguration,
+      HierarchicalTimingWheel timingWheel) {
+    return switch (schedulingConfiguration.mode()) {
+      case PER_ROBOT -> createRobotSchedulers(robots, schedulingConfiguration);
+      case BATCH -> createBatchSchedulers(robots, schedulingConfiguration);
+      case WHEEL -> createWheelSchedulers(robots, schedulingConfiguration, timingWheel);
+    };
+  }
+
+  private static TaskScheduler createTaskScheduler(
+      SchedulingConfiguration schedulingConfiguration) {
+    return createTaskScheduler(
+        Executors.newScheduledThreadPool(TASK_SCHEDULER_THREAD_POOL_SIZE),
+        schedulingConfiguration);
+  }
+
+  private static TaskScheduler createTaskScheduler(
+      ScheduledExecutorService executor, SchedulingConfiguration schedulingConfiguration) {
+    var overrunPolicy =
+        switch (schedulingConfiguration.overrunPolicy()) {
+          case SKIP -> OverrunPolicy.SKIP;
+          case COALESCE -> OverrunPolicy.COALESCE;
+          case BACKLOG -> OverrunPolicy.BACKLOG;
+        };
+    var timerMode =
+        switch (schedulingConfiguration.timerMode()) {
+          case FIXED_RATE -> TimerMode.FIXED_RATE;
+          case ALIGNED -> TimerMode.ALIGNED;
+        };
+    return TaskScheduler.builder(executor)
+        .overrunPolicy(overrunPolicy)
+        .backlogDeadlineMillis(schedulingConfiguration.backlogDeadlineMillis())
+        .timerMode(timerMode)
+        .alignmentOffsetMillis(schedulingConfiguration.alignmentOffsetMillis())
+        .build();
+  }
+
+  private static List<RobotScheduler> createRobotSchedulers(
+      List<Robot> robots, SchedulingConfiguration schedulingConfiguration) {
+    return robots.stream()
+        .map(robot -> new RobotScheduler(robot, createTaskScheduler(schedulingConfiguration)))
         .toList();
   }
 
-  private static List<RobotScheduler> createSchedulers(List<Robot> robots) {
+  private static List<RobotScheduler> createWheelSchedulers(
+      List<Robot> robots,
+      SchedulingConfiguration schedulingConfiguration,
+      HierarchicalTimingWheel wheel) {
+    if (wheel == null) {
+      throw new IllegalStateException("No timing wheel to drive the schedulers in WHEEL mode");
+    }
+    // All robots share one ticker thread and one worker pool instead of a thread each
     return robots.stream()
         .map(
-            robot -> {
-              var taskScheduler =
-                  new TaskScheduler(
-                      Executors.newScheduledThreadPool(TASK_SCHEDULER_THREAD_POOL_SIZE));
-              return new RobotScheduler(robot, taskScheduler);
-            })
+            robot ->
+                new RobotScheduler(
+                    robot,
+                    createTaskScheduler(
+                        new TimingWheelExecutor(wheel), schedulingConfiguration)))
+        .toList();
+  }
+
+  private static List<BatchRobotScheduler> createBatchSchedulers(
+      List<Robot> robots, SchedulingConfiguration schedulingConfiguration) {
+    // One pool for all timeframes, so coinciding boundaries share the cores instead of competing
+    var pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    var robotsByTimeframe =
+        robots.stream()
+            .collect(
+                Collectors.groupingBy(
+                    Robot::getRobotTimeframe, LinkedHashMap::new, Collectors.toList()));
+
+    return robotsByTimeframe.entrySet().stream()
+        .map(
+            entry ->
+                new BatchRobotScheduler(
+                    entry.getKey(),
+                    entry.getValue(),
+                    createTaskScheduler(schedulingConfiguration),
+                    pool,
+                    schedulingConfiguration.batchBudgetMillis()))
         .toList();
   }
 
-  private static void handleShutdown(RobotManager robotManager, AtomicBoolean running) {
+  private static PrometheusMetricsServer startMetricsServer(
+      int port, CycleMetricsRegistry cycleMetricsRegistry, List<? extends Scheduler> schedulers) {
+    try {
+      var metricsServer =
+          new PrometheusMetricsServer(
+              port, new PrometheusMetricsWriter(cycleMetricsRegistry, schedulers));
+      metricsServer.start();
+      return metricsServer;
+    } catch (IOException e) {
+      logger.error("Failed to start metrics endpoint on port {}", port, e);
+      return null;
+    }
+  }
+
+  private static MappedDecisionJournal openDecisionJournal(
+      JournalConfiguration journalConfiguration) {
+    try {
+      return new MappedDecisionJournal(
+          Path.of(journalConfiguration.file()), journalConfiguration.bufferSize());
+    } catch (IOException e) {
+      // Running without the enabled journal would silently lose every decision
+      throw new IllegalStateException(
+          "Failed to open decision journal " + journalConfiguration.file(), e);
+    }
+  }
+
+  private static FileRobotSnapshotStore openSnapshotStore(
+      SnapshotConfiguration snapshotConfiguration) {
+    try {
+      return new FileRobotSnapshotStore(
+          Path.of(snapshotConfiguration.directory()),
+          TimeUnit.SECONDS.toMillis(snapshotConfiguration.intervalSeconds()));
+    } catch (IOException e) {
+      throw new IllegalStateException(
+          "Failed to open snapshot directory " + snapshotConfiguration.directory(), e);
+    }
+  }
+
+  private static FileStateTransitionLog openTransitionLog(WalConfiguration walConfiguration) {
+    try {
+      return new FileStateTransitionLog(
+          Path.of(walConfiguration.file()), walConfiguration.groupCommitMillis());
+    } catch (IOException e) {
+      throw new IllegalStateException(
+          "Failed to open state transition log " + walConfiguration.file(), e);
+    }
+  }
+
+  private static PartitionedBarStore openBarStore(BarStoreConfiguration barStoreConfiguration) {
+    try {
+      return new PartitionedBarStore(Path.of(barStoreConfiguration.directory()));
+    } catch (IOException e) {
+      throw new IllegalStateException(
+          "Failed to open bar store " + barStoreConfiguration.directory(), e);
+    }
+  }
+
+  private static void handleShutdown(
+      RobotManager robotManager,
+      ExchangeOrderClient exchangeOrderClient,
+      CycleLatencyReporter cycleLatencyReporter,
+      PrometheusMetricsServer metricsServer,
+      MappedDecisionJournal decisionJournal,
+      FileRobotSnapshotStore snapshotStore,
+      FileStateTransitionLog transitionLog,
+      PartitionedBarStore barStore,
+      HierarchicalTimingWheel timingWheel,
+      AtomicBoolean running) {
     Runtime.getRuntime()
         .addShutdownHook(
             new Thread(
@@ -139,6 +514,32 @@ public class Main {
                     logger.error("Error while stopping robots during shutdown", e);
                     Thread.currentThread().interrupt();
                   }
+                  // Pending order timeouts are of no use once the robots are stopped
+                  if (timingWheel != null) {
+                    timingWheel.close();
+                  }
+                  cycleLatencyReporter.close();
+                  cycleLatencyReporter.report();
+                  if (metricsServer != null) {
+                    metricsServer.close();
+                  }
+                  if (decisionJournal != null) {
+                    decisionJournal.close();
+                  }
+                  // Robots hand over their final snapshots when stopped
+                  if (snapshotStore != null) {
+                    snapshotStore.close();
+                  }
+                  if (transitionLog != null) {
+                    transitionLog.close();
+                  }
+                  if (barStore != null) {
+                    barStore.close();
+                  }
+                  if (exchangeOrderClient instanceof FakeExchangeOrderClient fakeClient
+                      && fakeClient.getMatchingEngine() != null) {
+                    fakeClient.getMatchingEngine().logSummary();
+                  }
                   logger.info("Robots stopped. Application shutting down.");
                 }));
   }
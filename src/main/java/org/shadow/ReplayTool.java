@@ -0,0 +1,163 @@
+package org.shadow;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.shadow.application.robot.Robot;
+import org.shadow.config.Config;
+import org.shadow.config.factory.FakeExchangeOrderClientFactory;
+import org.shadow.config.factory.SinglePositionRobotFactory;
+import org.shadow.domain.client.model.Bar;
+import org.shadow.infrastructure.client.fake.LatencyModel;
+import org.shadow.infrastructure.replay.MergedBarReplay;
+import org.shadow.infrastructure.replay.ReplayDispatcher;
+import org.shadow.infrastructure.replay.ReplayedBarsCollectorClient;
+import org.shadow.infrastructure.replay.TimeframeBarAggregator;
+import org.shadow.infrastructure.store.PartitionedBarStore;
+
+/**
+ * Replays the bar store history of every configured symbol through the configured robots in
+ * global time order, so portfolio-level backtests see one consistent market. Each bar is first
+ * matched by the simulation of the fake exchange, if enabled, and then handed to every robot of its
+ * symbol, which runs one cycle on every bar of its timeframe aggregated from the stored bars.
+ * Before the replay, every robot is initialized with the bars of its look-back window stored
+ * before the replayed range. The fake exchange answers orders without latency and without order
+ * timeouts, so the same history always produces the same trades. Options are given as {@code
+ * --name=value}: {@code directory} of the bar store, defaulting to the configured one, and {@code
+ * from}/{@code to} to limit the replayed range.
+ */
+public class ReplayTool {
+
+  private static final Logger logger = LogManager.getLogger(ReplayTool.class);
+
+  /** Number of stored bars the interval of a symbol is detected from. */
+  private static final int INTERVAL_SAMPLE_BARS = 64;
+
+  public static void main(String[] args) throws IOException {
+    var config = Config.load();
+    var directory = Path.of(config.barStoreConfiguration().directory());
+    var from = Instant.EPOCH;
+    var to = Instant.now();
+
+    for (var arg : args) {
+      if (!arg.startsWith("--") || !arg.contains("=")) {
+        throw new IllegalArgumentException("Expected --name=value but got " + arg);
+      }
+      var name = arg.substring(2, arg.indexOf('='));
+      var value = arg.substring(arg.indexOf('=') + 1);
+      switch (name) {
+        case "directory" -> directory = Path.of(value);
+        case "from" -> from = Instant.parse(value);
+        case "to" -> to = Instant.parse(value);
+        default -> throw new IllegalArgumentException("Unknown option " + name);
+      }
+    }
+
+    // Orders are answered on the replay thread before the robot decides on the next bar, so a
+    // replay does not depend on wall-clock latency; robots are created without order timeouts
+    var exchangeOrderClient =
+        new FakeExchangeOrderClientFactory()
+            .createClient(config.exchangeConfiguration(), LatencyModel.none());
+    exchangeOrderClient.init();
+    var matchingEngine = exchangeOrderClient.getMatchingEngine();
+
+    // Orders are matched against a bar before any robot decides on it
+    var dispatcher = new ReplayDispatcher();
+    if (matchingEngine != null) {
+      for (var robotConfiguration : config.robotConfigurations()) {
+        if (!dispatcher.getSymbols().contains(robotConfiguration.symbol())) {
+          dispatcher.subscribe(robotConfiguration.symbol(), matchingEngine);
+        }
+      }
+    }
+
+    var robotFactory = new SinglePositionRobotFactory();
+    var robots = new ArrayList<Robot>();
+    try (var barStore = new PartitionedBarStore(directory)) {
+      for (var robotConfiguration : config.robotConfigurations()) {
+        var symbol = robotConfiguration.symbol();
+        var timeframeMillis = robotConfiguration.unit().toMillis(robotConfiguration.interval());
+        var sourceIntervalMillis = getStoredBarIntervalMillis(barStore, symbol, to);
+        if (sourceIntervalMillis == 0) {
+          sourceIntervalMillis = timeframeMillis;
+        } else if (timeframeMillis % sourceIntervalMillis != 0) {
+          throw new IllegalArgumentException(
+              "Timeframe of "
+                  + robotConfiguration.interval()
+                  + " "
+                  + robotConfiguration.unit()
+                  + " of robot "
+                  + symbol
+                  + " is not a multiple of the stored bars of "
+                  + sourceIntervalMillis
+                  + " ms");
+        }
+        var aggregator = new TimeframeBarAggregator(timeframeMillis, sourceIntervalMillis);
+        var barsCollectorClient = new ReplayedBarsCollectorClient();
+        var robot =
+            robotFactory.createRobot(robotConfiguration, barsCollectorClient, exchangeOrderClient);
+        robots.add(robot);
+
+        // The look-back window is filled from the history before the range, as a live start would
+        var warmUpFrom = from.minusMillis(timeframeMillis * (robot.getRequiredBarsCount() + 1L));
+        barStore.scan(
+            symbol,
+            warmUpFrom.isBefore(Instant.EPOCH) ? Instant.EPOCH : warmUpFrom,
+            from,
+            bar -> aggregator.add(bar, completed -> barsCollectorClient.onBar(symbol, completed)));
+        robot.init();
+
+        Consumer<Bar> onTimeframeBar =
+            completed -> {
+              barsCollectorClient.onBar(symbol, completed);
+              robot.run();
+            };
+        dispatcher.subscribe(symbol, (barSymbol, bar) -> aggregator.add(bar, onTimeframeBar));
+      }
+
+      var replay = new MergedBarReplay(barStore, dispatcher.getSymbols(), from, to);
+      var startNanos = System.nanoTime();
+      var bars = replay.replay(dispatcher);
+      var elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+      logger.info(
+          "Replayed {} bars of {} symbols through {} robots in {} ms ({} bars/min)",
+          bars,
+          dispatcher.getSymbols().size(),
+          robots.size(),
+          elapsed.toMillis(),
+          bars * 60_000L / Math.max(1, elapsed.toMillis()));
+    } finally {
+      robots.forEach(Robot::stop);
+    }
+    if (matchingEngine != null) {
+      matchingEngine.logSummary();
+    }
+  }
+
+  /**
+   * Returns the interval of the stored bars of a symbol, the smallest gap between its first bars,
+   * or zero if fewer than two bars are stored.
+   */
+  private static long getStoredBarIntervalMillis(
+      PartitionedBarStore barStore, String symbol, Instant to) throws IOException {
+    var intervalMillis = 0L;
+    try (var cursor = barStore.openCursor(symbol, Instant.EPOCH, to)) {
+      var previousMillis = Long.MIN_VALUE;
+      for (int i = 0; i < INTERVAL_SAMPLE_BARS && cursor.next(); i++) {
+        if (previousMillis != Long.MIN_VALUE) {
+          var gapMillis = cursor.getTimeMillis() - previousMillis;
+          if (gapMillis > 0 && (intervalMillis == 0 || gapMillis < intervalMillis)) {
+            intervalMillis = gapMillis;
+          }
+        }
+        previousMillis = cursor.getTimeMillis();
+      }
+    }
+    return intervalMillis;
+  }
+}
@@ -0,0 +1,73 @@
+package org.shadow;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.shadow.infrastructure.client.synthetic.SyntheticBarGenerator;
+import org.shadow.infrastructure.client.synthetic.SyntheticMarketParameters;
+import org.shadow.infrastructure.file.SyntheticDataWriter;
+
+/**
+ * Offline generator of synthetic historical data files, readable by the FAKE exchange. Options
+ * are given as {@code --name=value}: {@code bars}, {@code seed}, {@code interval} (ISO-8601, e.g.
+ * PT1M), {@code startTime}, {@code initialPrice}, {@code annualVolatility} and {@code output}.
+ */
+public class SyntheticDataGenerator {
+
+  private static final Logger logger = LogManager.getLogger(SyntheticDataGenerator.class);
+
+  public static void main(String[] args) throws IOException {
+    var bars = 1_000_000L;
+    var seed = 42L;
+    var interval = Duration.ofMinutes(1);
+    var startTime = Instant.parse("2024-01-01T00:00:00Z");
+    var defaults = SyntheticMarketParameters.defaults();
+    var initialPrice = defaults.initialPrice();
+    var annualVolatility = defaults.annualVolatility();
+    Path output = null;
+
+    for (var arg : args) {
+      if (!arg.startsWith("--") || !arg.contains("=")) {
+        throw new IllegalArgumentException("Expected --name=value but got " + arg);
+      }
+      var name = arg.substring(2, arg.indexOf('='));
+      var value = arg.substring(arg.indexOf('=') + 1);
+      switch (name) {
+        case "bars" -> bars = Long.parseLong(value);
+        case "seed" -> seed = Long.parseLong(value);
+        case "interval" -> interval = Duration.parse(value);
+        case "startTime" -> startTime = Instant.parse(value);
+        case "initialPrice" -> initialPrice = Double.parseDouble(value);
+        case "annualVolatility" -> annualVolatility = Double.parseDouble(value);
+        case "output" -> output = Path.of(value);
+        default -> throw new IllegalArgumentException("Unknown option " + name);
+      }
+    }
+    if (output == null) {
+      output = Path.of("historical-data", "SYNTHETIC_" + seed + "_" + bars + ".json");
+    }
+
+    var parameters =
+        new SyntheticMarketParameters(
+            initialPrice,
+            defaults.annualDrift(),
+            annualVolatility,
+            defaults.volatilityReaction(),
+            defaults.volatilityPersistence(),
+            defaults.regimeSwitchProbability(),
+            defaults.gapProbability(),
+            defaults.gapVolatility(),
+            defaults.meanVolume());
+    var generator = new SyntheticBarGenerator(parameters, seed, startTime, interval.toMillis());
+
+    var startNanos = System.nanoTime();
+    new SyntheticDataWriter().write(generator, bars, output);
+    logger.info(
+        "Generated {} bars in {} ms",
+        bars,
+        Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+  }
+}
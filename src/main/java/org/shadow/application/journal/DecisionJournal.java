@@ -0,0 +1,26 @@
+package org.shadow.application.journal;
+
+import org.shadow.application.robot.strategy.model.BinaryDecisionAction;
+import org.shadow.application.robot.strategy.model.BinaryStrategyEvaluation;
+
+/**
+ * Append-only audit journal of strategy decisions. Appending is called on the robot thread, so
+ * implementations must never block it: a decision the journal cannot keep up with is dropped and
+ * counted instead.
+ */
+@FunctionalInterface
+public interface DecisionJournal {
+
+  /** Journal that discards every decision, for robots without a journal. */
+  DecisionJournal NONE = (symbol, evaluation, action) -> true;
+
+  /**
+   * Appends one decision.
+   *
+   * @param symbol the symbol the decision was made for
+   * @param evaluation the evaluation the decision is based on
+   * @param action the resulting action
+   * @return true if the decision was accepted, false if it was dropped
+   */
+  boolean append(String symbol, BinaryStrategyEvaluation evaluation, BinaryDecisionAction action);
+}
@@ -0,0 +1,156 @@
+package org.shadow.application.logging;
+
+import java.math.BigDecimal;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ReusableMessage;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.shadow.application.robot.common.model.Bar;
+import org.shadow.application.robot.explorer.model.BinaryIsMomentumExplorationState;
+import org.shadow.application.robot.strategy.model.BinaryStrategyEvaluation;
+
+/**
+ * Preallocated, mutable record of one strategy decision: the state and indicator value of every
+ * explorer, the blocker outcome, the severity difference and the resulting action. Every strategy
+ * owns one record and overwrites it on each decision, so logging a decision allocates nothing. The
+ * evaluation the record is filled from is still allocated per cycle, because the pipelined robot
+ * hands it to another thread.
+ *
+ * <p>The record is a log4j {@link ReusableMessage}: asynchronous loggers copy its text into their
+ * ring buffer on the calling thread, so the record can be reused as soon as {@link #publish()}
+ * returns, and the formatting itself appends primitives to a reused buffer.
+ */
+public final class DecisionRecord implements ReusableMessage {
+
+  private static final Logger decisionLogger = LogManager.getLogger("org.shadow.decisions");
+  private static final Object[] NO_PARAMETERS = {};
+
+  private final String symbol;
+  private final String[] explorerNames;
+  private final BinaryIsMomentumExplorationState[] longStates;
+  private final BinaryIsMomentumExplorationState[] shortStates;
+  private final double[] indicatorValues;
+
+  private int explorers;
+  private boolean blocked;
+  private int severityDifference;
+  private String action;
+  private double stopLoss;
+  private int bars;
+  private double close;
+
+  /**
+   * Constructs a record for the decisions of one strategy.
+   *
+   * @param symbol the symbol traded with the strategy, may be null
+   * @param explorerNames the names of the strategy explorers, in evaluation order
+   */
+  public DecisionRecord(String symbol, List<String> explorerNames) {
+    this.symbol = symbol;
+    this.explorerNames = explorerNames.toArray(String[]::new);
+    this.longStates = new BinaryIsMomentumExplorationState[this.explorerNames.length];
+    this.shortStates = new BinaryIsMomentumExplorationState[this.explorerNames.length];
+    this.indicatorValues = new double[this.explorerNames.length];
+  }
+
+  /**
+   * Overwrites the record with a decision.
+   *
+   * @param evaluation the evaluation the decision is based on
+   * @param bars the bars the evaluation was computed from
+   * @param action the resulting action, e.g. LONG, SHORT, DO_NOTHING, CLOSE or HOLD
+   * @param stopLoss the stop loss of the resulting position, null if none
+   */
+  public void record(
+      BinaryStrategyEvaluation evaluation, List<Bar> bars, String action, BigDecimal stopLoss) {
+    this.blocked = evaluation.blocked();
+    this.severityDifference = evaluation.severityDifference();
+    this.explorers = Math.min(explorerNames.length, evaluation.longStates().size());
+    for (int i = 0; i < explorers; i++) {
+      longStates[i] = evaluation.longStates().get(i);
+      shortStates[i] = evaluation.shortStates().get(i);
+      indicatorValues[i] =
+          i < evaluation.indicatorValues().length ? evaluation.indicatorValues()[i] : Double.NaN;
+    }
+    this.action = action;
+    this.stopLoss = stopLoss != null ? stopLoss.doubleValue() : Double.NaN;
+    this.bars = bars.size();
+    this.close = bars.isEmpty() ? Double.NaN : bars.getLast().close().doubleValue();
+  }
+
+  /** Logs the record at INFO on the {@code org.shadow.decisions} logger, if enabled. */
+  public void publish() {
+    if (decisionLogger.isInfoEnabled()) {
+      decisionLogger.info(this);
+    }
+  }
+
+  @Override
+  public void formatTo(StringBuilder buffer) {
+    buffer
+        .append(symbol)
+        .append(" decision: action=")
+        .append(action)
+        .append(", stopLoss=")
+        .append(stopLoss)
+        .append(", blocked=")
+        .append(blocked)
+        .append(", severityDifference=")
+        .append(severityDifference)
+        .append(", bars=")
+        .append(bars)
+        .append(", close=")
+        .append(close);
+    for (int i = 0; i < explorers; i++) {
+      buffer
+          .append(", ")
+          .append(explorerNames[i])
+          .append("[long=")
+          .append(longStates[i])
+          .append(", short=")
+          .append(shortStates[i])
+          .append(", value=")
+          .append(indicatorValues[i])
+          .append(']');
+    }
+  }
+
+  @Override
+  public String getFormattedMessage() {
+    var buffer = new StringBuilder(256);
+    formatTo(buffer);
+    return buffer.toString();
+  }
+
+  @Override
+  public String getFormat() {
+    return "";
+  }
+
+  @Override
+  public Object[] getParameters() {
+    return NO_PARAMETERS;
+  }
+
+  @Override
+  public Throwable getThrowable() {
+    return null;
+  }
+
+  @Override
+  public Object[] swapParameters(Object[] emptyReplacement) {
+    return emptyReplacement;
+  }
+
+  @Override
+  public short getParameterCount() {
+    return 0;
+  }
+
+  @Override
+  public Message memento() {
+    return new SimpleMessage(getFormattedMessage());
+  }
+}
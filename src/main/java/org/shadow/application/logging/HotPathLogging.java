@@ -0,0 +1,42 @@
+package org.shadow.application.logging;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Process-wide logging mode of the robot hot path, configured once at startup before the robots
+ * are created.
+ */
+public final class HotPathLogging {
+
+  private static final long DEFAULT_SUMMARY_INTERVAL_SECONDS = 60;
+
+  private static volatile LoggingMode mode = LoggingMode.VERBOSE;
+  private static volatile long summaryIntervalNanos =
+      TimeUnit.SECONDS.toNanos(DEFAULT_SUMMARY_INTERVAL_SECONDS);
+
+  private HotPathLogging() {}
+
+  /**
+   * Sets the logging mode.
+   *
+   * @param loggingMode the mode
+   * @param summaryIntervalSeconds how often a sampled line is logged in the garbage-free mode
+   */
+  public static void configure(LoggingMode loggingMode, long summaryIntervalSeconds) {
+    mode = loggingMode;
+    summaryIntervalNanos = TimeUnit.SECONDS.toNanos(summaryIntervalSeconds);
+  }
+
+  public static LoggingMode getMode() {
+    return mode;
+  }
+
+  /** Returns whether every hot-path step logs its own line, as opposed to a decision record. */
+  public static boolean isVerbose() {
+    return mode == LoggingMode.VERBOSE;
+  }
+
+  static long getSummaryIntervalNanos() {
+    return summaryIntervalNanos;
+  }
+}
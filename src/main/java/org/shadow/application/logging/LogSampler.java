@@ -0,0 +1,57 @@
+package org.shadow.application.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Rate limits one repetitive log line shared by all robots. In the garbage-free mode the line is
+ * logged at most once per summary interval, preceded by the number of occurrences suppressed since
+ * the previous one; in the verbose mode every occurrence is logged. Suppressing an occurrence is a
+ * single counter increment.
+ */
+public final class LogSampler {
+
+  private final Logger logger;
+  private final String description;
+  private final AtomicLong nextLogNanos = new AtomicLong(System.nanoTime());
+  private final LongAdder suppressed = new LongAdder();
+
+  /**
+   * Constructs a sampler for one log line.
+   *
+   * @param logger the logger of the line, also used for the summary
+   * @param description a short description of the line for the summary
+   */
+  public LogSampler(Logger logger, String description) {
+    this.logger = logger;
+    this.description = description;
+  }
+
+  /**
+   * Decides whether the next occurrence of the line should be logged.
+   *
+   * @return true if the caller should log the line
+   */
+  public boolean shouldLog() {
+    if (HotPathLogging.isVerbose()) {
+      return true;
+    }
+    var nowNanos = System.nanoTime();
+    var next = nextLogNanos.get();
+    if (nowNanos - next < 0
+        || !nextLogNanos.compareAndSet(next, nowNanos + HotPathLogging.getSummaryIntervalNanos())) {
+      suppressed.increment();
+      return false;
+    }
+    var suppressedCount = suppressed.sumThenReset();
+    if (suppressedCount > 0) {
+      logger.info("Suppressed {} '{}' lines since the last one", suppressedCount, description);
+    }
+    return true;
+  }
+
+  public long getSuppressed() {
+    return suppressed.sum();
+  }
+}
@@ -0,0 +1,12 @@
+package org.shadow.application.logging;
+
+/** How much the robots log on the bar-close path. */
+public enum LoggingMode {
+  /** Every explorer, blocker and strategy step logs its own line. */
+  VERBOSE,
+  /**
+   * Per-cycle decision data is collected in a preallocated {@link DecisionRecord} and logged as one
+   * line, and repetitive lines are sampled by a {@link LogSampler}.
+   */
+  GARBAGE_FREE
+}
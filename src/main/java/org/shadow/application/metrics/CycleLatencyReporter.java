@@ -0,0 +1,129 @@
+package org.shadow.application.metrics;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Periodically logs the cycle phase latencies of the last interval, aggregated per symbol and
+ * timeframe, followed by the slowest robot cycle of the interval with the maxima of its phases. A
+ * late boundary thereby shows which robot and which phase caused it.
+ */
+public class CycleLatencyReporter implements AutoCloseable {
+
+  private static final CyclePhase[] PHASES = CyclePhase.values();
+
+  private final Logger logger = LogManager.getLogger(CycleLatencyReporter.class);
+  private final CycleMetricsRegistry registry;
+  private final ScheduledExecutorService executor =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            var thread = new Thread(runnable, "cycle-latency-reporter");
+            thread.setDaemon(true);
+            return thread;
+          });
+  // Cumulative snapshots of the previous report per symbol and timeframe
+  private final Map<String, HistogramSnapshot[]> previousSnapshots = new HashMap<>();
+
+  public CycleLatencyReporter(CycleMetricsRegistry registry) {
+    this.registry = registry;
+  }
+
+  /**
+   * Starts logging a summary at a fixed interval.
+   *
+   * @param intervalSeconds the time between two summaries
+   */
+  public void start(long intervalSeconds) {
+    executor.scheduleAtFixedRate(this::report, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    logger.info("Cycle latency summaries are logged every {} s.", intervalSeconds);
+  }
+
+  /** Logs the summary of the interval since the previous report. */
+  public synchronized void report() {
+    var cumulative = new LinkedHashMap<String, HistogramSnapshot[]>();
+    RobotCycleMetrics slowestRobot = null;
+    var slowestMaxima = new long[PHASES.length];
+    var maxima = new long[PHASES.length];
+
+    for (var metrics : registry.getRobotMetrics()) {
+      var snapshots = cumulative.computeIfAbsent(describe(metrics), key -> emptySnapshots());
+      for (var phase : PHASES) {
+        snapshots[phase.ordinal()] =
+            snapshots[phase.ordinal()].plus(metrics.getHistogram(phase).snapshot());
+        maxima[phase.ordinal()] = metrics.drainIntervalMax(phase);
+      }
+      if (maxima[CyclePhase.TOTAL.ordinal()] > slowestMaxima[CyclePhase.TOTAL.ordinal()]) {
+        slowestRobot = metrics;
+        System.arraycopy(maxima, 0, slowestMaxima, 0, maxima.length);
+      }
+    }
+
+    for (var entry : cumulative.entrySet()) {
+      var previous = previousSnapshots.getOrDefault(entry.getKey(), emptySnapshots());
+      previousSnapshots.put(entry.getKey(), entry.getValue());
+      var total = entry.getValue()[CyclePhase.TOTAL.ordinal()];
+      var interval = total.minus(previous[CyclePhase.TOTAL.ordinal()]);
+      if (interval.getTotalCount() == 0) {
+        continue;
+      }
+      logger.info(
+          "Cycle latency of {}: {} cycles, total p50={} us p99={} us max={} us, p99 per phase: "
+              + "collectBars={} us blockers={} us explorers={} us handler={} us",
+          entry.getKey(),
+          interval.getTotalCount(),
+          toMicros(interval.getValueAtPercentile(50)),
+          toMicros(interval.getValueAtPercentile(99)),
+          toMicros(interval.getMax()),
+          intervalP99(entry.getValue(), previous, CyclePhase.COLLECT_BARS),
+          intervalP99(entry.getValue(), previous, CyclePhase.BLOCKERS),
+          intervalP99(entry.getValue(), previous, CyclePhase.EXPLORERS),
+          intervalP99(entry.getValue(), previous, CyclePhase.HANDLER));
+    }
+
+    if (slowestRobot != null) {
+      logger.info(
+          "Slowest cycle of the interval: {} took {} us, phase maxima: collectBars={} us "
+              + "blockers={} us explorers={} us handler={} us",
+          describe(slowestRobot),
+          toMicros(slowestMaxima[CyclePhase.TOTAL.ordinal()]),
+          toMicros(slowestMaxima[CyclePhase.COLLECT_BARS.ordinal()]),
+          toMicros(slowestMaxima[CyclePhase.BLOCKERS.ordinal()]),
+          toMicros(slowestMaxima[CyclePhase.EXPLORERS.ordinal()]),
+          toMicros(slowestMaxima[CyclePhase.HANDLER.ordinal()]));
+    }
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  private static String describe(RobotCycleMetrics metrics) {
+    var timeframe = metrics.getRobotTimeframe();
+    return metrics.getSymbol() + " " + timeframe.interval() + " " + timeframe.unit();
+  }
+
+  private static HistogramSnapshot[] emptySnapshots() {
+    var snapshots = new HistogramSnapshot[PHASES.length];
+    for (int i = 0; i < snapshots.length; i++) {
+      snapshots[i] = HistogramSnapshot.empty();
+    }
+    return snapshots;
+  }
+
+  private static long intervalP99(
+      HistogramSnapshot[] current, HistogramSnapshot[] previous, CyclePhase phase) {
+    var interval = current[phase.ordinal()].minus(previous[phase.ordinal()]);
+    return toMicros(interval.getValueAtPercentile(99));
+  }
+
+  private static long toMicros(long nanos) {
+    return TimeUnit.NANOSECONDS.toMicros(nanos);
+  }
+}
@@ -0,0 +1,28 @@
+package org.shadow.application.metrics;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.shadow.application.robot.RobotTimeframe;
+
+/** Holds the cycle metrics of every robot, so they can be reported and exported together. */
+public class CycleMetricsRegistry {
+
+  private final List<RobotCycleMetrics> robotMetrics = new CopyOnWriteArrayList<>();
+
+  /**
+   * Creates and registers the metrics of a robot.
+   *
+   * @param symbol the symbol traded by the robot
+   * @param robotTimeframe the timeframe of the robot
+   * @return the metrics the robot records into
+   */
+  public RobotCycleMetrics register(String symbol, RobotTimeframe robotTimeframe) {
+    var metrics = new RobotCycleMetrics(symbol, robotTimeframe);
+    robotMetrics.add(metrics);
+    return metrics;
+  }
+
+  public List<RobotCycleMetrics> getRobotMetrics() {
+    return robotMetrics;
+  }
+}
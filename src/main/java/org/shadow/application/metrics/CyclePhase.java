@@ -0,0 +1,11 @@
+package org.shadow.application.metrics;
+
+/** Timed phases of a robot cycle. */
+public enum CyclePhase {
+  COLLECT_BARS,
+  BLOCKERS,
+  EXPLORERS,
+  /** The position handler, including the strategy evaluation and the order submission. */
+  HANDLER,
+  TOTAL
+}
@@ -0,0 +1,29 @@
+package org.shadow.application.metrics;
+
+/**
+ * Receives the duration of every phase of a robot cycle, and optionally the bar and order activity
+ * of the robot.
+ */
+@FunctionalInterface
+public interface CyclePhaseRecorder {
+
+  /** Recorder that discards every duration, for robots without metrics. */
+  CyclePhaseRecorder NONE = (phase, nanos) -> {};
+
+  void record(CyclePhase phase, long nanos);
+
+  /**
+   * Records the bars returned by one collection.
+   *
+   * @param bars the number of collected bars
+   */
+  default void recordBarsCollected(int bars) {}
+
+  /**
+   * Records the time from submitting an order until the exchange acknowledged it. For asynchronous
+   * clients this is measured on completion, so it is not part of any cycle phase.
+   *
+   * @param nanos the latency in nanoseconds
+   */
+  default void recordOrderSubmission(long nanos) {}
+}
@@ -0,0 +1,111 @@
+package org.shadow.application.metrics;
+
+/** Immutable copy of the counts of a {@link LatencyHistogram}. */
+public final class HistogramSnapshot {
+
+  private static final HistogramSnapshot EMPTY =
+      new HistogramSnapshot(new long[LatencyHistogram.BUCKETS], 0);
+
+  private final long[] counts;
+  private final long totalCount;
+  private final long sumNanos;
+
+  HistogramSnapshot(long[] counts, long sumNanos) {
+    this.counts = counts;
+    this.sumNanos = sumNanos;
+    var total = 0L;
+    for (var count : counts) {
+      total += count;
+    }
+    this.totalCount = total;
+  }
+
+  public static HistogramSnapshot empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Returns the counts recorded since an earlier snapshot of the same histogram.
+   *
+   * @param earlier the earlier snapshot
+   * @return the difference of the two snapshots
+   */
+  public HistogramSnapshot minus(HistogramSnapshot earlier) {
+    var difference = new long[counts.length];
+    for (int i = 0; i < counts.length; i++) {
+      difference[i] = counts[i] - earlier.counts[i];
+    }
+    return new HistogramSnapshot(difference, sumNanos - earlier.sumNanos);
+  }
+
+  /**
+   * Merges the counts of two snapshots, e.g. of all robots of one symbol.
+   *
+   * @param other the snapshot to add
+   * @return the sum of the two snapshots
+   */
+  public HistogramSnapshot plus(HistogramSnapshot other) {
+    var sum = new long[counts.length];
+    for (int i = 0; i < counts.length; i++) {
+      sum[i] = counts[i] + other.counts[i];
+    }
+    return new HistogramSnapshot(sum, sumNanos + other.sumNanos);
+  }
+
+  public long getTotalCount() {
+    return totalCount;
+  }
+
+  /** Returns the sum of all recorded values in nanoseconds, with out of range values clamped. */
+  public long getSumNanos() {
+    return sumNanos;
+  }
+
+  /**
+   * Returns the value at the given percentile.
+   *
+   * @param percentile the percentile between 0 and 100
+   * @return the upper bound of the bucket containing the percentile in nanoseconds, zero when
+   *     nothing was recorded
+   */
+  public long getValueAtPercentile(double percentile) {
+    if (totalCount == 0) {
+      return 0;
+    }
+    var rank = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+    var seen = 0L;
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return LatencyHistogram.upperBoundOf(i);
+      }
+    }
+    return LatencyHistogram.upperBoundOf(counts.length - 1);
+  }
+
+  /**
+   * Returns the largest recorded value.
+   *
+   * @return the upper bound of the highest non-empty bucket in nanoseconds, zero when empty
+   */
+  public long getMax() {
+    for (int i = counts.length - 1; i >= 0; i--) {
+      if (counts[i] > 0) {
+        return LatencyHistogram.upperBoundOf(i);
+      }
+    }
+    return 0;
+  }
+
+  public int getBucketCount() {
+    return counts.length;
+  }
+
+  public long getCount(int bucket) {
+    return counts[bucket];
+  }
+
+  public long getUpperBound(int bucket) {
+    return LatencyHistogram.upperBoundOf(bucket);
+  }
+}
@@ -0,0 +1,74 @@
+package org.shadow.application.metrics;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size, allocation-free latency histogram in the style of HdrHistogram. Every power of two
+ * of nanoseconds is split into {@value #SUB_BUCKETS} linear buckets, so any recorded value is known
+ * to within about 6% whatever its scale. Recording is a single atomic increment, so the robot
+ * cycle never blocks on a concurrent reader; values beyond {@link #MAX_TRACKABLE_NANOS} are
+ * clamped.
+ *
+ * <p>Counts are cumulative. Interval statistics are computed by subtracting two {@link
+ * HistogramSnapshot}s.
+ */
+public final class LatencyHistogram {
+
+  public static final long MAX_TRACKABLE_NANOS = (1L << 36) - 1;
+
+  static final int SUB_BUCKET_BITS = 4;
+  static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  static final int BUCKETS = indexOf(MAX_TRACKABLE_NANOS) + 1;
+
+  private final AtomicIntegerArray counts = new AtomicIntegerArray(BUCKETS);
+  private final LongAdder sumNanos = new LongAdder();
+
+  /**
+   * Records one latency.
+   *
+   * @param nanos the latency in nanoseconds
+   */
+  public void record(long nanos) {
+    var clamped = Math.clamp(nanos, 0, MAX_TRACKABLE_NANOS);
+    counts.incrementAndGet(indexOf(clamped));
+    sumNanos.add(clamped);
+  }
+
+  /**
+   * Copies the current counts. Concurrent recordings may or may not be included.
+   *
+   * @return the cumulative counts since the histogram was created
+   */
+  public HistogramSnapshot snapshot() {
+    var snapshot = new long[BUCKETS];
+    for (int i = 0; i < BUCKETS; i++) {
+      snapshot[i] = Integer.toUnsignedLong(counts.get(i));
+    }
+    return new HistogramSnapshot(snapshot, sumNanos.sum());
+  }
+
+  static int indexOf(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    var exponent = Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS - 1;
+    var subBucket = (int) (value >>> exponent) - SUB_BUCKETS;
+    return (exponent + 1) * SUB_BUCKETS + subBucket;
+  }
+
+  /**
+   * Returns the largest value counted in a bucket.
+   *
+   * @param index the index of the bucket
+   * @return the inclusive upper bound of the bucket in nanoseconds
+   */
+  static long upperBoundOf(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    var exponent = index / SUB_BUCKETS - 1;
+    var subBucket = index % SUB_BUCKETS + SUB_BUCKETS;
+    return ((long) (subBucket + 1) << exponent) - 1;
+  }
+}
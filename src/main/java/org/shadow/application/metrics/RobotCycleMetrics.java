@@ -0,0 +1,80 @@
+package org.shadow.application.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import org.shadow.application.robot.RobotTimeframe;
+
+/**
+ * Cycle phase latencies of one robot: a cumulative histogram per {@link CyclePhase}, plus the
+ * maximum of every phase since the last report, so the reporter can name the slowest robot without
+ * keeping a snapshot of every robot. Collected bars and order submission latencies are kept for the
+ * metrics endpoint.
+ */
+public final class RobotCycleMetrics implements CyclePhaseRecorder {
+
+  private static final CyclePhase[] PHASES = CyclePhase.values();
+
+  private final String symbol;
+  private final RobotTimeframe robotTimeframe;
+  private final LatencyHistogram[] histograms = new LatencyHistogram[PHASES.length];
+  private final AtomicLongArray intervalMaxima = new AtomicLongArray(PHASES.length);
+  private final LatencyHistogram orderSubmissionHistogram = new LatencyHistogram();
+  private final LongAdder barsCollected = new LongAdder();
+
+  public RobotCycleMetrics(String symbol, RobotTimeframe robotTimeframe) {
+    this.symbol = symbol;
+    this.robotTimeframe = robotTimeframe;
+    for (int i = 0; i < histograms.length; i++) {
+      histograms[i] = new LatencyHistogram();
+    }
+  }
+
+  @Override
+  public void record(CyclePhase phase, long nanos) {
+    histograms[phase.ordinal()].record(nanos);
+    var max = intervalMaxima.get(phase.ordinal());
+    while (nanos > max && !intervalMaxima.compareAndSet(phase.ordinal(), max, nanos)) {
+      max = intervalMaxima.get(phase.ordinal());
+    }
+  }
+
+  @Override
+  public void recordBarsCollected(int bars) {
+    barsCollected.add(bars);
+  }
+
+  @Override
+  public void recordOrderSubmission(long nanos) {
+    orderSubmissionHistogram.record(nanos);
+  }
+
+  /**
+   * Returns the maximum latency of a phase since the previous call and starts a new interval.
+   *
+   * @param phase the phase
+   * @return the maximum in nanoseconds, zero if the phase did not run
+   */
+  public long drainIntervalMax(CyclePhase phase) {
+    return intervalMaxima.getAndSet(phase.ordinal(), 0);
+  }
+
+  public LatencyHistogram getHistogram(CyclePhase phase) {
+    return histograms[phase.ordinal()];
+  }
+
+  public LatencyHistogram getOrderSubmissionHistogram() {
+    return orderSubmissionHistogram;
+  }
+
+  public long getBarsCollected() {
+    return barsCollected.sum();
+  }
+
+  public String getSymbol() {
+    return symbol;
+  }
+
+  public RobotTimeframe getRobotTimeframe() {
+    return robotTimeframe;
+  }
+}
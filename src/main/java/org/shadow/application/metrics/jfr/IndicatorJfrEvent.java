@@ -0,0 +1,40 @@
+package org.shadow.application.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+
+/** One computation of an indicator over a window of prices or bars. */
+@Name("org.shadow.IndicatorComputation")
+@Label("Indicator Computation")
+@Category({"Trading Robot", "Indicator"})
+@Registered(false)
+public class IndicatorJfrEvent extends Event {
+
+  @Label("Indicator")
+  String indicator;
+
+  @Label("Period")
+  int period;
+
+  @Label("Values")
+  int values;
+
+  /**
+   * Commits the event if it is enabled in the running recording.
+   *
+   * @param indicator the name of the indicator
+   * @param period the period of the indicator
+   * @param values the number of input values
+   */
+  public void commit(String indicator, int period, int values) {
+    if (shouldCommit()) {
+      this.indicator = indicator;
+      this.period = period;
+      this.values = values;
+      commit();
+    }
+  }
+}
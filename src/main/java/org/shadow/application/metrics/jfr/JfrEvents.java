@@ -0,0 +1,31 @@
+package org.shadow.application.metrics.jfr;
+
+import java.util.List;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Switches the custom JFR events of the trading code on. The events are not registered by default,
+ * so until {@link #register()} is called their {@code begin} and {@code commit} are empty and the
+ * JIT removes them; once registered they are recorded like any JDK event whenever a recording is
+ * running, next to GC pauses, safepoints and lock contention.
+ */
+public final class JfrEvents {
+
+  private static final List<Class<? extends Event>> EVENT_CLASSES =
+      List.of(
+          RobotCycleJfrEvent.class,
+          StrategyDecisionJfrEvent.class,
+          IndicatorJfrEvent.class,
+          OrderJfrEvent.class);
+
+  private JfrEvents() {}
+
+  public static void register() {
+    EVENT_CLASSES.forEach(FlightRecorder::register);
+  }
+
+  public static void unregister() {
+    EVENT_CLASSES.forEach(FlightRecorder::unregister);
+  }
+}
@@ -0,0 +1,71 @@
+package org.shadow.application.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+import org.shadow.domain.client.model.Order;
+
+/**
+ * One call to the exchange order client, from submission until the exchange answered. Asynchronous
+ * calls are committed by the thread completing the future.
+ */
+@Name("org.shadow.ExchangeOrder")
+@Label("Exchange Order")
+@Category({"Trading Robot", "Exchange"})
+@Registered(false)
+public class OrderJfrEvent extends Event {
+
+  public static final String OPEN_LONG = "OPEN_LONG";
+  public static final String OPEN_SHORT = "OPEN_SHORT";
+  public static final String CLOSE = "CLOSE";
+
+  @Label("Operation")
+  String operation;
+
+  @Label("Symbol")
+  String symbol;
+
+  @Label("Asynchronous")
+  boolean async;
+
+  @Label("Order Id")
+  @Description("Id of the opened or closed order, 0 if the call failed")
+  long orderId;
+
+  @Label("Failed")
+  boolean failed;
+
+  /**
+   * Creates the event and starts its timing.
+   *
+   * @param operation one of {@link #OPEN_LONG}, {@link #OPEN_SHORT} and {@link #CLOSE}
+   * @return the started event
+   */
+  public static OrderJfrEvent begin(String operation) {
+    var event = new OrderJfrEvent();
+    event.operation = operation;
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Commits the event if it is enabled in the running recording.
+   *
+   * @param symbol the symbol of the order
+   * @param async whether the asynchronous client API was used
+   * @param order the opened or closed order, null if the call failed
+   * @param failure the failure of the call, null if it succeeded
+   */
+  public void commit(String symbol, boolean async, Order order, Throwable failure) {
+    if (shouldCommit()) {
+      this.symbol = symbol;
+      this.async = async;
+      this.orderId = order != null ? order.id() : 0;
+      this.failed = failure != null;
+      commit();
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package org.shadow.application.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+
+/** One cycle of a robot, from bar collection until the position handler has finished. */
+@Name("org.shadow.RobotCycle")
+@Label("Robot Cycle")
+@Category({"Trading Robot", "Robot"})
+@Registered(false)
+public class RobotCycleJfrEvent extends Event {
+
+  @Label("Symbol")
+  String symbol;
+
+  @Label("Timeframe")
+  String timeframe;
+
+  @Label("Boundaries")
+  @Description("Bar boundaries covered by the cycle, more than one when catching up")
+  int boundaries;
+
+  @Label("Position State")
+  @Description("Position state of the robot after the cycle")
+  String positionState;
+
+  /**
+   * Commits the event if it is enabled in the running recording.
+   *
+   * @param symbol the symbol of the robot
+   * @param timeframe the timeframe of the robot
+   * @param boundaries the bar boundaries covered by the cycle
+   * @param positionState the position state after the cycle
+   */
+  public void commit(String symbol, String timeframe, int boundaries, String positionState) {
+    if (shouldCommit()) {
+      this.symbol = symbol;
+      this.timeframe = timeframe;
+      this.boundaries = boundaries;
+      this.positionState = positionState;
+      commit();
+    }
+  }
+}
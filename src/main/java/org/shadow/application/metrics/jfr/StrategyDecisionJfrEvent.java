@@ -0,0 +1,43 @@
+package org.shadow.application.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+
+/** One evaluation of the blockers and explorers of a strategy. */
+@Name("org.shadow.StrategyDecision")
+@Label("Strategy Decision")
+@Category({"Trading Robot", "Strategy"})
+@Registered(false)
+public class StrategyDecisionJfrEvent extends Event {
+
+  @Label("Blocked")
+  @Description("Whether a blocker stopped the evaluation before the explorers ran")
+  boolean blocked;
+
+  @Label("Severity Difference")
+  @Description("Long minus short voting power, positive values favour a long position")
+  int severityDifference;
+
+  @Label("Explorers")
+  int explorers;
+
+  /**
+   * Commits the event if it is enabled in the running recording.
+   *
+   * @param blocked whether a blocker stopped the evaluation
+   * @param severityDifference the long minus short voting power
+   * @param explorers the number of explorers of the strategy
+   */
+  public void commit(boolean blocked, int severityDifference, int explorers) {
+    if (shouldCommit()) {
+      this.blocked = blocked;
+      this.severityDifference = severityDifference;
+      this.explorers = explorers;
+      commit();
+    }
+  }
+}
@@ -0,0 +1,189 @@
+package org.shadow.application.orchestration;
+
+import static org.shadow.application.orchestration.util.TimeUtil.calculateInitialDelayUntilNextPeriod;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.shadow.application.robot.Robot;
+import org.shadow.application.robot.RobotTimeframe;
+
+/**
+ * Runs every robot of one timeframe as a single batch at each timeframe boundary. Instead of one
+ * executor per robot racing for the CPU, a single timer fires per boundary and the robots are split
+ * recursively over a work-stealing pool, so idle workers take over the robots of busy ones.
+ *
+ * <p>Every batch records its makespan, i.e. the time from the boundary until the last robot
+ * finished, and the slowest robot. A warning is logged when the makespan exceeds the budget.
+ */
+public class BatchRobotScheduler implements Scheduler {
+
+  private final Logger logger = LogManager.getLogger(BatchRobotScheduler.class);
+
+  private final RobotTimeframe robotTimeframe;
+  private final Robot[] robots;
+  private final long[] robotLatencyNanos;
+  private final TaskScheduler taskScheduler;
+  private final ForkJoinPool pool;
+  private final long budgetNanos;
+
+  private volatile BatchStatistics lastBatchStatistics;
+
+  /**
+   * Constructs a batch scheduler.
+   *
+   * @param robotTimeframe the timeframe shared by all robots
+   * @param robots the robots to run at every boundary of the timeframe
+   * @param taskScheduler the scheduler firing once per boundary
+   * @param pool the work-stealing pool running the robots
+   * @param budgetMillis the time within which all robots of a boundary should have finished
+   */
+  public BatchRobotScheduler(
+      RobotTimeframe robotTimeframe,
+      List<Robot> robots,
+      TaskScheduler taskScheduler,
+      ForkJoinPool pool,
+      long budgetMillis) {
+    if (robots.isEmpty()) {
+      throw new IllegalArgumentException("Batch must contain at least one robot");
+    }
+    this.robotTimeframe = robotTimeframe;
+    this.robots = robots.toArray(Robot[]::new);
+    this.robotLatencyNanos = new long[this.robots.length];
+    this.taskScheduler = taskScheduler;
+    this.pool = pool;
+    this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+  }
+
+  @Override
+  public void start() {
+    logger.info("Starting batch scheduler for {} robots on {}", robots.length, robotTimeframe);
+
+    for (var robot : robots) {
+      if (!robot.isInitialized()) {
+        logger.info("Initializing {} robot", robot.getSymbol());
+        robot.init();
+      }
+    }
+    logger.info("{} robots have been initialized", robots.length);
+
+    var initialDelay =
+        calculateInitialDelayUntilNextPeriod(robotTimeframe.interval(), robotTimeframe.unit());
+    var interval = robotTimeframe.unit().toMillis(robotTimeframe.interval());
+
+    taskScheduler.start(
+        () -> runBatch(taskScheduler.getCoveredBoundaries()), initialDelay, interval);
+    logger.info("Batch scheduler started.");
+  }
+
+  @Override
+  public void stop() {
+    logger.info("Stopping batch scheduler for {}", robotTimeframe);
+    taskScheduler.stop();
+    for (var robot : robots) {
+      robot.stop();
+    }
+    logger.info("Batch scheduler stopped.");
+  }
+
+  @Override
+  public String getName() {
+    return "batch " + robotTimeframe.interval() + " " + robotTimeframe.unit();
+  }
+
+  @Override
+  public TaskSchedulerMetrics getMetrics() {
+    return taskScheduler.getMetrics();
+  }
+
+  public BatchStatistics runBatch() {
+    return runBatch(1);
+  }
+
+  /**
+   * Runs all robots once and waits until the last one has finished.
+   *
+   * @param boundaries the number of timeframe boundaries covered by the batch; more than one makes
+   *     every robot catch up on the bars of the missed boundaries
+   * @return the statistics of the batch
+   */
+  public BatchStatistics runBatch(int boundaries) {
+    var batchStartNanos = System.nanoTime();
+    pool.invoke(new RobotBatchTask(batchStartNanos, boundaries, 0, robots.length));
+    var makespanNanos = System.nanoTime() - batchStartNanos;
+
+    var worstRobot = 0;
+    for (int i = 1; i < robots.length; i++) {
+      if (robotLatencyNanos[i] > robotLatencyNanos[worstRobot]) {
+        worstRobot = i;
+      }
+    }
+    var statistics =
+        new BatchStatistics(
+            robots.length,
+            makespanNanos,
+            robotLatencyNanos[worstRobot],
+            robots[worstRobot].getSymbol());
+    lastBatchStatistics = statistics;
+
+    if (makespanNanos > budgetNanos) {
+      logger.warn("Batch for {} exceeded its budget: {}", robotTimeframe, statistics);
+    } else {
+      logger.info("Batch for {} finished: {}", robotTimeframe, statistics);
+    }
+    return statistics;
+  }
+
+  public BatchStatistics getLastBatchStatistics() {
+    return lastBatchStatistics;
+  }
+
+  public RobotTimeframe getRobotTimeframe() {
+    return robotTimeframe;
+  }
+
+  private void runRobot(int index, long batchStartNanos, int boundaries) {
+    var robot = robots[index];
+    try {
+      if (boundaries > 1) {
+        robot.catchUp(boundaries);
+      } else {
+        robot.run();
+      }
+    } catch (Exception e) {
+      logger.error("Robot {} failed during batch execution", robot.getSymbol(), e);
+    }
+    robotLatencyNanos[index] = System.nanoTime() - batchStartNanos;
+  }
+
+  /** Splits the robot range in halves until one robot is left, so workers can steal halves. */
+  private final class RobotBatchTask extends RecursiveAction {
+
+    private final long batchStartNanos;
+    private final int boundaries;
+    private final int from;
+    private final int to;
+
+    private RobotBatchTask(long batchStartNanos, int boundaries, int from, int to) {
+      this.batchStartNanos = batchStartNanos;
+      this.boundaries = boundaries;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from == 1) {
+        runRobot(from, batchStartNanos, boundaries);
+        return;
+      }
+      var middle = (from + to) >>> 1;
+      invokeAll(
+          new RobotBatchTask(batchStartNanos, boundaries, from, middle),
+          new RobotBatchTask(batchStartNanos, boundaries, middle, to));
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package org.shadow.application.orchestration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timing of one batch of robots run at a timeframe boundary.
+ *
+ * @param robotCount the number of robots in the batch
+ * @param makespanNanos the time from the start of the batch until the last robot finished
+ * @param worstRobotLatencyNanos the time from the start of the batch until the slowest robot
+ *     finished
+ * @param worstRobotSymbol the symbol of the slowest robot
+ */
+public record BatchStatistics(
+    int robotCount, long makespanNanos, long worstRobotLatencyNanos, String worstRobotSymbol) {
+
+  @Override
+  public String toString() {
+    return String.format(
+        "robots=%d, makespan=%dms, worstRobot=%s (%dms)",
+        robotCount,
+        TimeUnit.NANOSECONDS.toMillis(makespanNanos),
+        worstRobotSymbol,
+        TimeUnit.NANOSECONDS.toMillis(worstRobotLatencyNanos));
+  }
+}
@@ -0,0 +1,292 @@
+package org.shadow.application.orchestration;
+
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Hashed hierarchical timing wheel shared by all robots for bar boundaries, order timeouts and
+ * position time-stops. Scheduling and cancelling a timer are O(1): callers only append to a
+ * lock-free queue, and a single ticker thread moves timers into buckets, cascades them down the
+ * levels as time advances and hands expired timers to the worker executor. Timers never run on the
+ * ticker thread, so a slow task cannot delay other timers.
+ *
+ * <p>Level 0 has one bucket per tick. Every higher level has buckets as wide as a whole rotation of
+ * the level below, so four levels of 512 buckets at 1 ms cover more than two years.
+ */
+public class HierarchicalTimingWheel implements AutoCloseable {
+
+  private static final int LEVELS = 4;
+
+  private final Logger logger = LogManager.getLogger(HierarchicalTimingWheel.class);
+
+  private final long tickNanos;
+  private final int bitsPerLevel;
+  private final int mask;
+  private final long maxDeltaTicks;
+  private final Bucket[][] levels;
+  private final Executor workers;
+  private final Queue<WheelTimeout<?>> additions = new ConcurrentLinkedQueue<>();
+  private final Queue<WheelTimeout<?>> cancellations = new ConcurrentLinkedQueue<>();
+  private final Thread ticker;
+  private final long startNanos;
+
+  private volatile boolean running = true;
+  // Only touched by the ticker thread
+  private long currentTick;
+
+  /**
+   * Constructs and starts a timing wheel.
+   *
+   * @param tickMillis the resolution of the wheel
+   * @param wheelSize the number of buckets per level, rounded up to a power of two
+   * @param workers the executor running expired timers
+   */
+  public HierarchicalTimingWheel(long tickMillis, int wheelSize, Executor workers) {
+    if (tickMillis <= 0 || wheelSize < 2) {
+      throw new IllegalArgumentException("Tick must be positive and wheel size at least 2");
+    }
+    var size = Integer.highestOneBit(wheelSize - 1) << 1;
+    this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+    this.bitsPerLevel = Integer.numberOfTrailingZeros(size);
+    this.mask = size - 1;
+    var wheelBits = bitsPerLevel * LEVELS;
+    this.maxDeltaTicks = wheelBits >= Long.SIZE - 2 ? Long.MAX_VALUE : 1L << wheelBits;
+    this.levels = new Bucket[LEVELS][size];
+    for (var level : levels) {
+      for (int i = 0; i < size; i++) {
+        level[i] = new Bucket();
+      }
+    }
+    this.workers = workers;
+    this.startNanos = System.nanoTime();
+    this.ticker = new Thread(this::runTicker, "timing-wheel-ticker");
+    ticker.setDaemon(true);
+    ticker.start();
+  }
+
+  /**
+   * Creates a timing wheel whose timers run on a daemon worker pool sized to the cores.
+   *
+   * @param tickMillis the resolution of the wheel
+   * @param wheelSize the number of buckets per level
+   * @return the started wheel
+   */
+  public static HierarchicalTimingWheel withDefaultWorkers(long tickMillis, int wheelSize) {
+    var workers =
+        Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(),
+            runnable -> {
+              var thread = new Thread(runnable, "timing-wheel-worker");
+              thread.setDaemon(true);
+              return thread;
+            });
+    return new HierarchicalTimingWheel(tickMillis, wheelSize, workers);
+  }
+
+  public WheelTimeout<?> schedule(Runnable task, long delay, TimeUnit unit) {
+    return schedule(Executors.callable(task), delay, unit);
+  }
+
+  public <V> WheelTimeout<V> schedule(Callable<V> task, long delay, TimeUnit unit) {
+    return newTimeout(task, delay, 0, unit, null);
+  }
+
+  /**
+   * Schedules a repeating task. As with {@code scheduleAtFixedRate}, the next execution is armed
+   * when the current one has finished, so executions of one task never overlap.
+   *
+   * @param task the task
+   * @param initialDelay the delay of the first execution
+   * @param period the period between execution deadlines
+   * @param unit the unit of the delay and period
+   * @return the timeout, cancelling it stops the repetition
+   */
+  public WheelTimeout<?> scheduleAtFixedRate(
+      Runnable task, long initialDelay, long period, TimeUnit unit) {
+    if (period <= 0) {
+      throw new IllegalArgumentException("Period must be positive");
+    }
+    return newTimeout(Executors.callable(task), initialDelay, period, unit, null);
+  }
+
+  /**
+   * Creates and schedules a timeout.
+   *
+   * @param period positive for fixed-rate and negative for fixed-delay repetition, zero for none
+   * @param onTermination called once the timeout will never run again, may be null
+   */
+  <V> WheelTimeout<V> newTimeout(
+      Callable<V> task,
+      long delay,
+      long period,
+      TimeUnit unit,
+      Consumer<WheelTimeout<?>> onTermination) {
+    if (!running) {
+      throw new RejectedExecutionException("Timing wheel is stopped");
+    }
+    var deadlineNanos = System.nanoTime() + unit.toNanos(Math.max(0, delay));
+    var timeout =
+        new WheelTimeout<>(this, task, deadlineNanos, unit.toNanos(period), onTermination);
+    enqueue(timeout);
+    return timeout;
+  }
+
+  void enqueue(WheelTimeout<?> timeout) {
+    additions.add(timeout);
+  }
+
+  void cancel(WheelTimeout<?> timeout) {
+    cancellations.add(timeout);
+  }
+
+  @Override
+  public void close() {
+    running = false;
+    LockSupport.unpark(ticker);
+  }
+
+  private void runTicker() {
+    logger.info(
+        "Timing wheel started with {} us ticks and {} buckets per level.",
+        TimeUnit.NANOSECONDS.toMicros(tickNanos),
+        mask + 1);
+    while (running) {
+      var tickDeadlineNanos = startNanos + currentTick * tickNanos;
+      var remainingNanos = tickDeadlineNanos - System.nanoTime();
+      if (remainingNanos > 0) {
+        LockSupport.parkNanos(remainingNanos);
+        continue;
+      }
+      try {
+        processTick();
+      } catch (Exception e) {
+        logger.error("Timing wheel failed to process tick {}", currentTick, e);
+      }
+      currentTick++;
+    }
+    logger.info("Timing wheel stopped.");
+  }
+
+  private void processTick() {
+    // Higher levels first: a timer cascaded from level 2 may land in the level 1 bucket that is
+    // cascaded on the same tick
+    for (int level = LEVELS - 1; level > 0; level--) {
+      if ((currentTick & ((1L << (bitsPerLevel * level)) - 1)) == 0) {
+        cascade(levels[level][(int) ((currentTick >>> (bitsPerLevel * level)) & mask)]);
+      }
+    }
+    for (var timeout = cancellations.poll(); timeout != null; timeout = cancellations.poll()) {
+      if (timeout.bucket != null) {
+        timeout.bucket.remove(timeout);
+      }
+    }
+    for (var timeout = additions.poll(); timeout != null; timeout = additions.poll()) {
+      if (timeout.isPending()) {
+        timeout.deadlineTick = toTick(timeout.deadlineNanos);
+        place(timeout);
+      }
+    }
+    expire(levels[0][(int) (currentTick & mask)]);
+  }
+
+  private long toTick(long deadlineNanos) {
+    var elapsedNanos = deadlineNanos - startNanos;
+    // Round up, a timer must never fire before its deadline
+    var tick = elapsedNanos <= 0 ? 0 : (elapsedNanos + tickNanos - 1) / tickNanos;
+    return Math.max(tick, currentTick);
+  }
+
+  private void place(WheelTimeout<?> timeout) {
+    var deltaTicks = timeout.deadlineTick - currentTick;
+    // Timers beyond the top level are parked at its far end and placed again on cascade
+    var targetTick =
+        deltaTicks >= maxDeltaTicks ? currentTick + maxDeltaTicks - 1 : timeout.deadlineTick;
+    var level = 0;
+    while (level < LEVELS - 1 && (targetTick - currentTick) >>> (bitsPerLevel * (level + 1)) != 0) {
+      level++;
+    }
+    levels[level][(int) ((targetTick >>> (bitsPerLevel * level)) & mask)].add(timeout);
+  }
+
+  private void cascade(Bucket bucket) {
+    var timeout = bucket.clear();
+    while (timeout != null) {
+      var next = timeout.next;
+      timeout.previous = null;
+      timeout.next = null;
+      timeout.bucket = null;
+      if (timeout.isPending()) {
+        place(timeout);
+      }
+      timeout = next;
+    }
+  }
+
+  private void expire(Bucket bucket) {
+    var timeout = bucket.clear();
+    while (timeout != null) {
+      var next = timeout.next;
+      timeout.previous = null;
+      timeout.next = null;
+      timeout.bucket = null;
+      if (timeout.isPending()) {
+        dispatch(timeout);
+      }
+      timeout = next;
+    }
+  }
+
+  private void dispatch(WheelTimeout<?> timeout) {
+    try {
+      workers.execute(timeout::run);
+    } catch (RejectedExecutionException e) {
+      logger.warn("Worker pool rejected an expired timer; cancelling it.", e);
+      timeout.cancel(false);
+    }
+  }
+
+  /** Doubly linked list of the timers of one bucket; only touched by the ticker thread. */
+  static final class Bucket {
+
+    private WheelTimeout<?> head;
+
+    void add(WheelTimeout<?> timeout) {
+      timeout.bucket = this;
+      timeout.previous = null;
+      timeout.next = head;
+      if (head != null) {
+        head.previous = timeout;
+      }
+      head = timeout;
+    }
+
+    void remove(WheelTimeout<?> timeout) {
+      if (timeout.previous != null) {
+        timeout.previous.next = timeout.next;
+      } else {
+        head = timeout.next;
+      }
+      if (timeout.next != null) {
+        timeout.next.previous = timeout.previous;
+      }
+      timeout.previous = null;
+      timeout.next = null;
+      timeout.bucket = null;
+    }
+
+    WheelTimeout<?> clear() {
+      var first = head;
+      head = null;
+      return first;
+    }
+  }
+}
@@ -0,0 +1,14 @@
+package org.shadow.application.orchestration;
+
+/**
+ * What a {@link TaskScheduler} does with the boundaries that passed while the previous execution
+ * was still running.
+ */
+public enum OverrunPolicy {
+  /** Drop the missed boundaries and wait for the next one. */
+  SKIP,
+  /** Run once right away; the task catches up on everything that arrived since its last run. */
+  COALESCE,
+  /** Run once per missed boundary, in order, dropping boundaries older than the deadline. */
+  BACKLOG
+}
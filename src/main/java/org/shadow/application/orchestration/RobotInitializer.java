@@ -0,0 +1,106 @@
+package org.shadow.application.orchestration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.shadow.application.robot.Robot;
+
+/**
+ * Startup phase constructing and initializing robots concurrently on a bounded number of threads,
+ * so the time to the first trade is bounded by the slowest robot instead of the sum of all of
+ * them. The init time of every robot is logged. A robot failing to start fails the whole startup,
+ * as it may have recovered an open position that no robot would manage if it were left out.
+ */
+public class RobotInitializer {
+
+  private final Logger logger = LogManager.getLogger(RobotInitializer.class);
+
+  private final int parallelism;
+
+  /**
+   * @param parallelism the maximum number of robots initialized at once
+   */
+  public RobotInitializer(int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be at least 1 but was " + parallelism);
+    }
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * Constructs and initializes robots, returning once all of them are done.
+   *
+   * @param robotSuppliers construct the robots and their clients, called on the startup threads
+   * @return the initialized robots in the order of their suppliers
+   * @throws IllegalStateException if any robot failed to start, after all of them are done
+   * @throws InterruptedException if interrupted while waiting for the robots
+   */
+  public List<Robot> initialize(List<Supplier<Robot>> robotSuppliers) throws InterruptedException {
+    var startNanos = System.nanoTime();
+    var threadCount = new AtomicInteger();
+    var executor =
+        Executors.newFixedThreadPool(
+            Math.max(1, Math.min(parallelism, robotSuppliers.size())),
+            runnable -> {
+              var thread = new Thread(runnable, "robot-init-" + threadCount.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    try {
+      var tasks = new ArrayList<Callable<Robot>>(robotSuppliers.size());
+      for (var robotSupplier : robotSuppliers) {
+        tasks.add(() -> initialize(robotSupplier));
+      }
+      var robots = new ArrayList<Robot>(tasks.size());
+      IllegalStateException failure = null;
+      for (var future : executor.invokeAll(tasks)) {
+        try {
+          robots.add(future.get());
+        } catch (ExecutionException e) {
+          logger.error("Failed to initialize robot", e.getCause());
+          if (failure == null) {
+            failure = new IllegalStateException("Failed to initialize robots", e.getCause());
+          } else {
+            failure.addSuppressed(e.getCause());
+          }
+        }
+      }
+      if (failure != null) {
+        throw failure;
+      }
+      logger.info(
+          "Initialized {} of {} robots on {} threads in {} ms",
+          robots.size(),
+          robotSuppliers.size(),
+          parallelism,
+          Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+      return robots;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private Robot initialize(Supplier<Robot> robotSupplier) {
+    var startNanos = System.nanoTime();
+    var robot = robotSupplier.get();
+    var initStartNanos = System.nanoTime();
+    robot.init();
+    var endNanos = System.nanoTime();
+    logger.info(
+        "Initialized {} {} {} robot in {} ms (construction {} ms, init {} ms)",
+        robot.getSymbol(),
+        robot.getRobotTimeframe().interval(),
+        robot.getRobotTimeframe().unit(),
+        Duration.ofNanos(endNanos - startNanos).toMillis(),
+        Duration.ofNanos(initStartNanos - startNanos).toMillis(),
+        Duration.ofNanos(endNanos - initStartNanos).toMillis());
+    return robot;
+  }
+}
@@ -10,10 +10,10 @@ public class RobotManager {
 
   private final Logger logger = LogManager.getLogger(RobotManager.class);
 
-  private final List<RobotScheduler> robotSchedulers;
+  private final List<? extends Scheduler> robotSchedulers;
   private final ExecutorService executorService;
 
-  public RobotManager(List<RobotScheduler> robotSchedulers, ExecutorService executorService) {
+  public RobotManager(List<? extends Scheduler> robotSchedulers, ExecutorService executorService) {
     this.robotSchedulers = robotSchedulers;
     this.executorService = executorService;
   }
@@ -31,7 +31,7 @@ public class RobotManager {
 
   public void stop() throws InterruptedException {
     logger.info("Stopping robot schedulers...");
-    robotSchedulers.stream().parallel().forEach(RobotScheduler::stop);
+    robotSchedulers.stream().parallel().forEach(Scheduler::stop);
 
     executorService.shutdown();
     // TODO: executorServiceTerminationTimeout should be configured from contractor
@@ -6,7 +6,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.shadow.application.robot.Robot;
 
-public class RobotScheduler {
+public class RobotScheduler implements Scheduler {
 
   private final Logger logger = LogManager.getLogger(RobotScheduler.class);
 
@@ -18,12 +18,15 @@ public class RobotScheduler {
     this.taskScheduler = taskScheduler;
   }
 
+  @Override
   public void start() {
     logger.info("Starting scheduler for robot: {}", robot);
 
-    logger.info("Initializing {} robot", robot.getSymbol());
-    robot.init();
-    logger.info("{} robot has been initialized", robot.getSymbol());
+    if (!robot.isInitialized()) {
+      logger.info("Initializing {} robot", robot.getSymbol());
+      robot.init();
+      logger.info("{} robot has been initialized", robot.getSymbol());
+    }
 
     var robotInterval = robot.getRobotTimeframe().interval();
     var robotUnit = robot.getRobotTimeframe().unit();
@@ -34,17 +37,34 @@ public class RobotScheduler {
     taskScheduler.start(
         () -> {
           logger.info("Executing task for robot: {}", robot);
-          robot.run();
+          var boundaries = taskScheduler.getCoveredBoundaries();
+          if (boundaries > 1) {
+            robot.catchUp(boundaries);
+          } else {
+            robot.run();
+          }
         },
         initialDelay,
         interval);
     logger.info("Scheduler started.");
   }
 
+  @Override
   public void stop() {
     logger.info("Stopping scheduler for robot: {}", robot);
     taskScheduler.stop();
     robot.stop();
     logger.info("Scheduler stopped.");
   }
+
+  @Override
+  public String getName() {
+    var robotTimeframe = robot.getRobotTimeframe();
+    return robot.getSymbol() + " " + robotTimeframe.interval() + " " + robotTimeframe.unit();
+  }
+
+  @Override
+  public TaskSchedulerMetrics getMetrics() {
+    return taskScheduler.getMetrics();
+  }
 }
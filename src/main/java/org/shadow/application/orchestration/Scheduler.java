@@ -0,0 +1,14 @@
+package org.shadow.application.orchestration;
+
+/** Drives the periodic execution of one or more robots; started and stopped by the manager. */
+public interface Scheduler {
+
+  void start();
+
+  void stop();
+
+  /** Returns a short name of the scheduled robots, used to label the scheduler metrics. */
+  String getName();
+
+  TaskSchedulerMetrics getMetrics();
+}
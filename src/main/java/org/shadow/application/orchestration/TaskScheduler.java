@@ -1,35 +1,87 @@
 package org.shadow.application.orchestration;
 
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.shadow.application.orchestration.util.TimeProvider;
 
 public class TaskScheduler {
 
+  private static final long ALIGNED_WAKE_UP_MARGIN_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+
   private final Logger logger = LogManager.getLogger(TaskScheduler.class);
 
   private final ScheduledExecutorService scheduler;
-  private ScheduledFuture<?> scheduledFuture;
+  private final OverrunPolicy overrunPolicy;
+  private final long backlogDeadlineNanos;
+  private final TimerMode timerMode;
+  private final long alignmentOffsetNanos;
+  private final TaskSchedulerMetrics metrics = new TaskSchedulerMetrics();
+  private volatile ScheduledFuture<?> scheduledFuture;
   private final AtomicBoolean running = new AtomicBoolean(true);
 
+  // Boundary bookkeeping, only touched by the executing thread as executions never overlap.
+  // Boundary k is due when System.nanoTime() reaches firstBoundaryNanos + k * intervalNanos
+  private long firstBoundaryNanos;
+  private long intervalNanos;
+  private long nextBoundary;
+  private int coveredBoundaries = 1;
+
   public TaskScheduler(ScheduledExecutorService scheduler) {
-    this.scheduler = scheduler;
-    logger.debug("TaskScheduler initialized with a single-threaded executor service.");
+    this(builder(scheduler));
+  }
+
+  private TaskScheduler(Builder builder) {
+    this.scheduler = builder.scheduler;
+    this.overrunPolicy = builder.overrunPolicy;
+    this.backlogDeadlineNanos = TimeUnit.MILLISECONDS.toNanos(builder.backlogDeadlineMillis);
+    this.timerMode = builder.timerMode;
+    this.alignmentOffsetNanos = TimeUnit.MILLISECONDS.toNanos(builder.alignmentOffsetMillis);
+    logger.debug(
+        "TaskScheduler initialized with {} timer and {} overrun policy.", timerMode, overrunPolicy);
   }
 
+  /**
+   * Returns a builder of a task scheduler, by default a {@link TimerMode#FIXED_RATE} one that
+   * skips missed boundaries.
+   *
+   * @param scheduler the executor running the task
+   * @return the builder
+   */
+  public static Builder builder(ScheduledExecutorService scheduler) {
+    return new Builder(scheduler);
+  }
+
+  /**
+   * Starts executing the task once per interval. In {@link TimerMode#ALIGNED} mode the initial
+   * delay is ignored and the task fires at every wall-clock multiple of the interval plus the
+   * alignment offset.
+   *
+   * @param task the task to execute
+   * @param initialDelay the delay of the first execution in milliseconds
+   * @param interval the interval between executions in milliseconds
+   */
   public void start(Runnable task, long initialDelay, long interval) {
+    if (timerMode == TimerMode.ALIGNED) {
+      startAligned(task, interval);
+      return;
+    }
     logger.info(
         "Starting task scheduler with an interval of {} with delay {}.", interval, initialDelay);
+    firstBoundaryNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(initialDelay);
+    intervalNanos = TimeUnit.MILLISECONDS.toNanos(interval);
     scheduledFuture =
         scheduler.scheduleAtFixedRate(
             () -> {
               try {
                 if (running.get()) {
                   logger.debug("Executing scheduled task.");
-                  task.run();
+                  runDueBoundaries(task);
                 } else {
                   logger.debug("Task execution is stopped; running flag is false.");
                 }
@@ -44,6 +96,21 @@ public class TaskScheduler {
     logger.info("Task scheduler started.");
   }
 
+  /**
+   * Returns the number of boundaries covered by the current execution. It is greater than one only
+   * for a catch-up execution under {@link OverrunPolicy#COALESCE}, in which case the task should
+   * process everything that arrived since its last run.
+   *
+   * @return the covered boundaries; only meaningful when called from the executing task
+   */
+  public int getCoveredBoundaries() {
+    return coveredBoundaries;
+  }
+
+  public TaskSchedulerMetrics getMetrics() {
+    return metrics;
+  }
+
   public void stop() {
     logger.info("Stopping task scheduler.");
     running.set(false);
@@ -62,6 +129,184 @@ public class TaskScheduler {
       Thread.currentThread().interrupt();
       logger.error("Interrupted while waiting for scheduler termination.", e);
     }
-    logger.info("Task scheduler stopped.");
+    logger.info("Task scheduler stopped. Metrics: {}", metrics);
+  }
+
+  private void startAligned(Runnable task, long interval) {
+    logger.info(
+        "Starting aligned task scheduler with an interval of {} and offset of {} us.",
+        interval,
+        TimeUnit.NANOSECONDS.toMicros(alignmentOffsetNanos));
+    intervalNanos = TimeUnit.MILLISECONDS.toNanos(interval);
+    alignToWallClock();
+    nextBoundary = Math.max(0, System.nanoTime() - firstBoundaryNanos) / intervalNanos + 1;
+    armNextBoundary(task);
+    logger.info("Task scheduler started.");
+  }
+
+  /**
+   * Maps wall-clock boundaries onto the monotonic clock: boundary k is the wall-clock instant k *
+   * interval + offset since the epoch. Re-done before every arming, so a stepped or slewed wall
+   * clock only affects the next wait.
+   */
+  private void alignToWallClock() {
+    var wallNanos = TimeUnit.MILLISECONDS.toNanos(TimeProvider.currentTimeMillis());
+    firstBoundaryNanos = System.nanoTime() - wallNanos + alignmentOffsetNanos;
+  }
+
+  private void armNextBoundary(Runnable task) {
+    if (!running.get()) {
+      return;
+    }
+    alignToWallClock();
+    var targetNanos = boundaryNanos(nextBoundary);
+    // Wake up slightly early and park for the remainder, as executor delays are coarse
+    var delayNanos = targetNanos - System.nanoTime() - ALIGNED_WAKE_UP_MARGIN_NANOS;
+    try {
+      scheduledFuture =
+          scheduler.schedule(
+              () -> fireAligned(task, targetNanos),
+              Math.max(0, delayNanos),
+              TimeUnit.NANOSECONDS);
+    } catch (RejectedExecutionException e) {
+      logger.debug("Scheduler is shut down; not arming the next boundary.");
+    }
+  }
+
+  private void fireAligned(Runnable task, long targetNanos) {
+    var remainingNanos = targetNanos - System.nanoTime();
+    while (remainingNanos > 0) {
+      LockSupport.parkNanos(remainingNanos);
+      remainingNanos = targetNanos - System.nanoTime();
+    }
+    logger.debug(
+        "Boundary timer fired {} us after its target.",
+        TimeUnit.NANOSECONDS.toMicros(-remainingNanos));
+    try {
+      if (running.get()) {
+        runDueBoundaries(task);
+      }
+    } catch (Exception e) {
+      logger.error("Error occurred while executing scheduled task.", e);
+    } finally {
+      armNextBoundary(task);
+    }
+  }
+
+  /**
+   * Runs the task for the latest passed boundary. After an overrun, {@code scheduleAtFixedRate}
+   * fires the missed executions back-to-back; those arrive here for boundaries that were already
+   * handled and are ignored, and the missed boundaries are instead handled by the overrun policy.
+   */
+  private void runDueBoundaries(Runnable task) {
+    var now = System.nanoTime();
+    var currentBoundary = Math.max(0, now - firstBoundaryNanos) / intervalNanos;
+    if (currentBoundary < nextBoundary) {
+      logger.debug("Ignoring catch-up execution for an already handled boundary.");
+      return;
+    }
+    var missedBoundaries = currentBoundary - nextBoundary;
+    var firstMissedBoundary = nextBoundary;
+    nextBoundary = currentBoundary + 1;
+
+    if (missedBoundaries == 0) {
+      runTask(task, currentBoundary, 1);
+      return;
+    }
+
+    metrics.recordOverrun();
+    logger.warn(
+        "Previous execution overran {} boundaries; applying {} policy.",
+        missedBoundaries,
+        overrunPolicy);
+    switch (overrunPolicy) {
+      case SKIP -> {
+        metrics.recordSkipped(missedBoundaries);
+        runTask(task, currentBoundary, 1);
+      }
+      case COALESCE -> {
+        metrics.recordCoalesced(missedBoundaries);
+        runTask(task, currentBoundary, (int) Math.min(Integer.MAX_VALUE, missedBoundaries + 1));
+      }
+      case BACKLOG -> {
+        for (var boundary = firstMissedBoundary; boundary < currentBoundary; boundary++) {
+          if (!running.get()) {
+            return;
+          }
+          if (System.nanoTime() - boundaryNanos(boundary) > backlogDeadlineNanos) {
+            metrics.recordExpired();
+          } else {
+            runTask(task, boundary, 1);
+          }
+        }
+        runTask(task, currentBoundary, 1);
+      }
+    }
+  }
+
+  private void runTask(Runnable task, long boundary, int boundaries) {
+    metrics.recordExecution(Math.max(0, System.nanoTime() - boundaryNanos(boundary)));
+    coveredBoundaries = boundaries;
+    try {
+      task.run();
+    } finally {
+      coveredBoundaries = 1;
+    }
+  }
+
+  private long boundaryNanos(long boundary) {
+    return firstBoundaryNanos + boundary * intervalNanos;
+  }
+
+  /** Builds a {@link TaskScheduler}, see {@link #builder(ScheduledExecutorService)}. */
+  public static final class Builder {
+
+    private final ScheduledExecutorService scheduler;
+    private OverrunPolicy overrunPolicy = OverrunPolicy.SKIP;
+    private long backlogDeadlineMillis;
+    private TimerMode timerMode = TimerMode.FIXED_RATE;
+    private long alignmentOffsetMillis;
+
+    private Builder(ScheduledExecutorService scheduler) {
+      this.scheduler = scheduler;
+    }
+
+    /**
+     * @param overrunPolicy what to do with boundaries missed while the task was still running
+     */
+    public Builder overrunPolicy(OverrunPolicy overrunPolicy) {
+      this.overrunPolicy = overrunPolicy;
+      return this;
+    }
+
+    /**
+     * @param backlogDeadlineMillis the maximum age of a missed boundary that is still executed
+     *     under {@link OverrunPolicy#BACKLOG}
+     */
+    public Builder backlogDeadlineMillis(long backlogDeadlineMillis) {
+      this.backlogDeadlineMillis = backlogDeadlineMillis;
+      return this;
+    }
+
+    /**
+     * @param timerMode how executions are timed
+     */
+    public Builder timerMode(TimerMode timerMode) {
+      this.timerMode = timerMode;
+      return this;
+    }
+
+    /**
+     * @param alignmentOffsetMillis the delay after each wall-clock boundary at which an {@link
+     *     TimerMode#ALIGNED} task fires, giving the exchange time to finish the bar
+     */
+    public Builder alignmentOffsetMillis(long alignmentOffsetMillis) {
+      this.alignmentOffsetMillis = alignmentOffsetMillis;
+      return this;
+    }
+
+    public TaskScheduler build() {
+      return new TaskScheduler(this);
+    }
   }
 }
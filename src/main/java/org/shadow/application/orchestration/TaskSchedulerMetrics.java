@@ -0,0 +1,88 @@
+package org.shadow.application.orchestration;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Execution counters of one {@link TaskScheduler}. Lateness is the time between the boundary an
+ * execution serves and the moment the execution started.
+ */
+public class TaskSchedulerMetrics {
+
+  private final LongAdder executions = new LongAdder();
+  private final LongAdder overruns = new LongAdder();
+  private final LongAdder skippedBoundaries = new LongAdder();
+  private final LongAdder coalescedBoundaries = new LongAdder();
+  private final LongAdder expiredBoundaries = new LongAdder();
+  private final LongAdder totalLatenessNanos = new LongAdder();
+  private final AtomicLong maxLatenessNanos = new AtomicLong();
+
+  void recordExecution(long latenessNanos) {
+    executions.increment();
+    totalLatenessNanos.add(latenessNanos);
+    maxLatenessNanos.accumulateAndGet(latenessNanos, Math::max);
+  }
+
+  void recordOverrun() {
+    overruns.increment();
+  }
+
+  void recordSkipped(long boundaries) {
+    skippedBoundaries.add(boundaries);
+  }
+
+  void recordCoalesced(long boundaries) {
+    coalescedBoundaries.add(boundaries);
+  }
+
+  void recordExpired() {
+    expiredBoundaries.increment();
+  }
+
+  public long getExecutions() {
+    return executions.sum();
+  }
+
+  /** Returns how often an execution was still running when the next boundary passed. */
+  public long getOverruns() {
+    return overruns.sum();
+  }
+
+  public long getSkippedBoundaries() {
+    return skippedBoundaries.sum();
+  }
+
+  /** Returns the number of missed boundaries that were folded into a single catch-up execution. */
+  public long getCoalescedBoundaries() {
+    return coalescedBoundaries.sum();
+  }
+
+  /** Returns the number of backlogged boundaries dropped because they exceeded the deadline. */
+  public long getExpiredBoundaries() {
+    return expiredBoundaries.sum();
+  }
+
+  public long getMaxLatenessNanos() {
+    return maxLatenessNanos.get();
+  }
+
+  public long getAverageLatenessNanos() {
+    var count = executions.sum();
+    return count > 0 ? totalLatenessNanos.sum() / count : 0;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "executions=%d, overruns=%d, skipped=%d, coalesced=%d, expired=%d, lateness avg=%dms"
+            + " max=%dms",
+        getExecutions(),
+        getOverruns(),
+        getSkippedBoundaries(),
+        getCoalescedBoundaries(),
+        getExpiredBoundaries(),
+        TimeUnit.NANOSECONDS.toMillis(getAverageLatenessNanos()),
+        TimeUnit.NANOSECONDS.toMillis(getMaxLatenessNanos()));
+  }
+}
@@ -0,0 +1,12 @@
+package org.shadow.application.orchestration;
+
+/** How a {@link TaskScheduler} times the executions of its task. */
+public enum TimerMode {
+  /** Fire at a fixed rate after the initial delay; drifts against wall-clock boundaries. */
+  FIXED_RATE,
+  /**
+   * Re-arm after every execution to the next wall-clock boundary plus an offset, waiting on the
+   * monotonic clock. Clock drift and NTP adjustments are absorbed at every firing.
+   */
+  ALIGNED
+}
@@ -0,0 +1,129 @@
+package org.shadow.application.orchestration;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lightweight {@link ScheduledExecutorService} view of a shared {@link HierarchicalTimingWheel}.
+ * Every robot gets its own view, so a {@link TaskScheduler} can be shut down per robot, while all
+ * robots share the single ticker thread and worker pool of the wheel instead of owning a delay
+ * queue and a thread each.
+ */
+public class TimingWheelExecutor extends AbstractExecutorService
+    implements ScheduledExecutorService {
+
+  private final HierarchicalTimingWheel wheel;
+  private final Set<WheelTimeout<?>> timeouts = ConcurrentHashMap.newKeySet();
+  private final Object terminationMonitor = new Object();
+  private volatile boolean shutdown;
+
+  public TimingWheelExecutor(HierarchicalTimingWheel wheel) {
+    this.wheel = wheel;
+  }
+
+  @Override
+  public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+    return track(Executors.callable(command), delay, 0, unit);
+  }
+
+  @Override
+  public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+    return track(callable, delay, 0, unit);
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleAtFixedRate(
+      Runnable command, long initialDelay, long period, TimeUnit unit) {
+    if (period <= 0) {
+      throw new IllegalArgumentException("Period must be positive");
+    }
+    return track(Executors.callable(command), initialDelay, period, unit);
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleWithFixedDelay(
+      Runnable command, long initialDelay, long delay, TimeUnit unit) {
+    if (delay <= 0) {
+      throw new IllegalArgumentException("Delay must be positive");
+    }
+    return track(Executors.callable(command), initialDelay, -delay, unit);
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    schedule(command, 0, TimeUnit.NANOSECONDS);
+  }
+
+  /** Cancels every pending task of this view; running tasks finish. */
+  @Override
+  public void shutdown() {
+    shutdown = true;
+    timeouts.forEach(timeout -> timeout.cancel(false));
+    signalIfTerminated();
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    shutdown();
+    return List.of();
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return shutdown;
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return shutdown && timeouts.isEmpty();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    var deadlineNanos = System.nanoTime() + unit.toNanos(timeout);
+    synchronized (terminationMonitor) {
+      while (!isTerminated()) {
+        var remainingNanos = deadlineNanos - System.nanoTime();
+        if (remainingNanos <= 0) {
+          return false;
+        }
+        TimeUnit.NANOSECONDS.timedWait(terminationMonitor, remainingNanos);
+      }
+      return true;
+    }
+  }
+
+  private <V> ScheduledFuture<V> track(Callable<V> task, long delay, long period, TimeUnit unit) {
+    if (shutdown) {
+      throw new RejectedExecutionException("Executor is shut down");
+    }
+    var timeout = wheel.newTimeout(task, delay, period, unit, this::onTermination);
+    timeouts.add(timeout);
+    // The timeout may have terminated before it was tracked
+    if (timeout.isDone()) {
+      timeouts.remove(timeout);
+    }
+    return timeout;
+  }
+
+  private void onTermination(WheelTimeout<?> timeout) {
+    timeouts.remove(timeout);
+    signalIfTerminated();
+  }
+
+  private void signalIfTerminated() {
+    if (isTerminated()) {
+      synchronized (terminationMonitor) {
+        terminationMonitor.notifyAll();
+      }
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package org.shadow.application.orchestration;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * A task scheduled on a {@link HierarchicalTimingWheel}. Besides the future contract it is a node
+ * of the doubly linked list of its wheel bucket, so it can be unlinked in O(1) on cancellation.
+ *
+ * @param <V> the result type of the task
+ */
+public class WheelTimeout<V> implements ScheduledFuture<V> {
+
+  static final int PENDING = 0;
+  static final int RUNNING = 1;
+  static final int DONE = 2;
+  static final int CANCELLED = 3;
+
+  private final HierarchicalTimingWheel wheel;
+  private final Callable<V> task;
+  // Positive for fixed-rate, negative for fixed-delay repetition, zero for one-shot tasks
+  private final long periodNanos;
+  private final CompletableFuture<V> result = new CompletableFuture<>();
+  private final AtomicInteger state = new AtomicInteger(PENDING);
+  private final Consumer<WheelTimeout<?>> onTermination;
+
+  volatile long deadlineNanos;
+
+  // Bucket bookkeeping, only touched by the ticker thread
+  WheelTimeout<?> previous;
+  WheelTimeout<?> next;
+  HierarchicalTimingWheel.Bucket bucket;
+  long deadlineTick;
+
+  WheelTimeout(
+      HierarchicalTimingWheel wheel,
+      Callable<V> task,
+      long deadlineNanos,
+      long periodNanos,
+      Consumer<WheelTimeout<?>> onTermination) {
+    this.wheel = wheel;
+    this.task = task;
+    this.deadlineNanos = deadlineNanos;
+    this.periodNanos = periodNanos;
+    this.onTermination = onTermination;
+  }
+
+  /** Runs the task on a worker thread and re-arms it if it repeats. */
+  void run() {
+    if (!state.compareAndSet(PENDING, RUNNING)) {
+      return;
+    }
+    try {
+      var value = task.call();
+      if (periodNanos == 0) {
+        state.compareAndSet(RUNNING, DONE);
+        result.complete(value);
+        terminated();
+        return;
+      }
+    } catch (Throwable throwable) {
+      // As with ScheduledThreadPoolExecutor, a failed repeating task is not executed again
+      state.compareAndSet(RUNNING, DONE);
+      result.completeExceptionally(throwable);
+      terminated();
+      return;
+    }
+    if (state.compareAndSet(RUNNING, PENDING)) {
+      deadlineNanos =
+          periodNanos > 0 ? deadlineNanos + periodNanos : System.nanoTime() - periodNanos;
+      wheel.enqueue(this);
+    } else {
+      // Cancelled while running
+      terminated();
+    }
+  }
+
+  boolean isPending() {
+    return state.get() == PENDING;
+  }
+
+  @Override
+  public boolean cancel(boolean mayInterruptIfRunning) {
+    var current = state.get();
+    while (current == PENDING || current == RUNNING) {
+      if (state.compareAndSet(current, CANCELLED)) {
+        result.cancel(false);
+        if (current == PENDING) {
+          wheel.cancel(this);
+          terminated();
+        }
+        return true;
+      }
+      current = state.get();
+    }
+    return false;
+  }
+
+  @Override
+  public boolean isCancelled() {
+    return state.get() == CANCELLED;
+  }
+
+  @Override
+  public boolean isDone() {
+    return result.isDone();
+  }
+
+  @Override
+  public V get() throws InterruptedException, ExecutionException {
+    return result.get();
+  }
+
+  @Override
+  public V get(long timeout, TimeUnit unit)
+      throws InterruptedException, ExecutionException, TimeoutException {
+    return result.get(timeout, unit);
+  }
+
+  @Override
+  public long getDelay(TimeUnit unit) {
+    return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public int compareTo(Delayed other) {
+    return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+  }
+
+  private void terminated() {
+    if (onTermination != null) {
+      onTermination.accept(this);
+    }
+  }
+}
@@ -1,11 +1,18 @@
 package org.shadow.application.robot;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+import org.shadow.application.logging.HotPathLogging;
+import org.shadow.application.metrics.jfr.OrderJfrEvent;
 import org.shadow.application.robot.common.model.Position;
 import org.shadow.application.robot.common.model.PositionType;
+import org.shadow.application.robot.recovery.StateTransitionType;
 import org.shadow.application.robot.strategy.model.BinaryPositionMomentum;
 import org.shadow.application.robot.strategy.model.BinaryPositionMomentumActionType;
+import org.shadow.domain.client.AsyncExchangeOrderClient;
+import org.shadow.domain.client.model.Order;
 
 public class ExploringSinglePositionHandler implements RobotPositionHandler<SinglePositionRobot> {
 
@@ -14,8 +21,23 @@ public class ExploringSinglePositionHandler implements RobotPositionHandler<Sing
     var momentum = robot.getStrategy().calculatePositionMomentum(robot.getBars());
     robot.getLogger().debug("Calculated momentum: {}", momentum);
 
+    handleMomentum(robot, momentum);
+  }
+
+  /**
+   * Acts on an already calculated momentum by opening the corresponding order. Used directly by
+   * the pipelined robot, whose order stage receives the momentum from the strategy stage.
+   *
+   * @param robot the robot to open the position for
+   * @param momentum the calculated position momentum
+   */
+  public void handleMomentum(SinglePositionRobot robot, BinaryPositionMomentum momentum) {
     switch (momentum.momentumActionType()) {
-      case BinaryPositionMomentumActionType.DO_NOTHING -> robot.getLogger().info("Doing nothing");
+      case BinaryPositionMomentumActionType.DO_NOTHING -> {
+        if (HotPathLogging.isVerbose()) {
+          robot.getLogger().info("Doing nothing");
+        }
+      }
       case BinaryPositionMomentumActionType.LONG -> handleLongMomentum(robot, momentum);
       case BinaryPositionMomentumActionType.SHORT -> handleShortMomentum(robot, momentum);
     }
@@ -28,6 +50,32 @@ public class ExploringSinglePositionHandler implements RobotPositionHandler<Sing
       var orderFuturesMultiplier = robot.getOrderFuturesMultiplier();
       // TODO: Order should contain take entry price and takeProfits, finish when
       //  BinaryPositionMomentum is completed for production ready implementation
+      recordOpenIntent(robot, PositionType.LONG, positionStopLoss);
+      var orderEvent = OrderJfrEvent.begin(OrderJfrEvent.OPEN_LONG);
+      var submitNanos = System.nanoTime();
+      if (robot.getExchangeOrderClient() instanceof AsyncExchangeOrderClient asyncClient) {
+        robot.setRobotPositionState(RobotPositionState.ORDER_PENDING);
+        var pendingOpen = new PendingOpen(robot, asyncClient, PositionType.LONG, positionStopLoss);
+        robot
+            .getPendingOrderTimeout()
+            .bound(
+                asyncClient.openLongOrderAsync(
+                    robot.getSymbol(),
+                    null,
+                    null,
+                    positionStopLoss,
+                    percentageFromDeposit,
+                    orderFuturesMultiplier),
+                pendingOpen::onLateResponse)
+            .whenComplete(
+                (longOrder, throwable) -> {
+                  robot.recordOrderSubmission(System.nanoTime() - submitNanos);
+                  orderEvent.commit(robot.getSymbol(), true, longOrder, throwable);
+                  pendingOpen.onResponse(longOrder, throwable);
+                });
+        robot.getLogger().info("Submitted long order asynchronously");
+        return;
+      }
       var longOrder =
           robot
               .getExchangeOrderClient()
@@ -38,13 +86,9 @@ public class ExploringSinglePositionHandler implements RobotPositionHandler<Sing
                   positionStopLoss,
                   percentageFromDeposit,
                   orderFuturesMultiplier);
-      var position =
-          new Position(
-              PositionType.LONG, longOrder.entry(), List.of(), Optional.of(positionStopLoss));
-      robot.setPosition(position);
-      robot.setOrder(longOrder);
-      robot.setRobotPositionState(RobotPositionState.IN_POSITION);
-      robot.getLogger().info("Opened long order: {}", longOrder);
+      robot.recordOrderSubmission(System.nanoTime() - submitNanos);
+      orderEvent.commit(robot.getSymbol(), false, longOrder, null);
+      openPosition(robot, PositionType.LONG, positionStopLoss, longOrder);
     } else {
       robot.getLogger().warn("Received empty stopLoss position for LONG");
     }
@@ -57,6 +101,32 @@ public class ExploringSinglePositionHandler implements RobotPositionHandler<Sing
       var orderFuturesMultiplier = robot.getOrderFuturesMultiplier();
       // TODO: Order should contain take entry price and takeProfits, finish when
       //  BinaryPositionMomentum is completed for production ready implementation
+      recordOpenIntent(robot, PositionType.SHORT, positionStopLoss);
+      var orderEvent = OrderJfrEvent.begin(OrderJfrEvent.OPEN_SHORT);
+      var submitNanos = System.nanoTime();
+      if (robot.getExchangeOrderClient() instanceof AsyncExchangeOrderClient asyncClient) {
+        robot.setRobotPositionState(RobotPositionState.ORDER_PENDING);
+        var pendingOpen = new PendingOpen(robot, asyncClient, PositionType.SHORT, positionStopLoss);
+        robot
+            .getPendingOrderTimeout()
+            .bound(
+                asyncClient.openShortOrderAsync(
+                    robot.getSymbol(),
+                    null,
+                    null,
+                    positionStopLoss,
+                    percentageFromDeposit,
+                    orderFuturesMultiplier),
+                pendingOpen::onLateResponse)
+            .whenComplete(
+                (shortOrder, throwable) -> {
+                  robot.recordOrderSubmission(System.nanoTime() - submitNanos);
+                  orderEvent.commit(robot.getSymbol(), true, shortOrder, throwable);
+                  pendingOpen.onResponse(shortOrder, throwable);
+                });
+        robot.getLogger().info("Submitted short order asynchronously");
+        return;
+      }
       var shortOrder =
           robot
               .getExchangeOrderClient()
@@ -67,15 +137,116 @@ public class ExploringSinglePositionHandler implements RobotPositionHandler<Sing
                   positionStopLoss,
                   percentageFromDeposit,
                   orderFuturesMultiplier);
-      var position =
-          new Position(
-              PositionType.SHORT, shortOrder.entry(), List.of(), Optional.of(positionStopLoss));
-      robot.setPosition(position);
-      robot.setOrder(shortOrder);
-      robot.setRobotPositionState(RobotPositionState.IN_POSITION);
-      robot.getLogger().info("Opened short order: {}", shortOrder);
+      robot.recordOrderSubmission(System.nanoTime() - submitNanos);
+      orderEvent.commit(robot.getSymbol(), false, shortOrder, null);
+      openPosition(robot, PositionType.SHORT, positionStopLoss, shortOrder);
     } else {
       robot.getLogger().warn("Received empty stopLoss position for SHORT");
     }
   }
+
+  private void recordOpenIntent(
+      SinglePositionRobot robot, PositionType positionType, BigDecimal positionStopLoss) {
+    // Durable before the exchange call, so a crash before the answer is detected on restart
+    var intended = new Position(positionType, null, List.of(), Optional.of(positionStopLoss));
+    robot.recordTransition(StateTransitionType.OPEN_INTENDED, intended, null);
+  }
+
+  private void openPosition(
+      SinglePositionRobot robot,
+      PositionType positionType,
+      BigDecimal positionStopLoss,
+      Order order) {
+    var position =
+        new Position(positionType, order.entry(), List.of(), Optional.of(positionStopLoss));
+    robot.recordTransition(StateTransitionType.OPEN_CONFIRMED, position, order);
+    robot.setPosition(position);
+    robot.setOrder(order);
+    robot.setRobotPositionState(RobotPositionState.IN_POSITION);
+    robot.getLogger().info("Opened {} order: {}", positionType, order);
+  }
+
+  /**
+   * An open submitted asynchronously. If the exchange does not answer in time, the order may still
+   * be placed, so the robot waits for an operator instead of exploring again. A response arriving
+   * after the timeout is still applied while the robot waits, and a placed order is closed if an
+   * operator resolved the open meanwhile. Both responses are applied under the robot lock.
+   */
+  private final class PendingOpen {
+
+    private final SinglePositionRobot robot;
+    private final AsyncExchangeOrderClient asyncClient;
+    private final PositionType positionType;
+    private final BigDecimal positionStopLoss;
+
+    // Guarded by the robot lock
+    private boolean answered;
+    private boolean timedOut;
+
+    private PendingOpen(
+        SinglePositionRobot robot,
+        AsyncExchangeOrderClient asyncClient,
+        PositionType positionType,
+        BigDecimal positionStopLoss) {
+      this.robot = robot;
+      this.asyncClient = asyncClient;
+      this.positionType = positionType;
+      this.positionStopLoss = positionStopLoss;
+    }
+
+    private void onResponse(Order order, Throwable throwable) {
+      synchronized (robot) {
+        if (answered) {
+          // The late response overtook the timeout handling and was applied already
+          return;
+        }
+        if (throwable instanceof TimeoutException) {
+          timedOut = true;
+          robot.setRobotPositionState(RobotPositionState.OPERATOR_ACTION_REQUIRED);
+          robot
+              .getLogger()
+              .error(
+                  "No answer to {} order in time; trading stopped until an operator checks the"
+                      + " exchange and resolves the open",
+                  positionType,
+                  throwable);
+          return;
+        }
+        answered = true;
+        apply(order, throwable);
+      }
+    }
+
+    private void onLateResponse(Order order, Throwable throwable) {
+      synchronized (robot) {
+        if (!timedOut
+            || robot.getRobotPositionState() == RobotPositionState.OPERATOR_ACTION_REQUIRED) {
+          robot.getLogger().warn("Late answer to {} order: {}", positionType, order);
+          answered = true;
+          apply(order, throwable);
+        } else if (throwable == null) {
+          // The open was resolved by an operator, the robot no longer tracks this order
+          robot.getLogger().warn("Closing {} order answered after the open was resolved", order);
+          asyncClient
+              .closeOrderAsync(order)
+              .whenComplete(
+                  (ignored, closeThrowable) -> {
+                    if (closeThrowable != null) {
+                      robot.getLogger().error("Failed to close order: {}", order, closeThrowable);
+                    }
+                  });
+        }
+      }
+    }
+
+    private void apply(Order order, Throwable throwable) {
+      if (throwable != null) {
+        robot.getLogger().error("Failed to open {} order", positionType, throwable);
+        robot.recordTransition(StateTransitionType.OPEN_FAILED, null, null);
+        robot.setRobotPositionState(RobotPositionState.EXPLORING);
+        return;
+      }
+      openPosition(robot, positionType, positionStopLoss, order);
+    }
+  }
 }
@@ -1,19 +1,92 @@
 package org.shadow.application.robot;
 
+import org.shadow.application.logging.HotPathLogging;
+import org.shadow.application.metrics.jfr.OrderJfrEvent;
+import org.shadow.application.robot.recovery.StateTransitionType;
+import org.shadow.domain.client.AsyncExchangeOrderClient;
+import org.shadow.domain.client.model.Order;
+
 public class InSinglePositionHandler implements RobotPositionHandler<SinglePositionRobot> {
 
   @Override
   public void handle(SinglePositionRobot robot) {
-    robot.getLogger().info("Checking if it's time to close position");
-    if (robot
-        .getStrategy()
-        .isTimeToClosePositionInAdvance(robot.getBars(), robot.getPositions().getFirst())) {
-      // TODO: Should be opened new position
-      robot.getExchangeOrderClient().closeOrder(robot.getOrder());
-      robot.getLogger().info("Closed order: {}", robot.getOrder());
-      robot.setPosition(null);
-      robot.setOrder(null);
-      robot.setRobotPositionState(RobotPositionState.EXPLORING);
+    if (HotPathLogging.isVerbose()) {
+      robot.getLogger().info("Checking if it's time to close position");
+    }
+    var positions = robot.getPositions();
+    if (!positions.isEmpty()
+        && robot
+            .getStrategy()
+            .isTimeToClosePositionInAdvance(robot.getBars(), positions.getFirst())) {
+      closePosition(robot);
+    }
+  }
+
+  /**
+   * Closes the robot order and moves it back to exploring. Used directly by the pipelined robot,
+   * whose order stage receives the close decision from the strategy stage.
+   *
+   * @param robot the robot to close the position for
+   */
+  public void closePosition(SinglePositionRobot robot) {
+    // TODO: Should be opened new position
+    var positions = robot.getPositions();
+    var position = positions.isEmpty() ? null : positions.getFirst();
+    var order = robot.getOrder();
+    robot.recordTransition(StateTransitionType.CLOSE_INTENDED, position, order);
+    var orderEvent = OrderJfrEvent.begin(OrderJfrEvent.CLOSE);
+    var submitNanos = System.nanoTime();
+    if (robot.getExchangeOrderClient() instanceof AsyncExchangeOrderClient asyncClient) {
+      robot.setRobotPositionState(RobotPositionState.ORDER_PENDING);
+      robot
+          .getPendingOrderTimeout()
+          .bound(
+              asyncClient.closeOrderAsync(order),
+              (ignored, throwable) -> onLateClose(robot, order, throwable))
+          .whenComplete(
+              (ignored, throwable) -> {
+                robot.recordOrderSubmission(System.nanoTime() - submitNanos);
+                orderEvent.commit(robot.getSymbol(), true, order, throwable);
+                synchronized (robot) {
+                  if (throwable != null) {
+                    robot.getLogger().error("Failed to close order: {}", order, throwable);
+                    robot.recordTransition(StateTransitionType.CLOSE_FAILED, position, order);
+                    robot.setRobotPositionState(RobotPositionState.IN_POSITION);
+                  } else {
+                    onPositionClosed(robot, order);
+                  }
+                }
+              });
+      robot.getLogger().info("Submitted close of order {} asynchronously", order);
+      return;
     }
+    robot.getExchangeOrderClient().closeOrder(order);
+    robot.recordOrderSubmission(System.nanoTime() - submitNanos);
+    orderEvent.commit(robot.getSymbol(), false, order, null);
+    onPositionClosed(robot, order);
+  }
+
+  private void onLateClose(SinglePositionRobot robot, Order order, Throwable throwable) {
+    if (throwable != null) {
+      return;
+    }
+    synchronized (robot) {
+      // A timed out close is retried from IN_POSITION; the retry in flight confirms it instead
+      var currentOrder = robot.getOrder();
+      if (robot.getRobotPositionState() == RobotPositionState.IN_POSITION
+          && currentOrder != null
+          && currentOrder.id() == order.id()) {
+        robot.getLogger().warn("Late answer to close of order {}", order);
+        onPositionClosed(robot, order);
+      }
+    }
+  }
+
+  private void onPositionClosed(SinglePositionRobot robot, Order order) {
+    robot.getLogger().info("Closed order: {}", order);
+    robot.recordTransition(StateTransitionType.CLOSE_CONFIRMED, null, order);
+    robot.setPosition(null);
+    robot.setOrder(null);
+    robot.setRobotPositionState(RobotPositionState.EXPLORING);
   }
 }
@@ -0,0 +1,20 @@
+package org.shadow.application.robot;
+
+import org.shadow.application.logging.HotPathLogging;
+
+/**
+ * Handles cycles of a robot whose open was interrupted by a crash or left unanswered by the
+ * exchange. The order may have been placed, so the robot keeps collecting bars but opens nothing
+ * until an operator has checked the exchange and resolved the open, see {@link
+ * Robot#resolveInterruptedOpen()}. The condition is logged once when the state is entered.
+ */
+public class OperatorActionRequiredSinglePositionHandler
+    implements RobotPositionHandler<SinglePositionRobot> {
+
+  @Override
+  public void handle(SinglePositionRobot robot) {
+    if (HotPathLogging.isVerbose()) {
+      robot.getLogger().info("Waiting for an operator to resolve the open; skipping decision");
+    }
+  }
+}
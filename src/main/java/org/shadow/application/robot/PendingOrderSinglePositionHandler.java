@@ -0,0 +1,19 @@
+package org.shadow.application.robot;
+
+import org.shadow.application.logging.HotPathLogging;
+
+/**
+ * Handles cycles of a robot whose order was submitted asynchronously and has not been answered by
+ * the exchange yet. The robot keeps collecting bars but takes no decision until the response
+ * arrives and moves it to the next state.
+ */
+public class PendingOrderSinglePositionHandler
+    implements RobotPositionHandler<SinglePositionRobot> {
+
+  @Override
+  public void handle(SinglePositionRobot robot) {
+    if (HotPathLogging.isVerbose()) {
+      robot.getLogger().info("Waiting for pending order response; skipping decision");
+    }
+  }
+}
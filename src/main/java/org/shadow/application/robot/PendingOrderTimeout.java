@@ -0,0 +1,77 @@
+package org.shadow.application.robot;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import org.shadow.application.orchestration.HierarchicalTimingWheel;
+
+/**
+ * Bounds how long a robot stays in {@link RobotPositionState#ORDER_PENDING}. Every asynchronously
+ * submitted order arms a one-shot timer on the shared {@link HierarchicalTimingWheel}, so arming
+ * and cancelling it on the response are both O(1) whatever the number of pending orders.
+ */
+public class PendingOrderTimeout {
+
+  /** Waits for the exchange response without a bound. */
+  public static final PendingOrderTimeout NONE = new PendingOrderTimeout(null, 0);
+
+  private final HierarchicalTimingWheel wheel;
+  private final long timeoutMillis;
+
+  /**
+   * Constructs a pending order timeout.
+   *
+   * @param wheel the wheel the timers are scheduled on, or null to wait without a bound
+   * @param timeoutMillis the longest wait for an exchange response; zero or less waits without a
+   *     bound
+   */
+  public PendingOrderTimeout(HierarchicalTimingWheel wheel, long timeoutMillis) {
+    this.wheel = wheel;
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  /**
+   * Returns a future completed with the exchange response, or exceptionally with a {@link
+   * TimeoutException} if the response does not arrive in time. The order may still reach the
+   * exchange after the timeout, so a response arriving late is handed to the late response handler
+   * instead of being dropped.
+   *
+   * @param response the future of the submitted order request
+   * @param lateResponseHandler receives the value or failure of a response arriving after the
+   *     timeout
+   * @param <T> the response type
+   * @return the bounded response future
+   */
+  public <T> CompletableFuture<T> bound(
+      CompletableFuture<T> response, BiConsumer<? super T, Throwable> lateResponseHandler) {
+    if (wheel == null || timeoutMillis <= 0 || response.isDone()) {
+      return response;
+    }
+    var bounded = new CompletableFuture<T>();
+    var timer =
+        wheel.schedule(
+            () -> {
+              bounded.completeExceptionally(
+                  new TimeoutException("No exchange response within " + timeoutMillis + " ms"));
+            },
+            timeoutMillis,
+            TimeUnit.MILLISECONDS);
+    response.whenComplete(
+        (value, throwable) -> {
+          timer.cancel(false);
+          var inTime =
+              throwable != null
+                  ? bounded.completeExceptionally(throwable)
+                  : bounded.complete(value);
+          if (!inTime) {
+            lateResponseHandler.accept(value, throwable);
+          }
+        });
+    return bounded;
+  }
+
+  public long getTimeoutMillis() {
+    return timeoutMillis;
+  }
+}
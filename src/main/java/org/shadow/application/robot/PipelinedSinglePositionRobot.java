@@ -0,0 +1,249 @@
+package org.shadow.application.robot;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.shadow.application.logging.HotPathLogging;
+import org.shadow.application.metrics.CyclePhase;
+import org.shadow.application.robot.common.model.Position;
+import org.shadow.application.robot.pipeline.PipelineStage;
+import org.shadow.application.robot.pipeline.SpscRingBuffer;
+import org.shadow.application.robot.pipeline.StageMetrics;
+import org.shadow.application.robot.strategy.model.BinaryPositionMomentumActionType;
+
+/**
+ * Runs the cycle of a {@link SinglePositionRobot} as a staged pipeline instead of inline on the
+ * scheduler thread. Bar ingestion, indicator evaluation, the strategy decision and order submission
+ * each run on their own thread and are connected by single-producer/single-consumer ring buffers,
+ * so a slow exchange call never delays the indicator work for the next bar.
+ *
+ * <p>{@link #run()} only publishes a tick into the ingestion buffer and returns immediately. The
+ * order stage re-checks the robot position state before acting, so a decision that became stale
+ * while an earlier order was in flight is dropped.
+ */
+public class PipelinedSinglePositionRobot implements Robot {
+
+  private static final long STAGE_JOIN_TIMEOUT_MILLIS = 5_000;
+
+  private final Logger logger = LogManager.getLogger(PipelinedSinglePositionRobot.class);
+
+  private final SinglePositionRobot robot;
+  private final SpscRingBuffer<RobotCycleEvent> ingestBuffer;
+  private final List<PipelineStage<RobotCycleEvent>> stages;
+  private final List<Thread> stageThreads = new ArrayList<>();
+  private final ExploringSinglePositionHandler exploringHandler =
+      new ExploringSinglePositionHandler();
+  private final InSinglePositionHandler inPositionHandler = new InSinglePositionHandler();
+  private final AtomicLong droppedTicks = new AtomicLong();
+
+  private long nextSequence;
+
+  /**
+   * Constructs a pipelined robot around the given robot.
+   *
+   * @param robot the robot whose cycle is split into stages
+   * @param ringBufferSize the number of preallocated slots of every stage buffer; must be a power
+   *     of two
+   */
+  public PipelinedSinglePositionRobot(SinglePositionRobot robot, int ringBufferSize) {
+    this.robot = robot;
+    this.ingestBuffer = new SpscRingBuffer<>(ringBufferSize, RobotCycleEvent::new);
+    var indicatorBuffer = new SpscRingBuffer<>(ringBufferSize, RobotCycleEvent::new);
+    var strategyBuffer = new SpscRingBuffer<>(ringBufferSize, RobotCycleEvent::new);
+    var orderBuffer = new SpscRingBuffer<>(ringBufferSize, RobotCycleEvent::new);
+
+    this.stages =
+        List.of(
+            new PipelineStage<>("ingest", ingestBuffer, indicatorBuffer, this::ingest),
+            new PipelineStage<>("indicators", indicatorBuffer, strategyBuffer, this::evaluate),
+            new PipelineStage<>("strategy", strategyBuffer, orderBuffer, this::decide),
+            new PipelineStage<>("orders", orderBuffer, null, this::submit));
+  }
+
+  @Override
+  public synchronized void init() {
+    robot.init();
+
+    if (stageThreads.isEmpty()) {
+      for (var stage : stages) {
+        var thread =
+            new Thread(
+                stage, "pipeline-" + robot.getSymbol() + "-" + stage.getMetrics().getStageName());
+        thread.setDaemon(true);
+        stageThreads.add(thread);
+        thread.start();
+      }
+      logger.info("Started {} pipeline stages for {} robot", stages.size(), robot.getSymbol());
+    }
+  }
+
+  @Override
+  public synchronized boolean isInitialized() {
+    return robot.isInitialized() && !stageThreads.isEmpty();
+  }
+
+  @Override
+  public void run() {
+    var slot = ingestBuffer.claim();
+    if (slot == null) {
+      droppedTicks.incrementAndGet();
+      logger.warn(
+          "Ingest buffer is full ({} slots). Dropping tick, dropped so far: {}",
+          ingestBuffer.capacity(),
+          droppedTicks.get());
+      return;
+    }
+    slot.reset(nextSequence++);
+    ingestBuffer.publish();
+  }
+
+  @Override
+  public synchronized void stop() {
+    stages.forEach(PipelineStage::stop);
+    for (var thread : stageThreads) {
+      try {
+        thread.join(STAGE_JOIN_TIMEOUT_MILLIS);
+      } catch (InterruptedException e) {
+        logger.error("Interrupted while waiting for pipeline stage {}", thread.getName(), e);
+        Thread.currentThread().interrupt();
+      }
+    }
+    stageThreads.clear();
+    stages.forEach(stage -> logger.info("Pipeline stage metrics: {}", stage.getMetrics()));
+    robot.stop();
+  }
+
+  @Override
+  public void resolveInterruptedOpen() {
+    robot.resolveInterruptedOpen();
+  }
+
+  @Override
+  public RobotTimeframe getRobotTimeframe() {
+    return robot.getRobotTimeframe();
+  }
+
+  @Override
+  public String getSymbol() {
+    return robot.getSymbol();
+  }
+
+  @Override
+  public List<Position> getPositions() {
+    return robot.getPositions();
+  }
+
+  @Override
+  public BigDecimal getPercentageFromDeposit() {
+    return robot.getPercentageFromDeposit();
+  }
+
+  @Override
+  public Integer getOrderFuturesMultiplier() {
+    return robot.getOrderFuturesMultiplier();
+  }
+
+  public List<StageMetrics> getStageMetrics() {
+    return stages.stream().map(PipelineStage::getMetrics).toList();
+  }
+
+  /**
+   * Returns the current number of queued events per stage, in pipeline order.
+   *
+   * @return the queue depth of every stage input buffer
+   */
+  public List<Integer> getQueueDepths() {
+    return stages.stream().map(stage -> stage.getInput().size()).toList();
+  }
+
+  public long getDroppedTicks() {
+    return droppedTicks.get();
+  }
+
+  private boolean ingest(RobotCycleEvent input, RobotCycleEvent output) {
+    var startNanos = System.nanoTime();
+    robot.collectBars();
+    robot.applyOrderFills();
+    robot.getCyclePhaseRecorder().record(CyclePhase.COLLECT_BARS, System.nanoTime() - startNanos);
+    // The ingest stage owns the bar window, so it is the one stage that can snapshot it safely
+    robot.snapshotIfDue();
+    if (!robot.hasRequiredBars()) {
+      return false;
+    }
+    output.copyFrom(input);
+    output.bars = robot.getBars();
+    return true;
+  }
+
+  private boolean evaluate(RobotCycleEvent input, RobotCycleEvent output) {
+    output.copyFrom(input);
+    output.evaluation = robot.getStrategy().evaluate(input.bars);
+    return true;
+  }
+
+  private boolean decide(RobotCycleEvent input, RobotCycleEvent output) {
+    output.copyFrom(input);
+    return switch (robot.getRobotPositionState()) {
+      case EXPLORING -> {
+        var momentum = robot.getStrategy().calculatePositionMomentum(input.evaluation, input.bars);
+        if (momentum.momentumActionType() == BinaryPositionMomentumActionType.DO_NOTHING) {
+          if (HotPathLogging.isVerbose()) {
+            logger.info("Doing nothing");
+          }
+          yield false;
+        }
+        output.momentum = momentum;
+        yield true;
+      }
+      case IN_POSITION -> {
+        var positions = robot.getPositions();
+        if (positions.isEmpty()) {
+          yield false;
+        }
+        var position = positions.getFirst();
+        output.position = position;
+        output.closePosition =
+            robot.getStrategy().shouldClosePositionInAdvance(input.evaluation, position);
+        yield output.closePosition;
+      }
+      case ORDER_PENDING -> {
+        if (HotPathLogging.isVerbose()) {
+          logger.info("Order of robot {} is still pending; skipping decision", robot.getSymbol());
+        }
+        yield false;
+      }
+      case OPERATOR_ACTION_REQUIRED -> {
+        if (HotPathLogging.isVerbose()) {
+          logger.info(
+              "Robot {} waits for an operator to resolve its open; skipping decision",
+              robot.getSymbol());
+        }
+        yield false;
+      }
+    };
+  }
+
+  private boolean submit(RobotCycleEvent input, RobotCycleEvent output) {
+    var startNanos = System.nanoTime();
+    // Fills are applied by the ingest stage too, so the state is checked and acted on atomically
+    synchronized (robot) {
+      robot.applyOrderFills();
+      var state = robot.getRobotPositionState();
+      if (input.momentum != null && state == RobotPositionState.EXPLORING) {
+        exploringHandler.handleMomentum(robot, input.momentum);
+      } else if (input.closePosition && state == RobotPositionState.IN_POSITION) {
+        inPositionHandler.closePosition(robot);
+      } else {
+        logger.info(
+            "Dropping stale decision of cycle {}; robot position state is {}",
+            input.sequence,
+            state);
+      }
+    }
+    robot.getCyclePhaseRecorder().record(CyclePhase.HANDLER, System.nanoTime() - startNanos);
+    return false;
+  }
+}
@@ -8,8 +8,34 @@ public interface Robot extends Runnable {
 
   void init();
 
+  /**
+   * Returns true once {@link #init()} completed, so a robot initialized at startup is not
+   * initialized again by its scheduler.
+   */
+  default boolean isInitialized() {
+    return false;
+  }
+
+  /**
+   * Runs one catch-up cycle after the scheduler missed boundaries, processing every bar that
+   * arrived since the last cycle before making a single decision.
+   *
+   * @param boundaries the number of timeframe boundaries covered by this cycle
+   */
+  default void catchUp(int boundaries) {
+    run();
+  }
+
   void stop();
 
+  /**
+   * Resumes trading after an open that may have reached the exchange stopped the robot in {@link
+   * RobotPositionState#OPERATOR_ACTION_REQUIRED}. Must only be called once an operator has checked
+   * the exchange and closed the order if it was placed. Robots not waiting for an operator ignore
+   * it.
+   */
+  default void resolveInterruptedOpen() {}
+
   RobotTimeframe getRobotTimeframe();
 
   String getSymbol();
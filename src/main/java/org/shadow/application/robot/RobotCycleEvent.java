@@ -0,0 +1,40 @@
+package org.shadow.application.robot;
+
+import java.util.List;
+import org.shadow.application.robot.common.model.Bar;
+import org.shadow.application.robot.common.model.Position;
+import org.shadow.application.robot.strategy.model.BinaryPositionMomentum;
+import org.shadow.application.robot.strategy.model.BinaryStrategyEvaluation;
+
+/**
+ * Preallocated, mutable event slot passed between the stages of {@link
+ * PipelinedSinglePositionRobot}. Every stage copies the fields it needs into the slot of the next
+ * stage, so slots are never shared between two buffers.
+ */
+class RobotCycleEvent {
+
+  long sequence;
+  List<Bar> bars;
+  BinaryStrategyEvaluation evaluation;
+  Position position;
+  BinaryPositionMomentum momentum;
+  boolean closePosition;
+
+  void copyFrom(RobotCycleEvent other) {
+    sequence = other.sequence;
+    bars = other.bars;
+    evaluation = other.evaluation;
+    position = other.position;
+    momentum = other.momentum;
+    closePosition = other.closePosition;
+  }
+
+  void reset(long sequence) {
+    this.sequence = sequence;
+    bars = null;
+    evaluation = null;
+    position = null;
+    momentum = null;
+    closePosition = false;
+  }
+}
@@ -2,5 +2,8 @@ package org.shadow.application.robot;
 
 public enum RobotPositionState {
   IN_POSITION,
-  EXPLORING
+  EXPLORING,
+  ORDER_PENDING,
+  /** An open was interrupted by a crash, the robot stops trading until an operator resolves it. */
+  OPERATOR_ACTION_REQUIRED
 }
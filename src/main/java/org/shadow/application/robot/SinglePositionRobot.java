@@ -4,105 +4,244 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.commons.collections4.queue.CircularFifoQueue;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.shadow.application.logging.LogSampler;
+import org.shadow.application.metrics.CyclePhase;
+import org.shadow.application.metrics.CyclePhaseRecorder;
+import org.shadow.application.metrics.jfr.RobotCycleJfrEvent;
 import org.shadow.application.robot.common.model.Bar;
 import org.shadow.application.robot.common.model.Position;
+import org.shadow.application.robot.common.model.PositionType;
+import org.shadow.application.robot.recovery.StateTransition;
+import org.shadow.application.robot.recovery.StateTransitionLog;
+import org.shadow.application.robot.recovery.StateTransitionType;
+import org.shadow.application.robot.snapshot.RobotSnapshot;
+import org.shadow.application.robot.snapshot.RobotSnapshotStore;
 import org.shadow.application.robot.strategy.Strategy;
 import org.shadow.application.robot.strategy.model.BinaryPositionMomentum;
+import org.shadow.application.robot.strategy.model.BinaryStrategyEvaluation;
 import org.shadow.domain.client.BarsCollectorClient;
 import org.shadow.domain.client.ExchangeOrderClient;
+import org.shadow.domain.client.OrderFillListener;
 import org.shadow.domain.client.model.Order;
+import org.shadow.domain.client.model.OrderFill;
 
 public class SinglePositionRobot implements Robot {
 
+  private static final LogSampler barsCollectedSampler =
+      new LogSampler(LogManager.getLogger(SinglePositionRobot.class), "Bars collected");
+  private static final LogSampler positionStateSampler =
+      new LogSampler(LogManager.getLogger(SinglePositionRobot.class), "Position state after run");
+  private static final LogSampler notEnoughBarsSampler =
+      new LogSampler(LogManager.getLogger(SinglePositionRobot.class), "Not enough bars");
+
   private final Logger logger = LogManager.getLogger(SinglePositionRobot.class);
   private final AtomicBoolean isRunning = new AtomicBoolean(false);
+  private final AtomicLong skippedRuns = new AtomicLong();
 
   private final RobotTimeframe robotTimeframe;
   private final BarsCollectorClient barsCollectorClient;
-  private final Strategy<BinaryPositionMomentum> binaryStrategy;
+  private final Strategy<BinaryPositionMomentum, BinaryStrategyEvaluation> binaryStrategy;
   private final ExchangeOrderClient exchangeOrderClient;
   private final String symbol;
-  private RobotPositionState robotPositionState;
+  private volatile RobotPositionState robotPositionState;
   private final BigDecimal percentageFromDeposit;
   private final Integer futuresMultiplier;
   private final Instant initialBarsCollectionDate;
   private final Integer requiredBarsCount;
-  private final Queue<Bar> bars;
-
-  private Position position;
-  private Order order;
+  private final CircularFifoQueue<Bar> bars;
+  private final CyclePhaseRecorder cyclePhaseRecorder;
+  private final RobotSnapshotStore snapshotStore;
+  private final StateTransitionLog transitionLog;
+  private final PendingOrderTimeout pendingOrderTimeout;
+  private final String timeframeName;
+  // Fills arrive on exchange threads and are applied by the thread running the cycle
+  private final Queue<OrderFill> orderFills = new ConcurrentLinkedQueue<>();
+  private final OrderFillListener orderFillListener = orderFills::add;
+
+  private volatile Position position;
+  private volatile Order order;
+  private volatile long lastSnapshotMillis;
+  private volatile boolean initialized;
 
   public SinglePositionRobot(
       RobotTimeframe robotTimeframe,
       BarsCollectorClient barsCollectorClient,
       ExchangeOrderClient exchangeOrderClient,
-      Strategy<BinaryPositionMomentum> binaryStrategy,
+      Strategy<BinaryPositionMomentum, BinaryStrategyEvaluation> binaryStrategy,
       String symbol,
       BigDecimal percentageFromDeposit,
       Integer futuresMultiplier,
       Instant initialBarsCollectionDate,
       Integer requiredBarsCount) {
-    this.robotTimeframe = robotTimeframe;
-    this.barsCollectorClient = barsCollectorClient;
-    this.binaryStrategy = binaryStrategy;
-    this.exchangeOrderClient = exchangeOrderClient;
-    this.symbol = symbol;
-    this.percentageFromDeposit = percentageFromDeposit;
-    this.futuresMultiplier = futuresMultiplier;
-    this.initialBarsCollectionDate = initialBarsCollectionDate;
-    this.requiredBarsCount = requiredBarsCount;
+    this(
+        builder()
+            .robotTimeframe(robotTimeframe)
+            .barsCollectorClient(barsCollectorClient)
+            .exchangeOrderClient(exchangeOrderClient)
+            .strategy(binaryStrategy)
+            .symbol(symbol)
+            .percentageFromDeposit(percentageFromDeposit)
+            .futuresMultiplier(futuresMultiplier)
+            .initialBarsCollectionDate(initialBarsCollectionDate)
+            .requiredBarsCount(requiredBarsCount));
+  }
+
+  private SinglePositionRobot(Builder builder) {
+    this.robotTimeframe = builder.require(builder.robotTimeframe, "robotTimeframe");
+    this.barsCollectorClient = builder.require(builder.barsCollectorClient, "barsCollectorClient");
+    this.binaryStrategy = builder.require(builder.strategy, "strategy");
+    this.exchangeOrderClient = builder.require(builder.exchangeOrderClient, "exchangeOrderClient");
+    this.symbol = builder.require(builder.symbol, "symbol");
+    this.percentageFromDeposit =
+        builder.require(builder.percentageFromDeposit, "percentageFromDeposit");
+    this.futuresMultiplier = builder.require(builder.futuresMultiplier, "futuresMultiplier");
+    this.initialBarsCollectionDate =
+        builder.require(builder.initialBarsCollectionDate, "initialBarsCollectionDate");
+    this.requiredBarsCount = builder.require(builder.requiredBarsCount, "requiredBarsCount");
     this.bars = new CircularFifoQueue<>(requiredBarsCount);
+    this.cyclePhaseRecorder = builder.cyclePhaseRecorder;
+    this.snapshotStore = builder.snapshotStore;
+    this.transitionLog = builder.transitionLog;
+    this.pendingOrderTimeout = builder.pendingOrderTimeout;
+    this.timeframeName = robotTimeframe.interval() + " " + robotTimeframe.unit();
+  }
+
+  /**
+   * Returns a builder of a robot. Everything up to the required bars count must be set; the
+   * metrics, snapshot, recovery and timeout collaborators default to their {@code NONE} variants.
+   *
+   * @return the builder
+   */
+  public static Builder builder() {
+    return new Builder();
   }
 
   @Override
   public synchronized void init() {
     logger.info("Initializing robot...");
-    // TODO: Load open position from exchangeOrderClient when position loading implemented
-    position = null;
-    robotPositionState = RobotPositionState.EXPLORING;
+    var snapshot = snapshotStore.load(symbol, robotTimeframe).orElse(null);
+    if (snapshot != null) {
+      position = snapshot.position();
+      order = snapshot.order();
+      robotPositionState = snapshot.robotPositionState();
+      logger.info(
+          "Restored {} state and position {} from snapshot taken at {}",
+          robotPositionState,
+          position,
+          snapshot.takenAt());
+    } else {
+      // TODO: Load open position from exchangeOrderClient when position loading implemented
+      position = null;
+      robotPositionState = RobotPositionState.EXPLORING;
+    }
+    var transition = transitionLog.getLastTransition(symbol, robotTimeframe).orElse(null);
+    // The response to an order in flight was lost with the process, so the order is resolved by
+    // its intent or outcome, which were recorded before the snapshot was taken
+    var orderWasPending =
+        snapshot != null && snapshot.robotPositionState() == RobotPositionState.ORDER_PENDING;
+    if (transition != null
+        && (snapshot == null || orderWasPending || transition.time().isAfter(snapshot.takenAt()))) {
+      recover(transition);
+    } else if (orderWasPending) {
+      recoverPendingOrder();
+    }
+    if (order != null) {
+      exchangeOrderClient.addOrderFillListener(order.id(), orderFillListener);
+    }
 
-    collectBars();
+    if (snapshot != null && isWithinLookBack(snapshot)) {
+      // Only the bars closed since the snapshot are fetched instead of the whole look-back window
+      bars.addAll(snapshot.bars());
+      var caughtUp = collectBars();
+      logger.info("Caught up {} bars closed after {}", caughtUp, snapshot.bars().getLast().time());
+    } else {
+      collectBars();
+    }
+    lastSnapshotMillis = System.currentTimeMillis();
     if (bars.size() < requiredBarsCount) {
       logger.warn(
           "Not enough bars collected during initialization. Required: {}, actual: {}",
           requiredBarsCount,
           bars.size());
+    } else {
+      // Indicator state is primed from the initial history once, later bars are streamed
+      binaryStrategy.warmUp(getBars());
     }
 
+    initialized = true;
     logger.info("Robot initialized. Current state: {}", robotPositionState);
   }
 
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
   @Override
   public void run() {
+    runCycle(1);
+  }
+
+  @Override
+  public void catchUp(int boundaries) {
+    logger.info("Catching up on {} bar boundaries", boundaries);
+    runCycle(boundaries);
+  }
+
+  private void runCycle(int boundaries) {
     if (!isRunning.compareAndSet(false, true)) {
-      logger.warn("Run method is already in execution. Skipping this call.");
+      logger.warn(
+          "Run method is already in execution. Skipping this call ({} skipped so far).",
+          skippedRuns.incrementAndGet());
       return;
     }
 
+    var cycleEvent = new RobotCycleJfrEvent();
+    cycleEvent.begin();
+    var cycleStartNanos = System.nanoTime();
     try {
-      collectBars();
+      // A client answering with the whole missed range is asked once; a replaying client returns
+      // one bar per call, so it is asked until every missed boundary has its bar
+      var collected = 0;
+      while (collected < boundaries) {
+        var added = collectBars();
+        if (added == 0) {
+          break;
+        }
+        collected += added;
+      }
+      applyOrderFills();
+      var handlerStartNanos = System.nanoTime();
+      cyclePhaseRecorder.record(CyclePhase.COLLECT_BARS, handlerStartNanos - cycleStartNanos);
       logger.debug("Collected {} bars", bars.size());
 
-      if (bars.size() < requiredBarsCount) {
-        logger.warn(
-            "Not enough bars to run strategy. Required: {}, actual: {}",
-            requiredBarsCount,
-            bars.size());
+      if (!hasRequiredBars()) {
         return;
       }
 
       var handler = getPositionHandler();
       handler.handle(this);
+      cyclePhaseRecorder.record(CyclePhase.HANDLER, System.nanoTime() - handlerStartNanos);
+      snapshotIfDue();
 
-      logger.info("Position state after run: {}", robotPositionState);
+      if (positionStateSampler.shouldLog()) {
+        logger.info("Position state after run: {}", robotPositionState);
+      }
     } catch (Exception e) {
       logger.error("Failed to execute robot cycle", e);
     } finally {
       isRunning.set(false);
+      var cycleNanos = System.nanoTime() - cycleStartNanos;
+      cyclePhaseRecorder.record(CyclePhase.TOTAL, cycleNanos);
+      cycleEvent.commit(symbol, timeframeName, boundaries, String.valueOf(robotPositionState));
+      logger.debug("Robot cycle took {} us", TimeUnit.NANOSECONDS.toMicros(cycleNanos));
     }
   }
 
@@ -110,6 +249,9 @@ public class SinglePositionRobot implements Robot {
   public void stop() {
     // TODO: Implement logic
     logger.info("Stopping robot. Current position state: {}", robotPositionState);
+    if (robotPositionState != null) {
+      snapshotStore.save(snapshot());
+    }
   }
 
   @Override
@@ -145,7 +287,12 @@ public class SinglePositionRobot implements Robot {
     return bars.stream().toList();
   }
 
-  public Strategy<BinaryPositionMomentum> getStrategy() {
+  /** Returns the size of the bar window, the longest look-back of the robot's indicators. */
+  public int getRequiredBarsCount() {
+    return requiredBarsCount;
+  }
+
+  public Strategy<BinaryPositionMomentum, BinaryStrategyEvaluation> getStrategy() {
     return binaryStrategy;
   }
 
@@ -153,14 +300,40 @@ public class SinglePositionRobot implements Robot {
     return exchangeOrderClient;
   }
 
+  public CyclePhaseRecorder getCyclePhaseRecorder() {
+    return cyclePhaseRecorder;
+  }
+
+  public PendingOrderTimeout getPendingOrderTimeout() {
+    return pendingOrderTimeout;
+  }
+
+  /**
+   * Records how long the exchange took to acknowledge an order submitted by a position handler.
+   *
+   * @param nanos the latency in nanoseconds
+   */
+  public void recordOrderSubmission(long nanos) {
+    cyclePhaseRecorder.recordOrderSubmission(nanos);
+  }
+
   public void setPosition(Position position) {
     this.position = position;
     logger.info("Position set: {}", position);
   }
 
+  /**
+   * Sets the order of the position and subscribes to its fills, which are applied with the next
+   * {@link #applyOrderFills()}.
+   *
+   * @param order the order, or null once the position is closed
+   */
   public void setOrder(Order order) {
     this.order = order;
     logger.info("Order set: {}", order);
+    if (order != null) {
+      exchangeOrderClient.addOrderFillListener(order.id(), orderFillListener);
+    }
   }
 
   public void setRobotPositionState(RobotPositionState state) {
@@ -171,32 +344,352 @@ public class SinglePositionRobot implements Robot {
     return order;
   }
 
-  private void collectBars() {
-    var timeFrom = bars.peek() != null ? bars.peek().time() : initialBarsCollectionDate;
+  public RobotPositionState getRobotPositionState() {
+    return robotPositionState;
+  }
+
+  /**
+   * Returns the robot to exploring after a crash or an unanswered exchange interrupted an open.
+   * The open is recorded as failed so a restart does not stop the robot again.
+   */
+  @Override
+  public synchronized void resolveInterruptedOpen() {
+    if (robotPositionState != RobotPositionState.OPERATOR_ACTION_REQUIRED) {
+      logger.warn("No interrupted open to resolve; robot position state is {}", robotPositionState);
+      return;
+    }
+    recordTransition(StateTransitionType.OPEN_FAILED, null, null);
+    robotPositionState = RobotPositionState.EXPLORING;
+    logger.info("Interrupted open resolved by operator; exploring again");
+  }
+
+  /**
+   * Applies the fills the exchange reported since the last call. Called by the thread running the
+   * cycle before it decides, so the handlers never see the position change under them.
+   */
+  public synchronized void applyOrderFills() {
+    OrderFill fill;
+    while ((fill = orderFills.poll()) != null) {
+      onOrderFilled(fill);
+    }
+  }
+
+  /**
+   * Applies a fill reported by the exchange to the robot order. An entry fill sets the entry price
+   * of the order and position, and a stop-loss or take-profit exit closes the position and returns
+   * the robot to exploring. Fills of other orders are ignored.
+   *
+   * @param fill the fill
+   */
+  public synchronized void onOrderFilled(OrderFill fill) {
+    var filledOrder = order;
+    if (filledOrder == null || filledOrder.id() != fill.orderId()) {
+      return;
+    }
+    switch (fill.type()) {
+      case ENTRY -> {
+        order = new Order(filledOrder.id(), fill.price(), fill.time(), filledOrder.type());
+        var openPosition = position;
+        if (openPosition != null) {
+          position =
+              new Position(
+                  openPosition.type(),
+                  fill.price(),
+                  openPosition.takeProfits(),
+                  openPosition.stopLoss());
+        }
+        logger.info("Order {} filled at {}", filledOrder.id(), fill.price());
+      }
+      case STOP_LOSS, TAKE_PROFIT -> {
+        if (robotPositionState != RobotPositionState.IN_POSITION) {
+          // The response to the close already in flight confirms it instead
+          return;
+        }
+        logger.info("Order {} closed by {} at {}", filledOrder.id(), fill.type(), fill.price());
+        recordTransition(StateTransitionType.CLOSE_CONFIRMED, null, filledOrder);
+        position = null;
+        order = null;
+        robotPositionState = RobotPositionState.EXPLORING;
+      }
+      case CLOSE -> {}
+    }
+  }
+
+  /**
+   * Records a position transition in the state transition log. Intents are made durable before
+   * returning, so they must be recorded before the exchange is called; outcomes are buffered and
+   * reach the disk with the next sync.
+   *
+   * @param type the transition
+   * @param position the position being opened or closed
+   * @param order the order of the position, null if not known yet
+   */
+  public void recordTransition(StateTransitionType type, Position position, Order order) {
+    var transition =
+        new StateTransition(Instant.now(), symbol, robotTimeframe, type, position, order);
+    if (type.isIntent()) {
+      transitionLog.appendDurably(transition);
+    } else {
+      transitionLog.append(transition);
+    }
+  }
+
+  /**
+   * Captures the current state of the robot. Must be called on the thread running the cycle, or
+   * while no cycle runs, so the bar window is not modified meanwhile.
+   *
+   * @return the snapshot
+   */
+  public RobotSnapshot snapshot() {
+    return new RobotSnapshot(
+        symbol, robotTimeframe, Instant.now(), robotPositionState, position, order, getBars());
+  }
+
+  /** Returns the number of runs dropped because the previous run was still in execution. */
+  public long getSkippedRuns() {
+    return skippedRuns.get();
+  }
+
+  boolean hasRequiredBars() {
+    if (bars.size() < requiredBarsCount) {
+      if (notEnoughBarsSampler.shouldLog()) {
+        logger.warn(
+            "Not enough bars to run strategy. Required: {}, actual: {}",
+            requiredBarsCount,
+            bars.size());
+      }
+      return false;
+    }
+    return true;
+  }
+
+  /** Hands a snapshot to the snapshot store if the snapshot interval has passed. */
+  void snapshotIfDue() {
+    var nowMillis = System.currentTimeMillis();
+    if (nowMillis - lastSnapshotMillis >= snapshotStore.getSnapshotIntervalMillis()) {
+      lastSnapshotMillis = nowMillis;
+      snapshotStore.save(snapshot());
+    }
+  }
+
+  /**
+   * Collects the bars closed since the newest bar of the window. Bars the client returns again are
+   * dropped by their time, so the window never holds a bar twice.
+   *
+   * @return the number of bars added to the window
+   */
+  int collectBars() {
+    var lastBar = bars.isEmpty() ? null : bars.get(bars.size() - 1);
+    var timeFrom = lastBar != null ? lastBar.time() : initialBarsCollectionDate;
     var timeTo = Instant.now();
     var collectedBars =
-        barsCollectorClient
-            .collectBars(robotTimeframe.unit(), robotTimeframe.interval(), timeFrom, timeTo)
-            .stream()
-            .map(
-                bar ->
-                    new Bar(
-                        bar.time(), bar.open(), bar.high(), bar.low(), bar.close(), bar.volume()))
-            .toList();
-    // TODO: Implement filtering
-    //    var filteredCollectedBars = collectedBars.stream().filter(bar ->
-    // bar.time().isAfter(timeFrom)).toList();
-    //    bars.addAll(filteredCollectedBars);
+        barsCollectorClient.collectBars(
+            robotTimeframe.unit(), robotTimeframe.interval(), timeFrom, timeTo);
+    var added = 0;
+    for (var collectedBar : collectedBars) {
+      if (lastBar == null || collectedBar.time().isAfter(lastBar.time())) {
+        lastBar = toBar(collectedBar);
+        bars.add(lastBar);
+        added++;
+      }
+    }
+    cyclePhaseRecorder.recordBarsCollected(added);
+
+    if (barsCollectedSampler.shouldLog()) {
+      logger.info("Bars collected from {} to {}: {}", timeFrom, timeTo, bars.size());
+    }
+    return added;
+  }
+
+  private void recover(StateTransition transition) {
+    switch (transition.type()) {
+      case OPEN_CONFIRMED, CLOSE_FAILED -> {
+        position = transition.position();
+        order = transition.order();
+        robotPositionState = RobotPositionState.IN_POSITION;
+      }
+      case CLOSE_INTENDED -> {
+        // The close may or may not have reached the exchange; closing again is the safe retry
+        position = transition.position();
+        order = transition.order();
+        robotPositionState = RobotPositionState.IN_POSITION;
+        logger.warn("Crashed while closing order {}; it may already be closed", order);
+      }
+      case OPEN_INTENDED ->
+          recoverInterruptedOpen(
+              transition.position() != null ? transition.position().type() : null);
+      case OPEN_FAILED, CLOSE_CONFIRMED -> {
+        position = null;
+        order = null;
+        robotPositionState = RobotPositionState.EXPLORING;
+      }
+    }
+    logger.info(
+        "Recovered {} state from {} transition at {}",
+        robotPositionState,
+        transition.type(),
+        transition.time());
+  }
+
+  /** Resolves an order pending in the snapshot when no transition tells how it ended. */
+  private void recoverPendingOrder() {
+    if (order != null) {
+      // Only a close is submitted with a known order; closing again is the safe retry
+      robotPositionState = RobotPositionState.IN_POSITION;
+      logger.warn("Stopped while closing order {}; it may already be closed", order);
+    } else {
+      recoverInterruptedOpen(position != null ? position.type() : null);
+    }
+  }
+
+  private void recoverInterruptedOpen(PositionType positionType) {
+    // The order may have reached the exchange, opening another could double the exposure
+    // TODO: Reconcile with exchangeOrderClient when position loading implemented
+    position = null;
+    order = null;
+    robotPositionState = RobotPositionState.OPERATOR_ACTION_REQUIRED;
+    logger.error(
+        "Crashed while opening {} position; check the exchange for an orphaned order",
+        positionType);
+  }
 
-    bars.addAll(collectedBars);
+  private boolean isWithinLookBack(RobotSnapshot snapshot) {
+    if (snapshot.bars().isEmpty()) {
+      return false;
+    }
+    // Older snapshots would leave a gap in the window, so the window is fetched from scratch
+    var lookBackMillis =
+        robotTimeframe.unit().toMillis(robotTimeframe.interval()) * requiredBarsCount;
+    return snapshot.bars().getLast().time().toEpochMilli()
+        >= System.currentTimeMillis() - lookBackMillis;
+  }
 
-    logger.info("Bars collected from {} to {}: {}", timeFrom, timeTo, bars.size());
+  private static Bar toBar(org.shadow.domain.client.model.Bar bar) {
+    return new Bar(bar.time(), bar.open(), bar.high(), bar.low(), bar.close(), bar.volume());
   }
 
   private RobotPositionHandler<SinglePositionRobot> getPositionHandler() {
     return switch (robotPositionState) {
       case EXPLORING -> new ExploringSinglePositionHandler();
       case IN_POSITION -> new InSinglePositionHandler();
+      case ORDER_PENDING -> new PendingOrderSinglePositionHandler();
+      case OPERATOR_ACTION_REQUIRED -> new OperatorActionRequiredSinglePositionHandler();
     };
   }
+
+  /** Builds a {@link SinglePositionRobot}, see {@link #builder()}. */
+  public static final class Builder {
+
+    private RobotTimeframe robotTimeframe;
+    private BarsCollectorClient barsCollectorClient;
+    private ExchangeOrderClient exchangeOrderClient;
+    private Strategy<BinaryPositionMomentum, BinaryStrategyEvaluation> strategy;
+    private String symbol;
+    private BigDecimal percentageFromDeposit;
+    private Integer futuresMultiplier;
+    private Instant initialBarsCollectionDate;
+    private Integer requiredBarsCount;
+    private CyclePhaseRecorder cyclePhaseRecorder = CyclePhaseRecorder.NONE;
+    private RobotSnapshotStore snapshotStore = RobotSnapshotStore.NONE;
+    private StateTransitionLog transitionLog = StateTransitionLog.NONE;
+    private PendingOrderTimeout pendingOrderTimeout = PendingOrderTimeout.NONE;
+
+    private Builder() {}
+
+    public Builder robotTimeframe(RobotTimeframe robotTimeframe) {
+      this.robotTimeframe = robotTimeframe;
+      return this;
+    }
+
+    public Builder barsCollectorClient(BarsCollectorClient barsCollectorClient) {
+      this.barsCollectorClient = barsCollectorClient;
+      return this;
+    }
+
+    public Builder exchangeOrderClient(ExchangeOrderClient exchangeOrderClient) {
+      this.exchangeOrderClient = exchangeOrderClient;
+      return this;
+    }
+
+    public Builder strategy(Strategy<BinaryPositionMomentum, BinaryStrategyEvaluation> strategy) {
+      this.strategy = strategy;
+      return this;
+    }
+
+    public Builder symbol(String symbol) {
+      this.symbol = symbol;
+      return this;
+    }
+
+    public Builder percentageFromDeposit(BigDecimal percentageFromDeposit) {
+      this.percentageFromDeposit = percentageFromDeposit;
+      return this;
+    }
+
+    public Builder futuresMultiplier(Integer futuresMultiplier) {
+      this.futuresMultiplier = futuresMultiplier;
+      return this;
+    }
+
+    public Builder initialBarsCollectionDate(Instant initialBarsCollectionDate) {
+      this.initialBarsCollectionDate = initialBarsCollectionDate;
+      return this;
+    }
+
+    public Builder requiredBarsCount(Integer requiredBarsCount) {
+      this.requiredBarsCount = requiredBarsCount;
+      return this;
+    }
+
+    /**
+     * @param cyclePhaseRecorder receives the duration of bar collection, the position handler and
+     *     the whole cycle
+     */
+    public Builder cyclePhaseRecorder(CyclePhaseRecorder cyclePhaseRecorder) {
+      this.cyclePhaseRecorder = cyclePhaseRecorder;
+      return this;
+    }
+
+    /**
+     * @param snapshotStore restores the robot on init and keeps its periodic snapshots
+     */
+    public Builder snapshotStore(RobotSnapshotStore snapshotStore) {
+      this.snapshotStore = snapshotStore;
+      return this;
+    }
+
+    /**
+     * @param transitionLog receives every position transition before and after the exchange call
+     *     and overrides older snapshots on init
+     */
+    public Builder transitionLog(StateTransitionLog transitionLog) {
+      this.transitionLog = transitionLog;
+      return this;
+    }
+
+    /**
+     * @param pendingOrderTimeout bounds the wait for the response to an asynchronous order
+     */
+    public Builder pendingOrderTimeout(PendingOrderTimeout pendingOrderTimeout) {
+      this.pendingOrderTimeout = pendingOrderTimeout;
+      return this;
+    }
+
+    /**
+     * Builds the robot.
+     *
+     * @return the robot
+     * @throws IllegalStateException if a required value was not set
+     */
+    public SinglePositionRobot build() {
+      return new SinglePositionRobot(this);
+    }
+
+    private <T> T require(T value, String name) {
+      if (value == null) {
+        throw new IllegalStateException("Robot " + name + " is required");
+      }
+      return value;
+    }
+  }
 }
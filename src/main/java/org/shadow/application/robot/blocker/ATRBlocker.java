@@ -3,10 +3,12 @@ package org.shadow.application.robot.blocker;
 import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.shadow.application.logging.HotPathLogging;
 import org.shadow.application.robot.common.model.Bar;
 import org.shadow.application.robot.indicator.ATRIndicator;
 import org.shadow.application.robot.indicator.Indicator;
-import org.shadow.application.robot.indicator.exception.InsufficientDataException;
+import org.shadow.application.robot.indicator.streaming.StreamingATR;
+import org.shadow.application.robot.indicator.streaming.StreamingIndicatorFeed;
 
 /**
  * The ATRBlocker uses the Average True Range (ATR) indicator to determine if the market is in high
@@ -20,6 +22,7 @@ public class ATRBlocker implements Blocker {
   private static final double HIGH_VOLATILITY_PERCENTAGE_THRESHOLD = 0.25; // 0.25%
 
   private final ATRIndicator atrIndicator;
+  private final StreamingIndicatorFeed<StreamingATR> atrFeed;
   private final Logger logger = LogManager.getLogger(ATRBlocker.class);
 
   /**
@@ -29,6 +32,7 @@ public class ATRBlocker implements Blocker {
    */
   public ATRBlocker(int atrPeriod) {
     this.atrIndicator = new ATRIndicator(atrPeriod);
+    this.atrFeed = new StreamingIndicatorFeed<>(new StreamingATR(atrPeriod));
     logger.info("ATRBlocker initialized with ATR period: {}", atrPeriod);
   }
 
@@ -39,34 +43,17 @@ public class ATRBlocker implements Blocker {
       return true;
     }
 
-    var length = bars.size();
-    var highs = new double[length];
-    var lows = new double[length];
-    var closes = new double[length];
-
-    for (int i = 0; i < length; i++) {
-      var bar = bars.get(i);
-      highs[i] = bar.high().doubleValue();
-      lows[i] = bar.low().doubleValue();
-      closes[i] = bar.close().doubleValue();
-    }
-
-    List<Double> atrValues;
-    try {
-      atrValues = atrIndicator.calculate(highs, lows, closes);
-    } catch (InsufficientDataException e) {
-      logger.warn("Insufficient data to calculate ATR: {}", e.getMessage());
-      return true;
-    }
-
-    var latestAtr = atrValues.getLast();
-
-    if (latestAtr == null) {
-      logger.warn("Could not compute ATR, insufficient data");
+    var atr = atrFeed.sync(bars);
+    if (!atr.isReady()) {
+      logger.warn(
+          "Insufficient data to calculate ATR: {} bars for period {}",
+          bars.size(),
+          atr.getPeriod());
       return true;
     }
 
-    var latestClose = closes[closes.length - 1];
+    var latestAtr = atr.getATR();
+    var latestClose = bars.getLast().close().doubleValue();
     var atrPercentage = (latestAtr / latestClose) * 100;
 
     if (atrPercentage <= LOW_VOLATILITY_PERCENTAGE_THRESHOLD) {
@@ -76,11 +63,18 @@ public class ATRBlocker implements Blocker {
       logger.info("High volatility detected (ATR%: {}). Blocking trading.", atrPercentage);
       return true;
     } else {
-      logger.info("Normal volatility (ATR%: {}). Not blocking trading.", atrPercentage);
+      if (HotPathLogging.isVerbose()) {
+        logger.info("Normal volatility (ATR%: {}). Not blocking trading.", atrPercentage);
+      }
       return false;
     }
   }
 
+  @Override
+  public void warmUp(List<Bar> bars) {
+    atrFeed.warmUp(bars);
+  }
+
   /**
    * Returns the ATRIndicator used by this ATRBlocker.
    *
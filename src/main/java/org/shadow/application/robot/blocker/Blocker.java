@@ -8,5 +8,7 @@ public interface Blocker {
 
   boolean isMomentumToBlocking(List<Bar> bars);
 
+  default void warmUp(List<Bar> bars) {}
+
   Indicator getIndicator();
 }
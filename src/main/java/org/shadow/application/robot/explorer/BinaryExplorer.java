@@ -2,6 +2,7 @@ package org.shadow.application.robot.explorer;
 
 import java.util.List;
 import org.shadow.application.robot.common.model.Bar;
+import org.shadow.application.robot.explorer.model.BinaryExplorationSeries;
 import org.shadow.application.robot.explorer.model.BinaryIsMomentumExplorationState;
 import org.shadow.application.robot.indicator.Indicator;
 
@@ -27,6 +28,26 @@ public interface BinaryExplorer {
    */
   BinaryIsMomentumExplorationState isMomentumToShort(List<Bar> bars);
 
+  /**
+   * Evaluates both momentum states at every bar of a series in one pass over the prices, for
+   * backtests; each state is the one of the bars up to its index, as if the explorer had followed
+   * the series bar by bar from its start.
+   *
+   * @param highs the high prices of the bars
+   * @param lows the low prices of the bars
+   * @param closes the close prices of the bars
+   * @return the states and indicator values of every bar
+   */
+  BinaryExplorationSeries exploreSeries(double[] highs, double[] lows, double[] closes);
+
+  /**
+   * Primes the indicator state kept between bars from the initial bar window, so the first
+   * exploration only has to feed the bars closed since.
+   *
+   * @param bars the bar window the robot starts with
+   */
+  default void warmUp(List<Bar> bars) {}
+
   /**
    * Gets the severity level of momentum exploration.
    *
@@ -40,4 +61,13 @@ public interface BinaryExplorer {
    * @return the indicator used by the explorer
    */
   Indicator getIndicator();
+
+  /**
+   * Gets the indicator value the latest exploration was based on, for decision records.
+   *
+   * @return the latest indicator value, NaN if the explorer has not computed one yet
+   */
+  default double getLastIndicatorValue() {
+    return Double.NaN;
+  }
 }
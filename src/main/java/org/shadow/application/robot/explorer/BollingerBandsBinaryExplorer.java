@@ -1,14 +1,16 @@
 package org.shadow.application.robot.explorer;
 
-import java.math.BigDecimal;
 import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.shadow.application.logging.HotPathLogging;
 import org.shadow.application.robot.common.model.Bar;
+import org.shadow.application.robot.explorer.model.BinaryExplorationSeries;
 import org.shadow.application.robot.explorer.model.BinaryIsMomentumExplorationState;
 import org.shadow.application.robot.indicator.BollingerBandsIndicator;
 import org.shadow.application.robot.indicator.Indicator;
-import org.shadow.application.robot.indicator.model.BollingerBandsResult;
+import org.shadow.application.robot.indicator.streaming.StreamingBollingerBands;
+import org.shadow.application.robot.indicator.streaming.StreamingIndicatorFeed;
 
 /**
  * This class represents an implementation of a binary momentum explorer using the Bollinger Bands
@@ -21,6 +23,7 @@ public class BollingerBandsBinaryExplorer implements BinaryExplorer {
 
   private final Integer severity;
   private final BollingerBandsIndicator bollingerBandsIndicator;
+  private final StreamingIndicatorFeed<StreamingBollingerBands> bollingerBandsFeed;
 
   private final double lowerBandThreshold;
   private final double upperBandThreshold;
@@ -29,6 +32,8 @@ public class BollingerBandsBinaryExplorer implements BinaryExplorer {
   private final double longMinorThreshold;
   private final double shortMinorThreshold;
 
+  private double lastIndicatorValue = Double.NaN;
+
   /**
    * Constructs a BollingerBandsBinaryExplorer with specified parameters.
    *
@@ -55,6 +60,9 @@ public class BollingerBandsBinaryExplorer implements BinaryExplorer {
 
     this.severity = severity;
     this.bollingerBandsIndicator = new BollingerBandsIndicator(period, standardDeviationMultiplier);
+    this.bollingerBandsFeed =
+        new StreamingIndicatorFeed<>(
+            new StreamingBollingerBands(period, standardDeviationMultiplier));
 
     this.lowerBandThreshold = lowerBandThreshold;
     this.upperBandThreshold = upperBandThreshold;
@@ -83,15 +91,17 @@ public class BollingerBandsBinaryExplorer implements BinaryExplorer {
       return BinaryIsMomentumExplorationState.NOT_READY;
     }
 
-    var prices = extractClosingPrices(bars);
-    var bollingerResult = bollingerBandsIndicator.calculate(prices);
+    var bands = bollingerBandsFeed.sync(bars);
 
-    var currentPrice = prices[prices.length - 1];
-    var position = calculatePositionInBands(currentPrice, bollingerResult);
+    var currentPrice = bars.getLast().close().doubleValue();
+    var position = calculatePositionInBands(currentPrice, bands);
 
     var longState = evaluateLongState(position);
 
-    logger.info("Long state: {}, position in bands: {}", longState, position);
+    lastIndicatorValue = position;
+    if (HotPathLogging.isVerbose()) {
+      logger.info("Long state: {}, position in bands: {}", longState, position);
+    }
 
     return longState;
   }
@@ -103,19 +113,43 @@ public class BollingerBandsBinaryExplorer implements BinaryExplorer {
       return BinaryIsMomentumExplorationState.NOT_READY;
     }
 
-    var prices = extractClosingPrices(bars);
-    var bollingerResult = bollingerBandsIndicator.calculate(prices);
+    var bands = bollingerBandsFeed.sync(bars);
 
-    var currentPrice = prices[prices.length - 1];
-    var position = calculatePositionInBands(currentPrice, bollingerResult);
+    var currentPrice = bars.getLast().close().doubleValue();
+    var position = calculatePositionInBands(currentPrice, bands);
 
     var shortState = evaluateShortState(position);
 
-    logger.info("Short state: {}, position in bands: {}", shortState, position);
+    lastIndicatorValue = position;
+    if (HotPathLogging.isVerbose()) {
+      logger.info("Short state: {}, position in bands: {}", shortState, position);
+    }
 
     return shortState;
   }
 
+  @Override
+  public BinaryExplorationSeries exploreSeries(double[] highs, double[] lows, double[] closes) {
+    var upperBand = new double[closes.length];
+    var middleBand = new double[closes.length];
+    var lowerBand = new double[closes.length];
+    bollingerBandsIndicator.calculateSeries(closes, upperBand, middleBand, lowerBand);
+
+    var series = BinaryExplorationSeries.ofLength(closes.length);
+    for (var i = 0; i < closes.length; i++) {
+      if (!Double.isNaN(middleBand[i])) {
+        var position = (closes[i] - lowerBand[i]) / (upperBand[i] - lowerBand[i]);
+        series.set(i, evaluateLongState(position), evaluateShortState(position), position);
+      }
+    }
+    return series;
+  }
+
+  @Override
+  public void warmUp(List<Bar> bars) {
+    bollingerBandsFeed.warmUp(bars);
+  }
+
   @Override
   public Integer getSeverity() {
     return severity;
@@ -126,13 +160,14 @@ public class BollingerBandsBinaryExplorer implements BinaryExplorer {
     return bollingerBandsIndicator;
   }
 
-  private double[] extractClosingPrices(List<Bar> bars) {
-    return bars.stream().map(Bar::close).mapToDouble(BigDecimal::doubleValue).toArray();
+  @Override
+  public double getLastIndicatorValue() {
+    return lastIndicatorValue;
   }
 
-  private double calculatePositionInBands(double price, BollingerBandsResult bands) {
-    var lowerBand = bands.lowerBand();
-    var upperBand = bands.upperBand();
+  private double calculatePositionInBands(double price, StreamingBollingerBands bands) {
+    var lowerBand = bands.getLowerBand();
+    var upperBand = bands.getUpperBand();
     return (price - lowerBand) / (upperBand - lowerBand);
   }
 
@@ -1,13 +1,16 @@
 package org.shadow.application.robot.explorer;
 
-import java.math.BigDecimal;
 import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.shadow.application.logging.HotPathLogging;
 import org.shadow.application.robot.common.model.Bar;
+import org.shadow.application.robot.explorer.model.BinaryExplorationSeries;
 import org.shadow.application.robot.explorer.model.BinaryIsMomentumExplorationState;
 import org.shadow.application.robot.indicator.Indicator;
 import org.shadow.application.robot.indicator.MACDIndicator;
+import org.shadow.application.robot.indicator.streaming.StreamingIndicatorFeed;
+import org.shadow.application.robot.indicator.streaming.StreamingMACD;
 
 /**
  * This class represents an implementation of a binary momentum explorer using the MACD (Moving
@@ -20,11 +23,14 @@ public class MACDBinaryExplorer implements BinaryExplorer {
 
   private final Integer severity;
   private final MACDIndicator macdIndicator;
+  private final StreamingIndicatorFeed<StreamingMACD> macdFeed;
 
   private final double histogramMajorThreshold;
   private final double histogramMediumThreshold;
   private final double histogramMinorThreshold;
 
+  private double lastIndicatorValue = Double.NaN;
+
   /**
    * Constructs a MACDBinaryExplorer with specified parameters.
    *
@@ -47,6 +53,8 @@ public class MACDBinaryExplorer implements BinaryExplorer {
 
     this.severity = severity;
     this.macdIndicator = new MACDIndicator(shortPeriod, longPeriod, signalPeriod);
+    this.macdFeed =
+        new StreamingIndicatorFeed<>(new StreamingMACD(shortPeriod, longPeriod, signalPeriod));
 
     this.histogramMajorThreshold = histogramMajorThreshold;
     this.histogramMediumThreshold = histogramMediumThreshold;
@@ -70,14 +78,14 @@ public class MACDBinaryExplorer implements BinaryExplorer {
       return BinaryIsMomentumExplorationState.NOT_READY;
     }
 
-    var prices = extractClosingPrices(bars);
-    var macdResult = macdIndicator.calculate(prices);
-
-    var histogram = macdResult.getHistogram();
+    var histogram = macdFeed.sync(bars).getHistogram();
 
     var longState = evaluateLongState(histogram);
 
-    logger.info("Long state: {}, histogram: {}", longState, histogram);
+    lastIndicatorValue = histogram;
+    if (HotPathLogging.isVerbose()) {
+      logger.info("Long state: {}, histogram: {}", longState, histogram);
+    }
 
     return longState;
   }
@@ -89,18 +97,39 @@ public class MACDBinaryExplorer implements BinaryExplorer {
       return BinaryIsMomentumExplorationState.NOT_READY;
     }
 
-    var prices = extractClosingPrices(bars);
-    var macdResult = macdIndicator.calculate(prices);
-
-    var histogram = macdResult.getHistogram();
+    var histogram = macdFeed.sync(bars).getHistogram();
 
     var shortState = evaluateShortState(histogram);
 
-    logger.info("Short state: {}, histogram: {}", shortState, histogram);
+    lastIndicatorValue = histogram;
+    if (HotPathLogging.isVerbose()) {
+      logger.info("Short state: {}, histogram: {}", shortState, histogram);
+    }
 
     return shortState;
   }
 
+  @Override
+  public BinaryExplorationSeries exploreSeries(double[] highs, double[] lows, double[] closes) {
+    var macdLine = new double[closes.length];
+    var signalLine = new double[closes.length];
+    macdIndicator.calculateSeries(closes, macdLine, signalLine);
+
+    var series = BinaryExplorationSeries.ofLength(closes.length);
+    for (var i = 0; i < closes.length; i++) {
+      var histogram = macdLine[i] - signalLine[i];
+      if (!Double.isNaN(histogram)) {
+        series.set(i, evaluateLongState(histogram), evaluateShortState(histogram), histogram);
+      }
+    }
+    return series;
+  }
+
+  @Override
+  public void warmUp(List<Bar> bars) {
+    macdFeed.warmUp(bars);
+  }
+
   @Override
   public Integer getSeverity() {
     return severity;
@@ -111,8 +140,9 @@ public class MACDBinaryExplorer implements BinaryExplorer {
     return macdIndicator;
   }
 
-  private double[] extractClosingPrices(List<Bar> bars) {
-    return bars.stream().map(Bar::close).mapToDouble(BigDecimal::doubleValue).toArray();
+  @Override
+  public double getLastIndicatorValue() {
+    return lastIndicatorValue;
   }
 
   private BinaryIsMomentumExplorationState evaluateLongState(double histogram) {
@@ -1,13 +1,16 @@
 package org.shadow.application.robot.explorer;
 
-import java.math.BigDecimal;
 import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.shadow.application.logging.HotPathLogging;
 import org.shadow.application.robot.common.model.Bar;
+import org.shadow.application.robot.explorer.model.BinaryExplorationSeries;
 import org.shadow.application.robot.explorer.model.BinaryIsMomentumExplorationState;
 import org.shadow.application.robot.indicator.Indicator;
 import org.shadow.application.robot.indicator.RSIIndicator;
+import org.shadow.application.robot.indicator.streaming.StreamingIndicatorFeed;
+import org.shadow.application.robot.indicator.streaming.StreamingRSI;
 
 /**
  * This class represents an implementation of a binary momentum explorer using the RSI (Relative
@@ -20,6 +23,7 @@ public class RSIBinaryExplorer implements BinaryExplorer {
 
   private final Integer severity;
   private final RSIIndicator rsiIndicator;
+  private final StreamingIndicatorFeed<StreamingRSI> rsiFeed;
 
   private final double oversoldThreshold;
   private final double overboughtThreshold;
@@ -28,6 +32,8 @@ public class RSIBinaryExplorer implements BinaryExplorer {
   private final double longMinorThreshold;
   private final double shortMinorThreshold;
 
+  private double lastIndicatorValue = Double.NaN;
+
   /**
    * Constructs an RSIBinaryExplorer with specified parameters.
    *
@@ -52,6 +58,7 @@ public class RSIBinaryExplorer implements BinaryExplorer {
 
     this.severity = severity;
     this.rsiIndicator = new RSIIndicator(period);
+    this.rsiFeed = new StreamingIndicatorFeed<>(new StreamingRSI(period));
 
     this.oversoldThreshold = oversoldThreshold;
     this.overboughtThreshold = overboughtThreshold;
@@ -79,12 +86,14 @@ public class RSIBinaryExplorer implements BinaryExplorer {
       return BinaryIsMomentumExplorationState.NOT_READY;
     }
 
-    var prices = extractClosingPrices(bars);
-    var rsi = rsiIndicator.calculate(prices);
+    var rsi = rsiFeed.sync(bars).getRSI();
 
     var longState = evaluateLongState(rsi);
 
-    logger.info("Long state: {}, RSI: {}", longState, rsi);
+    lastIndicatorValue = rsi;
+    if (HotPathLogging.isVerbose()) {
+      logger.info("Long state: {}, RSI: {}", longState, rsi);
+    }
 
     return longState;
   }
@@ -96,16 +105,37 @@ public class RSIBinaryExplorer implements BinaryExplorer {
       return BinaryIsMomentumExplorationState.NOT_READY;
     }
 
-    var prices = extractClosingPrices(bars);
-    var rsi = rsiIndicator.calculate(prices);
+    var rsi = rsiFeed.sync(bars).getRSI();
 
     var shortState = evaluateShortState(rsi);
 
-    logger.info("Short state: {}, RSI: {}", shortState, rsi);
+    lastIndicatorValue = rsi;
+    if (HotPathLogging.isVerbose()) {
+      logger.info("Short state: {}, RSI: {}", shortState, rsi);
+    }
 
     return shortState;
   }
 
+  @Override
+  public BinaryExplorationSeries exploreSeries(double[] highs, double[] lows, double[] closes) {
+    var rsi = new double[closes.length];
+    rsiIndicator.calculateSeries(closes, rsi);
+
+    var series = BinaryExplorationSeries.ofLength(closes.length);
+    for (var i = 0; i < closes.length; i++) {
+      if (!Double.isNaN(rsi[i])) {
+        series.set(i, evaluateLongState(rsi[i]), evaluateShortState(rsi[i]), rsi[i]);
+      }
+    }
+    return series;
+  }
+
+  @Override
+  public void warmUp(List<Bar> bars) {
+    rsiFeed.warmUp(bars);
+  }
+
   @Override
   public Integer getSeverity() {
     return severity;
@@ -116,8 +146,9 @@ public class RSIBinaryExplorer implements BinaryExplorer {
     return rsiIndicator;
   }
 
-  private double[] extractClosingPrices(List<Bar> bars) {
-    return bars.stream().map(Bar::close).mapToDouble(BigDecimal::doubleValue).toArray();
+  @Override
+  public double getLastIndicatorValue() {
+    return lastIndicatorValue;
   }
 
   private BinaryIsMomentumExplorationState evaluateLongState(double rsi) {
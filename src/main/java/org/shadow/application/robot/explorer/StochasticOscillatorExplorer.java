@@ -3,10 +3,14 @@ package org.shadow.application.robot.explorer;
 import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.shadow.application.logging.HotPathLogging;
 import org.shadow.application.robot.common.model.Bar;
+import org.shadow.application.robot.explorer.model.BinaryExplorationSeries;
 import org.shadow.application.robot.explorer.model.BinaryIsMomentumExplorationState;
 import org.shadow.application.robot.indicator.Indicator;
 import org.shadow.application.robot.indicator.StochasticOscillatorIndicator;
+import org.shadow.application.robot.indicator.streaming.StreamingIndicatorFeed;
+import org.shadow.application.robot.indicator.streaming.StreamingStochasticOscillator;
 
 /**
  * This class represents an implementation of a binary momentum explorer using the Stochastic
@@ -19,6 +23,7 @@ public class StochasticOscillatorExplorer implements BinaryExplorer {
 
   private final Integer severity;
   private final StochasticOscillatorIndicator stochasticIndicator;
+  private final StreamingIndicatorFeed<StreamingStochasticOscillator> stochasticFeed;
 
   private final double oversoldThreshold;
   private final double overboughtThreshold;
@@ -27,6 +32,8 @@ public class StochasticOscillatorExplorer implements BinaryExplorer {
   private final double longMinorThreshold;
   private final double shortMinorThreshold;
 
+  private double lastIndicatorValue = Double.NaN;
+
   /**
    * Constructs a StochasticOscillatorExplorer with specified parameters.
    *
@@ -53,6 +60,8 @@ public class StochasticOscillatorExplorer implements BinaryExplorer {
 
     this.severity = severity;
     this.stochasticIndicator = new StochasticOscillatorIndicator(period, dPeriod);
+    this.stochasticFeed =
+        new StreamingIndicatorFeed<>(new StreamingStochasticOscillator(period, dPeriod));
 
     this.oversoldThreshold = oversoldThreshold;
     this.overboughtThreshold = overboughtThreshold;
@@ -81,14 +90,17 @@ public class StochasticOscillatorExplorer implements BinaryExplorer {
       return BinaryIsMomentumExplorationState.NOT_READY;
     }
 
-    var result = stochasticIndicator.calculate(bars);
+    var stochastic = stochasticFeed.sync(bars);
 
-    var percentK = result.percentK();
-    var percentD = result.percentD();
+    var percentK = stochastic.getPercentK();
+    var percentD = stochastic.getPercentD();
 
     var longState = evaluateLongState(percentK, percentD);
 
-    logger.info("Long state: {}, %K: {}, %D: {}", longState, percentK, percentD);
+    lastIndicatorValue = percentK;
+    if (HotPathLogging.isVerbose()) {
+      logger.info("Long state: {}, %K: {}, %D: {}", longState, percentK, percentD);
+    }
 
     return longState;
   }
@@ -100,18 +112,45 @@ public class StochasticOscillatorExplorer implements BinaryExplorer {
       return BinaryIsMomentumExplorationState.NOT_READY;
     }
 
-    var result = stochasticIndicator.calculate(bars);
+    var stochastic = stochasticFeed.sync(bars);
 
-    var percentK = result.percentK();
-    var percentD = result.percentD();
+    var percentK = stochastic.getPercentK();
+    var percentD = stochastic.getPercentD();
 
     var shortState = evaluateShortState(percentK, percentD);
 
-    logger.info("Short state: {}, %K: {}, %D: {}", shortState, percentK, percentD);
+    lastIndicatorValue = percentK;
+    if (HotPathLogging.isVerbose()) {
+      logger.info("Short state: {}, %K: {}, %D: {}", shortState, percentK, percentD);
+    }
 
     return shortState;
   }
 
+  @Override
+  public BinaryExplorationSeries exploreSeries(double[] highs, double[] lows, double[] closes) {
+    var percentK = new double[closes.length];
+    var percentD = new double[closes.length];
+    stochasticIndicator.calculateSeries(highs, lows, closes, percentK, percentD);
+
+    var series = BinaryExplorationSeries.ofLength(closes.length);
+    for (var i = 0; i < closes.length; i++) {
+      if (!Double.isNaN(percentD[i])) {
+        series.set(
+            i,
+            evaluateLongState(percentK[i], percentD[i]),
+            evaluateShortState(percentK[i], percentD[i]),
+            percentK[i]);
+      }
+    }
+    return series;
+  }
+
+  @Override
+  public void warmUp(List<Bar> bars) {
+    stochasticFeed.warmUp(bars);
+  }
+
   @Override
   public Integer getSeverity() {
     return severity;
@@ -122,6 +161,11 @@ public class StochasticOscillatorExplorer implements BinaryExplorer {
     return stochasticIndicator;
   }
 
+  @Override
+  public double getLastIndicatorValue() {
+    return lastIndicatorValue;
+  }
+
   private BinaryIsMomentumExplorationState evaluateLongState(double percentK, double percentD) {
     if (percentK < oversoldThreshold && percentK > percentD) {
       return BinaryIsMomentumExplorationState.MAJOR;
@@ -0,0 +1,53 @@
+package org.shadow.application.robot.explorer.model;
+
+import java.util.Arrays;
+
+/**
+ * Holds the states of an explorer evaluated at every bar of a series, as {@code isMomentumToLong}
+ * and {@code isMomentumToShort} would return them for the bars up to that index, with the
+ * indicator value each state was based on. States are NOT_READY and values NaN where the indicator
+ * lacks data.
+ */
+public record BinaryExplorationSeries(
+    BinaryIsMomentumExplorationState[] longStates,
+    BinaryIsMomentumExplorationState[] shortStates,
+    double[] indicatorValues) {
+
+  /**
+   * Creates a series of the given length with every state NOT_READY and every value NaN.
+   *
+   * @param length the number of bars
+   * @return the series
+   */
+  public static BinaryExplorationSeries ofLength(int length) {
+    var longStates = new BinaryIsMomentumExplorationState[length];
+    var shortStates = new BinaryIsMomentumExplorationState[length];
+    var indicatorValues = new double[length];
+    Arrays.fill(longStates, BinaryIsMomentumExplorationState.NOT_READY);
+    Arrays.fill(shortStates, BinaryIsMomentumExplorationState.NOT_READY);
+    Arrays.fill(indicatorValues, Double.NaN);
+    return new BinaryExplorationSeries(longStates, shortStates, indicatorValues);
+  }
+
+  /**
+   * Sets the states and indicator value of a bar.
+   *
+   * @param index the index of the bar
+   * @param longState the long state
+   * @param shortState the short state
+   * @param indicatorValue the indicator value
+   */
+  public void set(
+      int index,
+      BinaryIsMomentumExplorationState longState,
+      BinaryIsMomentumExplorationState shortState,
+      double indicatorValue) {
+    longStates[index] = longState;
+    shortStates[index] = shortState;
+    indicatorValues[index] = indicatorValue;
+  }
+
+  public int length() {
+    return indicatorValues.length;
+  }
+}
@@ -1,8 +1,10 @@
 package org.shadow.application.robot.indicator;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import org.shadow.application.metrics.jfr.IndicatorJfrEvent;
 import org.shadow.application.robot.indicator.exception.InsufficientDataException;
 
 /**
@@ -39,6 +41,14 @@ public class ATRIndicator implements Indicator {
    *     insufficient length
    */
   public List<Double> calculate(double[] highs, double[] lows, double[] closes) {
+    var event = new IndicatorJfrEvent();
+    event.begin();
+    var atrValues = compute(highs, lows, closes);
+    event.commit("ATR", getPeriod(), closes.length);
+    return atrValues;
+  }
+
+  private List<Double> compute(double[] highs, double[] lows, double[] closes) {
     if (highs == null) {
       throw new InsufficientDataException("Highs array cannot be null");
     }
@@ -98,6 +108,60 @@ public class ATRIndicator implements Indicator {
     return atrValues;
   }
 
+  /**
+   * Calculates the ATR values for the given high, low, and close price arrays into a primitive
+   * array, without boxing a value per bar.
+   *
+   * @param highs an array of high prices
+   * @param lows an array of low prices
+   * @param closes an array of close prices
+   * @param atr the array receiving the ATR values, at least as long as the input arrays; NaN for
+   *     the first period - 1 elements where ATR cannot be computed
+   * @throws InsufficientDataException if input arrays are null or have different lengths
+   */
+  public void calculateSeries(double[] highs, double[] lows, double[] closes, double[] atr) {
+    var event = new IndicatorJfrEvent();
+    event.begin();
+    computeSeries(highs, lows, closes, atr);
+    event.commit("ATR", getPeriod(), closes.length);
+  }
+
+  private void computeSeries(double[] highs, double[] lows, double[] closes, double[] atr) {
+    if (highs == null || lows == null || closes == null) {
+      throw new InsufficientDataException("Input arrays cannot be null");
+    }
+    var length = highs.length;
+    if (lows.length != length || closes.length != length) {
+      throw new InsufficientDataException("Input arrays must have the same length");
+    }
+    if (atr.length < length) {
+      throw new IllegalArgumentException("ATR array cannot be shorter than the input arrays");
+    }
+    Arrays.fill(atr, 0, Math.min(period - 1, length), Double.NaN);
+    if (length < period) {
+      return;
+    }
+
+    var sumTR = highs[0] - lows[0];
+    for (int i = 1; i < period; i++) {
+      sumTR += trueRange(highs[i], lows[i], closes[i - 1]);
+    }
+    var prevATR = sumTR / period;
+    atr[period - 1] = prevATR;
+
+    for (int i = period; i < length; i++) {
+      prevATR = ((prevATR * (period - 1)) + trueRange(highs[i], lows[i], closes[i - 1])) / period;
+      atr[i] = prevATR;
+    }
+  }
+
+  private static double trueRange(double high, double low, double previousClose) {
+    var tr1 = high - low;
+    var tr2 = Math.abs(high - previousClose);
+    var tr3 = Math.abs(low - previousClose);
+    return Math.max(tr1, Math.max(tr2, tr3));
+  }
+
   /**
    * Returns the period used in the ATR calculation.
    *
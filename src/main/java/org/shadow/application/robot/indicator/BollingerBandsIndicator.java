@@ -1,8 +1,10 @@
 package org.shadow.application.robot.indicator;
 
 import java.util.Arrays;
+import org.shadow.application.metrics.jfr.IndicatorJfrEvent;
 import org.shadow.application.robot.indicator.exception.InsufficientDataException;
 import org.shadow.application.robot.indicator.model.BollingerBandsResult;
+import org.shadow.application.robot.indicator.streaming.StreamingBollingerBands;
 
 /**
  * The BollingerBandsIndicator calculates the Bollinger Bands for a given set of prices. Bollinger
@@ -42,6 +44,14 @@ public class BollingerBandsIndicator implements Indicator {
    *     the given period.
    */
   public BollingerBandsResult calculate(double[] prices) {
+    var event = new IndicatorJfrEvent();
+    event.begin();
+    var result = compute(prices);
+    event.commit("BollingerBands", getPeriod(), prices.length);
+    return result;
+  }
+
+  private BollingerBandsResult compute(double[] prices) {
     if (prices == null) {
       throw new InsufficientDataException("Prices array cannot be null.");
     }
@@ -70,6 +80,47 @@ public class BollingerBandsIndicator implements Indicator {
     return new BollingerBandsResult(upperBand, middleBand, lowerBand);
   }
 
+  /**
+   * Calculates the Bollinger Bands of the window ending at every price in one pass, sliding the
+   * mean and variance instead of recomputing them for every window, so a backtest over n bars
+   * costs O(n) instead of O(n * period).
+   *
+   * @param prices The array of prices to calculate the Bollinger Bands series for.
+   * @param upperBand The array receiving the upper band of the window ending at each index, at
+   *     least as long as the prices; NaN where there is not enough data for the given period.
+   * @param middleBand The array receiving the middle band, like the upper band.
+   * @param lowerBand The array receiving the lower band, like the upper band.
+   * @throws InsufficientDataException If the prices array is null.
+   */
+  public void calculateSeries(
+      double[] prices, double[] upperBand, double[] middleBand, double[] lowerBand) {
+    var event = new IndicatorJfrEvent();
+    event.begin();
+    computeSeries(prices, upperBand, middleBand, lowerBand);
+    event.commit("BollingerBands", getPeriod(), prices.length);
+  }
+
+  private void computeSeries(
+      double[] prices, double[] upperBand, double[] middleBand, double[] lowerBand) {
+    if (prices == null) {
+      throw new InsufficientDataException("Prices array cannot be null.");
+    }
+    if (upperBand.length < prices.length
+        || middleBand.length < prices.length
+        || lowerBand.length < prices.length) {
+      throw new IllegalArgumentException("Band arrays cannot be shorter than the prices array.");
+    }
+
+    var bands = new StreamingBollingerBands(period, standardDeviationMultiplier);
+    for (var i = 0; i < prices.length; i++) {
+      var price = prices[i];
+      bands.update(price, price, price);
+      upperBand[i] = bands.getUpperBand();
+      middleBand[i] = bands.getMiddleBand();
+      lowerBand[i] = bands.getLowerBand();
+    }
+  }
+
   @Override
   public int getPeriod() {
     return period;
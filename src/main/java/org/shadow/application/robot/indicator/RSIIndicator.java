@@ -1,5 +1,7 @@
 package org.shadow.application.robot.indicator;
 
+import java.util.Arrays;
+import org.shadow.application.metrics.jfr.IndicatorJfrEvent;
 import org.shadow.application.robot.indicator.exception.InsufficientDataException;
 
 /** RSIIndicator calculates the Relative Strength Index (RSI) for a set of prices. */
@@ -25,6 +27,14 @@ public class RSIIndicator implements Indicator {
    *     period.
    */
   public Double calculate(double[] prices) {
+    var event = new IndicatorJfrEvent();
+    event.begin();
+    var rsi = compute(prices);
+    event.commit("RSI", getPeriod(), prices.length);
+    return rsi;
+  }
+
+  private Double compute(double[] prices) {
     if (prices == null) {
       throw new InsufficientDataException("Prices array cannot be null.");
     }
@@ -55,6 +65,57 @@ public class RSIIndicator implements Indicator {
       avgLoss = ((avgLoss * (period - 1)) + losses[i]) / period;
     }
 
+    return toRSI(avgGain, avgLoss);
+  }
+
+  /**
+   * Calculates the RSI of every prefix of the prices in one pass, so a backtest over n bars costs
+   * O(n) instead of one {@link #calculate} per bar.
+   *
+   * @param prices The array of prices to calculate the RSI series for.
+   * @param rsi The array receiving the RSI of the prices up to each index, at least as long as the
+   *     prices; NaN where there is not enough data for the given period.
+   * @throws InsufficientDataException If the prices array is null.
+   */
+  public void calculateSeries(double[] prices, double[] rsi) {
+    var event = new IndicatorJfrEvent();
+    event.begin();
+    computeSeries(prices, rsi);
+    event.commit("RSI", getPeriod(), prices.length);
+  }
+
+  private void computeSeries(double[] prices, double[] rsi) {
+    if (prices == null) {
+      throw new InsufficientDataException("Prices array cannot be null.");
+    }
+    if (rsi.length < prices.length) {
+      throw new IllegalArgumentException("RSI array cannot be shorter than the prices array.");
+    }
+    Arrays.fill(rsi, 0, Math.min(period, prices.length), Double.NaN);
+    if (prices.length < period + 1) {
+      return;
+    }
+
+    var avgGain = 0.0;
+    var avgLoss = 0.0;
+    for (var i = 1; i <= period; i++) {
+      var change = prices[i] - prices[i - 1];
+      avgGain += Math.max(change, 0);
+      avgLoss += Math.max(-change, 0);
+    }
+    avgGain /= period;
+    avgLoss /= period;
+    rsi[period] = toRSI(avgGain, avgLoss);
+
+    for (var i = period + 1; i < prices.length; i++) {
+      var change = prices[i] - prices[i - 1];
+      avgGain = ((avgGain * (period - 1)) + Math.max(change, 0)) / period;
+      avgLoss = ((avgLoss * (period - 1)) + Math.max(-change, 0)) / period;
+      rsi[i] = toRSI(avgGain, avgLoss);
+    }
+  }
+
+  private static double toRSI(double avgGain, double avgLoss) {
     if (avgLoss == 0) {
       return 100.0;
     }
@@ -3,9 +3,11 @@ package org.shadow.application.robot.indicator;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
+import org.shadow.application.metrics.jfr.IndicatorJfrEvent;
 import org.shadow.application.robot.common.model.Bar;
 import org.shadow.application.robot.indicator.exception.InsufficientDataException;
 import org.shadow.application.robot.indicator.model.StochasticOscillatorResult;
+import org.shadow.application.robot.indicator.streaming.StreamingStochasticOscillator;
 
 /**
  * The StochasticOscillatorIndicator calculates the Stochastic Oscillator for a given set of bars.
@@ -38,6 +40,14 @@ public class StochasticOscillatorIndicator implements Indicator {
    * @throws InsufficientDataException if there is not enough data to perform the calculation
    */
   public StochasticOscillatorResult calculate(List<Bar> bars) {
+    var event = new IndicatorJfrEvent();
+    event.begin();
+    var result = compute(bars);
+    event.commit("StochasticOscillator", getPeriod(), bars.size());
+    return result;
+  }
+
+  private StochasticOscillatorResult compute(List<Bar> bars) {
     if (bars == null || bars.size() < getRequiredPeriodThreshold()) {
       throw new InsufficientDataException("Not enough data to calculate Stochastic Oscillator.");
     }
@@ -76,6 +86,47 @@ public class StochasticOscillatorIndicator implements Indicator {
     return new StochasticOscillatorResult(percentK, percentD);
   }
 
+  /**
+   * Calculates the Stochastic Oscillator of the bars ending at every index in one pass, keeping
+   * the highest high and lowest low of the period in monotonic queues instead of scanning the
+   * period for every bar, so a backtest over n bars costs O(n) instead of O(n * period).
+   *
+   * @param highs the high prices
+   * @param lows the low prices
+   * @param closes the close prices
+   * @param percentK the array receiving %K of the bars up to each index, at least as long as the
+   *     prices; NaN where there is not enough data to calculate %D
+   * @param percentD the array receiving %D, like %K
+   * @throws InsufficientDataException if a price array is null or the arrays differ in length
+   */
+  public void calculateSeries(
+      double[] highs, double[] lows, double[] closes, double[] percentK, double[] percentD) {
+    var event = new IndicatorJfrEvent();
+    event.begin();
+    computeSeries(highs, lows, closes, percentK, percentD);
+    event.commit("StochasticOscillator", getPeriod(), closes.length);
+  }
+
+  private void computeSeries(
+      double[] highs, double[] lows, double[] closes, double[] percentK, double[] percentD) {
+    if (highs == null || lows == null || closes == null) {
+      throw new InsufficientDataException("Price arrays cannot be null.");
+    }
+    if (highs.length != closes.length || lows.length != closes.length) {
+      throw new InsufficientDataException("Price arrays must have the same length.");
+    }
+    if (percentK.length < closes.length || percentD.length < closes.length) {
+      throw new IllegalArgumentException("%K and %D arrays cannot be shorter than the prices.");
+    }
+
+    var oscillator = new StreamingStochasticOscillator(period, dPeriod);
+    for (var i = 0; i < closes.length; i++) {
+      oscillator.update(highs[i], lows[i], closes[i]);
+      percentK[i] = oscillator.getPercentK();
+      percentD[i] = oscillator.getPercentD();
+    }
+  }
+
   @Override
   public int getPeriod() {
     return period;
@@ -0,0 +1,124 @@
+package org.shadow.application.robot.indicator.streaming;
+
+/**
+ * Streaming Average True Range with the Wilder smoothing of {@link
+ * org.shadow.application.robot.indicator.ATRIndicator}, seeded by the simple average of the first
+ * period true ranges. The true range of the first bar is its high-low range.
+ */
+public class StreamingATR implements StreamingIndicator {
+
+  private final int period;
+
+  private long count;
+  private double previousClose;
+  private double trueRangeSum;
+  private double atr;
+
+  /**
+   * @param period the number of periods to use in the ATR calculation
+   */
+  public StreamingATR(int period) {
+    if (period <= 0) {
+      throw new IllegalArgumentException("Period must be positive");
+    }
+    this.period = period;
+  }
+
+  @Override
+  public void warmUp(double[] highs, double[] lows, double[] closes, int from, int to) {
+    var i = from;
+    for (; i < to && count < period; i++) {
+      update(highs[i], lows[i], closes[i]);
+    }
+
+    var value = atr;
+    var previous = previousClose;
+    for (var j = i; j < to; j++) {
+      var high = highs[j];
+      var low = lows[j];
+      var trueRange =
+          Math.max(high - low, Math.max(Math.abs(high - previous), Math.abs(low - previous)));
+      value = ((value * (period - 1)) + trueRange) / period;
+      previous = closes[j];
+    }
+    atr = value;
+    previousClose = previous;
+    count += to - i;
+  }
+
+  @Override
+  public void update(double high, double low, double close) {
+    double trueRange;
+    if (count == 0) {
+      trueRange = high - low;
+    } else {
+      var tr1 = high - low;
+      var tr2 = Math.abs(high - previousClose);
+      var tr3 = Math.abs(low - previousClose);
+      trueRange = Math.max(tr1, Math.max(tr2, tr3));
+    }
+
+    if (count < period) {
+      trueRangeSum += trueRange;
+      if (count == period - 1) {
+        atr = trueRangeSum / period;
+      }
+    } else {
+      atr = ((atr * (period - 1)) + trueRange) / period;
+    }
+    previousClose = close;
+    count++;
+  }
+
+  @Override
+  public boolean isReady() {
+    return count >= period;
+  }
+
+  /**
+   * Returns the ATR of the bars fed so far.
+   *
+   * @return the ATR, NaN if the indicator is not ready
+   */
+  public double getATR() {
+    return isReady() ? atr : Double.NaN;
+  }
+
+  @Override
+  public double[] getValues() {
+    return new double[] {getATR()};
+  }
+
+  @Override
+  public void reset() {
+    count = 0;
+    previousClose = 0.0;
+    trueRangeSum = 0.0;
+    atr = 0.0;
+  }
+
+  @Override
+  public StreamingATR copy() {
+    var copy = new StreamingATR(period);
+    copy.count = count;
+    copy.previousClose = previousClose;
+    copy.trueRangeSum = trueRangeSum;
+    copy.atr = atr;
+    return copy;
+  }
+
+  @Override
+  public String getName() {
+    return "ATR";
+  }
+
+  @Override
+  public int getPeriod() {
+    return period;
+  }
+
+  @Override
+  public int getRequiredPeriodThreshold() {
+    return period;
+  }
+}
@@ -0,0 +1,158 @@
+package org.shadow.application.robot.indicator.streaming;
+
+/**
+ * Streaming Bollinger Bands over the last period closes, computed like {@link
+ * org.shadow.application.robot.indicator.BollingerBandsIndicator}. The closes are kept in a ring;
+ * each update slides the mean and the sum of squared deviations in O(1), and both are recomputed
+ * exactly every period updates, so rounding errors cannot accumulate.
+ */
+public class StreamingBollingerBands implements StreamingIndicator {
+
+  private final int period;
+  private final double standardDeviationMultiplier;
+  private final double[] window;
+
+  private long count;
+  private int next;
+  private double mean;
+  private double squaredDeviationSum;
+
+  /**
+   * @param period the period over which to calculate the moving average and standard deviation
+   * @param standardDeviationMultiplier the number of standard deviations to use for the bands
+   */
+  public StreamingBollingerBands(int period, double standardDeviationMultiplier) {
+    if (period <= 0) {
+      throw new IllegalArgumentException("Period must be positive.");
+    }
+    if (standardDeviationMultiplier <= 0) {
+      throw new IllegalArgumentException("Standard deviation multiplier must be positive.");
+    }
+    this.period = period;
+    this.standardDeviationMultiplier = standardDeviationMultiplier;
+    this.window = new double[period];
+  }
+
+  @Override
+  public void warmUp(double[] highs, double[] lows, double[] closes, int from, int to) {
+    // Only the closes still in the window after the range matter
+    for (var i = Math.max(from, to - period); i < to; i++) {
+      window[next] = closes[i];
+      next = next + 1 == period ? 0 : next + 1;
+    }
+    count += to - from;
+    if (count >= period) {
+      recompute();
+    }
+  }
+
+  @Override
+  public void update(double high, double low, double close) {
+    var oldest = window[next];
+    window[next] = close;
+    next = next + 1 == period ? 0 : next + 1;
+    count++;
+
+    if (count < period) {
+      return;
+    }
+    if (count == period || next == 0) {
+      recompute();
+      return;
+    }
+    var previousMean = mean;
+    mean += (close - oldest) / period;
+    squaredDeviationSum += (close - oldest) * (close - mean + oldest - previousMean);
+  }
+
+  private void recompute() {
+    var sum = 0.0;
+    for (var i = 0; i < period; i++) {
+      sum += window[(next + i) % period];
+    }
+    mean = sum / period;
+
+    var deviationSum = 0.0;
+    for (var i = 0; i < period; i++) {
+      var deviation = window[(next + i) % period] - mean;
+      deviationSum += deviation * deviation;
+    }
+    squaredDeviationSum = deviationSum;
+  }
+
+  @Override
+  public boolean isReady() {
+    return count >= period;
+  }
+
+  /**
+   * Returns the middle band, the simple moving average of the closes.
+   *
+   * @return the middle band, NaN if the indicator is not ready
+   */
+  public double getMiddleBand() {
+    return isReady() ? mean : Double.NaN;
+  }
+
+  /**
+   * Returns the upper band.
+   *
+   * @return the upper band, NaN if the indicator is not ready
+   */
+  public double getUpperBand() {
+    return getMiddleBand() + standardDeviationMultiplier * getStandardDeviation();
+  }
+
+  /**
+   * Returns the lower band.
+   *
+   * @return the lower band, NaN if the indicator is not ready
+   */
+  public double getLowerBand() {
+    return getMiddleBand() - standardDeviationMultiplier * getStandardDeviation();
+  }
+
+  private double getStandardDeviation() {
+    // The sliding update may leave a tiny negative sum for a flat window
+    return Math.sqrt(Math.max(squaredDeviationSum, 0.0) / period);
+  }
+
+  @Override
+  public double[] getValues() {
+    return new double[] {getUpperBand(), getMiddleBand(), getLowerBand()};
+  }
+
+  @Override
+  public void reset() {
+    count = 0;
+    next = 0;
+    mean = 0.0;
+    squaredDeviationSum = 0.0;
+  }
+
+  @Override
+  public StreamingBollingerBands copy() {
+    var copy = new StreamingBollingerBands(period, standardDeviationMultiplier);
+    System.arraycopy(window, 0, copy.window, 0, period);
+    copy.count = count;
+    copy.next = next;
+    copy.mean = mean;
+    copy.squaredDeviationSum = squaredDeviationSum;
+    return copy;
+  }
+
+  @Override
+  public String getName() {
+    return "BollingerBands";
+  }
+
+  @Override
+  public int getPeriod() {
+    return period;
+  }
+
+  @Override
+  public int getRequiredPeriodThreshold() {
+    return period;
+  }
+}
@@ -0,0 +1,62 @@
+package org.shadow.application.robot.indicator.streaming;
+
+import org.shadow.application.robot.indicator.Indicator;
+
+/**
+ * An indicator keeping its state between bars, so every new bar costs one O(1) update instead of a
+ * computation over the whole window. The state is primed from history by a batch kernel computing
+ * exactly the state the updates would have reached.
+ */
+public interface StreamingIndicator extends Indicator {
+
+  /**
+   * Feeds a range of bars through the batch kernel, continuing from the current state.
+   *
+   * @param highs the high prices
+   * @param lows the low prices
+   * @param closes the close prices
+   * @param from the index of the first bar to feed, inclusive
+   * @param to the index of the last bar to feed, exclusive
+   */
+  void warmUp(double[] highs, double[] lows, double[] closes, int from, int to);
+
+  /**
+   * Feeds the next bar.
+   *
+   * @param high the high price of the bar
+   * @param low the low price of the bar
+   * @param close the close price of the bar
+   */
+  void update(double high, double low, double close);
+
+  /**
+   * Returns whether enough bars were fed for the values of the indicator to be defined.
+   *
+   * @return true if the values are defined
+   */
+  boolean isReady();
+
+  /**
+   * Returns the current values of the indicator, for cross-checks and diagnostics.
+   *
+   * @return the values, in the order of the getters of the indicator
+   */
+  double[] getValues();
+
+  /** Discards the state, as if no bar was fed. */
+  void reset();
+
+  /**
+   * Returns an independent copy of the indicator and its state.
+   *
+   * @return the copy
+   */
+  StreamingIndicator copy();
+
+  /**
+   * Returns the name of the indicator, as recorded by indicator events.
+   *
+   * @return the name
+   */
+  String getName();
+}
@@ -0,0 +1,131 @@
+package org.shadow.application.robot.indicator.streaming;
+
+import java.util.Arrays;
+import java.util.List;
+import org.shadow.application.metrics.jfr.IndicatorJfrEvent;
+import org.shadow.application.robot.common.model.Bar;
+
+/**
+ * Keeps a streaming indicator in step with the bar window of a robot. The window is fed once
+ * through the batch kernel of the indicator; afterwards only the bars appended to the window since
+ * the previous call are fed through O(1) updates. A window not continuing the bars fed so far, such
+ * as the one of another symbol, warms the indicator up again from scratch.
+ *
+ * <p>Every warm-up cross-checks the kernel against the updates: the last {@value
+ * #CROSS_CHECK_BARS} bars are fed through both, from the same state, and the values must agree
+ * within a relative tolerance of {@value #CROSS_CHECK_TOLERANCE}, so the cross-check costs a few
+ * updates on top of the single batch pass.
+ *
+ * <p>Not thread-safe; a feed belongs to one explorer.
+ *
+ * @param <T> the type of the indicator
+ */
+public class StreamingIndicatorFeed<T extends StreamingIndicator> {
+
+  static final int CROSS_CHECK_BARS = 16;
+  static final double CROSS_CHECK_TOLERANCE = 1e-9;
+
+  private final T indicator;
+
+  private Bar lastBar;
+
+  /**
+   * @param indicator the indicator fed by this feed
+   */
+  public StreamingIndicatorFeed(T indicator) {
+    this.indicator = indicator;
+  }
+
+  /**
+   * Brings the indicator in step with a bar window.
+   *
+   * @param bars the bar window, oldest first
+   * @return the indicator, with the last bar of the window fed
+   */
+  public T sync(List<Bar> bars) {
+    if (lastBar != null) {
+      for (var i = bars.size() - 1; i >= 0; i--) {
+        if (bars.get(i).equals(lastBar)) {
+          for (var j = i + 1; j < bars.size(); j++) {
+            var bar = bars.get(j);
+            indicator.update(
+                bar.high().doubleValue(), bar.low().doubleValue(), bar.close().doubleValue());
+          }
+          lastBar = bars.getLast();
+          return indicator;
+        }
+      }
+    }
+    warmUp(bars);
+    return indicator;
+  }
+
+  /**
+   * Discards the state of the indicator and feeds a bar window through its batch kernel.
+   *
+   * @param bars the bar window, oldest first
+   * @throws IllegalStateException if the streaming updates disagree with the batch kernel
+   */
+  public void warmUp(List<Bar> bars) {
+    var event = new IndicatorJfrEvent();
+    event.begin();
+    var length = bars.size();
+    var highs = new double[length];
+    var lows = new double[length];
+    var closes = new double[length];
+    for (var i = 0; i < length; i++) {
+      var bar = bars.get(i);
+      highs[i] = bar.high().doubleValue();
+      lows[i] = bar.low().doubleValue();
+      closes[i] = bar.close().doubleValue();
+    }
+
+    indicator.reset();
+    var checkpoint = Math.max(0, length - CROSS_CHECK_BARS);
+    indicator.warmUp(highs, lows, closes, 0, checkpoint);
+    var streamed = indicator.copy();
+    indicator.warmUp(highs, lows, closes, checkpoint, length);
+    for (var i = checkpoint; i < length; i++) {
+      streamed.update(highs[i], lows[i], closes[i]);
+    }
+    crossCheck(streamed);
+
+    lastBar = length == 0 ? null : bars.getLast();
+    event.commit(indicator.getName(), indicator.getPeriod(), length);
+  }
+
+  private void crossCheck(StreamingIndicator streamed) {
+    var expected = indicator.getValues();
+    var actual = streamed.getValues();
+    var agree = indicator.isReady() == streamed.isReady() && expected.length == actual.length;
+    for (var i = 0; agree && i < expected.length; i++) {
+      agree = isClose(expected[i], actual[i]);
+    }
+    if (!agree) {
+      throw new IllegalStateException(
+          String.format(
+              "Streaming %s %s disagrees with its batch warm-up %s",
+              indicator.getName(), Arrays.toString(actual), Arrays.toString(expected)));
+    }
+  }
+
+  private static boolean isClose(double expected, double actual) {
+    if (expected == actual) {
+      return true;
+    }
+    if (Double.isNaN(expected) || Double.isNaN(actual)) {
+      return Double.isNaN(expected) && Double.isNaN(actual);
+    }
+    var scale = Math.max(1.0, Math.max(Math.abs(expected), Math.abs(actual)));
+    return Math.abs(expected - actual) <= CROSS_CHECK_TOLERANCE * scale;
+  }
+
+  /**
+   * Returns the indicator fed by this feed.
+   *
+   * @return the indicator
+   */
+  public T getIndicator() {
+    return indicator;
+  }
+}
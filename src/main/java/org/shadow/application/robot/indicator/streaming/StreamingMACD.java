@@ -0,0 +1,174 @@
+package org.shadow.application.robot.indicator.streaming;
+
+/**
+ * Streaming Moving Average Convergence Divergence computed like {@link
+ * org.shadow.application.robot.indicator.MACDIndicator}: both EMAs are seeded by the simple average
+ * of their first period prices and updated from the end of the long period on, and the signal line
+ * is an EMA of the MACD line starting once the signal period of MACD values is available.
+ */
+public class StreamingMACD implements StreamingIndicator {
+
+  private final int shortPeriod;
+  private final int longPeriod;
+  private final int signalPeriod;
+  private final double shortAlpha;
+  private final double longAlpha;
+  private final double signalAlpha;
+
+  private long count;
+  private double shortSum;
+  private double longSum;
+  private double shortEMA;
+  private double longEMA;
+  private double macd;
+  private double signalEMA;
+
+  /**
+   * @param shortPeriod the period of the short-term EMA
+   * @param longPeriod the period of the long-term EMA, not shorter than the short one
+   * @param signalPeriod the period of the signal line EMA
+   */
+  public StreamingMACD(int shortPeriod, int longPeriod, int signalPeriod) {
+    if (shortPeriod <= 0 || longPeriod <= 0 || signalPeriod <= 0) {
+      throw new IllegalArgumentException("Period values must be positive.");
+    }
+    if (shortPeriod > longPeriod) {
+      throw new IllegalArgumentException("Short period must not be longer than the long period.");
+    }
+    this.shortPeriod = shortPeriod;
+    this.longPeriod = longPeriod;
+    this.signalPeriod = signalPeriod;
+    this.shortAlpha = 2.0 / (shortPeriod + 1);
+    this.longAlpha = 2.0 / (longPeriod + 1);
+    this.signalAlpha = 2.0 / (signalPeriod + 1);
+  }
+
+  @Override
+  public void warmUp(double[] highs, double[] lows, double[] closes, int from, int to) {
+    var i = from;
+    for (; i < to && count < longPeriod; i++) {
+      update(highs[i], lows[i], closes[i]);
+    }
+
+    var shortValue = shortEMA;
+    var longValue = longEMA;
+    var macdValue = macd;
+    var signalValue = signalEMA;
+    var signalStart = longPeriod + signalPeriod - 1;
+    var index = count;
+    for (var j = i; j < to; j++, index++) {
+      var price = closes[j];
+      shortValue = price * shortAlpha + shortValue * (1 - shortAlpha);
+      longValue = price * longAlpha + longValue * (1 - longAlpha);
+      macdValue = shortValue - longValue;
+      if (index >= signalStart) {
+        signalValue = macdValue * signalAlpha + signalValue * (1 - signalAlpha);
+      }
+    }
+    shortEMA = shortValue;
+    longEMA = longValue;
+    macd = macdValue;
+    signalEMA = signalValue;
+    count = index;
+  }
+
+  @Override
+  public void update(double high, double low, double close) {
+    if (count < longPeriod) {
+      if (count < shortPeriod) {
+        shortSum += close;
+        if (count == shortPeriod - 1) {
+          shortEMA = shortSum / shortPeriod;
+        }
+      }
+      longSum += close;
+      if (count == longPeriod - 1) {
+        longEMA = longSum / longPeriod;
+      }
+    } else {
+      shortEMA = close * shortAlpha + shortEMA * (1 - shortAlpha);
+      longEMA = close * longAlpha + longEMA * (1 - longAlpha);
+      macd = shortEMA - longEMA;
+      if (count >= longPeriod + signalPeriod - 1) {
+        signalEMA = macd * signalAlpha + signalEMA * (1 - signalAlpha);
+      }
+    }
+    count++;
+  }
+
+  @Override
+  public boolean isReady() {
+    return count >= longPeriod + signalPeriod;
+  }
+
+  /**
+   * Returns the MACD line of the bars fed so far.
+   *
+   * @return the MACD line, NaN if the indicator is not ready
+   */
+  public double getMACDLine() {
+    return isReady() ? macd : Double.NaN;
+  }
+
+  /**
+   * Returns the signal line of the bars fed so far.
+   *
+   * @return the signal line, NaN if the indicator is not ready
+   */
+  public double getSignalLine() {
+    return isReady() ? signalEMA : Double.NaN;
+  }
+
+  /**
+   * Returns the difference between the MACD line and the signal line.
+   *
+   * @return the histogram, NaN if the indicator is not ready
+   */
+  public double getHistogram() {
+    return isReady() ? macd - signalEMA : Double.NaN;
+  }
+
+  @Override
+  public double[] getValues() {
+    return new double[] {getMACDLine(), getSignalLine()};
+  }
+
+  @Override
+  public void reset() {
+    count = 0;
+    shortSum = 0.0;
+    longSum = 0.0;
+    shortEMA = 0.0;
+    longEMA = 0.0;
+    macd = 0.0;
+    signalEMA = 0.0;
+  }
+
+  @Override
+  public StreamingMACD copy() {
+    var copy = new StreamingMACD(shortPeriod, longPeriod, signalPeriod);
+    copy.count = count;
+    copy.shortSum = shortSum;
+    copy.longSum = longSum;
+    copy.shortEMA = shortEMA;
+    copy.longEMA = longEMA;
+    copy.macd = macd;
+    copy.signalEMA = signalEMA;
+    return copy;
+  }
+
+  @Override
+  public String getName() {
+    return "MACD";
+  }
+
+  @Override
+  public int getPeriod() {
+    return longPeriod + signalPeriod;
+  }
+
+  @Override
+  public int getRequiredPeriodThreshold() {
+    return longPeriod + signalPeriod;
+  }
+}
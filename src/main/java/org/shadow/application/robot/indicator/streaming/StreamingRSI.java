@@ -0,0 +1,133 @@
+package org.shadow.application.robot.indicator.streaming;
+
+/**
+ * Streaming Relative Strength Index with the Wilder smoothing of {@link
+ * org.shadow.application.robot.indicator.RSIIndicator}, seeded by the simple average of the first
+ * period price changes.
+ */
+public class StreamingRSI implements StreamingIndicator {
+
+  private final int period;
+
+  private long count;
+  private double previousClose;
+  private double gainSum;
+  private double lossSum;
+  private double averageGain;
+  private double averageLoss;
+
+  /**
+   * @param period the period over which to calculate the RSI
+   */
+  public StreamingRSI(int period) {
+    if (period <= 0) {
+      throw new IllegalArgumentException("Period must be positive.");
+    }
+    this.period = period;
+  }
+
+  @Override
+  public void warmUp(double[] highs, double[] lows, double[] closes, int from, int to) {
+    var i = from;
+    for (; i < to && count <= period; i++) {
+      update(highs[i], lows[i], closes[i]);
+    }
+
+    var gain = averageGain;
+    var loss = averageLoss;
+    var previous = previousClose;
+    for (var j = i; j < to; j++) {
+      var change = closes[j] - previous;
+      gain = ((gain * (period - 1)) + Math.max(change, 0)) / period;
+      loss = ((loss * (period - 1)) + Math.max(-change, 0)) / period;
+      previous = closes[j];
+    }
+    averageGain = gain;
+    averageLoss = loss;
+    previousClose = previous;
+    count += to - i;
+  }
+
+  @Override
+  public void update(double high, double low, double close) {
+    if (count > 0) {
+      var change = close - previousClose;
+      if (count <= period) {
+        gainSum += Math.max(change, 0);
+        lossSum += Math.max(-change, 0);
+        if (count == period) {
+          averageGain = gainSum / period;
+          averageLoss = lossSum / period;
+        }
+      } else {
+        averageGain = ((averageGain * (period - 1)) + Math.max(change, 0)) / period;
+        averageLoss = ((averageLoss * (period - 1)) + Math.max(-change, 0)) / period;
+      }
+    }
+    previousClose = close;
+    count++;
+  }
+
+  @Override
+  public boolean isReady() {
+    return count > period;
+  }
+
+  /**
+   * Returns the RSI of the bars fed so far.
+   *
+   * @return the RSI, NaN if the indicator is not ready
+   */
+  public double getRSI() {
+    if (!isReady()) {
+      return Double.NaN;
+    }
+    if (averageLoss == 0) {
+      return 100.0;
+    }
+    var rs = averageGain / averageLoss;
+    return 100 - (100 / (1 + rs));
+  }
+
+  @Override
+  public double[] getValues() {
+    return new double[] {getRSI()};
+  }
+
+  @Override
+  public void reset() {
+    count = 0;
+    previousClose = 0.0;
+    gainSum = 0.0;
+    lossSum = 0.0;
+    averageGain = 0.0;
+    averageLoss = 0.0;
+  }
+
+  @Override
+  public StreamingRSI copy() {
+    var copy = new StreamingRSI(period);
+    copy.count = count;
+    copy.previousClose = previousClose;
+    copy.gainSum = gainSum;
+    copy.lossSum = lossSum;
+    copy.averageGain = averageGain;
+    copy.averageLoss = averageLoss;
+    return copy;
+  }
+
+  @Override
+  public String getName() {
+    return "RSI";
+  }
+
+  @Override
+  public int getPeriod() {
+    return period;
+  }
+
+  @Override
+  public int getRequiredPeriodThreshold() {
+    return period + 1;
+  }
+}
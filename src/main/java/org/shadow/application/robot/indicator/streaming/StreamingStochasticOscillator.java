@@ -0,0 +1,186 @@
+package org.shadow.application.robot.indicator.streaming;
+
+/**
+ * Streaming Stochastic Oscillator computed like {@link
+ * org.shadow.application.robot.indicator.StochasticOscillatorIndicator}: %K from the highest high
+ * and lowest low of the last period bars, %D the average of the last dPeriod %K values. The
+ * extremes are kept in monotonic queues, so an update costs amortized O(1) instead of a scan of the
+ * period.
+ */
+public class StreamingStochasticOscillator implements StreamingIndicator {
+
+  private final int period;
+  private final int dPeriod;
+  private final SlidingMaximum highestHighs;
+  private final SlidingMaximum negatedLowestLows;
+  private final double[] kValues;
+
+  private long count;
+  private int nextK;
+
+  /**
+   * @param period the look-back period for %K calculation
+   * @param dPeriod the period over which to average %K to get %D
+   */
+  public StreamingStochasticOscillator(int period, int dPeriod) {
+    if (period <= 0 || dPeriod <= 0) {
+      throw new IllegalArgumentException("Period and dPeriod must be positive integers.");
+    }
+    this.period = period;
+    this.dPeriod = dPeriod;
+    this.highestHighs = new SlidingMaximum(period);
+    this.negatedLowestLows = new SlidingMaximum(period);
+    this.kValues = new double[dPeriod];
+  }
+
+  @Override
+  public void warmUp(double[] highs, double[] lows, double[] closes, int from, int to) {
+    // Only the bars the last dPeriod %K values look back on matter
+    var start = Math.max(from, to - (period + dPeriod - 1));
+    count += start - from;
+    for (var i = start; i < to; i++) {
+      highestHighs.push(highs[i], count);
+      negatedLowestLows.push(-lows[i], count);
+      count++;
+      if (count >= period && i >= to - dPeriod) {
+        addK(closes[i]);
+      }
+    }
+  }
+
+  @Override
+  public void update(double high, double low, double close) {
+    highestHighs.push(high, count);
+    negatedLowestLows.push(-low, count);
+    count++;
+    if (count >= period) {
+      addK(close);
+    }
+  }
+
+  private void addK(double close) {
+    var highestHigh = highestHighs.get();
+    var lowestLow = -negatedLowestLows.get();
+    kValues[nextK] = ((close - lowestLow) / (highestHigh - lowestLow)) * 100.0;
+    nextK = nextK + 1 == dPeriod ? 0 : nextK + 1;
+  }
+
+  @Override
+  public boolean isReady() {
+    return count >= period + dPeriod - 1;
+  }
+
+  /**
+   * Returns %K of the latest bar.
+   *
+   * @return %K, NaN if the indicator is not ready
+   */
+  public double getPercentK() {
+    return isReady() ? kValues[nextK == 0 ? dPeriod - 1 : nextK - 1] : Double.NaN;
+  }
+
+  /**
+   * Returns %D, the average of the last dPeriod %K values.
+   *
+   * @return %D, NaN if the indicator is not ready
+   */
+  public double getPercentD() {
+    if (!isReady()) {
+      return Double.NaN;
+    }
+    var sumK = 0.0;
+    for (var i = 0; i < dPeriod; i++) {
+      sumK += kValues[(nextK + i) % dPeriod];
+    }
+    return sumK / dPeriod;
+  }
+
+  @Override
+  public double[] getValues() {
+    return new double[] {getPercentK(), getPercentD()};
+  }
+
+  @Override
+  public void reset() {
+    count = 0;
+    nextK = 0;
+    highestHighs.reset();
+    negatedLowestLows.reset();
+  }
+
+  @Override
+  public StreamingStochasticOscillator copy() {
+    var copy = new StreamingStochasticOscillator(period, dPeriod);
+    copy.highestHighs.copyFrom(highestHighs);
+    copy.negatedLowestLows.copyFrom(negatedLowestLows);
+    System.arraycopy(kValues, 0, copy.kValues, 0, dPeriod);
+    copy.count = count;
+    copy.nextK = nextK;
+    return copy;
+  }
+
+  @Override
+  public String getName() {
+    return "StochasticOscillator";
+  }
+
+  @Override
+  public int getPeriod() {
+    return period;
+  }
+
+  @Override
+  public int getRequiredPeriodThreshold() {
+    return period + dPeriod - 1;
+  }
+
+  /**
+   * Maximum of the values pushed at the last period positions, kept as a queue of decreasing
+   * values; a value is dropped once a later one is not smaller or it leaves the period.
+   */
+  private static final class SlidingMaximum {
+
+    private final int period;
+    private final double[] values;
+    private final long[] positions;
+
+    private int head;
+    private int size;
+
+    private SlidingMaximum(int period) {
+      this.period = period;
+      this.values = new double[period];
+      this.positions = new long[period];
+    }
+
+    private void push(double value, long position) {
+      while (size > 0 && positions[head] <= position - period) {
+        head = head + 1 == period ? 0 : head + 1;
+        size--;
+      }
+      while (size > 0 && values[(head + size - 1) % period] <= value) {
+        size--;
+      }
+      var slot = (head + size) % period;
+      values[slot] = value;
+      positions[slot] = position;
+      size++;
+    }
+
+    private double get() {
+      return values[head];
+    }
+
+    private void reset() {
+      head = 0;
+      size = 0;
+    }
+
+    private void copyFrom(SlidingMaximum other) {
+      System.arraycopy(other.values, 0, values, 0, period);
+      System.arraycopy(other.positions, 0, positions, 0, period);
+      head = other.head;
+      size = other.size;
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package org.shadow.application.robot.pipeline;
+
+import java.util.concurrent.locks.LockSupport;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A pipeline stage that drains its input ring buffer on a dedicated thread, hands every event to a
+ * {@link StageHandler} and forwards the result to the next stage buffer. When the next stage is
+ * full the stage waits instead of dropping, so back-pressure propagates upstream.
+ *
+ * @param <E> the event slot type
+ */
+public class PipelineStage<E> implements Runnable {
+
+  private static final int SPIN_TRIES = 100;
+  private static final int YIELD_TRIES = 100;
+
+  private final Logger logger = LogManager.getLogger(PipelineStage.class);
+
+  private final SpscRingBuffer<E> input;
+  private final SpscRingBuffer<E> output;
+  private final StageHandler<E> handler;
+  private final StageMetrics metrics;
+
+  private volatile boolean running = true;
+  private volatile Thread runner;
+
+  /**
+   * Constructs a pipeline stage.
+   *
+   * @param name the stage name used for metrics and logging
+   * @param input the buffer this stage consumes
+   * @param output the buffer of the next stage, or null if this is the last stage
+   * @param handler the event handler
+   */
+  public PipelineStage(
+      String name, SpscRingBuffer<E> input, SpscRingBuffer<E> output, StageHandler<E> handler) {
+    this.input = input;
+    this.output = output;
+    this.handler = handler;
+    this.metrics = new StageMetrics(name);
+  }
+
+  @Override
+  public void run() {
+    runner = Thread.currentThread();
+    var idleCounter = 0;
+    while (running) {
+      var event = input.peek();
+      if (event == null) {
+        if (spin(idleCounter)) {
+          idleCounter++;
+        } else {
+          // Unparked by the producer publishing the next event, or by stop
+          input.awaitPublished();
+        }
+        continue;
+      }
+      idleCounter = 0;
+
+      var outputSlot = output != null ? claimOutput() : null;
+      if (output != null && outputSlot == null) {
+        // Stage was stopped while waiting for the next stage to free a slot
+        return;
+      }
+
+      var startNanos = System.nanoTime();
+      var forward = false;
+      try {
+        forward = handler.handle(event, outputSlot);
+      } catch (Exception e) {
+        logger.error("Stage {} failed to process event", metrics.getStageName(), e);
+      } finally {
+        input.release();
+      }
+      if (forward && output != null) {
+        output.publish();
+      }
+      metrics.recordProcessed(System.nanoTime() - startNanos, input.size());
+    }
+  }
+
+  public void stop() {
+    running = false;
+    var thread = runner;
+    if (thread != null) {
+      LockSupport.unpark(thread);
+    }
+  }
+
+  public StageMetrics getMetrics() {
+    return metrics;
+  }
+
+  public SpscRingBuffer<E> getInput() {
+    return input;
+  }
+
+  private E claimOutput() {
+    var idleCounter = 0;
+    var slot = output.claim();
+    if (slot == null) {
+      metrics.recordBackpressureWait();
+    }
+    while (slot == null && running) {
+      if (spin(idleCounter)) {
+        idleCounter++;
+      } else {
+        // Unparked by the next stage releasing a slot, or by stop
+        output.awaitFree();
+      }
+      slot = output.claim();
+    }
+    return slot;
+  }
+
+  /** Spins, then yields while the wait is short; returns false once the caller should park. */
+  private static boolean spin(int idleCounter) {
+    if (idleCounter < SPIN_TRIES) {
+      Thread.onSpinWait();
+      return true;
+    }
+    if (idleCounter < SPIN_TRIES + YIELD_TRIES) {
+      Thread.yield();
+      return true;
+    }
+    return false;
+  }
+}
@@ -0,0 +1,149 @@
+package org.shadow.application.robot.pipeline;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * A bounded single-producer/single-consumer ring buffer with preallocated slots. The producer
+ * claims the next free slot, fills it in place and publishes it; the consumer peeks the oldest
+ * published slot and releases it once processed. Slots are reused, so passing an event through the
+ * buffer allocates nothing.
+ *
+ * <p>Exactly one thread may call {@link #claim()}/{@link #publish()}/{@link #awaitFree()} and
+ * exactly one (other) thread may call {@link #peek()}/{@link #release()}/{@link #awaitPublished()}.
+ * A side that ran out of work parks in its await method and is unparked by the other side, so an
+ * idle pipeline costs no CPU and the first event after a pause is not delayed by a park timeout.
+ *
+ * @param <E> the type of the preallocated slots
+ */
+public class SpscRingBuffer<E> {
+
+  private final E[] slots;
+  private final int mask;
+
+  // Next sequence to be consumed; written by the consumer only
+  private final AtomicLong head = new AtomicLong();
+  // Next sequence to be published; written by the producer only
+  private final AtomicLong tail = new AtomicLong();
+
+  // Producer-local view of head, refreshed only when the buffer looks full
+  private long cachedHead;
+  // Consumer-local view of tail, refreshed only when the buffer looks empty
+  private long cachedTail;
+
+  // Consumer parked on the empty buffer, unparked by the next publish
+  private volatile Thread parkedConsumer;
+  // Producer parked on the full buffer, unparked by the next release
+  private volatile Thread parkedProducer;
+
+  /**
+   * Constructs a ring buffer and preallocates every slot.
+   *
+   * @param capacity the number of slots; must be a positive power of two
+   * @param slotFactory creates the slot instances up front
+   * @throws IllegalArgumentException if the capacity is not a positive power of two
+   */
+  @SuppressWarnings("unchecked")
+  public SpscRingBuffer(int capacity, Supplier<E> slotFactory) {
+    if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("Capacity must be a positive power of two");
+    }
+    this.slots = (E[]) new Object[capacity];
+    for (int i = 0; i < capacity; i++) {
+      slots[i] = slotFactory.get();
+    }
+    this.mask = capacity - 1;
+  }
+
+  /**
+   * Claims the next free slot for writing. The slot becomes visible to the consumer only after
+   * {@link #publish()}.
+   *
+   * @return the slot to fill, or null if the buffer is full
+   */
+  public E claim() {
+    var sequence = tail.get();
+    if (sequence - cachedHead >= slots.length) {
+      cachedHead = head.get();
+      if (sequence - cachedHead >= slots.length) {
+        return null;
+      }
+    }
+    return slots[(int) sequence & mask];
+  }
+
+  /** Publishes the slot returned by the last successful {@link #claim()}. */
+  public void publish() {
+    // A volatile write, so a consumer about to park either sees the slot or is seen parked
+    tail.set(tail.get() + 1);
+    var consumer = parkedConsumer;
+    if (consumer != null) {
+      LockSupport.unpark(consumer);
+    }
+  }
+
+  /**
+   * Parks the producer until the consumer releases a slot. Returns at once if a slot is free, and
+   * may return spuriously, so callers claim again in a loop.
+   */
+  public void awaitFree() {
+    parkedProducer = Thread.currentThread();
+    if (claim() == null) {
+      LockSupport.park(this);
+    }
+    parkedProducer = null;
+  }
+
+  /**
+   * Returns the oldest published slot without consuming it.
+   *
+   * @return the slot to read, or null if the buffer is empty
+   */
+  public E peek() {
+    var sequence = head.get();
+    if (sequence >= cachedTail) {
+      cachedTail = tail.get();
+      if (sequence >= cachedTail) {
+        return null;
+      }
+    }
+    return slots[(int) sequence & mask];
+  }
+
+  /** Releases the slot returned by the last successful {@link #peek()} back to the producer. */
+  public void release() {
+    // A volatile write, so a producer about to park either sees the slot or is seen parked
+    head.set(head.get() + 1);
+    var producer = parkedProducer;
+    if (producer != null) {
+      LockSupport.unpark(producer);
+    }
+  }
+
+  /**
+   * Parks the consumer until the producer publishes a slot. Returns at once if a slot is
+   * published, and may return spuriously, so callers peek again in a loop.
+   */
+  public void awaitPublished() {
+    parkedConsumer = Thread.currentThread();
+    if (peek() == null) {
+      LockSupport.park(this);
+    }
+    parkedConsumer = null;
+  }
+
+  /**
+   * Returns the number of published but not yet released slots. The value is a snapshot and may
+   * be stale by the time it is read.
+   *
+   * @return the current queue depth
+   */
+  public int size() {
+    return (int) Math.max(0, tail.get() - head.get());
+  }
+
+  public int capacity() {
+    return slots.length;
+  }
+}
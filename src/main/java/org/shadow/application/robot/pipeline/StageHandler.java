@@ -0,0 +1,19 @@
+package org.shadow.application.robot.pipeline;
+
+/**
+ * Processes one event of a pipeline stage.
+ *
+ * @param <E> the event slot type
+ */
+@FunctionalInterface
+public interface StageHandler<E> {
+
+  /**
+   * Processes the input event and fills the output slot for the next stage.
+   *
+   * @param input the event taken from the stage input buffer
+   * @param output the claimed slot of the next stage buffer, or null for the last stage
+   * @return true if the output slot must be published to the next stage
+   */
+  boolean handle(E input, E output);
+}
@@ -0,0 +1,76 @@
+package org.shadow.application.robot.pipeline;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Throughput and queue-depth counters of a single pipeline stage. Counters are written by the stage
+ * thread only and may be read from any thread.
+ */
+public class StageMetrics {
+
+  private final String stageName;
+  private final long createdNanos = System.nanoTime();
+
+  private final AtomicLong processedEvents = new AtomicLong();
+  private final AtomicLong busyNanos = new AtomicLong();
+  private final AtomicLong maxQueueDepth = new AtomicLong();
+  private final AtomicLong backpressureWaits = new AtomicLong();
+
+  public StageMetrics(String stageName) {
+    this.stageName = stageName;
+  }
+
+  void recordProcessed(long elapsedNanos, int queueDepth) {
+    processedEvents.lazySet(processedEvents.get() + 1);
+    busyNanos.lazySet(busyNanos.get() + elapsedNanos);
+    if (queueDepth > maxQueueDepth.get()) {
+      maxQueueDepth.lazySet(queueDepth);
+    }
+  }
+
+  void recordBackpressureWait() {
+    backpressureWaits.lazySet(backpressureWaits.get() + 1);
+  }
+
+  public String getStageName() {
+    return stageName;
+  }
+
+  public long getProcessedEvents() {
+    return processedEvents.get();
+  }
+
+  public long getBusyNanos() {
+    return busyNanos.get();
+  }
+
+  public long getMaxQueueDepth() {
+    return maxQueueDepth.get();
+  }
+
+  public long getBackpressureWaits() {
+    return backpressureWaits.get();
+  }
+
+  /**
+   * Returns the average number of events processed per second since the stage was created.
+   *
+   * @return the stage throughput in events per second
+   */
+  public double getThroughputPerSecond() {
+    var elapsedNanos = System.nanoTime() - createdNanos;
+    return elapsedNanos > 0 ? processedEvents.get() * 1_000_000_000.0 / elapsedNanos : 0.0;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s[processed=%d, throughput=%.2f/s, busy=%dms, maxQueueDepth=%d, backpressureWaits=%d]",
+        stageName,
+        getProcessedEvents(),
+        getThroughputPerSecond(),
+        getBusyNanos() / 1_000_000,
+        getMaxQueueDepth(),
+        getBackpressureWaits());
+  }
+}
@@ -0,0 +1,21 @@
+package org.shadow.application.robot.recovery;
+
+import java.time.Instant;
+import org.shadow.application.robot.RobotTimeframe;
+import org.shadow.application.robot.common.model.Position;
+import org.shadow.domain.client.model.Order;
+
+/**
+ * Change of the position of a robot.
+ *
+ * @param position the position the transition is about; an intended open only knows its type and
+ *     stop loss
+ * @param order the order of the position, null until the exchange has confirmed it
+ */
+public record StateTransition(
+    Instant time,
+    String symbol,
+    RobotTimeframe robotTimeframe,
+    StateTransitionType type,
+    Position position,
+    Order order) {}
@@ -0,0 +1,54 @@
+package org.shadow.application.robot.recovery;
+
+import java.util.Optional;
+import org.shadow.application.robot.RobotTimeframe;
+
+/**
+ * Write-ahead log of the position transitions of all robots. Intents are made durable before the
+ * exchange is called and outcomes after it answered, so a restarted robot can tell whether it
+ * crashed with an order in flight.
+ */
+public interface StateTransitionLog {
+
+  /** Log that keeps nothing, for robots that do not recover their position. */
+  StateTransitionLog NONE =
+      new StateTransitionLog() {
+        @Override
+        public void append(StateTransition transition) {}
+
+        @Override
+        public void appendDurably(StateTransition transition) {}
+
+        @Override
+        public Optional<StateTransition> getLastTransition(
+            String symbol, RobotTimeframe robotTimeframe) {
+          return Optional.empty();
+        }
+      };
+
+  /**
+   * Appends a transition without waiting for it to reach the disk; it is made durable together
+   * with the next durable append.
+   *
+   * @param transition the transition to append
+   */
+  void append(StateTransition transition);
+
+  /**
+   * Appends a transition and waits until it reached the disk. Implementations should share the
+   * sync between the robots appending at the same time.
+   *
+   * @param transition the transition to append
+   * @throws java.io.UncheckedIOException if the transition could not be made durable
+   */
+  void appendDurably(StateTransition transition);
+
+  /**
+   * Returns the last transition of a robot, including those of earlier runs.
+   *
+   * @param symbol the symbol of the robot
+   * @param robotTimeframe the timeframe of the robot
+   * @return the transition, empty if the robot has none
+   */
+  Optional<StateTransition> getLastTransition(String symbol, RobotTimeframe robotTimeframe);
+}
@@ -0,0 +1,25 @@
+package org.shadow.application.robot.recovery;
+
+/**
+ * Step of opening or closing a position recorded in the {@link StateTransitionLog}. An intent is
+ * recorded before the exchange is called, so a crash before the outcome is recorded is detected on
+ * restart.
+ */
+public enum StateTransitionType {
+  OPEN_INTENDED(true),
+  OPEN_CONFIRMED(false),
+  OPEN_FAILED(false),
+  CLOSE_INTENDED(true),
+  CLOSE_CONFIRMED(false),
+  CLOSE_FAILED(false);
+
+  private final boolean intent;
+
+  StateTransitionType(boolean intent) {
+    this.intent = intent;
+  }
+
+  public boolean isIntent() {
+    return intent;
+  }
+}
@@ -0,0 +1,30 @@
+package org.shadow.application.robot.snapshot;
+
+import java.time.Instant;
+import java.util.List;
+import org.shadow.application.robot.RobotPositionState;
+import org.shadow.application.robot.RobotTimeframe;
+import org.shadow.application.robot.common.model.Bar;
+import org.shadow.application.robot.common.model.Position;
+import org.shadow.domain.client.model.Order;
+
+/**
+ * Point-in-time state of a robot, enough to resume it after a restart. The streaming indicator
+ * state is not part of the snapshot: a resumed robot warms its indicators up again from the bar
+ * window. Bollinger Bands and the Stochastic Oscillator only look back a fixed number of bars, so
+ * they resume exactly. The Wilder and exponential smoothing of RSI, MACD and ATR carries every bar
+ * fed since startup, so after a restart those values start from the window instead and differ
+ * slightly from an uninterrupted run until the difference has decayed.
+ *
+ * @param position the open position, null if none
+ * @param order the last order, null if none
+ * @param bars the bar window, oldest first
+ */
+public record RobotSnapshot(
+    String symbol,
+    RobotTimeframe robotTimeframe,
+    Instant takenAt,
+    RobotPositionState robotPositionState,
+    Position position,
+    Order order,
+    List<Bar> bars) {}
@@ -0,0 +1,45 @@
+package org.shadow.application.robot.snapshot;
+
+import java.util.Optional;
+import org.shadow.application.robot.RobotTimeframe;
+
+/** Keeps the latest snapshot of every robot, so a restarted robot can resume where it stopped. */
+public interface RobotSnapshotStore {
+
+  /** Store that keeps nothing, for robots that always start from scratch. */
+  RobotSnapshotStore NONE =
+      new RobotSnapshotStore() {
+        @Override
+        public long getSnapshotIntervalMillis() {
+          return Long.MAX_VALUE;
+        }
+
+        @Override
+        public void save(RobotSnapshot snapshot) {}
+
+        @Override
+        public Optional<RobotSnapshot> load(String symbol, RobotTimeframe robotTimeframe) {
+          return Optional.empty();
+        }
+      };
+
+  /** Returns how often a running robot should snapshot itself. */
+  long getSnapshotIntervalMillis();
+
+  /**
+   * Replaces the snapshot of a robot. Called on the robot thread, so implementations must not
+   * block it on I/O.
+   *
+   * @param snapshot the snapshot to keep
+   */
+  void save(RobotSnapshot snapshot);
+
+  /**
+   * Loads the latest snapshot of a robot.
+   *
+   * @param symbol the symbol of the robot
+   * @param robotTimeframe the timeframe of the robot
+   * @return the snapshot, empty if there is none or it cannot be read
+   */
+  Optional<RobotSnapshot> load(String symbol, RobotTimeframe robotTimeframe);
+}
@@ -1,21 +1,31 @@
 package org.shadow.application.robot.strategy;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.shadow.application.journal.DecisionJournal;
+import org.shadow.application.logging.DecisionRecord;
+import org.shadow.application.logging.HotPathLogging;
+import org.shadow.application.metrics.CyclePhase;
+import org.shadow.application.metrics.CyclePhaseRecorder;
+import org.shadow.application.metrics.jfr.StrategyDecisionJfrEvent;
 import org.shadow.application.robot.blocker.Blocker;
 import org.shadow.application.robot.common.model.Bar;
 import org.shadow.application.robot.common.model.Position;
 import org.shadow.application.robot.common.model.PositionType;
 import org.shadow.application.robot.explorer.BinaryExplorer;
 import org.shadow.application.robot.explorer.model.BinaryIsMomentumExplorationState;
+import org.shadow.application.robot.strategy.model.BinaryDecisionAction;
 import org.shadow.application.robot.strategy.model.BinaryPositionMomentum;
 import org.shadow.application.robot.strategy.model.BinaryPositionMomentumActionType;
+import org.shadow.application.robot.strategy.model.BinaryStrategyEvaluation;
 
-public class BinaryStrategy implements Strategy<BinaryPositionMomentum> {
+public class BinaryStrategy implements Strategy<BinaryPositionMomentum, BinaryStrategyEvaluation> {
 
   private static final Logger logger = LogManager.getLogger(BinaryStrategy.class);
   private static final String CALCULATING_SEVERITY_DIFFERENCE =
@@ -26,6 +36,10 @@ public class BinaryStrategy implements Strategy<BinaryPositionMomentum> {
   private final BigDecimal stopLossRequiredPercentage;
   private final Map<BinaryIsMomentumExplorationState, Integer>
       binaryIsMomentumExplorationStateIntegerMultiplierMap;
+  private final CyclePhaseRecorder cyclePhaseRecorder;
+  private final String symbol;
+  private final DecisionJournal decisionJournal;
+  private final DecisionRecord decisionRecord;
 
   public BinaryStrategy(
       List<BinaryExplorer> binaryExplorers,
@@ -33,108 +47,243 @@ public class BinaryStrategy implements Strategy<BinaryPositionMomentum> {
       BigDecimal stopLossRequiredPercentage,
       Map<BinaryIsMomentumExplorationState, Integer>
           binaryIsMomentumExplorationStateIntegerMultiplierMap) {
+    this(
+        binaryExplorers,
+        blockers,
+        stopLossRequiredPercentage,
+        binaryIsMomentumExplorationStateIntegerMultiplierMap,
+        CyclePhaseRecorder.NONE,
+        null,
+        DecisionJournal.NONE);
+  }
+
+  /**
+   * Constructs a strategy that records the latency of its blocker and explorer evaluations and
+   * journals its decisions.
+   *
+   * @param cyclePhaseRecorder receives the duration of every blocker and explorer evaluation
+   * @param symbol the symbol traded with the strategy, used in its decision records
+   * @param decisionJournal receives every decision of the strategy
+   */
+  public BinaryStrategy(
+      List<BinaryExplorer> binaryExplorers,
+      List<Blocker> blockers,
+      BigDecimal stopLossRequiredPercentage,
+      Map<BinaryIsMomentumExplorationState, Integer>
+          binaryIsMomentumExplorationStateIntegerMultiplierMap,
+      CyclePhaseRecorder cyclePhaseRecorder,
+      String symbol,
+      DecisionJournal decisionJournal) {
     this.binaryExplorers = binaryExplorers;
     this.blockers = blockers;
     this.stopLossRequiredPercentage = stopLossRequiredPercentage;
     this.binaryIsMomentumExplorationStateIntegerMultiplierMap =
         binaryIsMomentumExplorationStateIntegerMultiplierMap;
+    this.cyclePhaseRecorder = cyclePhaseRecorder;
+    this.symbol = symbol;
+    this.decisionJournal = decisionJournal;
+    this.decisionRecord =
+        new DecisionRecord(
+            symbol,
+            binaryExplorers.stream().map(explorer -> explorer.getClass().getSimpleName()).toList());
   }
 
   @Override
   public BinaryPositionMomentum calculatePositionMomentum(List<Bar> bars) {
     logger.debug("Starting position momentum calculation with {} bars", bars.size());
+    return calculatePositionMomentum(evaluate(bars), bars);
+  }
+
+  @Override
+  public boolean isTimeToClosePositionInAdvance(List<Bar> bars, Position position) {
+    logger.debug("Checking if it's time to close position in advance. Position: {}", position);
+    return shouldClosePositionInAdvance(evaluate(bars), position);
+  }
+
+  @Override
+  public void warmUp(List<Bar> bars) {
+    var startNanos = System.nanoTime();
+    for (var blocker : blockers) {
+      blocker.warmUp(bars);
+    }
+    for (var explorer : binaryExplorers) {
+      explorer.warmUp(bars);
+    }
+    logger.info(
+        "Warmed up {} blockers and {} explorers on {} bars in {} us",
+        blockers.size(),
+        binaryExplorers.size(),
+        bars.size(),
+        TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos));
+  }
+
+  @Override
+  public BinaryStrategyEvaluation evaluate(List<Bar> bars) {
+    var decisionEvent = new StrategyDecisionJfrEvent();
+    decisionEvent.begin();
+    var barTime = bars.isEmpty() ? null : bars.getLast().time();
+    var blockersStartNanos = System.nanoTime();
+    var blocked = shouldBlock(bars);
+    var explorersStartNanos = System.nanoTime();
+    cyclePhaseRecorder.record(CyclePhase.BLOCKERS, explorersStartNanos - blockersStartNanos);
+    if (blocked) {
+      decisionEvent.commit(true, 0, binaryExplorers.size());
+      return BinaryStrategyEvaluation.ofBlocked(barTime);
+    }
+
+    logger.debug("Calculating severity difference with {} bars", bars.size());
+    var longStates = new ArrayList<BinaryIsMomentumExplorationState>(binaryExplorers.size());
+    var shortStates = new ArrayList<BinaryIsMomentumExplorationState>(binaryExplorers.size());
+    var indicatorValues = new double[binaryExplorers.size()];
+    var longVotingPower = 0;
+    var shortVotingPower = 0;
+
+    // TODO: Calculation should be done in parallel in case of speed problem
+    for (int i = 0; i < binaryExplorers.size(); i++) {
+      var explorer = binaryExplorers.get(i);
+      var isMomentumToLongState = explorer.isMomentumToLong(bars);
+      longStates.add(isMomentumToLongState);
+      if (!isMomentumToLongState.equals(BinaryIsMomentumExplorationState.NOT_READY)) {
+        int longMultiplier =
+            binaryIsMomentumExplorationStateIntegerMultiplierMap.get(isMomentumToLongState);
+        longVotingPower += explorer.getSeverity() * longMultiplier;
+        logger.debug(
+            "Long voting power updated: {} (Multiplier: {})", longVotingPower, longMultiplier);
+      }
+      var isMomentumToShortState = explorer.isMomentumToShort(bars);
+      shortStates.add(isMomentumToShortState);
+      if (!isMomentumToShortState.equals(BinaryIsMomentumExplorationState.NOT_READY)) {
+        int shortMultiplier =
+            binaryIsMomentumExplorationStateIntegerMultiplierMap.get(isMomentumToShortState);
+        shortVotingPower += explorer.getSeverity() * shortMultiplier;
+        logger.debug(
+            "Short voting power updated: {} (Multiplier: {})", shortVotingPower, shortMultiplier);
+      }
+      indicatorValues[i] = explorer.getLastIndicatorValue();
+    }
+
+    cyclePhaseRecorder.record(CyclePhase.EXPLORERS, System.nanoTime() - explorersStartNanos);
+
+    int severityDifference = longVotingPower - shortVotingPower;
+    logger.debug(CALCULATING_SEVERITY_DIFFERENCE, severityDifference);
+    decisionEvent.commit(false, severityDifference, binaryExplorers.size());
+    return new BinaryStrategyEvaluation(
+        false, severityDifference, longStates, shortStates, indicatorValues, barTime);
+  }
 
-    if (shouldBlock(bars)) {
-      logger.info("Blocking detected; returning DO_NOTHING action");
+  @Override
+  public BinaryPositionMomentum calculatePositionMomentum(
+      BinaryStrategyEvaluation evaluation, List<Bar> bars) {
+    var momentum = decidePositionMomentum(evaluation, bars);
+    var action =
+        switch (momentum.momentumActionType()) {
+          case LONG -> BinaryDecisionAction.LONG;
+          case SHORT -> BinaryDecisionAction.SHORT;
+          case DO_NOTHING -> BinaryDecisionAction.DO_NOTHING;
+        };
+    recordDecision(evaluation, bars, action, momentum.stopLoss().orElse(null));
+    return momentum;
+  }
+
+  @Override
+  public boolean shouldClosePositionInAdvance(
+      BinaryStrategyEvaluation evaluation, Position position) {
+    var closeInAdvance = decideClosePositionInAdvance(evaluation, position);
+    recordDecision(
+        evaluation,
+        List.of(),
+        closeInAdvance ? BinaryDecisionAction.CLOSE : BinaryDecisionAction.HOLD,
+        null);
+    return closeInAdvance;
+  }
+
+  private BinaryPositionMomentum decidePositionMomentum(
+      BinaryStrategyEvaluation evaluation, List<Bar> bars) {
+    if (evaluation.blocked()) {
+      if (HotPathLogging.isVerbose()) {
+        logger.info("Blocking detected; returning DO_NOTHING action");
+      }
       return new BinaryPositionMomentum(
           BinaryPositionMomentumActionType.DO_NOTHING, Optional.empty());
     }
 
-    var severityDifference = calculateSeverityDifference(bars);
-    logger.debug(CALCULATING_SEVERITY_DIFFERENCE, severityDifference);
+    var severityDifference = evaluation.severityDifference();
 
     if (severityDifference > 0) {
       var stopLoss = calculateStopLoss(PositionType.LONG, bars);
-      logger.info("Long position detected. Stop loss: {}", stopLoss);
+      if (HotPathLogging.isVerbose()) {
+        logger.info("Long position detected. Stop loss: {}", stopLoss);
+      }
       return new BinaryPositionMomentum(
           BinaryPositionMomentumActionType.LONG, Optional.of(stopLoss));
     } else if (severityDifference < 0) {
       var stopLoss = calculateStopLoss(PositionType.SHORT, bars);
-      logger.info("Short position detected. Stop loss: {}", stopLoss);
+      if (HotPathLogging.isVerbose()) {
+        logger.info("Short position detected. Stop loss: {}", stopLoss);
+      }
       return new BinaryPositionMomentum(
           BinaryPositionMomentumActionType.SHORT, Optional.of(stopLoss));
     }
 
-    logger.info("No action required. Returning DO_NOTHING");
+    if (HotPathLogging.isVerbose()) {
+      logger.info("No action required. Returning DO_NOTHING");
+    }
     return new BinaryPositionMomentum(
         BinaryPositionMomentumActionType.DO_NOTHING, Optional.empty());
   }
 
-  @Override
-  public boolean isTimeToClosePositionInAdvance(List<Bar> bars, Position position) {
-    logger.debug("Checking if it's time to close position in advance. Position: {}", position);
-
-    if (shouldBlock(bars)) {
-      logger.info("Blocking detected; position should be closed in advance");
+  private boolean decideClosePositionInAdvance(
+      BinaryStrategyEvaluation evaluation, Position position) {
+    if (evaluation.blocked()) {
+      if (HotPathLogging.isVerbose()) {
+        logger.info("Blocking detected; position should be closed in advance");
+      }
       return true;
     }
 
-    var severityDifference = calculateSeverityDifference(bars);
-    logger.debug(CALCULATING_SEVERITY_DIFFERENCE, severityDifference);
+    var severityDifference = evaluation.severityDifference();
 
     if (position.type() == PositionType.LONG && severityDifference < 0) {
-      logger.info("Long position and severity difference is negative; close in advance");
+      if (HotPathLogging.isVerbose()) {
+        logger.info("Long position and severity difference is negative; close in advance");
+      }
       return true;
     } else if (position.type() == PositionType.SHORT && severityDifference > 0) {
-      logger.info("Short position and severity difference is positive; close in advance");
+      if (HotPathLogging.isVerbose()) {
+        logger.info("Short position and severity difference is positive; close in advance");
+      }
       return true;
     }
 
     return false;
   }
 
+  private void recordDecision(
+      BinaryStrategyEvaluation evaluation,
+      List<Bar> bars,
+      BinaryDecisionAction action,
+      BigDecimal stopLoss) {
+    decisionJournal.append(symbol, evaluation, action);
+    if (!HotPathLogging.isVerbose()) {
+      decisionRecord.record(evaluation, bars, action.name(), stopLoss);
+      decisionRecord.publish();
+    }
+  }
+
   private boolean shouldBlock(List<Bar> bars) {
     logger.debug("Checking if should block based on {} bars", bars.size());
     // TODO: Calculation should be done in parallel in case of speed problem
     for (var blocker : blockers) {
       if (blocker.isMomentumToBlocking(bars)) {
-        logger.info("Blocker detected that blocks momentum");
+        if (HotPathLogging.isVerbose()) {
+          logger.info("Blocker detected that blocks momentum");
+        }
         return true;
       }
     }
     return false;
   }
 
-  private int calculateSeverityDifference(List<Bar> bars) {
-    logger.debug("Calculating severity difference with {} bars", bars.size());
-    var longVotingPower = 0;
-    var shortVotingPower = 0;
-
-    // TODO: Calculation should be done in parallel in case of speed problem
-    for (var explorer : binaryExplorers) {
-      var isMomentumToLongState = explorer.isMomentumToLong(bars);
-      if (!isMomentumToLongState.equals(BinaryIsMomentumExplorationState.NOT_READY)) {
-        int longMultiplier =
-            binaryIsMomentumExplorationStateIntegerMultiplierMap.get(isMomentumToLongState);
-        longVotingPower += explorer.getSeverity() * longMultiplier;
-        logger.debug(
-            "Long voting power updated: {} (Multiplier: {})", longVotingPower, longMultiplier);
-      }
-      var isMomentumToShortState = explorer.isMomentumToShort(bars);
-      if (!isMomentumToShortState.equals(BinaryIsMomentumExplorationState.NOT_READY)) {
-        int shortMultiplier =
-            binaryIsMomentumExplorationStateIntegerMultiplierMap.get(isMomentumToShortState);
-        shortVotingPower += explorer.getSeverity() * shortMultiplier;
-        logger.debug(
-            "Short voting power updated: {} (Multiplier: {})", shortVotingPower, shortMultiplier);
-      }
-    }
-
-    int severityDifference = longVotingPower - shortVotingPower;
-    logger.debug(CALCULATING_SEVERITY_DIFFERENCE, severityDifference);
-    return severityDifference;
-  }
-
   private BigDecimal calculateStopLoss(PositionType positionType, List<Bar> bars) {
     var latestClosePrice = bars.getLast().close();
     var stopLossAdjustment = latestClosePrice.multiply(stopLossRequiredPercentage);
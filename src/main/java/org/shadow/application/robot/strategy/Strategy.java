@@ -9,12 +9,24 @@ import org.shadow.application.robot.common.model.Position;
 import org.shadow.application.robot.explorer.BinaryExplorer;
 import org.shadow.application.robot.explorer.model.BinaryIsMomentumExplorationState;
 
-public interface Strategy<M> {
+/**
+ * @param <M> the position momentum the strategy decides on
+ * @param <E> the evaluation of the bars a decision is taken from
+ */
+public interface Strategy<M, E> {
 
   M calculatePositionMomentum(List<Bar> bars);
 
   boolean isTimeToClosePositionInAdvance(List<Bar> bars, Position position);
 
+  E evaluate(List<Bar> bars);
+
+  M calculatePositionMomentum(E evaluation, List<Bar> bars);
+
+  boolean shouldClosePositionInAdvance(E evaluation, Position position);
+
+  void warmUp(List<Bar> bars);
+
   List<BinaryExplorer> getBinaryExplorers();
 
   List<Blocker> getBlockers();
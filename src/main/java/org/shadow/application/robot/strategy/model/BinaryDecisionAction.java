@@ -0,0 +1,10 @@
+package org.shadow.application.robot.strategy.model;
+
+/** The action a {@code BinaryStrategy} decision resulted in. */
+public enum BinaryDecisionAction {
+  DO_NOTHING,
+  LONG,
+  SHORT,
+  CLOSE,
+  HOLD
+}
@@ -0,0 +1,38 @@
+package org.shadow.application.robot.strategy.model;
+
+import java.time.Instant;
+import java.util.List;
+import org.shadow.application.robot.explorer.model.BinaryIsMomentumExplorationState;
+
+/**
+ * Holds the outcome of evaluating blockers and explorers over a window of bars, before it is turned
+ * into a position decision. Explorer states and indicator values are listed in the same order as
+ * the strategy explorers and are empty when a blocker stopped the evaluation. The bar time is the
+ * time of the last evaluated bar, null if unknown.
+ */
+public record BinaryStrategyEvaluation(
+    boolean blocked,
+    int severityDifference,
+    List<BinaryIsMomentumExplorationState> longStates,
+    List<BinaryIsMomentumExplorationState> shortStates,
+    double[] indicatorValues,
+    Instant barTime) {
+
+  private static final double[] NO_VALUES = {};
+
+  public BinaryStrategyEvaluation(
+      boolean blocked,
+      int severityDifference,
+      List<BinaryIsMomentumExplorationState> longStates,
+      List<BinaryIsMomentumExplorationState> shortStates) {
+    this(blocked, severityDifference, longStates, shortStates, NO_VALUES, null);
+  }
+
+  public static BinaryStrategyEvaluation ofBlocked() {
+    return ofBlocked(null);
+  }
+
+  public static BinaryStrategyEvaluation ofBlocked(Instant barTime) {
+    return new BinaryStrategyEvaluation(true, 0, List.of(), List.of(), NO_VALUES, barTime);
+  }
+}
@@ -1,35 +1,302 @@
 package org.shadow.config;
 
 import com.typesafe.config.ConfigFactory;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import org.shadow.config.model.ATRBlockerConfiguration;
+import org.shadow.config.model.BarStoreConfiguration;
+import org.shadow.config.model.BlockerConfiguration;
+import org.shadow.config.model.BlockerType;
 import org.shadow.config.model.BollingerBandsExplorerConfiguration;
 import org.shadow.config.model.ExchangeConfiguration;
 import org.shadow.config.model.ExchangeConfigurationType;
+import org.shadow.config.model.ExplorerConfiguration;
+import org.shadow.config.model.ExplorerType;
+import org.shadow.config.model.FakeLatencyConfiguration;
+import org.shadow.config.model.JfrConfiguration;
+import org.shadow.config.model.JournalConfiguration;
+import org.shadow.config.model.LoggingConfiguration;
+import org.shadow.config.model.LoggingModeType;
 import org.shadow.config.model.MACDExplorerConfiguration;
+import org.shadow.config.model.MatchingSimulationConfiguration;
+import org.shadow.config.model.MetricsConfiguration;
 import org.shadow.config.model.OrderConfiguration;
+import org.shadow.config.model.OverrunPolicyType;
+import org.shadow.config.model.PipelineConfiguration;
 import org.shadow.config.model.RSIExplorerConfiguration;
 import org.shadow.config.model.RobotConfiguration;
 import org.shadow.config.model.RobotType;
+import org.shadow.config.model.SchedulingConfiguration;
+import org.shadow.config.model.SchedulingMode;
+import org.shadow.config.model.SnapshotConfiguration;
+import org.shadow.config.model.StartupConfiguration;
 import org.shadow.config.model.StochasticOscillatorExplorerConfiguration;
+import org.shadow.config.model.SyntheticMarketConfiguration;
+import org.shadow.config.model.TimerModeType;
+import org.shadow.config.model.WalConfiguration;
 
 public record Config(
-    List<RobotConfiguration> robotConfigurations, ExchangeConfiguration exchangeConfiguration) {
+    List<RobotConfiguration> robotConfigurations,
+    ExchangeConfiguration exchangeConfiguration,
+    PipelineConfiguration pipelineConfiguration,
+    SchedulingConfiguration schedulingConfiguration,
+    MetricsConfiguration metricsConfiguration,
+    JfrConfiguration jfrConfiguration,
+    LoggingConfiguration loggingConfiguration,
+    JournalConfiguration journalConfiguration,
+    SnapshotConfiguration snapshotConfiguration,
+    WalConfiguration walConfiguration,
+    BarStoreConfiguration barStoreConfiguration,
+    StartupConfiguration startupConfiguration) {
+
+  private static final int DEFAULT_PIPELINE_RING_BUFFER_SIZE = 64;
+  private static final int DEFAULT_MAX_IN_FLIGHT_ORDERS = 16;
+  private static final long DEFAULT_ORDER_TIMEOUT_MILLIS = 10_000;
+  private static final long DEFAULT_BATCH_BUDGET_MILLIS = 1_000;
+  private static final long DEFAULT_BACKLOG_DEADLINE_MILLIS = 30_000;
+  private static final long DEFAULT_WHEEL_TICK_MILLIS = 5;
+  private static final long DEFAULT_METRICS_REPORT_INTERVAL_SECONDS = 60;
+  private static final int DEFAULT_METRICS_HTTP_PORT = 9404;
+  private static final long DEFAULT_LOG_SUMMARY_INTERVAL_SECONDS = 60;
+  private static final String DEFAULT_JOURNAL_FILE = "journal/decisions.journal";
+  private static final int DEFAULT_JOURNAL_BUFFER_SIZE = 8192;
+  private static final String DEFAULT_SNAPSHOT_DIRECTORY = "snapshots";
+  private static final long DEFAULT_SNAPSHOT_INTERVAL_SECONDS = 300;
+  private static final String DEFAULT_WAL_FILE = "wal/transitions.wal";
+  private static final long DEFAULT_WAL_GROUP_COMMIT_MILLIS = 2;
+  private static final String DEFAULT_BAR_STORE_DIRECTORY = "bar-store";
+  private static final int DEFAULT_ATR_PERIOD = 7;
+  private static final SyntheticMarketConfiguration DEFAULT_SYNTHETIC_MARKET =
+      new SyntheticMarketConfiguration(
+          42L,
+          Instant.parse("2024-01-01T00:00:00Z"),
+          100.0,
+          0.1,
+          0.6,
+          0.08,
+          0.9,
+          0.0005,
+          0.0002,
+          0.01,
+          1000.0);
 
   public static Config load() {
     var config = ConfigFactory.load();
 
-    var exchangeConfig =
-        new ExchangeConfiguration(
-            ExchangeConfigurationType.valueOf(config.getString("exchange.type")),
-            config.getString("exchange.apiKey"),
-            config.getString("exchange.apiSecret"));
+    var exchangeConfig = parseExchangeConfig(config.getConfig("exchange"));
 
     var robotConfigs =
         config.getConfigList("robots").stream().map(Config::parseRobotConfig).toList();
 
-    return new Config(robotConfigs, exchangeConfig);
+    var pipelineConfig =
+        config.hasPath("pipeline")
+            ? parsePipelineConfig(config.getConfig("pipeline"))
+            : new PipelineConfiguration(false, DEFAULT_PIPELINE_RING_BUFFER_SIZE);
+
+    var schedulingConfig =
+        config.hasPath("scheduling")
+            ? parseSchedulingConfig(config.getConfig("scheduling"))
+            : new SchedulingConfiguration(
+                SchedulingMode.PER_ROBOT,
+                DEFAULT_BATCH_BUDGET_MILLIS,
+                OverrunPolicyType.SKIP,
+                DEFAULT_BACKLOG_DEADLINE_MILLIS,
+                TimerModeType.FIXED_RATE,
+                0L,
+                DEFAULT_WHEEL_TICK_MILLIS);
+
+    var metricsConfig =
+        config.hasPath("metrics")
+            ? parseMetricsConfig(config.getConfig("metrics"))
+            : new MetricsConfiguration(
+                DEFAULT_METRICS_REPORT_INTERVAL_SECONDS, false, DEFAULT_METRICS_HTTP_PORT);
+
+    var jfrConfig =
+        new JfrConfiguration(config.hasPath("jfr.enabled") && config.getBoolean("jfr.enabled"));
+
+    var loggingConfig =
+        config.hasPath("logging")
+            ? parseLoggingConfig(config.getConfig("logging"))
+            : new LoggingConfiguration(
+                LoggingModeType.VERBOSE, DEFAULT_LOG_SUMMARY_INTERVAL_SECONDS);
+
+    var journalConfig =
+        config.hasPath("journal")
+            ? parseJournalConfig(config.getConfig("journal"))
+            : new JournalConfiguration(false, DEFAULT_JOURNAL_FILE, DEFAULT_JOURNAL_BUFFER_SIZE);
+
+    var snapshotConfig =
+        config.hasPath("snapshot")
+            ? parseSnapshotConfig(config.getConfig("snapshot"))
+            : new SnapshotConfiguration(
+                false, DEFAULT_SNAPSHOT_DIRECTORY, DEFAULT_SNAPSHOT_INTERVAL_SECONDS);
+
+    var walConfig =
+        config.hasPath("wal")
+            ? parseWalConfig(config.getConfig("wal"))
+            : new WalConfiguration(false, DEFAULT_WAL_FILE, DEFAULT_WAL_GROUP_COMMIT_MILLIS);
+
+    var barStoreConfig =
+        new BarStoreConfiguration(
+            config.hasPath("barStore.enabled") && config.getBoolean("barStore.enabled"),
+            config.hasPath("barStore.directory")
+                ? config.getString("barStore.directory")
+                : DEFAULT_BAR_STORE_DIRECTORY);
+
+    var startupConfig =
+        new StartupConfiguration(
+            config.hasPath("startup.parallelism")
+                ? config.getInt("startup.parallelism")
+                : Runtime.getRuntime().availableProcessors());
+
+    return new Config(
+        robotConfigs,
+        exchangeConfig,
+        pipelineConfig,
+        schedulingConfig,
+        metricsConfig,
+        jfrConfig,
+        loggingConfig,
+        journalConfig,
+        snapshotConfig,
+        walConfig,
+        barStoreConfig,
+        startupConfig);
+  }
+
+  private static ExchangeConfiguration parseExchangeConfig(com.typesafe.config.Config config) {
+    var maxInFlightOrders =
+        config.hasPath("maxInFlightOrders")
+            ? config.getInt("maxInFlightOrders")
+            : DEFAULT_MAX_IN_FLIGHT_ORDERS;
+    var orderTimeoutMillis =
+        config.hasPath("orderTimeoutMillis")
+            ? config.getLong("orderTimeoutMillis")
+            : DEFAULT_ORDER_TIMEOUT_MILLIS;
+
+    var fakeLatency =
+        config.hasPath("fakeLatency")
+            ? new FakeLatencyConfiguration(
+                config.getLong("fakeLatency.baseMillis"),
+                config.getLong("fakeLatency.jitterMillis"),
+                config.hasPath("fakeLatency.seed") ? config.getLong("fakeLatency.seed") : 0L)
+            : new FakeLatencyConfiguration(0L, 0L, 0L);
+
+    var simulation =
+        config.hasPath("simulation")
+            ? new MatchingSimulationConfiguration(
+                config.getBoolean("simulation.enabled"),
+                config.getDouble("simulation.initialEquity"),
+                config.getDouble("simulation.slippageBps"),
+                config.getDouble("simulation.feeBps"))
+            : new MatchingSimulationConfiguration(false, 0.0, 0.0, 0.0);
+
+    var synthetic =
+        config.hasPath("synthetic")
+            ? parseSyntheticMarketConfig(config.getConfig("synthetic"))
+            : DEFAULT_SYNTHETIC_MARKET;
+
+    return new ExchangeConfiguration(
+        ExchangeConfigurationType.valueOf(config.getString("type")),
+        config.getString("apiKey"),
+        config.getString("apiSecret"),
+        maxInFlightOrders,
+        orderTimeoutMillis,
+        fakeLatency,
+        simulation,
+        synthetic);
+  }
+
+  private static SyntheticMarketConfiguration parseSyntheticMarketConfig(
+      com.typesafe.config.Config config) {
+    return new SyntheticMarketConfiguration(
+        config.getLong("seed"),
+        Instant.parse(config.getString("startTime")),
+        config.getDouble("initialPrice"),
+        config.getDouble("annualDrift"),
+        config.getDouble("annualVolatility"),
+        config.getDouble("volatilityReaction"),
+        config.getDouble("volatilityPersistence"),
+        config.getDouble("regimeSwitchProbability"),
+        config.getDouble("gapProbability"),
+        config.getDouble("gapVolatility"),
+        config.getDouble("meanVolume"));
+  }
+
+  private static PipelineConfiguration parsePipelineConfig(com.typesafe.config.Config config) {
+    return new PipelineConfiguration(
+        config.getBoolean("enabled"),
+        config.hasPath("ringBufferSize")
+            ? config.getInt("ringBufferSize")
+            : DEFAULT_PIPELINE_RING_BUFFER_SIZE);
+  }
+
+  private static MetricsConfiguration parseMetricsConfig(com.typesafe.config.Config config) {
+    return new MetricsConfiguration(
+        config.hasPath("reportIntervalSeconds")
+            ? config.getLong("reportIntervalSeconds")
+            : DEFAULT_METRICS_REPORT_INTERVAL_SECONDS,
+        config.hasPath("http.enabled") && config.getBoolean("http.enabled"),
+        config.hasPath("http.port") ? config.getInt("http.port") : DEFAULT_METRICS_HTTP_PORT);
+  }
+
+  private static LoggingConfiguration parseLoggingConfig(com.typesafe.config.Config config) {
+    return new LoggingConfiguration(
+        config.hasPath("mode")
+            ? LoggingModeType.valueOf(config.getString("mode"))
+            : LoggingModeType.VERBOSE,
+        config.hasPath("summaryIntervalSeconds")
+            ? config.getLong("summaryIntervalSeconds")
+            : DEFAULT_LOG_SUMMARY_INTERVAL_SECONDS);
+  }
+
+  private static JournalConfiguration parseJournalConfig(com.typesafe.config.Config config) {
+    return new JournalConfiguration(
+        config.getBoolean("enabled"),
+        config.hasPath("file") ? config.getString("file") : DEFAULT_JOURNAL_FILE,
+        config.hasPath("bufferSize") ? config.getInt("bufferSize") : DEFAULT_JOURNAL_BUFFER_SIZE);
+  }
+
+  private static SnapshotConfiguration parseSnapshotConfig(com.typesafe.config.Config config) {
+    return new SnapshotConfiguration(
+        config.getBoolean("enabled"),
+        config.hasPath("directory") ? config.getString("directory") : DEFAULT_SNAPSHOT_DIRECTORY,
+        config.hasPath("intervalSeconds")
+            ? config.getLong("intervalSeconds")
+            : DEFAULT_SNAPSHOT_INTERVAL_SECONDS);
+  }
+
+  private static WalConfiguration parseWalConfig(com.typesafe.config.Config config) {
+    return new WalConfiguration(
+        config.getBoolean("enabled"),
+        config.hasPath("file") ? config.getString("file") : DEFAULT_WAL_FILE,
+        config.hasPath("groupCommitMillis")
+            ? config.getLong("groupCommitMillis")
+            : DEFAULT_WAL_GROUP_COMMIT_MILLIS);
+  }
+
+  private static SchedulingConfiguration parseSchedulingConfig(com.typesafe.config.Config config) {
+    return new SchedulingConfiguration(
+        SchedulingMode.valueOf(config.getString("mode")),
+        config.hasPath("batchBudgetMillis")
+            ? config.getLong("batchBudgetMillis")
+            : DEFAULT_BATCH_BUDGET_MILLIS,
+        config.hasPath("overrunPolicy")
+            ? OverrunPolicyType.valueOf(config.getString("overrunPolicy"))
+            : OverrunPolicyType.SKIP,
+        config.hasPath("backlogDeadlineMillis")
+            ? config.getLong("backlogDeadlineMillis")
+            : DEFAULT_BACKLOG_DEADLINE_MILLIS,
+        config.hasPath("timerMode")
+            ? TimerModeType.valueOf(config.getString("timerMode"))
+            : TimerModeType.FIXED_RATE,
+        config.hasPath("alignmentOffsetMillis") ? config.getLong("alignmentOffsetMillis") : 0L,
+        config.hasPath("wheelTickMillis")
+            ? config.getLong("wheelTickMillis")
+            : DEFAULT_WHEEL_TICK_MILLIS);
   }
 
   private static RobotConfiguration parseRobotConfig(com.typesafe.config.Config robotConfig) {
@@ -57,14 +324,22 @@ public record Config(
     var mediumMultiplier = robotConfig.getInt("mediumMultiplier");
     var majorMultiplier = robotConfig.getInt("majorMultiplier");
 
-    // Parse explorer configurations
-    var rsiExplorerConfig = parseRSIExplorerConfig(robotConfig.getConfig("rsiExplorerConfig"));
-    var macdExplorerConfig = parseMACDExplorerConfig(robotConfig.getConfig("macdExplorerConfig"));
-    var bollingerExplorerConfig =
-        parseBollingerBandsExplorerConfig(robotConfig.getConfig("bollingerBandsExplorerConfig"));
-    var stochasticExplorerConfig =
-        parseStochasticOscillatorExplorerConfig(
-            robotConfig.getConfig("stochasticOscillatorExplorerConfig"));
+    // Only the explorers and blockers a robot lists are built and computed
+    var explorerConfigs =
+        robotConfig.hasPath("explorers")
+            ? robotConfig.getConfigList("explorers").stream()
+                .map(Config::parseExplorerConfig)
+                .toList()
+            : parseLegacyExplorerConfigs(robotConfig);
+    if (explorerConfigs.isEmpty()) {
+      throw new IllegalArgumentException("Robot " + symbol + " must use at least one explorer");
+    }
+    var blockerConfigs =
+        robotConfig.hasPath("blockers")
+            ? robotConfig.getConfigList("blockers").stream()
+                .map(Config::parseBlockerConfig)
+                .toList()
+            : List.<BlockerConfiguration>of(new ATRBlockerConfiguration(DEFAULT_ATR_PERIOD));
 
     return new RobotConfiguration(
         type,
@@ -73,16 +348,51 @@ public record Config(
         symbol,
         orderConfig,
         historicalDataFile,
-        rsiExplorerConfig,
-        macdExplorerConfig,
-        bollingerExplorerConfig,
-        stochasticExplorerConfig,
+        explorerConfigs,
+        blockerConfigs,
         notReadyMultiplier,
         minorMultiplier,
         mediumMultiplier,
         majorMultiplier);
   }
 
+  private static ExplorerConfiguration parseExplorerConfig(com.typesafe.config.Config config) {
+    return switch (ExplorerType.valueOf(config.getString("type"))) {
+      case RSI -> parseRSIExplorerConfig(config);
+      case MACD -> parseMACDExplorerConfig(config);
+      case BOLLINGER_BANDS -> parseBollingerBandsExplorerConfig(config);
+      case STOCHASTIC_OSCILLATOR -> parseStochasticOscillatorExplorerConfig(config);
+    };
+  }
+
+  /** Reads the explorer blocks of configurations written before robots listed their explorers. */
+  private static List<ExplorerConfiguration> parseLegacyExplorerConfigs(
+      com.typesafe.config.Config robotConfig) {
+    var explorerConfigs = new ArrayList<ExplorerConfiguration>();
+    if (robotConfig.hasPath("rsiExplorerConfig")) {
+      explorerConfigs.add(parseRSIExplorerConfig(robotConfig.getConfig("rsiExplorerConfig")));
+    }
+    if (robotConfig.hasPath("macdExplorerConfig")) {
+      explorerConfigs.add(parseMACDExplorerConfig(robotConfig.getConfig("macdExplorerConfig")));
+    }
+    if (robotConfig.hasPath("bollingerBandsExplorerConfig")) {
+      explorerConfigs.add(
+          parseBollingerBandsExplorerConfig(robotConfig.getConfig("bollingerBandsExplorerConfig")));
+    }
+    if (robotConfig.hasPath("stochasticOscillatorExplorerConfig")) {
+      explorerConfigs.add(
+          parseStochasticOscillatorExplorerConfig(
+              robotConfig.getConfig("stochasticOscillatorExplorerConfig")));
+    }
+    return explorerConfigs;
+  }
+
+  private static BlockerConfiguration parseBlockerConfig(com.typesafe.config.Config config) {
+    return switch (BlockerType.valueOf(config.getString("type"))) {
+      case ATR -> new ATRBlockerConfiguration(config.getInt("period"));
+    };
+  }
+
   private static RSIExplorerConfiguration parseRSIExplorerConfig(
       com.typesafe.config.Config config) {
     return new RSIExplorerConfiguration(
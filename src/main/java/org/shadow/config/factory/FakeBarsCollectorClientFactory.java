@@ -4,17 +4,22 @@ import org.shadow.config.exception.FailedToConstructException;
 import org.shadow.config.model.ExchangeConfiguration;
 import org.shadow.config.model.RobotConfiguration;
 import org.shadow.infrastructure.client.fake.FakeBarsCollectorClient;
+import org.shadow.infrastructure.client.fake.HistoricalSeriesCache;
 import org.shadow.infrastructure.file.HistoricalDataLoader;
 
 public class FakeBarsCollectorClientFactory
     implements BarsCollectorClientFactory<FakeBarsCollectorClient> {
 
+  // Robots replaying the same file share one loaded series
+  private final HistoricalSeriesCache historicalSeriesCache =
+      new HistoricalSeriesCache(new HistoricalDataLoader());
+
   @Override
   public FakeBarsCollectorClient createClient(
       ExchangeConfiguration exchangeConfiguration, RobotConfiguration robotConfiguration) {
     if (robotConfiguration.historicalDataFile().isPresent()) {
       return new FakeBarsCollectorClient(
-          new HistoricalDataLoader(),
+          historicalSeriesCache,
           robotConfiguration.historicalDataFile().get(),
           robotConfiguration.symbol());
     } else {
@@ -2,12 +2,35 @@ package org.shadow.config.factory;
 
 import org.shadow.config.model.ExchangeConfiguration;
 import org.shadow.infrastructure.client.fake.FakeExchangeOrderClient;
+import org.shadow.infrastructure.client.fake.LatencyModel;
+import org.shadow.infrastructure.client.fake.matching.MatchingEngine;
 
 public class FakeExchangeOrderClientFactory
     implements ExchangeOrderClientFactory<FakeExchangeOrderClient> {
 
   @Override
   public FakeExchangeOrderClient createClient(ExchangeConfiguration exchangeConfiguration) {
-    return new FakeExchangeOrderClient();
+    var fakeLatency = exchangeConfiguration.fakeLatency();
+    return createClient(
+        exchangeConfiguration,
+        LatencyModel.uniform(
+            fakeLatency.baseMillis(), fakeLatency.jitterMillis(), fakeLatency.seed()));
+  }
+
+  /**
+   * Creates a client answering with the given latency instead of the configured one.
+   *
+   * @param latencyModel the simulated round-trip latency of every request
+   */
+  public FakeExchangeOrderClient createClient(
+      ExchangeConfiguration exchangeConfiguration, LatencyModel latencyModel) {
+    var simulation = exchangeConfiguration.simulation();
+    var matchingEngine =
+        simulation.enabled()
+            ? new MatchingEngine(
+                simulation.initialEquity(), simulation.slippageBps(), simulation.feeBps())
+            : null;
+    return new FakeExchangeOrderClient(
+        latencyModel, exchangeConfiguration.maxInFlightOrders(), matchingEngine);
   }
 }
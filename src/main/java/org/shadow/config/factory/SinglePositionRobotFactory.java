@@ -5,24 +5,69 @@ import static org.shadow.config.util.TimeUtil.calculateShiftBackToPreviousPeriod
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.EnumMap;
-import java.util.List;
 import java.util.stream.Stream;
+import org.shadow.application.journal.DecisionJournal;
+import org.shadow.application.metrics.CycleMetricsRegistry;
+import org.shadow.application.robot.PendingOrderTimeout;
 import org.shadow.application.robot.RobotTimeframe;
 import org.shadow.application.robot.SinglePositionRobot;
 import org.shadow.application.robot.blocker.ATRBlocker;
 import org.shadow.application.robot.blocker.Blocker;
+import org.shadow.application.robot.explorer.BinaryExplorer;
 import org.shadow.application.robot.explorer.BollingerBandsBinaryExplorer;
 import org.shadow.application.robot.explorer.MACDBinaryExplorer;
 import org.shadow.application.robot.explorer.RSIBinaryExplorer;
 import org.shadow.application.robot.explorer.StochasticOscillatorExplorer;
 import org.shadow.application.robot.explorer.model.BinaryIsMomentumExplorationState;
+import org.shadow.application.robot.recovery.StateTransitionLog;
+import org.shadow.application.robot.snapshot.RobotSnapshotStore;
 import org.shadow.application.robot.strategy.BinaryStrategy;
+import org.shadow.config.model.ATRBlockerConfiguration;
+import org.shadow.config.model.BlockerConfiguration;
+import org.shadow.config.model.BollingerBandsExplorerConfiguration;
+import org.shadow.config.model.ExplorerConfiguration;
+import org.shadow.config.model.MACDExplorerConfiguration;
+import org.shadow.config.model.RSIExplorerConfiguration;
 import org.shadow.config.model.RobotConfiguration;
+import org.shadow.config.model.StochasticOscillatorExplorerConfiguration;
 import org.shadow.domain.client.BarsCollectorClient;
 import org.shadow.domain.client.ExchangeOrderClient;
 
 public class SinglePositionRobotFactory implements RobotFactory<SinglePositionRobot> {
 
+  private final CycleMetricsRegistry cycleMetricsRegistry;
+  private final DecisionJournal decisionJournal;
+  private final RobotSnapshotStore snapshotStore;
+  private final StateTransitionLog transitionLog;
+  private final PendingOrderTimeout pendingOrderTimeout;
+
+  public SinglePositionRobotFactory() {
+    this(builder());
+  }
+
+  public SinglePositionRobotFactory(CycleMetricsRegistry cycleMetricsRegistry) {
+    this(builder().cycleMetricsRegistry(cycleMetricsRegistry));
+  }
+
+  private SinglePositionRobotFactory(Builder builder) {
+    this.cycleMetricsRegistry = builder.cycleMetricsRegistry;
+    this.decisionJournal = builder.decisionJournal;
+    this.snapshotStore = builder.snapshotStore;
+    this.transitionLog = builder.transitionLog;
+    this.pendingOrderTimeout = builder.pendingOrderTimeout;
+  }
+
+  /**
+   * Returns a builder of a factory whose robots share the given metrics registry, decision
+   * journal, snapshot store, write-ahead log and order timeout; each defaults to its {@code NONE}
+   * variant, and the registry to a new one.
+   *
+   * @return the builder
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
   @Override
   public SinglePositionRobot createRobot(
       RobotConfiguration robotConfiguration,
@@ -52,59 +97,26 @@ public class SinglePositionRobotFactory implements RobotFactory<SinglePositionRo
     stateMultiplierMap.put(
         BinaryIsMomentumExplorationState.MAJOR, robotConfiguration.majorMultiplier());
 
-    var rsiConfig = robotConfiguration.rsiExplorerConfig();
-    var macdConfig = robotConfiguration.macdExplorerConfig();
-    var bollingerConfig = robotConfiguration.bollingerBandsExplorerConfig();
-    var stochasticConfig = robotConfiguration.stochasticOscillatorExplorerConfig();
-
     var binaryExplorers =
-        List.of(
-            new RSIBinaryExplorer(
-                rsiConfig.severity(),
-                rsiConfig.period(),
-                rsiConfig.oversoldThreshold(),
-                rsiConfig.overboughtThreshold(),
-                rsiConfig.longMediumThreshold(),
-                rsiConfig.shortMediumThreshold(),
-                rsiConfig.longMinorThreshold(),
-                rsiConfig.shortMinorThreshold()),
-            new MACDBinaryExplorer(
-                macdConfig.severity(),
-                macdConfig.shortPeriod(),
-                macdConfig.longPeriod(),
-                macdConfig.signalPeriod(),
-                macdConfig.histogramMajorThreshold(),
-                macdConfig.histogramMediumThreshold(),
-                macdConfig.histogramMinorThreshold()),
-            new BollingerBandsBinaryExplorer(
-                bollingerConfig.severity(),
-                bollingerConfig.period(),
-                bollingerConfig.standardDeviationMultiplier(),
-                bollingerConfig.lowerBandThreshold(),
-                bollingerConfig.upperBandThreshold(),
-                bollingerConfig.longMediumThreshold(),
-                bollingerConfig.shortMediumThreshold(),
-                bollingerConfig.longMinorThreshold(),
-                bollingerConfig.shortMinorThreshold()),
-            new StochasticOscillatorExplorer(
-                stochasticConfig.severity(),
-                stochasticConfig.period(),
-                stochasticConfig.dPeriod(),
-                stochasticConfig.oversoldThreshold(),
-                stochasticConfig.overboughtThreshold(),
-                stochasticConfig.longMediumThreshold(),
-                stochasticConfig.shortMediumThreshold(),
-                stochasticConfig.longMinorThreshold(),
-                stochasticConfig.shortMinorThreshold()));
-
-    var blockers = List.<Blocker>of(new ATRBlocker(7)); // TODO: Make this configurable
+        robotConfiguration.explorerConfigurations().stream()
+            .map(SinglePositionRobotFactory::createExplorer)
+            .toList();
+    var blockers =
+        robotConfiguration.blockerConfigurations().stream()
+            .map(SinglePositionRobotFactory::createBlocker)
+            .toList();
+
+    var cycleMetrics = cycleMetricsRegistry.register(symbol, robotTimeframe);
 
     var binaryStrategy =
         new BinaryStrategy(
             binaryExplorers,
             blockers,
             BigDecimal.valueOf(stopLossRequiredPercentage),
-            stateMultiplierMap);
+            stateMultiplierMap,
+            cycleMetrics,
+            symbol,
+            decisionJournal);
 
     var maximumRequiredPeriodThreshold =
         Stream.concat(
@@ -119,15 +131,128 @@ public class SinglePositionRobotFactory implements RobotFactory<SinglePositionRo
         calculateShiftBackToPreviousPeriod(
             robotTimeframe.interval(), robotTimeframe.unit(), maximumRequiredPeriodThreshold);
 
-    return new SinglePositionRobot(
-        robotTimeframe,
-        barsCollectorClient,
-        exchangeOrderClient,
-        binaryStrategy,
-        symbol,
-        BigDecimal.valueOf(percentagePerDeposit),
-        futuresMultiplier,
-        Instant.ofEpochMilli(initialBarsCollectionDate),
-        maximumRequiredPeriodThreshold);
+    return SinglePositionRobot.builder()
+        .robotTimeframe(robotTimeframe)
+        .barsCollectorClient(barsCollectorClient)
+        .exchangeOrderClient(exchangeOrderClient)
+        .strategy(binaryStrategy)
+        .symbol(symbol)
+        .percentageFromDeposit(BigDecimal.valueOf(percentagePerDeposit))
+        .futuresMultiplier(futuresMultiplier)
+        .initialBarsCollectionDate(Instant.ofEpochMilli(initialBarsCollectionDate))
+        .requiredBarsCount(maximumRequiredPeriodThreshold)
+        .cyclePhaseRecorder(cycleMetrics)
+        .snapshotStore(snapshotStore)
+        .transitionLog(transitionLog)
+        .pendingOrderTimeout(pendingOrderTimeout)
+        .build();
+  }
+
+  private static BinaryExplorer createExplorer(ExplorerConfiguration explorerConfiguration) {
+    return switch (explorerConfiguration) {
+      case RSIExplorerConfiguration rsiConfig ->
+          new RSIBinaryExplorer(
+              rsiConfig.severity(),
+              rsiConfig.period(),
+              rsiConfig.oversoldThreshold(),
+              rsiConfig.overboughtThreshold(),
+              rsiConfig.longMediumThreshold(),
+              rsiConfig.shortMediumThreshold(),
+              rsiConfig.longMinorThreshold(),
+              rsiConfig.shortMinorThreshold());
+      case MACDExplorerConfiguration macdConfig ->
+          new MACDBinaryExplorer(
+              macdConfig.severity(),
+              macdConfig.shortPeriod(),
+              macdConfig.longPeriod(),
+              macdConfig.signalPeriod(),
+              macdConfig.histogramMajorThreshold(),
+              macdConfig.histogramMediumThreshold(),
+              macdConfig.histogramMinorThreshold());
+      case BollingerBandsExplorerConfiguration bollingerConfig ->
+          new BollingerBandsBinaryExplorer(
+              bollingerConfig.severity(),
+              bollingerConfig.period(),
+              bollingerConfig.standardDeviationMultiplier(),
+              bollingerConfig.lowerBandThreshold(),
+              bollingerConfig.upperBandThreshold(),
+              bollingerConfig.longMediumThreshold(),
+              bollingerConfig.shortMediumThreshold(),
+              bollingerConfig.longMinorThreshold(),
+              bollingerConfig.shortMinorThreshold());
+      case StochasticOscillatorExplorerConfiguration stochasticConfig ->
+          new StochasticOscillatorExplorer(
+              stochasticConfig.severity(),
+              stochasticConfig.period(),
+              stochasticConfig.dPeriod(),
+              stochasticConfig.oversoldThreshold(),
+              stochasticConfig.overboughtThreshold(),
+              stochasticConfig.longMediumThreshold(),
+              stochasticConfig.shortMediumThreshold(),
+              stochasticConfig.longMinorThreshold(),
+              stochasticConfig.shortMinorThreshold());
+    };
+  }
+
+  private static Blocker createBlocker(BlockerConfiguration blockerConfiguration) {
+    return switch (blockerConfiguration) {
+      case ATRBlockerConfiguration atrConfig -> new ATRBlocker(atrConfig.period());
+    };
+  }
+
+  /** Builds a {@link SinglePositionRobotFactory}, see {@link #builder()}. */
+  public static final class Builder {
+
+    private CycleMetricsRegistry cycleMetricsRegistry = new CycleMetricsRegistry();
+    private DecisionJournal decisionJournal = DecisionJournal.NONE;
+    private RobotSnapshotStore snapshotStore = RobotSnapshotStore.NONE;
+    private StateTransitionLog transitionLog = StateTransitionLog.NONE;
+    private PendingOrderTimeout pendingOrderTimeout = PendingOrderTimeout.NONE;
+
+    private Builder() {}
+
+    /**
+     * @param cycleMetricsRegistry the registry every created robot registers its metrics with
+     */
+    public Builder cycleMetricsRegistry(CycleMetricsRegistry cycleMetricsRegistry) {
+      this.cycleMetricsRegistry = cycleMetricsRegistry;
+      return this;
+    }
+
+    /**
+     * @param decisionJournal the journal shared by the strategies of every created robot
+     */
+    public Builder decisionJournal(DecisionJournal decisionJournal) {
+      this.decisionJournal = decisionJournal;
+      return this;
+    }
+
+    /**
+     * @param snapshotStore the store every created robot restores from and snapshots to
+     */
+    public Builder snapshotStore(RobotSnapshotStore snapshotStore) {
+      this.snapshotStore = snapshotStore;
+      return this;
+    }
+
+    /**
+     * @param transitionLog the write-ahead log shared by every created robot
+     */
+    public Builder transitionLog(StateTransitionLog transitionLog) {
+      this.transitionLog = transitionLog;
+      return this;
+    }
+
+    /**
+     * @param pendingOrderTimeout the order timeout shared by every created robot
+     */
+    public Builder pendingOrderTimeout(PendingOrderTimeout pendingOrderTimeout) {
+      this.pendingOrderTimeout = pendingOrderTimeout;
+      return this;
+    }
+
+    public SinglePositionRobotFactory build() {
+      return new SinglePositionRobotFactory(this);
+    }
   }
 }
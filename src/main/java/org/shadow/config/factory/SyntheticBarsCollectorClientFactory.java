@@ -0,0 +1,34 @@
+package org.shadow.config.factory;
+
+import org.shadow.config.model.ExchangeConfiguration;
+import org.shadow.config.model.RobotConfiguration;
+import org.shadow.infrastructure.client.synthetic.SyntheticBarGenerator;
+import org.shadow.infrastructure.client.synthetic.SyntheticBarsCollectorClient;
+import org.shadow.infrastructure.client.synthetic.SyntheticMarketParameters;
+
+public class SyntheticBarsCollectorClientFactory
+    implements BarsCollectorClientFactory<SyntheticBarsCollectorClient> {
+
+  @Override
+  public SyntheticBarsCollectorClient createClient(
+      ExchangeConfiguration exchangeConfiguration, RobotConfiguration robotConfiguration) {
+    var synthetic = exchangeConfiguration.synthetic();
+    var parameters =
+        new SyntheticMarketParameters(
+            synthetic.initialPrice(),
+            synthetic.annualDrift(),
+            synthetic.annualVolatility(),
+            synthetic.volatilityReaction(),
+            synthetic.volatilityPersistence(),
+            synthetic.regimeSwitchProbability(),
+            synthetic.gapProbability(),
+            synthetic.gapVolatility(),
+            synthetic.meanVolume());
+    // Every symbol gets its own reproducible series
+    var seed = synthetic.seed() * 31 + robotConfiguration.symbol().hashCode();
+    var intervalMillis = robotConfiguration.unit().toMillis(robotConfiguration.interval());
+    var generator =
+        new SyntheticBarGenerator(parameters, seed, synthetic.startTime(), intervalMillis);
+    return new SyntheticBarsCollectorClient(generator, robotConfiguration.symbol());
+  }
+}
@@ -0,0 +1,3 @@
+package org.shadow.config.model;
+
+public record ATRBlockerConfiguration(Integer period) implements BlockerConfiguration {}
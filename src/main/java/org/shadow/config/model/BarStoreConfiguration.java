@@ -0,0 +1,3 @@
+package org.shadow.config.model;
+
+public record BarStoreConfiguration(boolean enabled, String directory) {}
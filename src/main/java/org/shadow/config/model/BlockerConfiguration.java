@@ -0,0 +1,4 @@
+package org.shadow.config.model;
+
+/** Parameters of one blocker a robot uses, listed in its {@code blockers} block. */
+public sealed interface BlockerConfiguration permits ATRBlockerConfiguration {}
@@ -0,0 +1,5 @@
+package org.shadow.config.model;
+
+public enum BlockerType {
+  ATR
+}
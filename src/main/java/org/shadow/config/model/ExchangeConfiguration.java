@@ -1,4 +1,11 @@
 package org.shadow.config.model;
 
 public record ExchangeConfiguration(
-    ExchangeConfigurationType type, String apiKey, String apiSecret) {}
+    ExchangeConfigurationType type,
+    String apiKey,
+    String apiSecret,
+    int maxInFlightOrders,
+    long orderTimeoutMillis,
+    FakeLatencyConfiguration fakeLatency,
+    MatchingSimulationConfiguration simulation,
+    SyntheticMarketConfiguration synthetic) {}
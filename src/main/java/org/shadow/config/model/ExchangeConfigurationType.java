@@ -1,5 +1,6 @@
 package org.shadow.config.model;
 
 public enum ExchangeConfigurationType {
-  FAKE
+  FAKE,
+  SYNTHETIC
 }
@@ -0,0 +1,11 @@
+package org.shadow.config.model;
+
+/** Parameters of one explorer a robot uses, listed in its {@code explorers} block. */
+public sealed interface ExplorerConfiguration
+    permits RSIExplorerConfiguration,
+        MACDExplorerConfiguration,
+        BollingerBandsExplorerConfiguration,
+        StochasticOscillatorExplorerConfiguration {
+
+  Integer severity();
+}
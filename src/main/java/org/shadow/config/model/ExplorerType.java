@@ -0,0 +1,8 @@
+package org.shadow.config.model;
+
+public enum ExplorerType {
+  RSI,
+  MACD,
+  BOLLINGER_BANDS,
+  STOCHASTIC_OSCILLATOR
+}
@@ -0,0 +1,3 @@
+package org.shadow.config.model;
+
+public record FakeLatencyConfiguration(long baseMillis, long jitterMillis, long seed) {}
@@ -0,0 +1,3 @@
+package org.shadow.config.model;
+
+public record JfrConfiguration(boolean enabled) {}
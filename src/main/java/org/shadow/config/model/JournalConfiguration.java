@@ -0,0 +1,3 @@
+package org.shadow.config.model;
+
+public record JournalConfiguration(boolean enabled, String file, int bufferSize) {}
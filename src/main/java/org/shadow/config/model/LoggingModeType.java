@@ -0,0 +1,6 @@
+package org.shadow.config.model;
+
+public enum LoggingModeType {
+  VERBOSE,
+  GARBAGE_FREE
+}
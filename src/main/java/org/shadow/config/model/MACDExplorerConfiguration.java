@@ -7,4 +7,4 @@ public record MACDExplorerConfiguration(
     Integer signalPeriod,
     Double histogramMajorThreshold,
     Double histogramMediumThreshold,
-    Double histogramMinorThreshold) {}
+    Double histogramMinorThreshold) implements ExplorerConfiguration {}
@@ -0,0 +1,4 @@
+package org.shadow.config.model;
+
+public record MatchingSimulationConfiguration(
+    boolean enabled, double initialEquity, double slippageBps, double feeBps) {}
@@ -0,0 +1,3 @@
+package org.shadow.config.model;
+
+public record MetricsConfiguration(long reportIntervalSeconds, boolean httpEnabled, int httpPort) {}
@@ -8,4 +8,4 @@ public record RSIExplorerConfiguration(
     Double longMediumThreshold,
     Double shortMediumThreshold,
     Double longMinorThreshold,
-    Double shortMinorThreshold) {}
+    Double shortMinorThreshold) implements ExplorerConfiguration {}
@@ -1,5 +1,6 @@
 package org.shadow.config.model;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
@@ -10,10 +11,8 @@ public record RobotConfiguration(
     String symbol,
     OrderConfiguration orderConfiguration,
     Optional<String> historicalDataFile,
-    RSIExplorerConfiguration rsiExplorerConfig,
-    MACDExplorerConfiguration macdExplorerConfig,
-    BollingerBandsExplorerConfiguration bollingerBandsExplorerConfig,
-    StochasticOscillatorExplorerConfiguration stochasticOscillatorExplorerConfig,
+    List<ExplorerConfiguration> explorerConfigurations,
+    List<BlockerConfiguration> blockerConfigurations,
     int notReadyMultiplier,
     int minorMultiplier,
     int mediumMultiplier,
@@ -0,0 +1,10 @@
+package org.shadow.config.model;
+
+public record SchedulingConfiguration(
+    SchedulingMode mode,
+    long batchBudgetMillis,
+    OverrunPolicyType overrunPolicy,
+    long backlogDeadlineMillis,
+    TimerModeType timerMode,
+    long alignmentOffsetMillis,
+    long wheelTickMillis) {}
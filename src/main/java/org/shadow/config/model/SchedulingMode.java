@@ -0,0 +1,7 @@
+package org.shadow.config.model;
+
+public enum SchedulingMode {
+  PER_ROBOT,
+  BATCH,
+  WHEEL
+}
@@ -0,0 +1,3 @@
+package org.shadow.config.model;
+
+public record StartupConfiguration(int parallelism) {}
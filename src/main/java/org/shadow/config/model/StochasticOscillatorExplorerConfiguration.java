@@ -9,4 +9,4 @@ public record StochasticOscillatorExplorerConfiguration(
     Double longMediumThreshold,
     Double shortMediumThreshold,
     Double longMinorThreshold,
-    Double shortMinorThreshold) {}
+    Double shortMinorThreshold) implements ExplorerConfiguration {}
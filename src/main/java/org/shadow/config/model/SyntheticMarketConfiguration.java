@@ -0,0 +1,16 @@
+package org.shadow.config.model;
+
+import java.time.Instant;
+
+public record SyntheticMarketConfiguration(
+    long seed,
+    Instant startTime,
+    double initialPrice,
+    double annualDrift,
+    double annualVolatility,
+    double volatilityReaction,
+    double volatilityPersistence,
+    double regimeSwitchProbability,
+    double gapProbability,
+    double gapVolatility,
+    double meanVolume) {}
@@ -0,0 +1,6 @@
+package org.shadow.config.model;
+
+public enum TimerModeType {
+  FIXED_RATE,
+  ALIGNED
+}
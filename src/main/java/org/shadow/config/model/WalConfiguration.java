@@ -0,0 +1,3 @@
+package org.shadow.config.model;
+
+public record WalConfiguration(boolean enabled, String file, long groupCommitMillis) {}
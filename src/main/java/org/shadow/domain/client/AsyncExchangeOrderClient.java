@@ -0,0 +1,37 @@
+package org.shadow.domain.client;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.shadow.domain.client.model.Order;
+
+/**
+ * An {@link ExchangeOrderClient} that can also submit orders without blocking the caller. Every
+ * request is correlated with its response by order id, and the number of requests in flight on one
+ * connection is bounded; requests above the bound fail fast with {@link
+ * org.shadow.domain.client.exception.TooManyInFlightRequestsException} instead of queueing.
+ */
+public interface AsyncExchangeOrderClient extends ExchangeOrderClient {
+
+  CompletableFuture<Order> openLongOrderAsync(
+      String symbol,
+      BigDecimal entry,
+      List<BigDecimal> takeProfits,
+      BigDecimal stopLoss,
+      BigDecimal percentageFromDeposit,
+      Integer futuresMultiplier);
+
+  CompletableFuture<Order> openShortOrderAsync(
+      String symbol,
+      BigDecimal entry,
+      List<BigDecimal> takeProfits,
+      BigDecimal stopLoss,
+      BigDecimal percentageFromDeposit,
+      Integer futuresMultiplier);
+
+  CompletableFuture<Void> closeOrderAsync(Order order);
+
+  int getMaxInFlightRequests();
+
+  int getInFlightRequests();
+}
@@ -25,4 +25,15 @@ public interface ExchangeOrderClient {
       Integer futuresMultiplier);
 
   void closeOrder(Order id);
+
+  /**
+   * Registers the listener for the fills of one submitted order. Fills reported before the listener
+   * was registered are passed to it on registration. Clients that only acknowledge orders never
+   * report fills.
+   *
+   * @param orderId the id of the order
+   * @param listener the listener, called on an exchange thread, so it must hand the fill off
+   *     without blocking
+   */
+  default void addOrderFillListener(long orderId, OrderFillListener listener) {}
 }
@@ -0,0 +1,10 @@
+package org.shadow.domain.client;
+
+import org.shadow.domain.client.model.OrderFill;
+
+/** Receives the fills of orders, including exits the exchange triggers on its own. */
+@FunctionalInterface
+public interface OrderFillListener {
+
+  void onOrderFilled(OrderFill fill);
+}
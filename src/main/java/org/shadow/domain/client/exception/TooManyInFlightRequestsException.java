@@ -0,0 +1,8 @@
+package org.shadow.domain.client.exception;
+
+public class TooManyInFlightRequestsException extends RuntimeException {
+
+  public TooManyInFlightRequestsException(int maxInFlightRequests) {
+    super("Maximum number of in-flight requests reached: " + maxInFlightRequests);
+  }
+}
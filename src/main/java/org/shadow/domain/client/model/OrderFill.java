@@ -0,0 +1,14 @@
+package org.shadow.domain.client.model;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * A fill reported by the exchange for an order.
+ *
+ * @param orderId the id of the filled order
+ * @param type whether the fill opened the position, closed it on request or hit one of its exits
+ * @param price the fill price
+ * @param time the time the fill was reported
+ */
+public record OrderFill(long orderId, OrderFillType type, BigDecimal price, Instant time) {}
@@ -0,0 +1,8 @@
+package org.shadow.domain.client.model;
+
+public enum OrderFillType {
+  ENTRY,
+  CLOSE,
+  STOP_LOSS,
+  TAKE_PROFIT
+}
@@ -0,0 +1,10 @@
+package org.shadow.infrastructure.client.fake;
+
+import org.shadow.domain.client.model.Bar;
+
+/** Receives every bar replayed by a fake bars collector, e.g. to drive a matching simulation. */
+@FunctionalInterface
+public interface BarListener {
+
+  void onBar(String symbol, Bar bar);
+}
@@ -1,10 +1,10 @@
 package org.shadow.infrastructure.client.fake;
 
 import java.io.IOException;
-import java.math.BigDecimal;
 import java.time.Instant;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -12,19 +12,33 @@ import org.shadow.domain.client.BarsCollectorClient;
 import org.shadow.domain.client.model.Bar;
 import org.shadow.infrastructure.client.fake.exception.FailedToInitException;
 import org.shadow.infrastructure.file.HistoricalDataLoader;
+import org.shadow.infrastructure.series.CompressedBarSeries;
 
 public class FakeBarsCollectorClient implements BarsCollectorClient {
 
   private final Logger logger = LogManager.getLogger(FakeBarsCollectorClient.class);
-  private final HistoricalDataLoader historicalDataLoader;
+  private final HistoricalSeriesCache historicalSeriesCache;
   private final String historicalDataFile;
   private final String symbol;
+  private final List<BarListener> barListeners = new CopyOnWriteArrayList<>();
 
-  private List<Bar> bars;
+  private CompressedBarSeries.Cursor bars;
 
   public FakeBarsCollectorClient(
       HistoricalDataLoader historicalDataLoader, String historicalDataFile, String symbol) {
-    this.historicalDataLoader = historicalDataLoader;
+    this(new HistoricalSeriesCache(historicalDataLoader), historicalDataFile, symbol);
+  }
+
+  /**
+   * Constructs a client replaying a series shared with every other client of the cache.
+   *
+   * @param historicalSeriesCache the cache loading each historical data file once
+   * @param historicalDataFile the replayed file
+   * @param symbol the symbol of the replayed bars
+   */
+  public FakeBarsCollectorClient(
+      HistoricalSeriesCache historicalSeriesCache, String historicalDataFile, String symbol) {
+    this.historicalSeriesCache = historicalSeriesCache;
     this.historicalDataFile = historicalDataFile;
     this.symbol = symbol;
   }
@@ -34,24 +48,7 @@ public class FakeBarsCollectorClient implements BarsCollectorClient {
     logger.info("Initializing FakeBarsCollectorClient...");
     // TODO: Implement data loading and handling: TR-3
     try {
-      logger.info("Loading historicalDataBars from {} file", historicalDataFile);
-      var historicalDataBars = historicalDataLoader.load(historicalDataFile);
-      bars =
-          historicalDataBars.stream()
-              .map(
-                  candlestick ->
-                      new Bar(
-                          Instant.ofEpochMilli(candlestick.timestamp()),
-                          new BigDecimal(candlestick.open()),
-                          new BigDecimal(candlestick.high()),
-                          new BigDecimal(candlestick.low()),
-                          new BigDecimal(candlestick.close()),
-                          new BigDecimal(candlestick.volume())))
-              .collect(LinkedList::new, LinkedList::add, LinkedList::addAll);
-      logger.info(
-          "Loaded {} historicalDataBars from {} file",
-          historicalDataBars.size(),
-          historicalDataFile);
+      bars = historicalSeriesCache.load(historicalDataFile).cursor();
     } catch (IOException ioException) {
       logger.error(ioException);
       throw new FailedToInitException();
@@ -69,6 +66,23 @@ public class FakeBarsCollectorClient implements BarsCollectorClient {
         timeFrom,
         timeTo);
 
-    return List.of(bars.removeFirst());
+    if (!bars.next()) {
+      throw new NoSuchElementException("No more historical bars of " + symbol);
+    }
+    var bar = bars.toBar();
+    for (var barListener : barListeners) {
+      barListener.onBar(symbol, bar);
+    }
+    return List.of(bar);
+  }
+
+  /**
+   * Registers a listener that receives every bar replayed by this client, before the bar is
+   * returned to the robot.
+   *
+   * @param barListener the listener to notify
+   */
+  public void addBarListener(BarListener barListener) {
+    barListeners.add(barListener);
   }
 }
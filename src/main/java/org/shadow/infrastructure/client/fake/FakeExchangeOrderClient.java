@@ -1,22 +1,92 @@
 package org.shadow.infrastructure.client.fake;
 
+import static java.lang.Double.NaN;
+
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.shadow.domain.client.ExchangeOrderClient;
+import org.shadow.domain.client.AsyncExchangeOrderClient;
+import org.shadow.domain.client.OrderFillListener;
+import org.shadow.domain.client.exception.TooManyInFlightRequestsException;
 import org.shadow.domain.client.model.Order;
+import org.shadow.domain.client.model.OrderFill;
+import org.shadow.domain.client.model.OrderFillType;
 import org.shadow.domain.client.model.OrderType;
+import org.shadow.infrastructure.client.fake.matching.MatchingEngine;
+import org.shadow.infrastructure.client.fake.matching.OrderSide;
+
+public class FakeExchangeOrderClient implements AsyncExchangeOrderClient {
 
-public class FakeExchangeOrderClient implements ExchangeOrderClient {
+  private static final int DEFAULT_MAX_IN_FLIGHT_REQUESTS = 16;
+  private static final int ORDER_ID_BLOCK_SIZE = 1024;
+  // Shared by all clients, as the exchange assigns ids across every connection
+  private static final OrderIdAllocator orderIdAllocator =
+      new OrderIdAllocator(1, ORDER_ID_BLOCK_SIZE);
 
   private final Logger logger = LogManager.getLogger(FakeExchangeOrderClient.class);
-  private static long orderIdCounter = 1;
+
+  private final LatencyModel latencyModel;
+  private final MatchingEngine matchingEngine;
+  private final int maxInFlightRequests;
+  private final Semaphore inFlightPermits;
+  private final StripedLongIndex<PendingRequest> pendingRequests = new StripedLongIndex<>();
+  private final ScheduledExecutorService connection;
+  private final StripedLongIndex<FillSubscription> fillSubscriptions = new StripedLongIndex<>();
+
+  private final LongAdder completedRequests = new LongAdder();
+  private final LongAdder totalRoundTripNanos = new LongAdder();
+
+  public FakeExchangeOrderClient() {
+    this(LatencyModel.none(), DEFAULT_MAX_IN_FLIGHT_REQUESTS, null);
+  }
+
+  public FakeExchangeOrderClient(LatencyModel latencyModel, int maxInFlightRequests) {
+    this(latencyModel, maxInFlightRequests, null);
+  }
+
+  /**
+   * Constructs a fake exchange client that simulates one connection to the exchange.
+   *
+   * @param latencyModel the simulated round-trip latency of every request
+   * @param maxInFlightRequests the maximum number of requests awaiting a response at once
+   * @param matchingEngine the simulator that fills submitted orders against replayed bars, or null
+   *     to acknowledge orders without filling them
+   */
+  public FakeExchangeOrderClient(
+      LatencyModel latencyModel, int maxInFlightRequests, MatchingEngine matchingEngine) {
+    if (maxInFlightRequests <= 0) {
+      throw new IllegalArgumentException("Max in-flight requests must be positive");
+    }
+    this.latencyModel = latencyModel;
+    this.matchingEngine = matchingEngine;
+    this.maxInFlightRequests = maxInFlightRequests;
+    this.inFlightPermits = new Semaphore(maxInFlightRequests);
+    this.connection =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              var thread = new Thread(runnable, "fake-exchange-connection");
+              thread.setDaemon(true);
+              return thread;
+            });
+    if (matchingEngine != null) {
+      matchingEngine.setFillListener(this::onFill);
+    }
+  }
 
   @Override
   public synchronized void init() {
-    logger.info("Initializing FakeExchangeOrderClient...");
+    logger.info(
+        "Initializing FakeExchangeOrderClient with {} max in-flight requests...",
+        maxInFlightRequests);
   }
 
   @Override
@@ -27,34 +97,140 @@ public class FakeExchangeOrderClient implements ExchangeOrderClient {
       BigDecimal stopLoss,
       BigDecimal percentageFromDeposit,
       Integer futuresMultiplier) {
+    return openOrder(
+            OrderSide.LONG,
+            symbol,
+            entry,
+            takeProfits,
+            stopLoss,
+            percentageFromDeposit,
+            futuresMultiplier,
+            true)
+        .join();
+  }
 
-    logger.info(
-        "Opening long order - Symbol: {}, Entry: {}, TakeProfits: {}, StopLoss: {}, PercentageFromDeposit: {}, FuturesMultiplier: {}",
+  @Override
+  public Order openShortOrder(
+      String symbol,
+      BigDecimal entry,
+      List<BigDecimal> takeProfits,
+      BigDecimal stopLoss,
+      BigDecimal percentageFromDeposit,
+      Integer futuresMultiplier) {
+    return openOrder(
+            OrderSide.SHORT,
+            symbol,
+            entry,
+            takeProfits,
+            stopLoss,
+            percentageFromDeposit,
+            futuresMultiplier,
+            true)
+        .join();
+  }
+
+  @Override
+  public void closeOrder(Order order) {
+    closeOrder(order, true).join();
+  }
+
+  @Override
+  public CompletableFuture<Order> openLongOrderAsync(
+      String symbol,
+      BigDecimal entry,
+      List<BigDecimal> takeProfits,
+      BigDecimal stopLoss,
+      BigDecimal percentageFromDeposit,
+      Integer futuresMultiplier) {
+    return openOrder(
+        OrderSide.LONG,
         symbol,
         entry,
         takeProfits,
         stopLoss,
         percentageFromDeposit,
-        futuresMultiplier);
+        futuresMultiplier,
+        false);
+  }
 
-    var order = new Order(generateOrderId(), entry, Instant.now(), OrderType.MARKET);
+  @Override
+  public CompletableFuture<Order> openShortOrderAsync(
+      String symbol,
+      BigDecimal entry,
+      List<BigDecimal> takeProfits,
+      BigDecimal stopLoss,
+      BigDecimal percentageFromDeposit,
+      Integer futuresMultiplier) {
+    return openOrder(
+        OrderSide.SHORT,
+        symbol,
+        entry,
+        takeProfits,
+        stopLoss,
+        percentageFromDeposit,
+        futuresMultiplier,
+        false);
+  }
 
-    logger.debug("Long order created: {}", order);
+  @Override
+  public CompletableFuture<Void> closeOrderAsync(Order order) {
+    return closeOrder(order, false);
+  }
 
-    return order;
+  @Override
+  public void addOrderFillListener(long orderId, OrderFillListener listener) {
+    var subscription = fillSubscriptions.get(orderId);
+    if (subscription != null && subscription.setListener(listener)) {
+      fillSubscriptions.remove(orderId);
+    }
   }
 
   @Override
-  public Order openShortOrder(
+  public int getMaxInFlightRequests() {
+    return maxInFlightRequests;
+  }
+
+  @Override
+  public int getInFlightRequests() {
+    return maxInFlightRequests - inFlightPermits.availablePermits();
+  }
+
+  /**
+   * Returns the average simulated round trip of completed requests.
+   *
+   * @return the average round trip in nanoseconds, or 0 if no request has completed yet
+   */
+  public long getAverageRoundTripNanos() {
+    var completed = completedRequests.sum();
+    return completed > 0 ? totalRoundTripNanos.sum() / completed : 0;
+  }
+
+  /**
+   * Returns the matching simulator of this client.
+   *
+   * @return the matching engine, or null if orders are only acknowledged
+   */
+  public MatchingEngine getMatchingEngine() {
+    return matchingEngine;
+  }
+
+  /**
+   * Opens an order. The synchronous API waits for a free in-flight slot, the asynchronous one fails
+   * fast with {@link TooManyInFlightRequestsException} when all slots are taken.
+   */
+  private CompletableFuture<Order> openOrder(
+      OrderSide side,
       String symbol,
       BigDecimal entry,
       List<BigDecimal> takeProfits,
       BigDecimal stopLoss,
       BigDecimal percentageFromDeposit,
-      Integer futuresMultiplier) {
+      Integer futuresMultiplier,
+      boolean waitForPermit) {
 
     logger.info(
-        "Opening short order - Symbol: {}, Entry: {}, TakeProfits: {}, StopLoss: {}, PercentageFromDeposit: {}, FuturesMultiplier: {}",
+        "Opening {} order - Symbol: {}, Entry: {}, TakeProfits: {}, StopLoss: {}, PercentageFromDeposit: {}, FuturesMultiplier: {}",
+        side,
         symbol,
         entry,
         takeProfits,
@@ -62,21 +238,149 @@ public class FakeExchangeOrderClient implements ExchangeOrderClient {
         percentageFromDeposit,
         futuresMultiplier);
 
+    // The matching engine only sees orders the connection accepted
+    if (!acquirePermit(waitForPermit)) {
+      logger.warn("Rejecting {} order for {}: too many requests in flight", side, symbol);
+      return CompletableFuture.failedFuture(
+          new TooManyInFlightRequestsException(maxInFlightRequests));
+    }
+
     var order = new Order(generateOrderId(), entry, Instant.now(), OrderType.MARKET);
 
-    logger.debug("Short order created: {}", order);
+    logger.debug("{} order created: {}", side, order);
+    if (matchingEngine != null) {
+      // Subscribed before the engine sees the order, so no fill is reported before the owner knows
+      // the order id
+      fillSubscriptions.put(order.id(), new FillSubscription());
+    }
+    submitToMatchingEngine(
+        order, symbol, side, takeProfits, stopLoss, percentageFromDeposit, futuresMultiplier);
 
-    return order;
+    return send(order);
   }
 
-  @Override
-  public void closeOrder(Order order) {
+  private CompletableFuture<Void> closeOrder(Order order, boolean waitForPermit) {
     logger.info("Closing order - ID: {}, Type: {}", order.id(), order.type());
-    // In a real implementation, logic to close the order would be here
-    logger.debug("Order closed: {}", order);
+    if (!acquirePermit(waitForPermit)) {
+      logger.warn("Rejecting close of order {}: too many requests in flight", order.id());
+      return CompletableFuture.failedFuture(
+          new TooManyInFlightRequestsException(maxInFlightRequests));
+    }
+    // The owner confirms the close by the response, so the close fill is not reported
+    fillSubscriptions.remove(order.id());
+    if (matchingEngine != null && !matchingEngine.submitClose(order.id())) {
+      logger.info("Order {} was already closed by the matching engine", order.id());
+    }
+    return send(order).thenAccept(closedOrder -> logger.debug("Order closed: {}", closedOrder));
+  }
+
+  private void submitToMatchingEngine(
+      Order order,
+      String symbol,
+      OrderSide side,
+      List<BigDecimal> takeProfits,
+      BigDecimal stopLoss,
+      BigDecimal percentageFromDeposit,
+      Integer futuresMultiplier) {
+    if (matchingEngine == null) {
+      return;
+    }
+    var allocation = percentageFromDeposit.doubleValue() * futuresMultiplier;
+    var takeProfit =
+        takeProfits != null && !takeProfits.isEmpty() ? takeProfits.getFirst().doubleValue() : NaN;
+    var stopLossPrice = stopLoss != null ? stopLoss.doubleValue() : NaN;
+    matchingEngine.submitEntry(order.id(), symbol, side, allocation, stopLossPrice, takeProfit);
+  }
+
+  private boolean acquirePermit(boolean waitForPermit) {
+    if (!waitForPermit) {
+      return inFlightPermits.tryAcquire();
+    }
+    // Responses always arrive after the simulated latency, so the wait is bounded
+    inFlightPermits.acquireUninterruptibly();
+    return true;
+  }
+
+  /** Sends a request whose in-flight permit is already held; the response releases it. */
+  private CompletableFuture<Order> send(Order order) {
+    var pendingRequest = new PendingRequest(order, new CompletableFuture<>(), System.nanoTime());
+    pendingRequests.put(order.id(), pendingRequest);
+
+    var latencyNanos = latencyModel.nextLatencyNanos();
+    if (latencyNanos <= 0) {
+      onResponse(order.id());
+    } else {
+      connection.schedule(() -> onResponse(order.id()), latencyNanos, TimeUnit.NANOSECONDS);
+    }
+    return pendingRequest.response();
+  }
+
+  private void onResponse(long orderId) {
+    var pendingRequest = pendingRequests.remove(orderId);
+    if (pendingRequest == null) {
+      logger.warn("Received response for unknown order id {}", orderId);
+      return;
+    }
+    inFlightPermits.release();
+    completedRequests.increment();
+    totalRoundTripNanos.add(System.nanoTime() - pendingRequest.sentNanos());
+    pendingRequest.response().complete(pendingRequest.order());
+  }
+
+  /**
+   * Reports a fill of the matching engine to the owner of the order only. Called under the lock of
+   * the symbol book, so it only looks the order up and hands the fill to a non-blocking listener.
+   */
+  private void onFill(long orderId, OrderFillType type, double price) {
+    var subscription = fillSubscriptions.get(orderId);
+    if (subscription == null) {
+      return;
+    }
+    var fill = new OrderFill(orderId, type, BigDecimal.valueOf(price), Instant.now());
+    logger.debug("Order filled: {}", fill);
+    if (subscription.onFill(fill) && type != OrderFillType.ENTRY) {
+      fillSubscriptions.remove(orderId);
+    }
   }
 
   private static long generateOrderId() {
-    return orderIdCounter++;
+    return orderIdAllocator.nextId();
+  }
+
+  private record PendingRequest(Order order, CompletableFuture<Order> response, long sentNanos) {}
+
+  /** Fills of one order, held back until its owner registers a listener for them. */
+  private static final class FillSubscription {
+
+    private OrderFillListener listener;
+    private List<OrderFill> heldFills;
+
+    /** Returns true if the fill was passed to the listener, false if it is held back. */
+    private synchronized boolean onFill(OrderFill fill) {
+      if (listener != null) {
+        listener.onOrderFilled(fill);
+        return true;
+      }
+      if (heldFills == null) {
+        heldFills = new ArrayList<>(2);
+      }
+      heldFills.add(fill);
+      return false;
+    }
+
+    /** Returns true if an exit was among the held back fills, so no fill follows. */
+    private synchronized boolean setListener(OrderFillListener listener) {
+      this.listener = listener;
+      if (heldFills == null) {
+        return false;
+      }
+      var exited = false;
+      for (var fill : heldFills) {
+        listener.onOrderFilled(fill);
+        exited |= fill.type() != OrderFillType.ENTRY;
+      }
+      heldFills = null;
+      return exited;
+    }
   }
 }
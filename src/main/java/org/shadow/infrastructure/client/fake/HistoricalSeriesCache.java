@@ -0,0 +1,90 @@
+package org.shadow.infrastructure.client.fake;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.shadow.infrastructure.file.HistoricalDataLoader;
+import org.shadow.infrastructure.series.CompressedBarSeries;
+
+/**
+ * Loads every historical data file once into a {@link CompressedBarSeries} shared by all fake bars
+ * collectors replaying it. Collectors initialized concurrently wait for the load in progress
+ * instead of parsing the file again; a failed load is retried by the next collector.
+ *
+ * <p>A series is not appended to once loaded, so every collector replays it through its own cursor.
+ *
+ * <p>Prices and volumes are kept as the doubles they parse to. Values of up to 15 significant
+ * digits are replayed exactly, but their scale is not kept: a replayed {@code "67234.10000000"}
+ * reads {@code 67234.1}. Replayed bars therefore equal the file decimals by {@link
+ * java.math.BigDecimal#compareTo}, not by {@code equals}.
+ */
+public class HistoricalSeriesCache {
+
+  private final Logger logger = LogManager.getLogger(HistoricalSeriesCache.class);
+
+  private final HistoricalDataLoader historicalDataLoader;
+  private final Map<String, CompletableFuture<CompressedBarSeries>> series =
+      new ConcurrentHashMap<>();
+
+  public HistoricalSeriesCache(HistoricalDataLoader historicalDataLoader) {
+    this.historicalDataLoader = historicalDataLoader;
+  }
+
+  /**
+   * Returns the series of a historical data file, loading it on first use.
+   *
+   * @param historicalDataFile the file, as accepted by {@link HistoricalDataLoader#load(String)}
+   * @return the bars of the file
+   * @throws IOException if the file cannot be loaded
+   */
+  public CompressedBarSeries load(String historicalDataFile) throws IOException {
+    var loading = new CompletableFuture<CompressedBarSeries>();
+    var loaded = series.putIfAbsent(historicalDataFile, loading);
+    if (loaded == null) {
+      try {
+        loading.complete(read(historicalDataFile));
+      } catch (IOException | RuntimeException e) {
+        series.remove(historicalDataFile, loading);
+        loading.completeExceptionally(e);
+        throw e;
+      }
+      return loading.join();
+    }
+
+    logger.info("Sharing historicalDataBars of {} file", historicalDataFile);
+    try {
+      return loaded.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof IOException ioException) {
+        throw new IOException("Failed to load " + historicalDataFile, ioException);
+      }
+      throw e;
+    }
+  }
+
+  private CompressedBarSeries read(String historicalDataFile) throws IOException {
+    logger.info("Loading historicalDataBars from {} file", historicalDataFile);
+    var historicalDataBars = historicalDataLoader.load(historicalDataFile);
+    // Kept compressed, so long histories of many robots fit in the heap
+    var loaded = new CompressedBarSeries();
+    for (var candlestick : historicalDataBars) {
+      loaded.append(
+          candlestick.timestamp(),
+          Double.parseDouble(candlestick.open()),
+          Double.parseDouble(candlestick.high()),
+          Double.parseDouble(candlestick.low()),
+          Double.parseDouble(candlestick.close()),
+          Double.parseDouble(candlestick.volume()));
+    }
+    logger.info(
+        "Loaded {} historicalDataBars from {} file into {} bytes",
+        historicalDataBars.size(),
+        historicalDataFile,
+        loaded.getCompressedBytes());
+    return loaded;
+  }
+}
@@ -0,0 +1,50 @@
+package org.shadow.infrastructure.client.fake;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulated network and matching latency of the fake exchange. Used to measure how much robot
+ * cycle time is spent waiting for order round trips.
+ */
+@FunctionalInterface
+public interface LatencyModel {
+
+  /**
+   * Returns the latency of the next request round trip.
+   *
+   * @return the latency in nanoseconds
+   */
+  long nextLatencyNanos();
+
+  static LatencyModel none() {
+    return () -> 0;
+  }
+
+  static LatencyModel fixed(long latencyMillis) {
+    var latencyNanos = TimeUnit.MILLISECONDS.toNanos(latencyMillis);
+    return () -> latencyNanos;
+  }
+
+  /**
+   * Creates a latency model with a fixed base latency plus a uniformly distributed jitter.
+   *
+   * @param baseMillis the minimum latency
+   * @param jitterMillis the maximum additional latency
+   * @param seed the random seed, so runs are reproducible
+   * @return the latency model
+   */
+  static LatencyModel uniform(long baseMillis, long jitterMillis, long seed) {
+    if (jitterMillis <= 0) {
+      return fixed(baseMillis);
+    }
+    var baseNanos = TimeUnit.MILLISECONDS.toNanos(baseMillis);
+    var jitterNanos = TimeUnit.MILLISECONDS.toNanos(jitterMillis);
+    var random = new SplittableRandom(seed);
+    return () -> {
+      synchronized (random) {
+        return baseNanos + random.nextLong(jitterNanos + 1);
+      }
+    };
+  }
+}
@@ -0,0 +1,45 @@
+package org.shadow.infrastructure.client.fake;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Allocates unique order ids to concurrently submitting robots. Every thread reserves a block of
+ * consecutive ids with a single atomic increment and then hands them out without synchronization,
+ * so the shared counter is touched once per block instead of once per order.
+ *
+ * <p>Ids are unique across threads but only increase monotonically within a thread.
+ */
+public class OrderIdAllocator {
+
+  private final AtomicLong nextBlockStart;
+  private final int blockSize;
+  private final ThreadLocal<IdBlock> blocks = ThreadLocal.withInitial(IdBlock::new);
+
+  /**
+   * Constructs an allocator.
+   *
+   * @param firstId the first id to hand out
+   * @param blockSize the number of ids reserved by a thread at once
+   */
+  public OrderIdAllocator(long firstId, int blockSize) {
+    if (blockSize <= 0) {
+      throw new IllegalArgumentException("Block size must be positive");
+    }
+    this.nextBlockStart = new AtomicLong(firstId);
+    this.blockSize = blockSize;
+  }
+
+  public long nextId() {
+    var block = blocks.get();
+    if (block.next == block.limit) {
+      block.next = nextBlockStart.getAndAdd(blockSize);
+      block.limit = block.next + blockSize;
+    }
+    return block.next++;
+  }
+
+  private static final class IdBlock {
+    private long next;
+    private long limit;
+  }
+}
@@ -0,0 +1,233 @@
+package org.shadow.infrastructure.client.fake;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Concurrent index of values keyed by a primitive {@code long}, used for order bookkeeping shared
+ * by all robots. Keys are spread over independent stripes, each an open-addressing table guarded
+ * by its own {@link StampedLock}. Lookups are optimistic and take no lock unless they race with a
+ * write to the same stripe, and writers to different stripes never contend. Keys are never boxed.
+ *
+ * @param <V> the type of the indexed values
+ */
+public class StripedLongIndex<V> {
+
+  private static final int INITIAL_STRIPE_CAPACITY = 16;
+  private static final int STRIPES_PER_PROCESSOR = 4;
+
+  private final Stripe<V>[] stripes;
+  private final int stripeMask;
+
+  public StripedLongIndex() {
+    this(Runtime.getRuntime().availableProcessors() * STRIPES_PER_PROCESSOR);
+  }
+
+  /**
+   * Constructs an index.
+   *
+   * @param concurrency the expected number of concurrent writers, rounded up to a power of two
+   */
+  @SuppressWarnings("unchecked")
+  public StripedLongIndex(int concurrency) {
+    if (concurrency <= 0) {
+      throw new IllegalArgumentException("Concurrency must be positive");
+    }
+    var stripeCount = concurrency == 1 ? 1 : Integer.highestOneBit(concurrency - 1) << 1;
+    stripes = new Stripe[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      stripes[i] = new Stripe<>();
+    }
+    stripeMask = stripeCount - 1;
+  }
+
+  public V get(long key) {
+    var hash = mix(key);
+    return stripeFor(hash).get(key, hash);
+  }
+
+  /**
+   * Associates the value with the key.
+   *
+   * @return the previous value of the key, or null if there was none
+   */
+  public V put(long key, V value) {
+    if (value == null) {
+      throw new IllegalArgumentException("Value must not be null");
+    }
+    var hash = mix(key);
+    return stripeFor(hash).put(key, hash, value);
+  }
+
+  /**
+   * Removes the key from the index.
+   *
+   * @return the removed value, or null if the key was not indexed
+   */
+  public V remove(long key) {
+    var hash = mix(key);
+    return stripeFor(hash).remove(key, hash);
+  }
+
+  public int size() {
+    var size = 0;
+    for (var stripe : stripes) {
+      size += stripe.size();
+    }
+    return size;
+  }
+
+  private Stripe<V> stripeFor(int hash) {
+    // Upper bits select the stripe so the lower bits stay independent for the slot
+    return stripes[(hash >>> 16) & stripeMask];
+  }
+
+  private static int mix(long key) {
+    // Murmur3 finalizer: consecutive order ids must not cluster in one stripe or slot run
+    key ^= key >>> 33;
+    key *= 0xff51afd7ed558ccdL;
+    key ^= key >>> 33;
+    key *= 0xc4ceb9fe1a85ec53L;
+    key ^= key >>> 33;
+    return (int) key;
+  }
+
+  private static final class Table {
+    private final long[] keys;
+    private final Object[] values;
+    private final int mask;
+
+    private Table(int capacity) {
+      keys = new long[capacity];
+      values = new Object[capacity];
+      mask = capacity - 1;
+    }
+  }
+
+  private static final class Stripe<V> {
+
+    private final StampedLock lock = new StampedLock();
+    // A slot is free when its value is null. The table reference is replaced as a whole on resize,
+    // so an optimistic reader always sees keys and values of the same generation
+    private volatile Table table = new Table(INITIAL_STRIPE_CAPACITY);
+    private int size;
+
+    V get(long key, int hash) {
+      var stamp = lock.tryOptimisticRead();
+      var value = find(table, key, hash);
+      if (lock.validate(stamp)) {
+        return value;
+      }
+      stamp = lock.readLock();
+      try {
+        return find(table, key, hash);
+      } finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    V put(long key, int hash, V value) {
+      var stamp = lock.writeLock();
+      try {
+        var current = table;
+        var slot = hash & current.mask;
+        while (current.values[slot] != null) {
+          if (current.keys[slot] == key) {
+            var previous = (V) current.values[slot];
+            current.values[slot] = value;
+            return previous;
+          }
+          slot = (slot + 1) & current.mask;
+        }
+        current.keys[slot] = key;
+        current.values[slot] = value;
+        if (++size * 2 > current.keys.length) {
+          resize(current);
+        }
+        return null;
+      } finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    V remove(long key, int hash) {
+      var stamp = lock.writeLock();
+      try {
+        var current = table;
+        var slot = hash & current.mask;
+        while (current.values[slot] != null) {
+          if (current.keys[slot] == key) {
+            var removed = (V) current.values[slot];
+            shiftBack(current, slot);
+            size--;
+            return removed;
+          }
+          slot = (slot + 1) & current.mask;
+        }
+        return null;
+      } finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+
+    int size() {
+      var stamp = lock.readLock();
+      try {
+        return size;
+      } finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private V find(Table current, long key, int hash) {
+      var slot = hash & current.mask;
+      // Bounded probe: an optimistic reader racing a writer may see a transiently full run
+      for (int probes = 0; probes <= current.mask; probes++) {
+        var value = current.values[slot];
+        if (value == null) {
+          return null;
+        }
+        if (current.keys[slot] == key) {
+          return (V) value;
+        }
+        slot = (slot + 1) & current.mask;
+      }
+      return null;
+    }
+
+    /** Backward-shift deletion keeps probe runs contiguous without tombstones. */
+    private void shiftBack(Table current, int freedSlot) {
+      var mask = current.mask;
+      var gap = freedSlot;
+      var slot = (gap + 1) & mask;
+      while (current.values[slot] != null) {
+        var home = mix(current.keys[slot]) & mask;
+        // Move the entry into the gap unless its home lies cyclically in (gap, slot]
+        if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+          current.keys[gap] = current.keys[slot];
+          current.values[gap] = current.values[slot];
+          gap = slot;
+        }
+        slot = (slot + 1) & mask;
+      }
+      current.values[gap] = null;
+    }
+
+    private void resize(Table current) {
+      var resized = new Table(current.keys.length * 2);
+      for (int i = 0; i < current.keys.length; i++) {
+        if (current.values[i] != null) {
+          var slot = mix(current.keys[i]) & resized.mask;
+          while (resized.values[slot] != null) {
+            slot = (slot + 1) & resized.mask;
+          }
+          resized.keys[slot] = current.keys[i];
+          resized.values[slot] = current.values[i];
+        }
+      }
+      table = resized;
+    }
+  }
+}
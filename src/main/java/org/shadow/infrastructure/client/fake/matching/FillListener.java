@@ -0,0 +1,15 @@
+package org.shadow.infrastructure.client.fake.matching;
+
+import org.shadow.domain.client.model.OrderFillType;
+
+/**
+ * Receives the fills of the {@link MatchingEngine}. Called on the thread replaying the bar while
+ * the symbol lock is held, so it must not call back into the engine.
+ */
+@FunctionalInterface
+public interface FillListener {
+
+  FillListener NONE = (orderId, type, price) -> {};
+
+  void onFill(long orderId, OrderFillType type, double price);
+}
@@ -0,0 +1,25 @@
+package org.shadow.infrastructure.client.fake.matching;
+
+/**
+ * Point-in-time view of the simulated position and equity ledger of one symbol.
+ *
+ * @param symbol the traded symbol
+ * @param openPositions the number of filled, not yet closed positions
+ * @param netQuantity the signed quantity of all open positions (negative when net short)
+ * @param realizedPnl the profit and loss of closed positions, before fees
+ * @param feesPaid the fees charged on every fill
+ * @param equity the realized equity plus open positions marked at the last close
+ * @param fills the number of entry and exit fills
+ * @param stopLossFills the number of exits triggered by a stop-loss
+ * @param takeProfitFills the number of exits triggered by a take-profit
+ */
+public record LedgerSnapshot(
+    String symbol,
+    int openPositions,
+    double netQuantity,
+    double realizedPnl,
+    double feesPaid,
+    double equity,
+    long fills,
+    long stopLossFills,
+    long takeProfitFills) {}
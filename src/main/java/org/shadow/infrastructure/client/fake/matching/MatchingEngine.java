@@ -0,0 +1,166 @@
+package org.shadow.infrastructure.client.fake.matching;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.shadow.domain.client.model.Bar;
+import org.shadow.domain.client.model.OrderFillType;
+import org.shadow.infrastructure.client.fake.BarListener;
+import org.shadow.infrastructure.client.fake.StripedLongIndex;
+
+/**
+ * In-memory matching simulator of the fake exchange. Market orders are filled at the open of the
+ * next bar of their symbol, and open positions are closed intrabar when the bar high/low reaches
+ * their stop-loss or take-profit. Every fill pays the configured slippage and fee, and a position
+ * and equity ledger is kept per symbol.
+ *
+ * <p>The matching path works on primitives only, so replaying bars through the engine allocates
+ * nothing and large backtests stay CPU-bound. Symbols are matched independently, each under its own
+ * lock.
+ */
+public class MatchingEngine implements BarListener {
+
+  private static final double BASIS_POINTS = 10_000.0;
+
+  private final Logger logger = LogManager.getLogger(MatchingEngine.class);
+
+  private final double initialEquity;
+  private final double slippageRate;
+  private final double feeRate;
+  private final Map<String, SymbolBook> books = new ConcurrentHashMap<>();
+  private final StripedLongIndex<SymbolBook> orderBooks = new StripedLongIndex<>();
+
+  private volatile FillListener fillListener = FillListener.NONE;
+
+  /**
+   * Constructs a matching engine.
+   *
+   * @param initialEquity the starting equity of every symbol ledger
+   * @param slippageBps the adverse slippage of market fills, in basis points
+   * @param feeBps the fee charged on every fill notional, in basis points
+   */
+  public MatchingEngine(double initialEquity, double slippageBps, double feeBps) {
+    if (initialEquity <= 0) {
+      throw new IllegalArgumentException("Initial equity must be positive");
+    }
+    if (slippageBps < 0 || feeBps < 0) {
+      throw new IllegalArgumentException("Slippage and fee must not be negative");
+    }
+    this.initialEquity = initialEquity;
+    this.slippageRate = slippageBps / BASIS_POINTS;
+    this.feeRate = feeBps / BASIS_POINTS;
+  }
+
+  /**
+   * Submits a market entry that is filled at the next bar open of the symbol.
+   *
+   * @param orderId the exchange order id
+   * @param symbol the traded symbol
+   * @param side the position side
+   * @param allocation the fraction of the symbol equity to commit, including leverage
+   * @param stopLoss the stop-loss price, or NaN for none
+   * @param takeProfit the take-profit price, or NaN for none
+   */
+  public void submitEntry(
+      long orderId,
+      String symbol,
+      OrderSide side,
+      double allocation,
+      double stopLoss,
+      double takeProfit) {
+    var book = getBook(symbol);
+    synchronized (book) {
+      book.submitEntry(orderId, side, allocation, stopLoss, takeProfit);
+    }
+    orderBooks.put(orderId, book);
+  }
+
+  /**
+   * Submits a market close of the order at the next bar open of its symbol. Closing an order that
+   * was already stopped out is a no-op.
+   *
+   * @param orderId the exchange order id
+   * @return false if the order is unknown or already closed
+   */
+  public boolean submitClose(long orderId) {
+    var book = orderBooks.remove(orderId);
+    if (book == null) {
+      return false;
+    }
+    synchronized (book) {
+      return book.submitClose(orderId);
+    }
+  }
+
+  /**
+   * Sets the listener of every entry and exit fill, e.g. to report stop-loss and take-profit exits
+   * back to the robot that opened the position.
+   *
+   * @param fillListener the listener
+   */
+  public void setFillListener(FillListener fillListener) {
+    this.fillListener = fillListener;
+  }
+
+  @Override
+  public void onBar(String symbol, Bar bar) {
+    onBar(
+        symbol,
+        bar.open().doubleValue(),
+        bar.high().doubleValue(),
+        bar.low().doubleValue(),
+        bar.close().doubleValue());
+  }
+
+  /**
+   * Matches all orders of the symbol against one bar.
+   *
+   * @param symbol the symbol of the bar
+   * @param open the bar open price
+   * @param high the bar high price
+   * @param low the bar low price
+   * @param close the bar close price
+   */
+  public void onBar(String symbol, double open, double high, double low, double close) {
+    var book = getBook(symbol);
+    synchronized (book) {
+      book.onBar(open, high, low, close);
+    }
+  }
+
+  public LedgerSnapshot getLedger(String symbol) {
+    var book = getBook(symbol);
+    synchronized (book) {
+      return book.snapshot();
+    }
+  }
+
+  public List<LedgerSnapshot> getLedgers() {
+    return books.keySet().stream().sorted().map(this::getLedger).toList();
+  }
+
+  public void logSummary() {
+    getLedgers().forEach(ledger -> logger.info("Simulated ledger: {}", ledger));
+  }
+
+  private void onFill(long orderId, OrderFillType type, double price) {
+    if (type == OrderFillType.STOP_LOSS || type == OrderFillType.TAKE_PROFIT) {
+      // Stopped out orders are never closed by their owner, so their index entry goes here
+      orderBooks.remove(orderId);
+    }
+    fillListener.onFill(orderId, type, price);
+  }
+
+  private SymbolBook getBook(String symbol) {
+    var book = books.get(symbol);
+    if (book == null) {
+      book =
+          books.computeIfAbsent(
+              symbol,
+              key -> new SymbolBook(key, initialEquity, slippageRate, feeRate, this::onFill));
+    }
+    return book;
+  }
+}
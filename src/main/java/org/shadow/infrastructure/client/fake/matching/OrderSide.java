@@ -0,0 +1,6 @@
+package org.shadow.infrastructure.client.fake.matching;
+
+public enum OrderSide {
+  LONG,
+  SHORT
+}
@@ -0,0 +1,207 @@
+package org.shadow.infrastructure.client.fake.matching;
+
+import java.util.Arrays;
+import org.shadow.domain.client.model.OrderFillType;
+
+/**
+ * Orders, positions and ledger of one symbol inside the {@link MatchingEngine}. Orders are kept in
+ * parallel primitive arrays and slots are recycled, so matching a bar allocates nothing. All
+ * methods must be called while holding the book monitor.
+ */
+class SymbolBook {
+
+  private static final byte EMPTY = 0;
+  private static final byte PENDING_ENTRY = 1;
+  private static final byte OPEN = 2;
+  private static final byte PENDING_CLOSE = 3;
+
+  private static final int INITIAL_CAPACITY = 8;
+
+  private final String symbol;
+  private final double slippageRate;
+  private final double feeRate;
+  private final FillListener fillListener;
+
+  private long[] orderIds = new long[INITIAL_CAPACITY];
+  private byte[] states = new byte[INITIAL_CAPACITY];
+  private boolean[] longSides = new boolean[INITIAL_CAPACITY];
+  private double[] allocations = new double[INITIAL_CAPACITY];
+  private double[] quantities = new double[INITIAL_CAPACITY];
+  private double[] entryPrices = new double[INITIAL_CAPACITY];
+  private double[] stopLosses = new double[INITIAL_CAPACITY];
+  private double[] takeProfits = new double[INITIAL_CAPACITY];
+  private int usedSlots;
+
+  private double cash;
+  private double realizedPnl;
+  private double feesPaid;
+  private double lastClose = Double.NaN;
+  private long fills;
+  private long stopLossFills;
+  private long takeProfitFills;
+
+  SymbolBook(
+      String symbol,
+      double initialEquity,
+      double slippageRate,
+      double feeRate,
+      FillListener fillListener) {
+    this.symbol = symbol;
+    this.cash = initialEquity;
+    this.slippageRate = slippageRate;
+    this.feeRate = feeRate;
+    this.fillListener = fillListener;
+  }
+
+  void submitEntry(
+      long orderId, OrderSide side, double allocation, double stopLoss, double takeProfit) {
+    var slot = findFreeSlot();
+    orderIds[slot] = orderId;
+    states[slot] = PENDING_ENTRY;
+    longSides[slot] = side == OrderSide.LONG;
+    allocations[slot] = allocation;
+    quantities[slot] = 0.0;
+    entryPrices[slot] = Double.NaN;
+    stopLosses[slot] = stopLoss;
+    takeProfits[slot] = takeProfit;
+  }
+
+  /**
+   * Requests a market close of the given order at the next bar open. A pending entry is simply
+   * cancelled.
+   *
+   * @return false if the order is unknown or already closed
+   */
+  boolean submitClose(long orderId) {
+    for (int i = 0; i < usedSlots; i++) {
+      if (orderIds[i] == orderId && states[i] != EMPTY) {
+        if (states[i] == PENDING_ENTRY) {
+          states[i] = EMPTY;
+        } else {
+          states[i] = PENDING_CLOSE;
+        }
+        return true;
+      }
+    }
+    return false;
+  }
+
+  void onBar(double open, double high, double low, double close) {
+    for (int i = 0; i < usedSlots; i++) {
+      switch (states[i]) {
+        case PENDING_ENTRY -> fillEntry(i, open);
+        case PENDING_CLOSE -> closePosition(i, open, true, OrderFillType.CLOSE);
+        default -> {}
+      }
+      if (states[i] == OPEN) {
+        checkExitTriggers(i, open, high, low);
+      }
+    }
+    lastClose = close;
+  }
+
+  LedgerSnapshot snapshot() {
+    var openPositions = 0;
+    var netQuantity = 0.0;
+    var unrealizedPnl = 0.0;
+    for (int i = 0; i < usedSlots; i++) {
+      if (states[i] == OPEN || states[i] == PENDING_CLOSE) {
+        openPositions++;
+        var direction = longSides[i] ? 1.0 : -1.0;
+        netQuantity += direction * quantities[i];
+        if (!Double.isNaN(lastClose)) {
+          unrealizedPnl += direction * (lastClose - entryPrices[i]) * quantities[i];
+        }
+      }
+    }
+    return new LedgerSnapshot(
+        symbol,
+        openPositions,
+        netQuantity,
+        realizedPnl,
+        feesPaid,
+        cash + unrealizedPnl,
+        fills,
+        stopLossFills,
+        takeProfitFills);
+  }
+
+  private void fillEntry(int slot, double open) {
+    var price = longSides[slot] ? open * (1 + slippageRate) : open * (1 - slippageRate);
+    var quantity = cash * allocations[slot] / price;
+    var fee = price * quantity * feeRate;
+    cash -= fee;
+    feesPaid += fee;
+    entryPrices[slot] = price;
+    quantities[slot] = quantity;
+    states[slot] = OPEN;
+    fills++;
+    fillListener.onFill(orderIds[slot], OrderFillType.ENTRY, price);
+  }
+
+  private void checkExitTriggers(int slot, double open, double high, double low) {
+    var stopLoss = stopLosses[slot];
+    var takeProfit = takeProfits[slot];
+    // When both levels are inside one bar the intrabar path is unknown; assume the stop-loss was
+    // hit first, which is the conservative choice for a backtest
+    if (longSides[slot]) {
+      if (!Double.isNaN(stopLoss) && low <= stopLoss) {
+        stopLossFills++;
+        closePosition(slot, Math.min(open, stopLoss), true, OrderFillType.STOP_LOSS);
+      } else if (!Double.isNaN(takeProfit) && high >= takeProfit) {
+        takeProfitFills++;
+        closePosition(slot, Math.max(open, takeProfit), false, OrderFillType.TAKE_PROFIT);
+      }
+    } else {
+      if (!Double.isNaN(stopLoss) && high >= stopLoss) {
+        stopLossFills++;
+        closePosition(slot, Math.max(open, stopLoss), true, OrderFillType.STOP_LOSS);
+      } else if (!Double.isNaN(takeProfit) && low <= takeProfit) {
+        takeProfitFills++;
+        closePosition(slot, Math.min(open, takeProfit), false, OrderFillType.TAKE_PROFIT);
+      }
+    }
+  }
+
+  private void closePosition(
+      int slot, double referencePrice, boolean applySlippage, OrderFillType fillType) {
+    var isLong = longSides[slot];
+    var price = referencePrice;
+    if (applySlippage) {
+      price = isLong ? referencePrice * (1 - slippageRate) : referencePrice * (1 + slippageRate);
+    }
+    var quantity = quantities[slot];
+    var pnl = (isLong ? price - entryPrices[slot] : entryPrices[slot] - price) * quantity;
+    var fee = price * quantity * feeRate;
+    cash += pnl - fee;
+    realizedPnl += pnl;
+    feesPaid += fee;
+    states[slot] = EMPTY;
+    fills++;
+    fillListener.onFill(orderIds[slot], fillType, price);
+  }
+
+  private int findFreeSlot() {
+    for (int i = 0; i < usedSlots; i++) {
+      if (states[i] == EMPTY) {
+        return i;
+      }
+    }
+    if (usedSlots == orderIds.length) {
+      grow();
+    }
+    return usedSlots++;
+  }
+
+  private void grow() {
+    var capacity = orderIds.length * 2;
+    orderIds = Arrays.copyOf(orderIds, capacity);
+    states = Arrays.copyOf(states, capacity);
+    longSides = Arrays.copyOf(longSides, capacity);
+    allocations = Arrays.copyOf(allocations, capacity);
+    quantities = Arrays.copyOf(quantities, capacity);
+    entryPrices = Arrays.copyOf(entryPrices, capacity);
+    stopLosses = Arrays.copyOf(stopLosses, capacity);
+    takeProfits = Arrays.copyOf(takeProfits, capacity);
+  }
+}
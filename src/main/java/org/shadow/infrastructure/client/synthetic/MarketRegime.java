@@ -0,0 +1,24 @@
+package org.shadow.infrastructure.client.synthetic;
+
+/** Market regime of a synthetic series, scaling its drift and volatility while it lasts. */
+public enum MarketRegime {
+  BULL(1.0, 0.8),
+  BEAR(-1.0, 1.4),
+  RANGE(0.0, 0.6);
+
+  private final double driftMultiplier;
+  private final double volatilityMultiplier;
+
+  MarketRegime(double driftMultiplier, double volatilityMultiplier) {
+    this.driftMultiplier = driftMultiplier;
+    this.volatilityMultiplier = volatilityMultiplier;
+  }
+
+  public double getDriftMultiplier() {
+    return driftMultiplier;
+  }
+
+  public double getVolatilityMultiplier() {
+    return volatilityMultiplier;
+  }
+}
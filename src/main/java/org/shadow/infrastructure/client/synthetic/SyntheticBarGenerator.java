@@ -0,0 +1,154 @@
+package org.shadow.infrastructure.client.synthetic;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.shadow.domain.client.model.Bar;
+
+/**
+ * Deterministic generator of synthetic bars. Prices follow a geometric Brownian motion whose
+ * variance is a GARCH(1,1) process, so calm and volatile periods cluster, whose drift and
+ * volatility depend on a Markov switching {@link MarketRegime}, and which occasionally opens away
+ * from the previous close. The same seed always yields the same series.
+ *
+ * <p>The generator keeps only the state of the last bar and exposes it as primitives, so it can
+ * produce billions of bars without allocating. It is not thread-safe.
+ */
+public class SyntheticBarGenerator {
+
+  private static final double MILLIS_PER_YEAR = TimeUnit.DAYS.toMillis(365);
+  private static final MarketRegime[] REGIMES = MarketRegime.values();
+
+  private final SplittableRandom random;
+  private final SyntheticMarketParameters parameters;
+  private final long intervalMillis;
+  private final double driftPerBar;
+  private final double longRunVariance;
+  private final double varianceConstant;
+
+  private MarketRegime regime = MarketRegime.RANGE;
+  private double variance;
+  private long nextTimestamp;
+
+  private long timestamp;
+  private double open;
+  private double high;
+  private double low;
+  private double close;
+  private double volume;
+
+  /**
+   * Constructs a generator.
+   *
+   * @param parameters the parameters of the market
+   * @param seed the seed of the series
+   * @param startTime the time of the first bar
+   * @param intervalMillis the time between two bars
+   */
+  public SyntheticBarGenerator(
+      SyntheticMarketParameters parameters, long seed, Instant startTime, long intervalMillis) {
+    if (intervalMillis <= 0) {
+      throw new IllegalArgumentException("Interval must be positive");
+    }
+    if (parameters.volatilityReaction() < 0
+        || parameters.volatilityPersistence() < 0
+        || parameters.volatilityReaction() + parameters.volatilityPersistence() >= 1) {
+      throw new IllegalArgumentException(
+          "Volatility reaction and persistence must be non-negative and sum to less than 1");
+    }
+    this.random = new SplittableRandom(seed);
+    this.parameters = parameters;
+    this.intervalMillis = intervalMillis;
+
+    var barsPerYear = MILLIS_PER_YEAR / intervalMillis;
+    this.driftPerBar = parameters.annualDrift() / barsPerYear;
+    this.longRunVariance =
+        parameters.annualVolatility() * parameters.annualVolatility() / barsPerYear;
+    this.varianceConstant =
+        longRunVariance
+            * (1 - parameters.volatilityReaction() - parameters.volatilityPersistence());
+    this.variance = longRunVariance;
+    this.nextTimestamp = startTime.toEpochMilli();
+    this.close = parameters.initialPrice();
+  }
+
+  /** Advances the generator to the next bar. */
+  public void next() {
+    if (random.nextDouble() < parameters.regimeSwitchProbability()) {
+      // Any regime but the current one
+      var shift = 1 + random.nextInt(REGIMES.length - 1);
+      regime = REGIMES[(regime.ordinal() + shift) % REGIMES.length];
+    }
+
+    open =
+        random.nextDouble() < parameters.gapProbability()
+            ? close * Math.exp(parameters.gapVolatility() * random.nextGaussian())
+            : close;
+
+    var shock = Math.sqrt(variance) * random.nextGaussian();
+    var sigma = Math.sqrt(variance) * regime.getVolatilityMultiplier();
+    var scaledShock = shock * regime.getVolatilityMultiplier();
+    var drift = driftPerBar * regime.getDriftMultiplier() - sigma * sigma / 2;
+    close = open * Math.exp(drift + scaledShock);
+
+    // The intrabar excursions scale with the volatility of the bar
+    high = Math.max(open, close) * Math.exp(sigma * Math.abs(random.nextGaussian()) / 2);
+    low = Math.min(open, close) * Math.exp(-sigma * Math.abs(random.nextGaussian()) / 2);
+    // Log-normal with a mean of one, scaled up in volatile periods
+    var volumeNoise = Math.exp(random.nextGaussian() / 2 - 0.125);
+    volume = parameters.meanVolume() * (sigma / Math.sqrt(longRunVariance)) * volumeNoise;
+
+    variance =
+        varianceConstant
+            + parameters.volatilityReaction() * shock * shock
+            + parameters.volatilityPersistence() * variance;
+
+    timestamp = nextTimestamp;
+    nextTimestamp += intervalMillis;
+  }
+
+  /**
+   * Advances the generator and returns the new bar.
+   *
+   * @return the next bar
+   */
+  public Bar nextBar() {
+    next();
+    return new Bar(
+        Instant.ofEpochMilli(timestamp),
+        BigDecimal.valueOf(open),
+        BigDecimal.valueOf(high),
+        BigDecimal.valueOf(low),
+        BigDecimal.valueOf(close),
+        BigDecimal.valueOf(volume));
+  }
+
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+  public double getOpen() {
+    return open;
+  }
+
+  public double getHigh() {
+    return high;
+  }
+
+  public double getLow() {
+    return low;
+  }
+
+  public double getClose() {
+    return close;
+  }
+
+  public double getVolume() {
+    return volume;
+  }
+
+  public MarketRegime getRegime() {
+    return regime;
+  }
+}
@@ -0,0 +1,54 @@
+package org.shadow.infrastructure.client.synthetic;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.shadow.domain.client.BarsCollectorClient;
+import org.shadow.domain.client.model.Bar;
+import org.shadow.infrastructure.client.fake.BarListener;
+
+/**
+ * Bars collector that generates the next synthetic bar on every collection, so robots can run for
+ * any number of bars without historical data.
+ */
+public class SyntheticBarsCollectorClient implements BarsCollectorClient {
+
+  private final Logger logger = LogManager.getLogger(SyntheticBarsCollectorClient.class);
+  private final SyntheticBarGenerator generator;
+  private final String symbol;
+  private final List<BarListener> barListeners = new CopyOnWriteArrayList<>();
+
+  public SyntheticBarsCollectorClient(SyntheticBarGenerator generator, String symbol) {
+    this.generator = generator;
+    this.symbol = symbol;
+  }
+
+  @Override
+  public void init() {
+    logger.info("SyntheticBarsCollectorClient initialized for {}.", symbol);
+  }
+
+  @Override
+  public synchronized List<Bar> collectBars(
+      TimeUnit interval, long range, Instant timeFrom, Instant timeTo) {
+    var bar = generator.nextBar();
+    logger.debug("Generated {} bar {} in {} regime", symbol, bar, generator.getRegime());
+    for (var barListener : barListeners) {
+      barListener.onBar(symbol, bar);
+    }
+    return List.of(bar);
+  }
+
+  /**
+   * Registers a listener that receives every generated bar, before the bar is returned to the
+   * robot.
+   *
+   * @param barListener the listener to notify
+   */
+  public void addBarListener(BarListener barListener) {
+    barListeners.add(barListener);
+  }
+}
@@ -0,0 +1,31 @@
+package org.shadow.infrastructure.client.synthetic;
+
+/**
+ * Parameters of a synthetic market.
+ *
+ * @param initialPrice the open of the first bar
+ * @param annualDrift the expected annual log return in a bull regime
+ * @param annualVolatility the long-run annual volatility
+ * @param volatilityReaction how strongly a return shock raises the next variance (GARCH alpha)
+ * @param volatilityPersistence how much of the variance carries over to the next bar (GARCH beta)
+ * @param regimeSwitchProbability the probability per bar of switching to another regime
+ * @param gapProbability the probability per bar of opening away from the previous close
+ * @param gapVolatility the standard deviation of the log size of a gap
+ * @param meanVolume the average volume of a bar
+ */
+public record SyntheticMarketParameters(
+    double initialPrice,
+    double annualDrift,
+    double annualVolatility,
+    double volatilityReaction,
+    double volatilityPersistence,
+    double regimeSwitchProbability,
+    double gapProbability,
+    double gapVolatility,
+    double meanVolume) {
+
+  /** Crypto-like market: 60% annual volatility with strong clustering and occasional gaps. */
+  public static SyntheticMarketParameters defaults() {
+    return new SyntheticMarketParameters(100.0, 0.1, 0.6, 0.08, 0.9, 0.0005, 0.0002, 0.01, 1000.0);
+  }
+}
@@ -0,0 +1,110 @@
+package org.shadow.infrastructure.file;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.shadow.application.robot.common.model.Position;
+import org.shadow.application.robot.common.model.PositionType;
+import org.shadow.domain.client.model.Order;
+import org.shadow.domain.client.model.OrderType;
+
+/**
+ * Compact binary encoding of the robot model shared by the robot state files. Every value may be
+ * null, as exchanges and handlers leave e.g. the entry price of market orders unset.
+ */
+final class BinaryModelCodec {
+
+  private static final long NULL_TIME = Long.MIN_VALUE;
+
+  private BinaryModelCodec() {}
+
+  static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      var unscaled = value.unscaledValue().toByteArray();
+      out.writeInt(value.scale());
+      out.writeShort(unscaled.length);
+      out.write(unscaled);
+    }
+  }
+
+  static BigDecimal readDecimal(DataInputStream in) throws IOException {
+    if (!in.readBoolean()) {
+      return null;
+    }
+    var scale = in.readInt();
+    var unscaled = new byte[in.readUnsignedShort()];
+    in.readFully(unscaled);
+    return new BigDecimal(new BigInteger(unscaled), scale);
+  }
+
+  static void writeInstant(DataOutputStream out, Instant value) throws IOException {
+    out.writeLong(value != null ? value.toEpochMilli() : NULL_TIME);
+  }
+
+  static Instant readInstant(DataInputStream in) throws IOException {
+    var millis = in.readLong();
+    return millis != NULL_TIME ? Instant.ofEpochMilli(millis) : null;
+  }
+
+  static void writeEnum(DataOutputStream out, Enum<?> value) throws IOException {
+    out.writeUTF(value != null ? value.name() : "");
+  }
+
+  static <E extends Enum<E>> E readEnum(DataInputStream in, Class<E> type) throws IOException {
+    var name = in.readUTF();
+    return name.isEmpty() ? null : Enum.valueOf(type, name);
+  }
+
+  static void writePosition(DataOutputStream out, Position position) throws IOException {
+    out.writeBoolean(position != null);
+    if (position != null) {
+      writeEnum(out, position.type());
+      writeDecimal(out, position.entry());
+      List<BigDecimal> takeProfits =
+          position.takeProfits() != null ? position.takeProfits() : List.of();
+      out.writeInt(takeProfits.size());
+      for (var takeProfit : takeProfits) {
+        writeDecimal(out, takeProfit);
+      }
+      writeDecimal(out, position.stopLoss() != null ? position.stopLoss().orElse(null) : null);
+    }
+  }
+
+  static Position readPosition(DataInputStream in) throws IOException {
+    if (!in.readBoolean()) {
+      return null;
+    }
+    var type = readEnum(in, PositionType.class);
+    var entry = readDecimal(in);
+    var takeProfits = new ArrayList<BigDecimal>();
+    for (int i = in.readInt(); i > 0; i--) {
+      takeProfits.add(readDecimal(in));
+    }
+    return new Position(type, entry, takeProfits, Optional.ofNullable(readDecimal(in)));
+  }
+
+  static void writeOrder(DataOutputStream out, Order order) throws IOException {
+    out.writeBoolean(order != null);
+    if (order != null) {
+      out.writeLong(order.id());
+      writeDecimal(out, order.entry());
+      writeInstant(out, order.fillingTime());
+      writeEnum(out, order.type());
+    }
+  }
+
+  static Order readOrder(DataInputStream in) throws IOException {
+    if (!in.readBoolean()) {
+      return null;
+    }
+    return new Order(
+        in.readLong(), readDecimal(in), readInstant(in), readEnum(in, OrderType.class));
+  }
+}
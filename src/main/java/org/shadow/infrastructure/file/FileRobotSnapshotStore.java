@@ -0,0 +1,218 @@
+package org.shadow.infrastructure.file;
+
+import static org.shadow.infrastructure.file.BinaryModelCodec.*;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.shadow.application.robot.RobotPositionState;
+import org.shadow.application.robot.RobotTimeframe;
+import org.shadow.application.robot.common.model.Bar;
+import org.shadow.application.robot.snapshot.RobotSnapshot;
+import org.shadow.application.robot.snapshot.RobotSnapshotStore;
+
+/**
+ * {@link RobotSnapshotStore} keeping one compact binary file per robot in a directory. Snapshots
+ * are written on a single background thread: a robot only hands its snapshot over, and a snapshot
+ * still waiting for the writer is replaced by a newer one of the same robot instead of queueing.
+ *
+ * <p>Every file is written to a temporary file, synced and atomically renamed over the previous
+ * one, so a crash leaves either the old or the new snapshot. A CRC32C trailer detects files
+ * damaged otherwise; they are ignored and the robot starts from scratch.
+ */
+public class FileRobotSnapshotStore implements RobotSnapshotStore, AutoCloseable {
+
+  private static final int MAGIC = 0x53525331; // "SRS1"
+  private static final int VERSION = 2;
+  private static final String EXTENSION = ".snapshot";
+  private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+  private final Logger logger = LogManager.getLogger(FileRobotSnapshotStore.class);
+
+  private final Path directory;
+  private final long snapshotIntervalMillis;
+  private final Map<Path, RobotSnapshot> pending = new ConcurrentHashMap<>();
+  private final ExecutorService writer =
+      Executors.newSingleThreadExecutor(
+          runnable -> {
+            var thread = new Thread(runnable, "robot-snapshot-writer");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  /**
+   * Constructs a store.
+   *
+   * @param directory the directory of the snapshot files, created if missing
+   * @param snapshotIntervalMillis how often a running robot should snapshot itself
+   * @throws IOException if the directory cannot be created
+   */
+  public FileRobotSnapshotStore(Path directory, long snapshotIntervalMillis) throws IOException {
+    this.directory = Files.createDirectories(directory);
+    this.snapshotIntervalMillis = snapshotIntervalMillis;
+  }
+
+  @Override
+  public long getSnapshotIntervalMillis() {
+    return snapshotIntervalMillis;
+  }
+
+  @Override
+  public void save(RobotSnapshot snapshot) {
+    var file = resolve(snapshot.symbol(), snapshot.robotTimeframe());
+    if (pending.put(file, snapshot) == null) {
+      try {
+        writer.execute(() -> write(file));
+      } catch (RejectedExecutionException e) {
+        pending.remove(file);
+        logger.warn("Snapshot store is closed; dropping snapshot of {}", snapshot.symbol());
+      }
+    }
+  }
+
+  @Override
+  public Optional<RobotSnapshot> load(String symbol, RobotTimeframe robotTimeframe) {
+    var file = resolve(symbol, robotTimeframe);
+    try (var checked =
+        new CheckedInputStream(new BufferedInputStream(Files.newInputStream(file)), new CRC32C())) {
+      var in = new DataInputStream(checked);
+      if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+        logger.warn("Ignoring snapshot {} of an unknown format", file);
+        return Optional.empty();
+      }
+      var snapshot = readSnapshot(in);
+      var checksum = (int) checked.getChecksum().getValue();
+      if (in.readInt() != checksum) {
+        logger.warn("Ignoring snapshot {} with a wrong checksum", file);
+        return Optional.empty();
+      }
+      if (!snapshot.symbol().equals(symbol) || !snapshot.robotTimeframe().equals(robotTimeframe)) {
+        logger.warn("Ignoring snapshot {} of another robot", file);
+        return Optional.empty();
+      }
+      logger.info("Loaded snapshot {} taken at {}", file, snapshot.takenAt());
+      return Optional.of(snapshot);
+    } catch (NoSuchFileException e) {
+      return Optional.empty();
+    } catch (IOException | RuntimeException e) {
+      logger.warn("Ignoring unreadable snapshot {}", file, e);
+      return Optional.empty();
+    }
+  }
+
+  /** Writes the snapshots still waiting for the writer and stops it. */
+  @Override
+  public void close() {
+    writer.shutdown();
+    try {
+      if (!writer.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        logger.warn("Timed out writing {} pending robot snapshots", pending.size());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private Path resolve(String symbol, RobotTimeframe robotTimeframe) {
+    var name =
+        symbol.replaceAll("[^A-Za-z0-9._-]", "_")
+            + "_"
+            + robotTimeframe.interval()
+            + "_"
+            + robotTimeframe.unit()
+            + EXTENSION;
+    return directory.resolve(name);
+  }
+
+  private void write(Path file) {
+    var snapshot = pending.remove(file);
+    if (snapshot == null) {
+      return;
+    }
+    var temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+    try {
+      try (var fileOut = new FileOutputStream(temporaryFile.toFile())) {
+        var checked = new CheckedOutputStream(new BufferedOutputStream(fileOut), new CRC32C());
+        var out = new DataOutputStream(checked);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        writeSnapshot(out, snapshot);
+        out.writeInt((int) checked.getChecksum().getValue());
+        out.flush();
+        fileOut.getFD().sync();
+      }
+      Files.move(
+          temporaryFile,
+          file,
+          StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+      logger.debug("Written snapshot {} taken at {}", file, snapshot.takenAt());
+    } catch (IOException | RuntimeException e) {
+      logger.error("Failed to write snapshot {}", file, e);
+    }
+  }
+
+  private static void writeSnapshot(DataOutputStream out, RobotSnapshot snapshot)
+      throws IOException {
+    out.writeUTF(snapshot.symbol());
+    out.writeUTF(snapshot.robotTimeframe().unit().name());
+    out.writeLong(snapshot.robotTimeframe().interval());
+    out.writeLong(snapshot.takenAt().toEpochMilli());
+    out.writeUTF(snapshot.robotPositionState().name());
+    writePosition(out, snapshot.position());
+    writeOrder(out, snapshot.order());
+    out.writeInt(snapshot.bars().size());
+    for (var bar : snapshot.bars()) {
+      out.writeLong(bar.time().toEpochMilli());
+      writeDecimal(out, bar.open());
+      writeDecimal(out, bar.high());
+      writeDecimal(out, bar.low());
+      writeDecimal(out, bar.close());
+      writeDecimal(out, bar.volume());
+    }
+  }
+
+  private static RobotSnapshot readSnapshot(DataInputStream in) throws IOException {
+    var symbol = in.readUTF();
+    var robotTimeframe = new RobotTimeframe(TimeUnit.valueOf(in.readUTF()), in.readLong());
+    var takenAt = Instant.ofEpochMilli(in.readLong());
+    var robotPositionState = RobotPositionState.valueOf(in.readUTF());
+    var position = readPosition(in);
+    var order = readOrder(in);
+    var barCount = in.readInt();
+    var bars = new ArrayList<Bar>(barCount);
+    for (int i = 0; i < barCount; i++) {
+      bars.add(
+          new Bar(
+              Instant.ofEpochMilli(in.readLong()),
+              readDecimal(in),
+              readDecimal(in),
+              readDecimal(in),
+              readDecimal(in),
+              readDecimal(in)));
+    }
+    return new RobotSnapshot(
+        symbol, robotTimeframe, takenAt, robotPositionState, position, order, bars);
+  }
+}
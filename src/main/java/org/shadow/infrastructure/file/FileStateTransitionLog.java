@@ -0,0 +1,336 @@
+package org.shadow.infrastructure.file;
+
+import static org.shadow.infrastructure.file.BinaryModelCodec.*;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.CRC32C;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.shadow.application.robot.RobotTimeframe;
+import org.shadow.application.robot.recovery.StateTransition;
+import org.shadow.application.robot.recovery.StateTransitionLog;
+import org.shadow.application.robot.recovery.StateTransitionType;
+
+/**
+ * {@link StateTransitionLog} appending length-prefixed, CRC32C-checked records to a file. A single
+ * writer thread group-commits: after the first pending record it waits for the group commit
+ * window, so the robots woken by the same bar boundary join the batch, then writes the whole batch
+ * and syncs the file once for all of them.
+ *
+ * <p>On open the file is replayed up to the first torn or damaged record, left by a crash during a
+ * write, and compacted to the last transition of every robot through an atomic rename.
+ */
+public class FileStateTransitionLog implements StateTransitionLog, AutoCloseable {
+
+  private static final int MAGIC = 0x53575431; // "SWT1"
+  private static final int VERSION = 1;
+  private static final int MAX_RECORD_LENGTH = 1 << 16;
+
+  private final Logger logger = LogManager.getLogger(FileStateTransitionLog.class);
+
+  private final Path file;
+  private final long groupCommitNanos;
+  private final FileChannel channel;
+  private final Map<String, StateTransition> lastTransitions = new ConcurrentHashMap<>();
+  private final BlockingQueue<PendingTransition> queue = new LinkedBlockingQueue<>();
+  private final LongAdder syncs = new LongAdder();
+  private final Thread writer;
+
+  private boolean closed;
+
+  /**
+   * Opens or creates a log, replays and compacts it and starts its writer thread.
+   *
+   * @param file the log file
+   * @param groupCommitMillis how long the writer waits for more records before syncing a batch
+   * @throws IOException if the file cannot be replayed or opened
+   */
+  public FileStateTransitionLog(Path file, long groupCommitMillis) throws IOException {
+    if (file.getParent() != null) {
+      Files.createDirectories(file.getParent());
+    }
+    this.file = file;
+    this.groupCommitNanos = TimeUnit.MILLISECONDS.toNanos(groupCommitMillis);
+    if (Files.exists(file)) {
+      replay();
+    }
+    compact();
+    this.channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    this.writer = new Thread(this::runWriter, "state-transition-log-writer");
+    writer.setDaemon(true);
+    writer.start();
+    logger.info("State transition log {} opened with {} robots", file, lastTransitions.size());
+  }
+
+  @Override
+  public void append(StateTransition transition) {
+    if (!enqueue(new PendingTransition(transition, null))) {
+      logger.warn("State transition log is closed; dropping {}", transition);
+    }
+  }
+
+  @Override
+  public void appendDurably(StateTransition transition) {
+    var synced = new CompletableFuture<Void>();
+    if (!enqueue(new PendingTransition(transition, synced))) {
+      throw new IllegalStateException("State transition log is closed");
+    }
+    try {
+      synced.get();
+    } catch (ExecutionException e) {
+      throw new UncheckedIOException(
+          "Failed to sync state transition log " + file, (IOException) e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted waiting for state transition log sync", e);
+    }
+  }
+
+  @Override
+  public Optional<StateTransition> getLastTransition(
+      String symbol, RobotTimeframe robotTimeframe) {
+    return Optional.ofNullable(lastTransitions.get(key(symbol, robotTimeframe)));
+  }
+
+  /** Returns the number of syncs of the file, each covering a whole batch of transitions. */
+  public long getSyncs() {
+    return syncs.sum();
+  }
+
+  /** Writes and syncs the pending transitions and stops the writer. */
+  @Override
+  public void close() {
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      queue.add(PendingTransition.CLOSE);
+    }
+    try {
+      writer.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    try {
+      channel.close();
+    } catch (IOException e) {
+      logger.error("Failed to close state transition log {}", file, e);
+    }
+    logger.info("State transition log {} closed after {} syncs", file, getSyncs());
+  }
+
+  private synchronized boolean enqueue(PendingTransition pending) {
+    // Nothing may be queued behind the close marker, or its sync would never complete
+    if (closed) {
+      return false;
+    }
+    queue.add(pending);
+    return true;
+  }
+
+  private void runWriter() {
+    var batch = new ArrayList<PendingTransition>();
+    var stopping = false;
+    while (!stopping) {
+      try {
+        var first = queue.take();
+        if (first != PendingTransition.CLOSE && groupCommitNanos > 0) {
+          LockSupport.parkNanos(groupCommitNanos);
+        }
+        batch.add(first);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        stopping = true;
+      }
+      queue.drainTo(batch);
+      stopping |= batch.removeIf(pending -> pending == PendingTransition.CLOSE);
+      if (!batch.isEmpty()) {
+        commit(batch);
+        batch.clear();
+      }
+    }
+  }
+
+  private void commit(List<PendingTransition> batch) {
+    var committedSize = -1L;
+    try {
+      committedSize = channel.size();
+      var frames = new ByteArrayOutputStream(batch.size() * 128);
+      var out = new DataOutputStream(frames);
+      for (var pending : batch) {
+        writeFrame(out, pending.transition());
+      }
+      var buffer = ByteBuffer.wrap(frames.toByteArray());
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(false);
+      syncs.increment();
+      for (var pending : batch) {
+        var transition = pending.transition();
+        lastTransitions.put(key(transition.symbol(), transition.robotTimeframe()), transition);
+        if (pending.synced() != null) {
+          pending.synced().complete(null);
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      logger.error("Failed to commit {} state transitions to {}", batch.size(), file, e);
+      truncate(committedSize);
+      var failure = e instanceof IOException io ? io : new IOException(e);
+      for (var pending : batch) {
+        if (pending.synced() != null) {
+          pending.synced().completeExceptionally(failure);
+        }
+      }
+    }
+  }
+
+  private void truncate(long committedSize) {
+    // A partly written batch would hide every later batch from the replay
+    if (committedSize < 0) {
+      return;
+    }
+    try {
+      channel.truncate(committedSize);
+    } catch (IOException e) {
+      logger.error("Failed to truncate state transition log {}", file, e);
+    }
+  }
+
+  private void replay() throws IOException {
+    var records = 0;
+    try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      try {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+          throw new IOException(file + " is not a version " + VERSION + " state transition log");
+        }
+      } catch (EOFException e) {
+        logger.warn("Ignoring state transition log {} with a torn header", file);
+        return;
+      }
+      while (hasMore(in)) {
+        var transition = readFrame(in);
+        if (transition == null) {
+          logger.warn("Ignoring torn or damaged records of {} after {} records", file, records);
+          break;
+        }
+        lastTransitions.put(key(transition.symbol(), transition.robotTimeframe()), transition);
+        records++;
+      }
+    }
+    logger.info("Replayed {} state transitions from {}", records, file);
+  }
+
+  private void compact() throws IOException {
+    var temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+    try (var fileOut = new FileOutputStream(temporaryFile.toFile())) {
+      var out = new DataOutputStream(new BufferedOutputStream(fileOut));
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      for (var transition : lastTransitions.values()) {
+        writeFrame(out, transition);
+      }
+      out.flush();
+      fileOut.getFD().sync();
+    }
+    Files.move(
+        temporaryFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  private static void writeFrame(DataOutputStream out, StateTransition transition)
+      throws IOException {
+    var payload = new ByteArrayOutputStream(128);
+    writeTransition(new DataOutputStream(payload), transition);
+    var bytes = payload.toByteArray();
+    var crc = new CRC32C();
+    crc.update(bytes);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+    out.writeInt((int) crc.getValue());
+  }
+
+  private static boolean hasMore(DataInputStream in) throws IOException {
+    in.mark(1);
+    var more = in.read() != -1;
+    in.reset();
+    return more;
+  }
+
+  /** Reads the next record, null if it is torn or damaged. */
+  private static StateTransition readFrame(DataInputStream in) throws IOException {
+    try {
+      var length = in.readInt();
+      if (length <= 0 || length > MAX_RECORD_LENGTH) {
+        return null;
+      }
+      var bytes = new byte[length];
+      in.readFully(bytes);
+      var crc = new CRC32C();
+      crc.update(bytes);
+      if (in.readInt() != (int) crc.getValue()) {
+        return null;
+      }
+      return readTransition(new DataInputStream(new ByteArrayInputStream(bytes)));
+    } catch (EOFException e) {
+      return null;
+    }
+  }
+
+  private static void writeTransition(DataOutputStream out, StateTransition transition)
+      throws IOException {
+    writeInstant(out, transition.time());
+    out.writeUTF(transition.symbol());
+    out.writeUTF(transition.robotTimeframe().unit().name());
+    out.writeLong(transition.robotTimeframe().interval());
+    writeEnum(out, transition.type());
+    writePosition(out, transition.position());
+    writeOrder(out, transition.order());
+  }
+
+  private static StateTransition readTransition(DataInputStream in) throws IOException {
+    var time = readInstant(in);
+    var symbol = in.readUTF();
+    var robotTimeframe = new RobotTimeframe(TimeUnit.valueOf(in.readUTF()), in.readLong());
+    var type = readEnum(in, StateTransitionType.class);
+    return new StateTransition(
+        time, symbol, robotTimeframe, type, readPosition(in), readOrder(in));
+  }
+
+  private static String key(String symbol, RobotTimeframe robotTimeframe) {
+    return symbol + '|' + robotTimeframe.interval() + '|' + robotTimeframe.unit();
+  }
+
+  /** Transition waiting for the writer, with the future of a durable append. */
+  private record PendingTransition(StateTransition transition, CompletableFuture<Void> synced) {
+
+    private static final PendingTransition CLOSE = new PendingTransition(null, null);
+  }
+}
@@ -0,0 +1,57 @@
+package org.shadow.infrastructure.file;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.shadow.infrastructure.client.synthetic.SyntheticBarGenerator;
+
+/**
+ * Writes synthetic bars to a JSON file in the format read by {@link HistoricalDataLoader}. Bars are
+ * streamed straight from the generator to the file, so the size of the file is not bounded by the
+ * heap.
+ */
+public class SyntheticDataWriter {
+
+  private static final long PROGRESS_INTERVAL_BARS = 10_000_000;
+
+  private final Logger logger = LogManager.getLogger(SyntheticDataWriter.class);
+  private final JsonFactory jsonFactory = new JsonFactory();
+
+  /**
+   * Generates bars and writes them to a file.
+   *
+   * @param generator the generator of the bars
+   * @param bars the number of bars to write
+   * @param file the file to write, replaced if it exists
+   * @throws IOException if the file cannot be written
+   */
+  public void write(SyntheticBarGenerator generator, long bars, Path file) throws IOException {
+    if (file.getParent() != null) {
+      Files.createDirectories(file.getParent());
+    }
+    logger.info("Writing {} synthetic bars to {}", bars, file);
+    try (var json = jsonFactory.createGenerator(file.toFile(), JsonEncoding.UTF8)) {
+      json.writeStartArray();
+      for (long i = 0; i < bars; i++) {
+        generator.next();
+        json.writeStartObject();
+        json.writeNumberField("timestamp", generator.getTimestamp());
+        json.writeStringField("open", Double.toString(generator.getOpen()));
+        json.writeStringField("high", Double.toString(generator.getHigh()));
+        json.writeStringField("low", Double.toString(generator.getLow()));
+        json.writeStringField("close", Double.toString(generator.getClose()));
+        json.writeStringField("volume", Double.toString(generator.getVolume()));
+        json.writeEndObject();
+        if ((i + 1) % PROGRESS_INTERVAL_BARS == 0) {
+          logger.info("Written {} of {} bars", i + 1, bars);
+        }
+      }
+      json.writeEndArray();
+    }
+    logger.info("Written {} synthetic bars to {}", bars, file);
+  }
+}
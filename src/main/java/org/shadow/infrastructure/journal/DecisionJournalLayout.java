@@ -0,0 +1,62 @@
+package org.shadow.infrastructure.journal;
+
+/**
+ * Binary layout of a decision journal file. The file starts with a {@value #HEADER_SIZE} byte
+ * header followed by fixed-size {@value #RECORD_SIZE} byte records, one cache line each, in
+ * little-endian byte order.
+ *
+ * <pre>
+ * Header                              Record
+ *  0 int  magic                        0 long decision time, epoch millis
+ *  4 int  version                      8 long bar time, epoch millis, {@link #UNKNOWN_TIME} if none
+ *  8 int  record size                 16 byte[16] symbol, US-ASCII, zero padded
+ * 12 int  maximum explorers           32 int  severity difference
+ * 16 long committed records           36 byte action ordinal
+ *                                     37 byte blocked, 0 or 1
+ *                                     38 byte explorer count
+ *                                     40 byte[24] explorer states, long ordinal &lt;&lt; 4 | short
+ * </pre>
+ *
+ * <p>Only records below the committed count of the header are complete; the writer advances the
+ * count after the records are written, so a reader never sees a torn record.
+ */
+final class DecisionJournalLayout {
+
+  static final int MAGIC = 0x53444a31; // "SDJ1"
+  static final int VERSION = 1;
+
+  static final int HEADER_SIZE = 64;
+  static final int MAGIC_OFFSET = 0;
+  static final int VERSION_OFFSET = 4;
+  static final int RECORD_SIZE_OFFSET = 8;
+  static final int MAX_EXPLORERS_OFFSET = 12;
+  static final int COMMITTED_RECORDS_OFFSET = 16;
+
+  static final int RECORD_SIZE = 64;
+  static final int DECISION_TIME_OFFSET = 0;
+  static final int BAR_TIME_OFFSET = 8;
+  static final int SYMBOL_OFFSET = 16;
+  static final int SYMBOL_LENGTH = 16;
+  static final int SEVERITY_DIFFERENCE_OFFSET = 32;
+  static final int ACTION_OFFSET = 36;
+  static final int BLOCKED_OFFSET = 37;
+  static final int EXPLORER_COUNT_OFFSET = 38;
+  static final int STATES_OFFSET = 40;
+  static final int MAX_EXPLORERS = RECORD_SIZE - STATES_OFFSET;
+
+  static final long UNKNOWN_TIME = Long.MIN_VALUE;
+
+  private DecisionJournalLayout() {}
+
+  static byte packStates(int longOrdinal, int shortOrdinal) {
+    return (byte) (longOrdinal << 4 | shortOrdinal);
+  }
+
+  static int longOrdinal(byte states) {
+    return (states >>> 4) & 0x0f;
+  }
+
+  static int shortOrdinal(byte states) {
+    return states & 0x0f;
+  }
+}
@@ -0,0 +1,154 @@
+package org.shadow.infrastructure.journal;
+
+import static org.shadow.infrastructure.journal.DecisionJournalLayout.*;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import org.shadow.application.robot.explorer.model.BinaryIsMomentumExplorationState;
+import org.shadow.application.robot.strategy.model.BinaryDecisionAction;
+
+/**
+ * Sequential reader of a decision journal written by {@link MappedDecisionJournal}. The committed
+ * records are mapped read-only and visited through a single reused {@link Entry} view, so a scan
+ * decodes only the fields it reads and allocates nothing per record.
+ */
+public class DecisionJournalReader implements AutoCloseable {
+
+  /** The number of explorers whose states fit in a record. */
+  public static final int MAX_EXPLORERS = DecisionJournalLayout.MAX_EXPLORERS;
+
+  // Largest multiple of the record size a single mapping can hold
+  private static final long MAPPING_BYTES = (Integer.MAX_VALUE / RECORD_SIZE) * (long) RECORD_SIZE;
+
+  private static final BinaryDecisionAction[] ACTIONS = BinaryDecisionAction.values();
+  private static final BinaryIsMomentumExplorationState[] STATES =
+      BinaryIsMomentumExplorationState.values();
+
+  private final FileChannel channel;
+  private final long records;
+
+  /**
+   * Opens a journal; records committed after opening are not read.
+   *
+   * @param file the journal file
+   * @throws IOException if the file cannot be read or is not a decision journal
+   */
+  public DecisionJournalReader(Path file) throws IOException {
+    this.channel = FileChannel.open(file, StandardOpenOption.READ);
+    try {
+      if (channel.size() < HEADER_SIZE) {
+        throw new IOException(file + " is not a decision journal");
+      }
+      var header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+      header.order(ByteOrder.LITTLE_ENDIAN);
+      if (header.getInt(MAGIC_OFFSET) != MAGIC
+          || header.getInt(VERSION_OFFSET) != VERSION
+          || header.getInt(RECORD_SIZE_OFFSET) != RECORD_SIZE) {
+        throw new IOException(file + " is not a version " + VERSION + " decision journal");
+      }
+      this.records = header.getLong(COMMITTED_RECORDS_OFFSET);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  public long getRecords() {
+    return records;
+  }
+
+  /**
+   * Visits every committed record in append order. The entry is only valid during the call and is
+   * overwritten by the next record.
+   *
+   * @param visitor receives the view of every record
+   * @throws IOException if the file cannot be mapped
+   */
+  public void forEach(Consumer<Entry> visitor) throws IOException {
+    var entry = new Entry();
+    var totalBytes = records * RECORD_SIZE;
+    for (long position = 0; position < totalBytes; position += MAPPING_BYTES) {
+      var length = Math.min(MAPPING_BYTES, totalBytes - position);
+      entry.buffer = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + position, length);
+      entry.buffer.order(ByteOrder.LITTLE_ENDIAN);
+      for (int offset = 0; offset < length; offset += RECORD_SIZE) {
+        entry.offset = offset;
+        visitor.accept(entry);
+      }
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  /** Reused view of the record being visited. */
+  public static final class Entry {
+
+    private MappedByteBuffer buffer;
+    private int offset;
+
+    private Entry() {}
+
+    public long getDecisionTimeMillis() {
+      return buffer.getLong(offset + DECISION_TIME_OFFSET);
+    }
+
+    /** Returns the time of the last evaluated bar, {@link Long#MIN_VALUE} if unknown. */
+    public long getBarTimeMillis() {
+      return buffer.getLong(offset + BAR_TIME_OFFSET);
+    }
+
+    public String getSymbol() {
+      var length = 0;
+      while (length < SYMBOL_LENGTH && buffer.get(offset + SYMBOL_OFFSET + length) != 0) {
+        length++;
+      }
+      var bytes = new byte[length];
+      buffer.get(offset + SYMBOL_OFFSET, bytes);
+      return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    /** Compares the symbol without decoding it, for filtering scans. */
+    public boolean hasSymbol(String symbol) {
+      var length = Math.min(SYMBOL_LENGTH, symbol.length());
+      for (int i = 0; i < length; i++) {
+        if (buffer.get(offset + SYMBOL_OFFSET + i) != (byte) symbol.charAt(i)) {
+          return false;
+        }
+      }
+      return length == SYMBOL_LENGTH || buffer.get(offset + SYMBOL_OFFSET + length) == 0;
+    }
+
+    public int getSeverityDifference() {
+      return buffer.getInt(offset + SEVERITY_DIFFERENCE_OFFSET);
+    }
+
+    public BinaryDecisionAction getAction() {
+      return ACTIONS[buffer.get(offset + ACTION_OFFSET)];
+    }
+
+    public boolean isBlocked() {
+      return buffer.get(offset + BLOCKED_OFFSET) != 0;
+    }
+
+    public int getExplorerCount() {
+      return buffer.get(offset + EXPLORER_COUNT_OFFSET);
+    }
+
+    public BinaryIsMomentumExplorationState getLongState(int explorer) {
+      return STATES[longOrdinal(buffer.get(offset + STATES_OFFSET + explorer))];
+    }
+
+    public BinaryIsMomentumExplorationState getShortState(int explorer) {
+      return STATES[shortOrdinal(buffer.get(offset + STATES_OFFSET + explorer))];
+    }
+  }
+}
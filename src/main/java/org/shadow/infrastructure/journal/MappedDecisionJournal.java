@@ -0,0 +1,266 @@
+package org.shadow.infrastructure.journal;
+
+import static org.shadow.infrastructure.journal.DecisionJournalLayout.*;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.shadow.application.journal.DecisionJournal;
+import org.shadow.application.robot.strategy.model.BinaryDecisionAction;
+import org.shadow.application.robot.strategy.model.BinaryStrategyEvaluation;
+
+/**
+ * {@link DecisionJournal} appending fixed-layout records to a memory-mapped file, see {@link
+ * DecisionJournalLayout}. Robot threads only copy a decision into a preallocated slot of a bounded
+ * multi-producer ring; a single writer thread encodes the slots into the mapped file and advances
+ * the committed record count. Appending therefore never blocks and allocates nothing, and a
+ * decision is dropped and counted when the ring is full.
+ *
+ * <p>The file grows in regions of {@value #REGION_RECORDS} records and an existing journal is
+ * appended to, so one file can span several runs.
+ */
+public class MappedDecisionJournal implements DecisionJournal, AutoCloseable {
+
+  static final int REGION_RECORDS = 1 << 18;
+
+  private static final long REGION_BYTES = (long) REGION_RECORDS * RECORD_SIZE;
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final Logger logger = LogManager.getLogger(MappedDecisionJournal.class);
+
+  private final Path file;
+  private final FileChannel channel;
+  private final MappedByteBuffer header;
+  private final Slot[] slots;
+  private final int mask;
+  // Next sequence to be claimed by a producer
+  private final AtomicLong claimed = new AtomicLong();
+  // Next sequence to be written; advanced by the writer thread only
+  private final AtomicLong consumed = new AtomicLong();
+  private final LongAdder dropped = new LongAdder();
+  private final AtomicBoolean closed = new AtomicBoolean();
+  private final Thread writer;
+
+  private volatile boolean running = true;
+  // Only touched by the writer thread
+  private MappedByteBuffer region;
+  private long regionIndex = -1;
+  private long records;
+
+  /**
+   * Opens or creates a journal and starts its writer thread.
+   *
+   * @param file the journal file, appended to if it exists
+   * @param bufferSize the number of decisions buffered for the writer; must be a positive power of
+   *     two
+   * @throws IOException if the file cannot be opened or is not a decision journal
+   */
+  public MappedDecisionJournal(Path file, int bufferSize) throws IOException {
+    if (bufferSize <= 0 || Integer.bitCount(bufferSize) != 1) {
+      throw new IllegalArgumentException("Buffer size must be a positive power of two");
+    }
+    if (file.getParent() != null) {
+      Files.createDirectories(file.getParent());
+    }
+    this.file = file;
+    this.channel =
+        FileChannel.open(
+            file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    try {
+      var existing = channel.size() >= HEADER_SIZE;
+      this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+      header.order(ByteOrder.LITTLE_ENDIAN);
+      if (existing) {
+        validateHeader(file);
+        this.records = header.getLong(COMMITTED_RECORDS_OFFSET);
+      } else {
+        header.putInt(MAGIC_OFFSET, MAGIC);
+        header.putInt(VERSION_OFFSET, VERSION);
+        header.putInt(RECORD_SIZE_OFFSET, RECORD_SIZE);
+        header.putInt(MAX_EXPLORERS_OFFSET, MAX_EXPLORERS);
+        header.putLong(COMMITTED_RECORDS_OFFSET, 0);
+      }
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+    this.slots = new Slot[bufferSize];
+    for (int i = 0; i < bufferSize; i++) {
+      slots[i] = new Slot(i - bufferSize);
+    }
+    this.mask = bufferSize - 1;
+    this.writer = new Thread(this::runWriter, "decision-journal-writer");
+    writer.setDaemon(true);
+    writer.start();
+    logger.info("Decision journal {} opened with {} records", file, records);
+  }
+
+  @Override
+  public boolean append(
+      String symbol, BinaryStrategyEvaluation evaluation, BinaryDecisionAction action) {
+    long sequence;
+    do {
+      sequence = claimed.get();
+      if (sequence - consumed.get() >= slots.length || !running) {
+        dropped.increment();
+        return false;
+      }
+    } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+    var slot = slots[(int) sequence & mask];
+    slot.decisionTimeMillis = System.currentTimeMillis();
+    slot.barTimeMillis =
+        evaluation.barTime() != null ? evaluation.barTime().toEpochMilli() : UNKNOWN_TIME;
+    slot.symbol = symbol;
+    slot.severityDifference = evaluation.severityDifference();
+    slot.action = action;
+    slot.blocked = evaluation.blocked();
+    var explorers = Math.min(MAX_EXPLORERS, evaluation.longStates().size());
+    for (int i = 0; i < explorers; i++) {
+      slot.states[i] =
+          packStates(
+              evaluation.longStates().get(i).ordinal(), evaluation.shortStates().get(i).ordinal());
+    }
+    slot.explorerCount = explorers;
+    slot.sequence = sequence;
+    return true;
+  }
+
+  /** Returns the number of records committed to the file, including those of earlier runs. */
+  public long getRecords() {
+    return header.getLong(COMMITTED_RECORDS_OFFSET);
+  }
+
+  /** Returns the number of decisions dropped because the writer could not keep up. */
+  public long getDropped() {
+    return dropped.sum();
+  }
+
+  /** Stops accepting decisions, writes the buffered ones and forces the file to the disk. */
+  @Override
+  public void close() {
+    if (!closed.compareAndSet(false, true)) {
+      return;
+    }
+    running = false;
+    LockSupport.unpark(writer);
+    try {
+      writer.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    try {
+      channel.close();
+    } catch (IOException e) {
+      logger.error("Failed to close decision journal {}", file, e);
+    }
+    logger.info(
+        "Decision journal {} closed with {} records, {} decisions dropped",
+        file,
+        records,
+        getDropped());
+  }
+
+  private void validateHeader(Path file) throws IOException {
+    if (header.getInt(MAGIC_OFFSET) != MAGIC
+        || header.getInt(VERSION_OFFSET) != VERSION
+        || header.getInt(RECORD_SIZE_OFFSET) != RECORD_SIZE) {
+      throw new IOException(file + " is not a version " + VERSION + " decision journal");
+    }
+  }
+
+  private void runWriter() {
+    while (true) {
+      // Read before draining, so decisions published before close are always written
+      var stopping = !running;
+      try {
+        if (drain() > 0) {
+          header.putLong(COMMITTED_RECORDS_OFFSET, records);
+        } else if (stopping) {
+          break;
+        } else {
+          LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+      } catch (IOException | RuntimeException e) {
+        logger.error("Decision journal {} failed; dropping further decisions", file, e);
+        running = false;
+        return;
+      }
+    }
+    if (region != null) {
+      region.force();
+    }
+    header.force();
+  }
+
+  private int drain() throws IOException {
+    var written = 0;
+    var sequence = consumed.get();
+    var slot = slots[(int) sequence & mask];
+    while (slot.sequence == sequence) {
+      write(slot);
+      written++;
+      sequence++;
+      consumed.lazySet(sequence);
+      slot = slots[(int) sequence & mask];
+    }
+    return written;
+  }
+
+  private void write(Slot slot) throws IOException {
+    var index = records / REGION_RECORDS;
+    if (index != regionIndex) {
+      region =
+          channel.map(
+              FileChannel.MapMode.READ_WRITE, HEADER_SIZE + index * REGION_BYTES, REGION_BYTES);
+      region.order(ByteOrder.LITTLE_ENDIAN);
+      regionIndex = index;
+    }
+    var offset = (int) (records % REGION_RECORDS) * RECORD_SIZE;
+    region.putLong(offset + DECISION_TIME_OFFSET, slot.decisionTimeMillis);
+    region.putLong(offset + BAR_TIME_OFFSET, slot.barTimeMillis);
+    var symbol = slot.symbol;
+    var symbolLength = symbol != null ? Math.min(SYMBOL_LENGTH, symbol.length()) : 0;
+    for (int i = 0; i < SYMBOL_LENGTH; i++) {
+      region.put(offset + SYMBOL_OFFSET + i, i < symbolLength ? (byte) symbol.charAt(i) : 0);
+    }
+    region.putInt(offset + SEVERITY_DIFFERENCE_OFFSET, slot.severityDifference);
+    region.put(offset + ACTION_OFFSET, (byte) slot.action.ordinal());
+    region.put(offset + BLOCKED_OFFSET, (byte) (slot.blocked ? 1 : 0));
+    region.put(offset + EXPLORER_COUNT_OFFSET, (byte) slot.explorerCount);
+    for (int i = 0; i < MAX_EXPLORERS; i++) {
+      region.put(offset + STATES_OFFSET + i, i < slot.explorerCount ? slot.states[i] : 0);
+    }
+    records++;
+  }
+
+  /** Preallocated decision, published to the writer by setting its sequence. */
+  private static final class Slot {
+
+    private final byte[] states = new byte[MAX_EXPLORERS];
+
+    private volatile long sequence;
+    private long decisionTimeMillis;
+    private long barTimeMillis;
+    private String symbol;
+    private int severityDifference;
+    private BinaryDecisionAction action;
+    private boolean blocked;
+    private int explorerCount;
+
+    private Slot(long sequence) {
+      this.sequence = sequence;
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package org.shadow.infrastructure.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Embedded HTTP endpoint serving the metrics of a {@link PrometheusMetricsWriter} at {@code
+ * /metrics}. Scrapes are handled one at a time on a single daemon thread, so a scraper can never
+ * take CPU from more than one core.
+ */
+public class PrometheusMetricsServer implements AutoCloseable {
+
+  private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+  private final Logger logger = LogManager.getLogger(PrometheusMetricsServer.class);
+
+  private final PrometheusMetricsWriter metricsWriter;
+  private final HttpServer server;
+  private final ExecutorService executor;
+
+  /**
+   * Binds the endpoint; {@link #start()} begins serving scrapes.
+   *
+   * @param port the port to listen on, 0 for an ephemeral port
+   * @param metricsWriter renders the metrics on every scrape
+   * @throws IOException if the port cannot be bound
+   */
+  public PrometheusMetricsServer(int port, PrometheusMetricsWriter metricsWriter)
+      throws IOException {
+    this.metricsWriter = metricsWriter;
+    this.server = HttpServer.create(new InetSocketAddress(port), 0);
+    this.executor =
+        Executors.newSingleThreadExecutor(
+            runnable -> {
+              var thread = new Thread(runnable, "metrics-http");
+              thread.setDaemon(true);
+              return thread;
+            });
+    server.setExecutor(executor);
+    server.createContext("/metrics", this::handle);
+  }
+
+  public void start() {
+    server.start();
+    logger.info("Metrics endpoint listening on port {}", getPort());
+  }
+
+  public int getPort() {
+    return server.getAddress().getPort();
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      if (!"GET".equals(exchange.getRequestMethod())) {
+        exchange.getResponseHeaders().set("Allow", "GET");
+        exchange.sendResponseHeaders(405, -1);
+        return;
+      }
+      byte[] body;
+      try {
+        body = metricsWriter.write().getBytes(StandardCharsets.UTF_8);
+      } catch (RuntimeException e) {
+        logger.error("Failed to render metrics", e);
+        exchange.sendResponseHeaders(500, -1);
+        return;
+      }
+      exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+      exchange.sendResponseHeaders(200, body.length);
+      exchange.getResponseBody().write(body);
+    }
+  }
+}
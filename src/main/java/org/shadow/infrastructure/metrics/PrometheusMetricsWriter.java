@@ -0,0 +1,252 @@
+package org.shadow.infrastructure.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Locale;
+import org.shadow.application.metrics.CycleMetricsRegistry;
+import org.shadow.application.metrics.CyclePhase;
+import org.shadow.application.metrics.HistogramSnapshot;
+import org.shadow.application.metrics.RobotCycleMetrics;
+import org.shadow.application.orchestration.Scheduler;
+
+/**
+ * Renders the robot, scheduler and JVM metrics in the Prometheus text exposition format. Every
+ * value is read from atomic counters or copied histogram snapshots, so rendering never takes a lock
+ * a robot cycle could wait on.
+ *
+ * <p>Latency histograms are exported with one bucket per power of two of nanoseconds from about
+ * 1 us to 68 s, which coincide with bucket boundaries of the in-process histograms.
+ */
+public class PrometheusMetricsWriter {
+
+  private static final CyclePhase[] PHASES = CyclePhase.values();
+  private static final int MIN_BUCKET_EXPONENT = 10;
+  private static final int MAX_BUCKET_EXPONENT = 36;
+  private static final double NANOS_PER_SECOND = 1e9;
+
+  private final CycleMetricsRegistry cycleMetricsRegistry;
+  private final List<? extends Scheduler> schedulers;
+
+  public PrometheusMetricsWriter(
+      CycleMetricsRegistry cycleMetricsRegistry, List<? extends Scheduler> schedulers) {
+    this.cycleMetricsRegistry = cycleMetricsRegistry;
+    this.schedulers = schedulers;
+  }
+
+  /**
+   * Renders all metrics.
+   *
+   * @return the metrics in the Prometheus text format, version 0.0.4
+   */
+  public String write() {
+    var out = new StringBuilder(64 * 1024);
+    writeRobotMetrics(out, cycleMetricsRegistry.getRobotMetrics());
+    writeSchedulerMetrics(out);
+    writeJvmMetrics(out);
+    return out.toString();
+  }
+
+  private void writeRobotMetrics(StringBuilder out, List<RobotCycleMetrics> robotMetrics) {
+    header(out, "trading_robot_robots", "gauge", "Number of robots recording metrics.");
+    sample(out, "trading_robot_robots", "", robotMetrics.size());
+
+    header(
+        out,
+        "trading_robot_cycle_phase_seconds",
+        "histogram",
+        "Latency of the phases of a robot cycle.");
+    for (var metrics : robotMetrics) {
+      for (var phase : PHASES) {
+        writeHistogram(
+            out,
+            "trading_robot_cycle_phase_seconds",
+            robotLabels(metrics) + ",phase=\"" + phase.name().toLowerCase(Locale.ROOT) + "\"",
+            metrics.getHistogram(phase).snapshot());
+      }
+    }
+
+    header(
+        out,
+        "trading_robot_order_submission_seconds",
+        "histogram",
+        "Time from submitting an order until the exchange acknowledged it.");
+    for (var metrics : robotMetrics) {
+      writeHistogram(
+          out,
+          "trading_robot_order_submission_seconds",
+          robotLabels(metrics),
+          metrics.getOrderSubmissionHistogram().snapshot());
+    }
+
+    header(out, "trading_robot_bars_collected_total", "counter", "Bars collected by a robot.");
+    for (var metrics : robotMetrics) {
+      sample(
+          out,
+          "trading_robot_bars_collected_total",
+          robotLabels(metrics),
+          metrics.getBarsCollected());
+    }
+  }
+
+  private void writeSchedulerMetrics(StringBuilder out) {
+    header(out, "trading_robot_scheduler_executions_total", "counter", "Scheduled executions.");
+    for (var scheduler : schedulers) {
+      sample(
+          out,
+          "trading_robot_scheduler_executions_total",
+          schedulerLabels(scheduler),
+          scheduler.getMetrics().getExecutions());
+    }
+    header(
+        out,
+        "trading_robot_scheduler_overruns_total",
+        "counter",
+        "Executions still running when the next boundary passed.");
+    for (var scheduler : schedulers) {
+      sample(
+          out,
+          "trading_robot_scheduler_overruns_total",
+          schedulerLabels(scheduler),
+          scheduler.getMetrics().getOverruns());
+    }
+    header(
+        out,
+        "trading_robot_scheduler_missed_boundaries_total",
+        "counter",
+        "Boundaries not served by an execution of their own.");
+    for (var scheduler : schedulers) {
+      var metrics = scheduler.getMetrics();
+      var labels = schedulerLabels(scheduler);
+      sample(
+          out,
+          "trading_robot_scheduler_missed_boundaries_total",
+          labels + ",reason=\"skipped\"",
+          metrics.getSkippedBoundaries());
+      sample(
+          out,
+          "trading_robot_scheduler_missed_boundaries_total",
+          labels + ",reason=\"coalesced\"",
+          metrics.getCoalescedBoundaries());
+      sample(
+          out,
+          "trading_robot_scheduler_missed_boundaries_total",
+          labels + ",reason=\"expired\"",
+          metrics.getExpiredBoundaries());
+    }
+    header(
+        out,
+        "trading_robot_scheduler_max_lateness_seconds",
+        "gauge",
+        "Largest delay between a boundary and the start of its execution.");
+    for (var scheduler : schedulers) {
+      sample(
+          out,
+          "trading_robot_scheduler_max_lateness_seconds",
+          schedulerLabels(scheduler),
+          scheduler.getMetrics().getMaxLatenessNanos() / NANOS_PER_SECOND);
+    }
+  }
+
+  private void writeJvmMetrics(StringBuilder out) {
+    var memory = ManagementFactory.getMemoryMXBean();
+    var heap = memory.getHeapMemoryUsage();
+    var nonHeap = memory.getNonHeapMemoryUsage();
+    header(out, "jvm_memory_used_bytes", "gauge", "Used memory of a memory area.");
+    sample(out, "jvm_memory_used_bytes", "area=\"heap\"", heap.getUsed());
+    sample(out, "jvm_memory_used_bytes", "area=\"nonheap\"", nonHeap.getUsed());
+    header(out, "jvm_memory_committed_bytes", "gauge", "Committed memory of a memory area.");
+    sample(out, "jvm_memory_committed_bytes", "area=\"heap\"", heap.getCommitted());
+    sample(out, "jvm_memory_committed_bytes", "area=\"nonheap\"", nonHeap.getCommitted());
+    header(out, "jvm_memory_max_bytes", "gauge", "Maximum memory of the heap.");
+    sample(out, "jvm_memory_max_bytes", "area=\"heap\"", Math.max(0, heap.getMax()));
+
+    var collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    header(out, "jvm_gc_collections_total", "counter", "Collections of a garbage collector.");
+    for (var collector : collectors) {
+      sample(
+          out,
+          "jvm_gc_collections_total",
+          "gc=\"" + escape(collector.getName()) + "\"",
+          Math.max(0, collector.getCollectionCount()));
+    }
+    header(
+        out,
+        "jvm_gc_collection_seconds_total",
+        "counter",
+        "Accumulated collection time of a garbage collector.");
+    for (var collector : collectors) {
+      sample(
+          out,
+          "jvm_gc_collection_seconds_total",
+          "gc=\"" + escape(collector.getName()) + "\"",
+          Math.max(0, collector.getCollectionTime()) / 1e3);
+    }
+
+    var threads = ManagementFactory.getThreadMXBean();
+    header(out, "jvm_threads_live", "gauge", "Live threads.");
+    sample(out, "jvm_threads_live", "", threads.getThreadCount());
+    header(out, "jvm_threads_daemon", "gauge", "Live daemon threads.");
+    sample(out, "jvm_threads_daemon", "", threads.getDaemonThreadCount());
+
+    header(out, "process_uptime_seconds", "gauge", "Uptime of the JVM.");
+    var uptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+    sample(out, "process_uptime_seconds", "", uptimeMillis / 1e3);
+  }
+
+  private static void writeHistogram(
+      StringBuilder out, String name, String labels, HistogramSnapshot snapshot) {
+    var cumulative = 0L;
+    var bucket = 0;
+    for (int exponent = MIN_BUCKET_EXPONENT; exponent <= MAX_BUCKET_EXPONENT; exponent++) {
+      var bound = 1L << exponent;
+      while (bucket < snapshot.getBucketCount() && snapshot.getUpperBound(bucket) < bound) {
+        cumulative += snapshot.getCount(bucket++);
+      }
+      var le = labels + ",le=\"" + bound / NANOS_PER_SECOND + "\"";
+      sample(out, name + "_bucket", le, cumulative);
+    }
+    sample(out, name + "_bucket", labels + ",le=\"+Inf\"", snapshot.getTotalCount());
+    sample(out, name + "_sum", labels, snapshot.getSumNanos() / NANOS_PER_SECOND);
+    sample(out, name + "_count", labels, snapshot.getTotalCount());
+  }
+
+  private static String robotLabels(RobotCycleMetrics metrics) {
+    var robotTimeframe = metrics.getRobotTimeframe();
+    return "symbol=\""
+        + escape(metrics.getSymbol())
+        + "\",timeframe=\""
+        + robotTimeframe.interval()
+        + " "
+        + robotTimeframe.unit()
+        + "\"";
+  }
+
+  private static String schedulerLabels(Scheduler scheduler) {
+    return "scheduler=\"" + escape(scheduler.getName()) + "\"";
+  }
+
+  private static void header(StringBuilder out, String name, String type, String help) {
+    out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+    out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+  }
+
+  private static void sample(StringBuilder out, String name, String labels, long value) {
+    appendName(out, name, labels).append(value).append('\n');
+  }
+
+  private static void sample(StringBuilder out, String name, String labels, double value) {
+    appendName(out, name, labels).append(value).append('\n');
+  }
+
+  private static StringBuilder appendName(StringBuilder out, String name, String labels) {
+    out.append(name);
+    if (!labels.isEmpty()) {
+      out.append('{').append(labels).append('}');
+    }
+    return out.append(' ');
+  }
+
+  private static String escape(String labelValue) {
+    return labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+  }
+}
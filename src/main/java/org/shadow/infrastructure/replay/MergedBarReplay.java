@@ -0,0 +1,112 @@
+package org.shadow.infrastructure.replay;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.shadow.infrastructure.client.fake.BarListener;
+import org.shadow.infrastructure.store.PartitionedBarStore;
+
+/**
+ * Replays the bars of many symbols of a bar store in global time order. Every symbol is read by
+ * its own {@link PartitionedBarStore.Cursor}, and the cursors are merged by a binary min-heap keyed
+ * by the time of their current bar, so each bar costs O(log k) for k symbols. Bars of the same time
+ * are replayed in the order the symbols were given, which makes replays deterministic.
+ *
+ * <p>Memory is bounded by one chunk of records per symbol, whatever the length of the history.
+ */
+public class MergedBarReplay {
+
+  private final Logger logger = LogManager.getLogger(MergedBarReplay.class);
+
+  private final PartitionedBarStore barStore;
+  private final List<String> symbols;
+  private final Instant from;
+  private final Instant to;
+
+  /**
+   * @param barStore the store holding the bars
+   * @param symbols the symbols to replay, in the order bars of the same time are replayed
+   * @param from the inclusive start of the replayed range
+   * @param to the exclusive end of the replayed range
+   */
+  public MergedBarReplay(
+      PartitionedBarStore barStore, List<String> symbols, Instant from, Instant to) {
+    this.barStore = barStore;
+    this.symbols = List.copyOf(symbols);
+    this.from = from;
+    this.to = to;
+  }
+
+  /**
+   * Replays every bar of the range on the calling thread.
+   *
+   * @param barListener receives the bars in ascending time order
+   * @return the number of bars replayed
+   * @throws IOException if a partition cannot be read
+   */
+  public long replay(BarListener barListener) throws IOException {
+    var cursors = new PartitionedBarStore.Cursor[symbols.size()];
+    var times = new long[cursors.length];
+    var heap = new int[cursors.length];
+    var size = 0;
+    var replayed = 0L;
+    try {
+      for (int i = 0; i < cursors.length; i++) {
+        cursors[i] = barStore.openCursor(symbols.get(i), from, to);
+        if (cursors[i].next()) {
+          times[i] = cursors[i].getTimeMillis();
+          heap[size++] = i;
+        }
+      }
+      for (int i = size / 2 - 1; i >= 0; i--) {
+        siftDown(heap, size, times, i);
+      }
+      logger.info("Replaying {} of {} symbols from {} to {}", size, cursors.length, from, to);
+
+      while (size > 0) {
+        var cursor = cursors[heap[0]];
+        barListener.onBar(cursor.getSymbol(), cursor.toBar());
+        replayed++;
+        if (cursor.next()) {
+          times[heap[0]] = cursor.getTimeMillis();
+        } else {
+          heap[0] = heap[--size];
+        }
+        siftDown(heap, size, times, 0);
+      }
+    } finally {
+      for (var cursor : cursors) {
+        if (cursor != null) {
+          cursor.close();
+        }
+      }
+    }
+    return replayed;
+  }
+
+  private static void siftDown(int[] heap, int size, long[] times, int index) {
+    var cursor = heap[index];
+    while (true) {
+      var child = 2 * index + 1;
+      if (child >= size) {
+        break;
+      }
+      if (child + 1 < size && isBefore(heap[child + 1], heap[child], times)) {
+        child++;
+      }
+      if (!isBefore(heap[child], cursor, times)) {
+        break;
+      }
+      heap[index] = heap[child];
+      index = child;
+    }
+    heap[index] = cursor;
+  }
+
+  /** Orders cursors by the time of their current bar, then by the order of their symbols. */
+  private static boolean isBefore(int cursor, int other, long[] times) {
+    return times[cursor] < times[other] || (times[cursor] == times[other] && cursor < other);
+  }
+}
@@ -0,0 +1,43 @@
+package org.shadow.infrastructure.replay;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.shadow.domain.client.model.Bar;
+import org.shadow.infrastructure.client.fake.BarListener;
+
+/**
+ * Routes replayed bars to the listeners subscribed to their symbol, in the order they subscribed.
+ * Subscriptions are made before the replay starts; the dispatcher is not thread-safe.
+ */
+public class ReplayDispatcher implements BarListener {
+
+  private final Map<String, List<BarListener>> subscriptions = new LinkedHashMap<>();
+
+  /**
+   * Subscribes a listener to the bars of a symbol.
+   *
+   * @param symbol the symbol
+   * @param barListener the listener to notify
+   */
+  public void subscribe(String symbol, BarListener barListener) {
+    subscriptions.computeIfAbsent(symbol, s -> new ArrayList<>()).add(barListener);
+  }
+
+  /** Returns the subscribed symbols in the order of their first subscription. */
+  public List<String> getSymbols() {
+    return List.copyOf(subscriptions.keySet());
+  }
+
+  @Override
+  public void onBar(String symbol, Bar bar) {
+    var barListeners = subscriptions.get(symbol);
+    if (barListeners == null) {
+      return;
+    }
+    for (var barListener : barListeners) {
+      barListener.onBar(symbol, bar);
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package org.shadow.infrastructure.replay;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.shadow.domain.client.BarsCollectorClient;
+import org.shadow.domain.client.model.Bar;
+import org.shadow.infrastructure.client.fake.BarListener;
+
+/**
+ * Bars collector of a robot driven by a replay: bars handed over by the replay are returned by the
+ * next collection, so the robot sees the market in the global time order of the replay.
+ */
+public class ReplayedBarsCollectorClient implements BarsCollectorClient, BarListener {
+
+  private final List<Bar> pendingBars = new ArrayList<>();
+
+  @Override
+  public void init() {}
+
+  @Override
+  public synchronized void onBar(String symbol, Bar bar) {
+    pendingBars.add(bar);
+  }
+
+  @Override
+  public synchronized List<Bar> collectBars(
+      TimeUnit interval, long range, Instant timeFrom, Instant timeTo) {
+    var bars = List.copyOf(pendingBars);
+    pendingBars.clear();
+    return bars;
+  }
+}
@@ -0,0 +1,80 @@
+package org.shadow.infrastructure.replay;
+
+import java.time.Instant;
+import java.util.function.Consumer;
+import org.shadow.domain.client.model.Bar;
+
+/**
+ * Aggregates the bars of a bar store into the timeframe of a robot, so a robot of a coarser
+ * timeframe than the stored bars only sees closed bars of its own timeframe. Stored bars are
+ * bucketed by the timeframe boundary their time falls in, and a bucket is complete once a bar
+ * reaching its end was added, or a bar of a later bucket arrives after a gap in the history.
+ *
+ * <p>Not thread-safe; the bars of one symbol are added on the replay thread in ascending order.
+ */
+public class TimeframeBarAggregator {
+
+  private final long timeframeMillis;
+  private final long sourceIntervalMillis;
+
+  private Bar bucket;
+  private long bucketStartMillis;
+
+  /**
+   * @param timeframeMillis the timeframe of the aggregated bars
+   * @param sourceIntervalMillis the interval of the added bars, dividing the timeframe
+   */
+  public TimeframeBarAggregator(long timeframeMillis, long sourceIntervalMillis) {
+    if (sourceIntervalMillis <= 0 || timeframeMillis % sourceIntervalMillis != 0) {
+      throw new IllegalArgumentException(
+          "Timeframe of "
+              + timeframeMillis
+              + " ms cannot be aggregated from bars of "
+              + sourceIntervalMillis
+              + " ms");
+    }
+    this.timeframeMillis = timeframeMillis;
+    this.sourceIntervalMillis = sourceIntervalMillis;
+  }
+
+  /**
+   * Adds a stored bar to its bucket.
+   *
+   * @param bar the next bar of the symbol
+   * @param completedBarConsumer receives the aggregated bar of every bucket completed by this bar,
+   *     in time order; after a gap, the previous bucket is completed first
+   */
+  public void add(Bar bar, Consumer<Bar> completedBarConsumer) {
+    var timeMillis = bar.time().toEpochMilli();
+    var startMillis = Math.floorDiv(timeMillis, timeframeMillis) * timeframeMillis;
+    if (bucket != null && startMillis != bucketStartMillis) {
+      // The history has a gap, the bucket will not receive its last bar
+      completedBarConsumer.accept(bucket);
+      bucket = null;
+    }
+    if (bucket == null) {
+      bucketStartMillis = startMillis;
+      bucket =
+          new Bar(
+              Instant.ofEpochMilli(startMillis),
+              bar.open(),
+              bar.high(),
+              bar.low(),
+              bar.close(),
+              bar.volume());
+    } else {
+      bucket =
+          new Bar(
+              bucket.time(),
+              bucket.open(),
+              bucket.high().max(bar.high()),
+              bucket.low().min(bar.low()),
+              bar.close(),
+              bucket.volume().add(bar.volume()));
+    }
+    if (timeMillis + sourceIntervalMillis >= startMillis + timeframeMillis) {
+      completedBarConsumer.accept(bucket);
+      bucket = null;
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package org.shadow.infrastructure.series;
+
+/** Reads bit fields written by a {@link BitWriter}. */
+final class BitReader {
+
+  private long[] words;
+  private long bits;
+
+  void reset(long[] words) {
+    this.words = words;
+    this.bits = 0;
+  }
+
+  boolean readBit() {
+    return readBits(1) != 0;
+  }
+
+  /**
+   * Reads the next bit field.
+   *
+   * @param count the number of bits, from 1 to 64
+   * @return the field in the lowest bits
+   */
+  long readBits(int count) {
+    var word = (int) (bits >>> 6);
+    var free = 64 - (int) (bits & 63);
+    long value;
+    if (count <= free) {
+      value = (words[word] >>> (free - count)) & BitWriter.mask(count);
+    } else {
+      var rest = count - free;
+      value = ((words[word] & BitWriter.mask(free)) << rest) | (words[word + 1] >>> (64 - rest));
+    }
+    bits += count;
+    return value;
+  }
+}
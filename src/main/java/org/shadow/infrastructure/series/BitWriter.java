@@ -0,0 +1,52 @@
+package org.shadow.infrastructure.series;
+
+import java.util.Arrays;
+
+/** Appends bit fields, most significant bit first, to a growing array of words. */
+final class BitWriter {
+
+  private static final int INITIAL_WORDS = 16;
+
+  private long[] words = new long[INITIAL_WORDS];
+  private long bits;
+
+  void writeBit(boolean bit) {
+    writeBits(bit ? 1 : 0, 1);
+  }
+
+  /**
+   * Appends the lowest bits of a value.
+   *
+   * @param value the value
+   * @param count the number of bits, from 1 to 64
+   */
+  void writeBits(long value, int count) {
+    var word = (int) (bits >>> 6);
+    if (word + 1 >= words.length) {
+      words = Arrays.copyOf(words, words.length * 2);
+    }
+    value &= mask(count);
+    var free = 64 - (int) (bits & 63);
+    if (count <= free) {
+      words[word] |= value << (free - count);
+    } else {
+      words[word] |= value >>> (count - free);
+      words[word + 1] |= value << (64 - (count - free));
+    }
+    bits += count;
+  }
+
+  /** Returns a copy of the written words, trimmed to the last used word. */
+  long[] toWords() {
+    return Arrays.copyOf(words, (int) ((bits + 63) >>> 6));
+  }
+
+  /** Returns the written words without copying; valid until the next write. */
+  long[] words() {
+    return words;
+  }
+
+  static long mask(int count) {
+    return count == 64 ? -1L : (1L << count) - 1;
+  }
+}
@@ -0,0 +1,345 @@
+package org.shadow.infrastructure.series;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.shadow.domain.client.model.Bar;
+
+/**
+ * Append-only bar series compressed in the manner of Gorilla: timestamps are stored as
+ * delta-of-deltas, which cost a single bit for bars of a regular interval, and every price and
+ * the volume as the XOR with a previous value, which only keeps the bits that changed. The open is
+ * compared with the previous close, every other field with its own previous value. Bars are
+ * grouped in blocks of {@value #BLOCK_SIZE} that each start from scratch, so decoding can start at
+ * any block.
+ *
+ * <p>Prices and volumes are kept as doubles. A series is appended to by one thread; cursors must
+ * not be used concurrently with appends.
+ */
+public class CompressedBarSeries {
+
+  static final int BLOCK_SIZE = 1024;
+
+  private static final int FIELDS = 5;
+  private static final int OPEN = 0;
+  private static final int HIGH = 1;
+  private static final int LOW = 2;
+  private static final int CLOSE = 3;
+  private static final int VOLUME = 4;
+  private static final int MAX_LEADING_ZEROS = 31;
+  // Rough size of a block and its entry in the block list besides the words
+  private static final int BLOCK_OVERHEAD_BYTES = 56;
+
+  private final List<Block> blocks = new ArrayList<>();
+  private final long[] previousBits = new long[FIELDS];
+  private final int[] leadingZeros = new int[FIELDS];
+  private final int[] trailingZeros = new int[FIELDS];
+
+  private BitWriter writer;
+  private long previousTime;
+  private long previousDelta;
+  private long size;
+
+  public long size() {
+    return size;
+  }
+
+  /** Returns the approximate number of bytes held by the compressed bars. */
+  public long getCompressedBytes() {
+    var bytes = 0L;
+    for (var block : blocks) {
+      bytes += BLOCK_OVERHEAD_BYTES + 8L * (block.words != null ? block.words.length : 0);
+    }
+    return bytes + (writer != null ? 8L * writer.words().length : 0);
+  }
+
+  public void append(Bar bar) {
+    append(
+        bar.time().toEpochMilli(),
+        bar.open().doubleValue(),
+        bar.high().doubleValue(),
+        bar.low().doubleValue(),
+        bar.close().doubleValue(),
+        bar.volume().doubleValue());
+  }
+
+  /**
+   * Appends a bar. Bars are expected in ascending time order for {@link #cursorAt(Instant)}.
+   *
+   * @param timeMillis the time of the bar in epoch millis
+   */
+  public void append(
+      long timeMillis, double open, double high, double low, double close, double volume) {
+    if (writer == null || blocks.getLast().count == BLOCK_SIZE) {
+      startBlock(timeMillis);
+    } else {
+      var delta = timeMillis - previousTime;
+      writeDeltaOfDelta(delta - previousDelta);
+      previousDelta = delta;
+      previousTime = timeMillis;
+    }
+    writeValue(OPEN, open);
+    writeValue(HIGH, high);
+    writeValue(LOW, low);
+    writeValue(CLOSE, close);
+    writeValue(VOLUME, volume);
+    blocks.getLast().count++;
+    size++;
+  }
+
+  /** Returns a cursor before the first bar. */
+  public Cursor cursor() {
+    return cursor(0);
+  }
+
+  /**
+   * Returns a cursor before a bar, decoding only the block of the bar.
+   *
+   * @param index the index of the bar the first {@link Cursor#next()} moves to
+   */
+  public Cursor cursor(long index) {
+    if (index < 0 || index > size) {
+      throw new IndexOutOfBoundsException("Bar " + index + " of a series of " + size);
+    }
+    var cursor = new Cursor((int) (index / BLOCK_SIZE));
+    for (long i = index % BLOCK_SIZE; i > 0; i--) {
+      cursor.next();
+    }
+    return cursor;
+  }
+
+  /**
+   * Returns a cursor before the first bar at or after a time, found by a binary search over the
+   * blocks.
+   *
+   * @param time the time
+   */
+  public Cursor cursorAt(Instant time) {
+    var timeMillis = time.toEpochMilli();
+    var low = 0;
+    var high = blocks.size() - 1;
+    // Last block starting at or before the time
+    while (low < high) {
+      var middle = (low + high + 1) >>> 1;
+      if (blocks.get(middle).firstTime <= timeMillis) {
+        low = middle;
+      } else {
+        high = middle - 1;
+      }
+    }
+    var scan = new Cursor(low);
+    var index = (long) low * BLOCK_SIZE;
+    while (scan.next() && scan.timeMillis < timeMillis) {
+      index++;
+    }
+    return cursor(Math.min(index, size));
+  }
+
+  private void startBlock(long timeMillis) {
+    if (writer != null) {
+      blocks.getLast().words = writer.toWords();
+    }
+    writer = new BitWriter();
+    blocks.add(new Block(timeMillis));
+    Arrays.fill(previousBits, 0);
+    Arrays.fill(leadingZeros, -1);
+    previousTime = timeMillis;
+    previousDelta = 0;
+  }
+
+  private void writeDeltaOfDelta(long deltaOfDelta) {
+    if (deltaOfDelta == 0) {
+      writer.writeBit(false);
+    } else if (deltaOfDelta >= -64 && deltaOfDelta < 64) {
+      writer.writeBits(0b10, 2);
+      writer.writeBits(deltaOfDelta, 7);
+    } else if (deltaOfDelta >= -256 && deltaOfDelta < 256) {
+      writer.writeBits(0b110, 3);
+      writer.writeBits(deltaOfDelta, 9);
+    } else if (deltaOfDelta >= -2048 && deltaOfDelta < 2048) {
+      writer.writeBits(0b1110, 4);
+      writer.writeBits(deltaOfDelta, 12);
+    } else {
+      writer.writeBits(0b1111, 4);
+      writer.writeBits(deltaOfDelta, 64);
+    }
+  }
+
+  private void writeValue(int field, double value) {
+    var bits = Double.doubleToRawLongBits(value);
+    var xor = bits ^ previousBits[reference(field)];
+    previousBits[field] = bits;
+    if (xor == 0) {
+      writer.writeBit(false);
+      return;
+    }
+    writer.writeBit(true);
+    var leading = Math.min(MAX_LEADING_ZEROS, Long.numberOfLeadingZeros(xor));
+    var trailing = Long.numberOfTrailingZeros(xor);
+    if (leadingZeros[field] >= 0
+        && leading >= leadingZeros[field]
+        && trailing >= trailingZeros[field]) {
+      // The changed bits fit in the window of the previous value
+      writer.writeBit(false);
+      writer.writeBits(
+          xor >>> trailingZeros[field], 64 - leadingZeros[field] - trailingZeros[field]);
+    } else {
+      var meaningful = 64 - leading - trailing;
+      writer.writeBit(true);
+      writer.writeBits(leading, 5);
+      writer.writeBits(meaningful - 1, 6);
+      writer.writeBits(xor >>> trailing, meaningful);
+      leadingZeros[field] = leading;
+      trailingZeros[field] = trailing;
+    }
+  }
+
+  /**
+   * Returns the field a value is XORed with. The open usually repeats the previous close, every
+   * other field is compared with its own previous value.
+   */
+  private static int reference(int field) {
+    return field == OPEN ? CLOSE : field;
+  }
+
+  private long[] wordsOf(int block) {
+    var words = blocks.get(block).words;
+    return words != null ? words : writer.words();
+  }
+
+  /** Block of bars; its words are null while it is appended to. */
+  private static final class Block {
+
+    private final long firstTime;
+    private int count;
+    private long[] words;
+
+    private Block(long firstTime) {
+      this.firstTime = firstTime;
+    }
+  }
+
+  /** Sequential decoder of the bars; the current bar is read through primitive getters. */
+  public final class Cursor {
+
+    private final BitReader reader = new BitReader();
+    private final long[] bits = new long[FIELDS];
+    private final int[] leading = new int[FIELDS];
+    private final int[] trailing = new int[FIELDS];
+
+    private int block;
+    private int position;
+    private long timeMillis;
+    private long delta;
+
+    private Cursor(int block) {
+      this.block = block;
+    }
+
+    /**
+     * Moves to the next bar.
+     *
+     * @return false if there are no more bars
+     */
+    public boolean next() {
+      if (block >= blocks.size()) {
+        return false;
+      }
+      if (position == blocks.get(block).count) {
+        if (block + 1 >= blocks.size()) {
+          return false;
+        }
+        block++;
+        position = 0;
+      }
+      if (position == 0) {
+        reader.reset(wordsOf(block));
+        Arrays.fill(bits, 0);
+        timeMillis = blocks.get(block).firstTime;
+        delta = 0;
+      } else {
+        delta += readDeltaOfDelta();
+        timeMillis += delta;
+      }
+      for (int field = 0; field < FIELDS; field++) {
+        readValue(field);
+      }
+      position++;
+      return true;
+    }
+
+    public long getTimeMillis() {
+      return timeMillis;
+    }
+
+    public double getOpen() {
+      return Double.longBitsToDouble(bits[OPEN]);
+    }
+
+    public double getHigh() {
+      return Double.longBitsToDouble(bits[HIGH]);
+    }
+
+    public double getLow() {
+      return Double.longBitsToDouble(bits[LOW]);
+    }
+
+    public double getClose() {
+      return Double.longBitsToDouble(bits[CLOSE]);
+    }
+
+    public double getVolume() {
+      return Double.longBitsToDouble(bits[VOLUME]);
+    }
+
+    /** Materializes the current bar. */
+    public Bar toBar() {
+      return new Bar(
+          Instant.ofEpochMilli(timeMillis),
+          BigDecimal.valueOf(getOpen()),
+          BigDecimal.valueOf(getHigh()),
+          BigDecimal.valueOf(getLow()),
+          BigDecimal.valueOf(getClose()),
+          BigDecimal.valueOf(getVolume()));
+    }
+
+    private long readDeltaOfDelta() {
+      if (!reader.readBit()) {
+        return 0;
+      }
+      if (!reader.readBit()) {
+        return signExtend(reader.readBits(7), 7);
+      }
+      if (!reader.readBit()) {
+        return signExtend(reader.readBits(9), 9);
+      }
+      if (!reader.readBit()) {
+        return signExtend(reader.readBits(12), 12);
+      }
+      return reader.readBits(64);
+    }
+
+    private void readValue(int field) {
+      var reference = bits[reference(field)];
+      if (!reader.readBit()) {
+        bits[field] = reference;
+        return;
+      }
+      if (!reader.readBit()) {
+        var meaningful = 64 - leading[field] - trailing[field];
+        bits[field] = reference ^ reader.readBits(meaningful) << trailing[field];
+      } else {
+        leading[field] = (int) reader.readBits(5);
+        var meaningful = (int) reader.readBits(6) + 1;
+        trailing[field] = 64 - leading[field] - meaningful;
+        bits[field] = reference ^ reader.readBits(meaningful) << trailing[field];
+      }
+    }
+
+    private static long signExtend(long value, int count) {
+      return (value << (64 - count)) >> (64 - count);
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package org.shadow.infrastructure.store;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Index entry of a bar store partition.
+ *
+ * @param day the UTC day of the bars
+ * @param bars the number of complete bars
+ * @param firstTime the time of the first bar
+ * @param lastTime the time of the last bar
+ */
+public record BarPartition(
+    String symbol, LocalDate day, Path file, long bars, Instant firstTime, Instant lastTime) {}
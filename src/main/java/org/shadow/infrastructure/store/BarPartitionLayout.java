@@ -0,0 +1,56 @@
+package org.shadow.infrastructure.store;
+
+/**
+ * Binary layout of a bar store partition, holding the bars of one symbol and one UTC day. The
+ * file starts with a {@value #HEADER_SIZE} byte header followed by fixed-size {@value
+ * #RECORD_SIZE} byte records in ascending time order, in little-endian byte order, so a time is
+ * found by binary search without reading the whole partition.
+ *
+ * <pre>
+ * Header                              Record
+ *  0 int  magic                        0 long   time, epoch millis
+ *  4 int  version                      8 double open
+ *  8 int  record size                 16 double high
+ * 16 long epoch day                   24 double low
+ *                                     32 double close
+ *                                     40 double volume
+ * </pre>
+ *
+ * <p>A record cut short by a crash is ignored and overwritten by the next append.
+ */
+final class BarPartitionLayout {
+
+  static final int MAGIC = 0x53425031; // "SBP1"
+  static final int VERSION = 1;
+
+  static final int HEADER_SIZE = 32;
+  static final int MAGIC_OFFSET = 0;
+  static final int VERSION_OFFSET = 4;
+  static final int RECORD_SIZE_OFFSET = 8;
+  static final int EPOCH_DAY_OFFSET = 16;
+
+  static final int RECORD_SIZE = 48;
+  static final int TIME_OFFSET = 0;
+  static final int OPEN_OFFSET = 8;
+  static final int HIGH_OFFSET = 16;
+  static final int LOW_OFFSET = 24;
+  static final int CLOSE_OFFSET = 32;
+  static final int VOLUME_OFFSET = 40;
+
+  static final String EXTENSION = ".bars";
+  static final long MILLIS_PER_DAY = 86_400_000L;
+
+  private BarPartitionLayout() {}
+
+  static long epochDay(long timeMillis) {
+    return Math.floorDiv(timeMillis, MILLIS_PER_DAY);
+  }
+
+  static long recordPosition(long index) {
+    return HEADER_SIZE + index * RECORD_SIZE;
+  }
+
+  static long recordCount(long fileSize) {
+    return Math.max(0, (fileSize - HEADER_SIZE) / RECORD_SIZE);
+  }
+}
@@ -0,0 +1,463 @@
+package org.shadow.infrastructure.store;
+
+import static org.shadow.infrastructure.store.BarPartitionLayout.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.shadow.domain.client.model.Bar;
+
+/**
+ * Embedded bar store keeping the bars of every symbol in one binary file per UTC day, see {@link
+ * BarPartitionLayout}. The partition index of a symbol is built from its directory on first use,
+ * so a range scan only opens the partitions overlapping the range and binary searches the first
+ * of them instead of reading whole files.
+ *
+ * <p>Bars are appended in time order; bars not after the last stored bar of their symbol, such as
+ * the overlap of consecutive collections, are skipped. Prices and volumes are stored as doubles.
+ */
+public class PartitionedBarStore implements AutoCloseable {
+
+  private static final int CHUNK_RECORDS = 1024;
+
+  private final Logger logger = LogManager.getLogger(PartitionedBarStore.class);
+
+  private final Path directory;
+  private final Map<String, SymbolPartitions> symbols = new ConcurrentHashMap<>();
+
+  /**
+   * Opens or creates a store.
+   *
+   * @param directory the root directory of the store, created if missing
+   * @throws IOException if the directory cannot be created
+   */
+  public PartitionedBarStore(Path directory) throws IOException {
+    this.directory = Files.createDirectories(directory);
+  }
+
+  /**
+   * Appends the bars of a symbol.
+   *
+   * @param symbol the symbol of the bars
+   * @param bars the bars in ascending time order
+   * @return the number of bars appended, excluding those already stored
+   * @throws IOException if a partition cannot be written
+   */
+  public int append(String symbol, List<Bar> bars) throws IOException {
+    var partitions = partitionsOf(symbol);
+    synchronized (partitions) {
+      var appended = 0;
+      for (var bar : bars) {
+        var timeMillis = bar.time().toEpochMilli();
+        if (timeMillis <= partitions.lastTimeMillis) {
+          continue;
+        }
+        var day = epochDay(timeMillis);
+        if (day != partitions.appendDay) {
+          partitions.flush();
+          partitions.openAppend(day);
+        }
+        if (!partitions.appendBuffer.hasRemaining()) {
+          partitions.flush();
+        }
+        partitions.appendBuffer
+            .putLong(timeMillis)
+            .putDouble(bar.open().doubleValue())
+            .putDouble(bar.high().doubleValue())
+            .putDouble(bar.low().doubleValue())
+            .putDouble(bar.close().doubleValue())
+            .putDouble(bar.volume().doubleValue());
+        partitions.lastTimeMillis = timeMillis;
+        appended++;
+      }
+      partitions.flush();
+      return appended;
+    }
+  }
+
+  /**
+   * Returns the index entries of the partitions of a symbol holding bars of a time range.
+   *
+   * @param symbol the symbol
+   * @param from the inclusive start of the range
+   * @param to the exclusive end of the range
+   * @return the partitions in ascending time order
+   * @throws IOException if the partition index cannot be built
+   */
+  public List<BarPartition> getPartitions(String symbol, Instant from, Instant to)
+      throws IOException {
+    var fromMillis = from.toEpochMilli();
+    var toMillis = to.toEpochMilli();
+    var selected = new ArrayList<BarPartition>();
+    if (fromMillis >= toMillis) {
+      return selected;
+    }
+    var partitions = partitionsOf(symbol);
+    synchronized (partitions) {
+      for (var partition :
+          partitions.index.subMap(epochDay(fromMillis), true, epochDay(toMillis - 1), true)
+              .values()) {
+        if (partition.lastTime().toEpochMilli() >= fromMillis
+            && partition.firstTime().toEpochMilli() < toMillis) {
+          selected.add(partition);
+        }
+      }
+    }
+    return selected;
+  }
+
+  /**
+   * Visits the bars of a symbol in a time range in ascending time order.
+   *
+   * @param symbol the symbol
+   * @param from the inclusive start of the range
+   * @param to the exclusive end of the range
+   * @param visitor receives every bar of the range
+   * @return the number of bars visited
+   * @throws IOException if a partition cannot be read
+   */
+  public long scan(String symbol, Instant from, Instant to, Consumer<Bar> visitor)
+      throws IOException {
+    var visited = 0L;
+    try (var cursor = openCursor(symbol, from, to)) {
+      while (cursor.next()) {
+        visitor.accept(cursor.toBar());
+        visited++;
+      }
+    }
+    return visited;
+  }
+
+  /**
+   * Opens a cursor over the bars of a symbol in a time range. Unlike {@link #scan}, the caller
+   * pulls the bars, so many symbols can be read side by side; a cursor holds one partition open and
+   * one chunk of records in memory at a time.
+   *
+   * @param symbol the symbol
+   * @param from the inclusive start of the range
+   * @param to the exclusive end of the range
+   * @return a cursor before the first bar of the range, to be closed by the caller
+   * @throws IOException if the partition index cannot be built
+   */
+  public Cursor openCursor(String symbol, Instant from, Instant to) throws IOException {
+    return new Cursor(
+        symbol, getPartitions(symbol, from, to), from.toEpochMilli(), to.toEpochMilli());
+  }
+
+  /** Flushes and closes the partitions being appended to. */
+  @Override
+  public void close() {
+    for (var partitions : symbols.values()) {
+      synchronized (partitions) {
+        try {
+          partitions.closeAppend();
+        } catch (IOException e) {
+          logger.error("Failed to close bar partition of {}", partitions.symbol, e);
+        }
+      }
+    }
+  }
+
+  private SymbolPartitions partitionsOf(String symbol) throws IOException {
+    try {
+      return symbols.computeIfAbsent(symbol, this::loadIndex);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  private SymbolPartitions loadIndex(String symbol) {
+    var partitions =
+        new SymbolPartitions(symbol, directory.resolve(symbol.replaceAll("[^A-Za-z0-9._-]", "_")));
+    if (!Files.isDirectory(partitions.directory)) {
+      return partitions;
+    }
+    try (var files = Files.list(partitions.directory)) {
+      for (var file : files.filter(f -> f.toString().endsWith(EXTENSION)).toList()) {
+        var partition = readPartition(symbol, file);
+        if (partition != null) {
+          partitions.index.put(partition.day().toEpochDay(), partition);
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to index bar partitions of " + symbol, e);
+    }
+    if (!partitions.index.isEmpty()) {
+      partitions.lastTimeMillis = partitions.index.lastEntry().getValue().lastTime().toEpochMilli();
+    }
+    logger.info("Indexed {} bar partitions of {}", partitions.index.size(), symbol);
+    return partitions;
+  }
+
+  private static BarPartition readPartition(String symbol, Path file) throws IOException {
+    try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      var bars = recordCount(channel.size());
+      if (bars == 0) {
+        return null;
+      }
+      var day = readHeader(channel, file);
+      return new BarPartition(
+          symbol,
+          LocalDate.ofEpochDay(day),
+          file,
+          bars,
+          Instant.ofEpochMilli(readTime(channel, 0)),
+          Instant.ofEpochMilli(readTime(channel, bars - 1)));
+    }
+  }
+
+  private static long readHeader(FileChannel channel, Path file) throws IOException {
+    var header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    readFully(channel, header, 0);
+    if (header.getInt(MAGIC_OFFSET) != MAGIC
+        || header.getInt(VERSION_OFFSET) != VERSION
+        || header.getInt(RECORD_SIZE_OFFSET) != RECORD_SIZE) {
+      throw new IOException(file + " is not a version " + VERSION + " bar partition");
+    }
+    return header.getLong(EPOCH_DAY_OFFSET);
+  }
+
+  /** Returns the index of the first record not before a time. */
+  private static long lowerBound(FileChannel channel, long bars, long timeMillis)
+      throws IOException {
+    long low = 0;
+    long high = bars;
+    while (low < high) {
+      var middle = (low + high) >>> 1;
+      if (readTime(channel, middle) < timeMillis) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  private static long readTime(FileChannel channel, long index) throws IOException {
+    var time = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    readFully(channel, time, recordPosition(index) + TIME_OFFSET);
+    return time.getLong(0);
+  }
+
+  private static void readFully(FileChannel channel, ByteBuffer buffer, long position)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        throw new IOException("Unexpected end of bar partition");
+      }
+    }
+  }
+
+  private static Bar toBar(ByteBuffer buffer, int offset, long timeMillis) {
+    return new Bar(
+        Instant.ofEpochMilli(timeMillis),
+        BigDecimal.valueOf(buffer.getDouble(offset + OPEN_OFFSET)),
+        BigDecimal.valueOf(buffer.getDouble(offset + HIGH_OFFSET)),
+        BigDecimal.valueOf(buffer.getDouble(offset + LOW_OFFSET)),
+        BigDecimal.valueOf(buffer.getDouble(offset + CLOSE_OFFSET)),
+        BigDecimal.valueOf(buffer.getDouble(offset + VOLUME_OFFSET)));
+  }
+
+  /** Sequential reader of the bars of one symbol in a time range, used by one thread. */
+  public static final class Cursor implements AutoCloseable {
+
+    private final String symbol;
+    private final List<BarPartition> partitions;
+    private final long fromMillis;
+    private final long toMillis;
+    private final ByteBuffer buffer =
+        ByteBuffer.allocate(CHUNK_RECORDS * RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+    private int partition = -1;
+    private FileChannel channel;
+    private long nextRecord;
+    private int records;
+    private int record;
+    private long timeMillis;
+    private boolean done;
+
+    private Cursor(String symbol, List<BarPartition> partitions, long fromMillis, long toMillis) {
+      this.symbol = symbol;
+      this.partitions = partitions;
+      this.fromMillis = fromMillis;
+      this.toMillis = toMillis;
+    }
+
+    /**
+     * Moves to the next bar of the range, closing the cursor after the last one.
+     *
+     * @return false if there are no more bars
+     * @throws IOException if a partition cannot be read
+     */
+    public boolean next() throws IOException {
+      while (!done) {
+        if (record + 1 < records) {
+          record++;
+          timeMillis = buffer.getLong(record * RECORD_SIZE + TIME_OFFSET);
+          if (timeMillis < toMillis) {
+            return true;
+          }
+          close();
+        } else if (channel != null && nextRecord < partitions.get(partition).bars()) {
+          readChunk();
+        } else if (!openNextPartition()) {
+          close();
+        }
+      }
+      return false;
+    }
+
+    public String getSymbol() {
+      return symbol;
+    }
+
+    public long getTimeMillis() {
+      return timeMillis;
+    }
+
+    /** Materializes the current bar. */
+    public Bar toBar() {
+      return PartitionedBarStore.toBar(buffer, record * RECORD_SIZE, timeMillis);
+    }
+
+    @Override
+    public void close() throws IOException {
+      done = true;
+      if (channel != null) {
+        channel.close();
+        channel = null;
+      }
+    }
+
+    private boolean openNextPartition() throws IOException {
+      if (channel != null) {
+        channel.close();
+        channel = null;
+      }
+      if (++partition >= partitions.size()) {
+        return false;
+      }
+      var current = partitions.get(partition);
+      channel = FileChannel.open(current.file(), StandardOpenOption.READ);
+      nextRecord =
+          current.firstTime().toEpochMilli() >= fromMillis
+              ? 0
+              : lowerBound(channel, current.bars(), fromMillis);
+      records = 0;
+      record = 0;
+      return true;
+    }
+
+    private void readChunk() throws IOException {
+      records = (int) Math.min(CHUNK_RECORDS, partitions.get(partition).bars() - nextRecord);
+      buffer.clear().limit(records * RECORD_SIZE);
+      readFully(channel, buffer, recordPosition(nextRecord));
+      nextRecord += records;
+      record = -1;
+    }
+  }
+
+  /** Partition index and append state of one symbol, guarded by its own monitor. */
+  private static final class SymbolPartitions {
+
+    private final String symbol;
+    private final Path directory;
+    private final NavigableMap<Long, BarPartition> index = new TreeMap<>();
+    private final ByteBuffer appendBuffer =
+        ByteBuffer.allocate(CHUNK_RECORDS * RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+    private long lastTimeMillis = Long.MIN_VALUE;
+    private FileChannel appendChannel;
+    private Path appendFile;
+    private long appendDay = Long.MIN_VALUE;
+    private long appendBars;
+    private long appendFirstTimeMillis;
+
+    private SymbolPartitions(String symbol, Path directory) {
+      this.symbol = symbol;
+      this.directory = directory;
+    }
+
+    private void openAppend(long day) throws IOException {
+      closeAppend();
+      Files.createDirectories(directory);
+      appendFile = directory.resolve(LocalDate.ofEpochDay(day) + EXTENSION);
+      appendChannel =
+          FileChannel.open(
+              appendFile,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.READ,
+              StandardOpenOption.WRITE);
+      if (appendChannel.size() < HEADER_SIZE) {
+        var header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC_OFFSET, MAGIC);
+        header.putInt(VERSION_OFFSET, VERSION);
+        header.putInt(RECORD_SIZE_OFFSET, RECORD_SIZE);
+        header.putLong(EPOCH_DAY_OFFSET, day);
+        while (header.hasRemaining()) {
+          appendChannel.write(header, header.position());
+        }
+      } else {
+        readHeader(appendChannel, appendFile);
+      }
+      appendBars = recordCount(appendChannel.size());
+      // Drops a record torn by a crash, so appended records stay aligned
+      appendChannel.truncate(recordPosition(appendBars));
+      appendFirstTimeMillis = appendBars > 0 ? readTime(appendChannel, 0) : Long.MIN_VALUE;
+      appendDay = day;
+    }
+
+    private void flush() throws IOException {
+      if (appendBuffer.position() == 0) {
+        return;
+      }
+      appendBuffer.flip();
+      var records = appendBuffer.remaining() / RECORD_SIZE;
+      if (appendBars == 0) {
+        appendFirstTimeMillis = appendBuffer.getLong(TIME_OFFSET);
+      }
+      var position = recordPosition(appendBars);
+      while (appendBuffer.hasRemaining()) {
+        appendChannel.write(appendBuffer, position + appendBuffer.position());
+      }
+      appendBuffer.clear();
+      appendBars += records;
+      index.put(
+          appendDay,
+          new BarPartition(
+              symbol,
+              LocalDate.ofEpochDay(appendDay),
+              appendFile,
+              appendBars,
+              Instant.ofEpochMilli(appendFirstTimeMillis),
+              Instant.ofEpochMilli(lastTimeMillis)));
+    }
+
+    private void closeAppend() throws IOException {
+      if (appendChannel != null) {
+        flush();
+        appendChannel.force(false);
+        appendChannel.close();
+        appendChannel = null;
+        appendDay = Long.MIN_VALUE;
+      }
+    }
+  }
+}
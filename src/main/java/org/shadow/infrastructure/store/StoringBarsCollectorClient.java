@@ -0,0 +1,47 @@
+package org.shadow.infrastructure.store;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.shadow.domain.client.BarsCollectorClient;
+import org.shadow.domain.client.model.Bar;
+
+/**
+ * {@link BarsCollectorClient} appending every collected bar to a {@link PartitionedBarStore}, so
+ * live runs build up the history later backtests scan. A failing store is logged and never fails
+ * the collection.
+ */
+public class StoringBarsCollectorClient implements BarsCollectorClient {
+
+  private final Logger logger = LogManager.getLogger(StoringBarsCollectorClient.class);
+
+  private final BarsCollectorClient barsCollectorClient;
+  private final PartitionedBarStore barStore;
+  private final String symbol;
+
+  public StoringBarsCollectorClient(
+      BarsCollectorClient barsCollectorClient, PartitionedBarStore barStore, String symbol) {
+    this.barsCollectorClient = barsCollectorClient;
+    this.barStore = barStore;
+    this.symbol = symbol;
+  }
+
+  @Override
+  public void init() {
+    barsCollectorClient.init();
+  }
+
+  @Override
+  public List<Bar> collectBars(TimeUnit interval, long range, Instant timeFrom, Instant timeTo) {
+    var bars = barsCollectorClient.collectBars(interval, range, timeFrom, timeTo);
+    try {
+      barStore.append(symbol, bars);
+    } catch (IOException | RuntimeException e) {
+      logger.error("Failed to store {} bars of {}", bars.size(), symbol, e);
+    }
+    return bars;
+  }
+}
@@ -0,0 +1,70 @@
+package org.shadow.application.logging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.shadow.application.robot.common.model.Bar;
+import org.shadow.application.robot.explorer.model.BinaryIsMomentumExplorationState;
+import org.shadow.application.robot.strategy.model.BinaryStrategyEvaluation;
+
+class DecisionRecordTest {
+
+  private final List<Bar> bars =
+      List.of(
+          new Bar(
+              Instant.EPOCH,
+              BigDecimal.ONE,
+              BigDecimal.TWO,
+              BigDecimal.ONE,
+              BigDecimal.valueOf(1.5),
+              BigDecimal.TEN));
+
+  @Test
+  void testRecordFormatsEveryExplorer() {
+    var record = new DecisionRecord("BTCUSD", List.of("RSIBinaryExplorer", "MACDBinaryExplorer"));
+    var evaluation =
+        new BinaryStrategyEvaluation(
+            false,
+            3,
+            List.of(BinaryIsMomentumExplorationState.MAJOR, BinaryIsMomentumExplorationState.MINOR),
+            List.of(
+                BinaryIsMomentumExplorationState.NOT_READY, BinaryIsMomentumExplorationState.MINOR),
+            new double[] {28.5, -0.25},
+            Instant.EPOCH);
+
+    record.record(evaluation, bars, "LONG", BigDecimal.valueOf(1.4));
+
+    assertEquals(
+        "BTCUSD decision: action=LONG, stopLoss=1.4, blocked=false, severityDifference=3, bars=1,"
+            + " close=1.5, RSIBinaryExplorer[long=MAJOR, short=NOT_READY, value=28.5],"
+            + " MACDBinaryExplorer[long=MINOR, short=MINOR, value=-0.25]",
+        record.getFormattedMessage());
+    assertEquals(record.getFormattedMessage(), record.memento().getFormattedMessage());
+  }
+
+  @Test
+  void testRecordIsOverwrittenByTheNextDecision() {
+    var record = new DecisionRecord("BTCUSD", List.of("RSIBinaryExplorer"));
+    record.record(
+        new BinaryStrategyEvaluation(
+            false,
+            1,
+            List.of(BinaryIsMomentumExplorationState.MAJOR),
+            List.of(BinaryIsMomentumExplorationState.MINOR),
+            new double[] {20},
+            Instant.EPOCH),
+        bars,
+        "LONG",
+        BigDecimal.ONE);
+
+    record.record(BinaryStrategyEvaluation.ofBlocked(), List.of(), "DO_NOTHING", null);
+
+    assertEquals(
+        "BTCUSD decision: action=DO_NOTHING, stopLoss=NaN, blocked=true, severityDifference=0,"
+            + " bars=0, close=NaN",
+        record.getFormattedMessage());
+  }
+}
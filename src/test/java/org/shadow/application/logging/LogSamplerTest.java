@@ -0,0 +1,49 @@
+package org.shadow.application.logging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.apache.logging.log4j.LogManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class LogSamplerTest {
+
+  private final LogSampler sampler =
+      new LogSampler(LogManager.getLogger(LogSamplerTest.class), "Test line");
+
+  @AfterEach
+  void tearDown() {
+    HotPathLogging.configure(LoggingMode.VERBOSE, 60);
+  }
+
+  @Test
+  void testVerboseModeLogsEveryLine() {
+    HotPathLogging.configure(LoggingMode.VERBOSE, 60);
+
+    for (int i = 0; i < 5; i++) {
+      assertTrue(sampler.shouldLog());
+    }
+    assertEquals(0, sampler.getSuppressed());
+  }
+
+  @Test
+  void testGarbageFreeModeLogsOneLinePerInterval() {
+    HotPathLogging.configure(LoggingMode.GARBAGE_FREE, 60);
+
+    assertTrue(sampler.shouldLog(), "The first line should be logged");
+    for (int i = 0; i < 5; i++) {
+      assertFalse(sampler.shouldLog());
+    }
+    assertEquals(5, sampler.getSuppressed());
+  }
+
+  @Test
+  void testSuppressedLinesAreCountedUntilTheIntervalPassed() throws InterruptedException {
+    HotPathLogging.configure(LoggingMode.GARBAGE_FREE, 0);
+
+    assertTrue(sampler.shouldLog());
+    Thread.sleep(1);
+    assertTrue(sampler.shouldLog(), "A zero interval should log every line");
+    assertEquals(0, sampler.getSuppressed());
+  }
+}
@@ -0,0 +1,68 @@
+package org.shadow.application.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.shadow.application.robot.RobotTimeframe;
+
+class LatencyHistogramTest {
+
+  @Test
+  void testPercentilesStayWithinBucketPrecision() {
+    var histogram = new LatencyHistogram();
+    for (long nanos = 1; nanos <= 100_000; nanos++) {
+      histogram.record(nanos);
+    }
+
+    var snapshot = histogram.snapshot();
+
+    assertEquals(100_000, snapshot.getTotalCount());
+    assertEquals(50_000, snapshot.getValueAtPercentile(50), 50_000 * 0.07);
+    assertEquals(99_000, snapshot.getValueAtPercentile(99), 99_000 * 0.07);
+    assertTrue(snapshot.getMax() >= 100_000);
+    assertTrue(snapshot.getMax() <= 100_000 * 1.07);
+  }
+
+  @Test
+  void testOutOfRangeValuesAreClamped() {
+    var histogram = new LatencyHistogram();
+    histogram.record(-5);
+    histogram.record(Long.MAX_VALUE);
+
+    var snapshot = histogram.snapshot();
+
+    assertEquals(2, snapshot.getTotalCount());
+    assertEquals(0, snapshot.getValueAtPercentile(0));
+    assertTrue(snapshot.getMax() >= LatencyHistogram.MAX_TRACKABLE_NANOS);
+  }
+
+  @Test
+  void testSnapshotDifferenceCoversOnlyTheInterval() {
+    var histogram = new LatencyHistogram();
+    histogram.record(1_000);
+    var earlier = histogram.snapshot();
+    histogram.record(1_000_000);
+    histogram.record(1_000_000);
+
+    var interval = histogram.snapshot().minus(earlier);
+
+    assertEquals(2, interval.getTotalCount());
+    assertEquals(1_000_000, interval.getValueAtPercentile(50), 1_000_000 * 0.07);
+    assertEquals(3, interval.plus(earlier).getTotalCount());
+    assertEquals(0, HistogramSnapshot.empty().getValueAtPercentile(99));
+  }
+
+  @Test
+  void testRobotMetricsDrainIntervalMaximum() {
+    var metrics = new RobotCycleMetrics("BTCUSD", new RobotTimeframe(TimeUnit.MINUTES, 1));
+    metrics.record(CyclePhase.TOTAL, 300);
+    metrics.record(CyclePhase.TOTAL, 900);
+    metrics.record(CyclePhase.TOTAL, 100);
+
+    assertEquals(900, metrics.drainIntervalMax(CyclePhase.TOTAL));
+    assertEquals(0, metrics.drainIntervalMax(CyclePhase.TOTAL));
+    assertEquals(3, metrics.getHistogram(CyclePhase.TOTAL).snapshot().getTotalCount());
+    assertEquals(0, metrics.getHistogram(CyclePhase.EXPLORERS).snapshot().getTotalCount());
+  }
+}
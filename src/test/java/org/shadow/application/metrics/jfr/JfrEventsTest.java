@@ -0,0 +1,63 @@
+package org.shadow.application.metrics.jfr;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.shadow.application.robot.indicator.RSIIndicator;
+import org.shadow.application.robot.strategy.BinaryStrategy;
+
+class JfrEventsTest {
+
+  private static final double[] PRICES = {1, 2, 3, 2, 4, 5, 4, 6, 7, 6, 8, 9, 8, 10, 11, 10};
+
+  @TempDir Path tempDir;
+
+  @Test
+  void testEventsAreOnlyRecordedOnceRegistered() throws Exception {
+    var indicator = new RSIIndicator(14);
+    var strategy = new BinaryStrategy(List.of(), List.of(), BigDecimal.ONE, Map.of());
+    var recordingFile = tempDir.resolve("events.jfr");
+
+    try (var recording = new Recording()) {
+      recording.enable("org.shadow.IndicatorComputation");
+      recording.enable("org.shadow.StrategyDecision");
+      recording.start();
+
+      indicator.calculate(PRICES);
+      JfrEvents.register();
+      try {
+        indicator.calculate(PRICES);
+        strategy.evaluate(List.of());
+      } finally {
+        JfrEvents.unregister();
+      }
+
+      recording.stop();
+      recording.dump(recordingFile);
+    }
+
+    var events = RecordingFile.readAllEvents(recordingFile);
+    var indicatorEvents = eventsNamed(events, "org.shadow.IndicatorComputation");
+    assertEquals(1, indicatorEvents.size(), "Only the registered computation should be recorded");
+    assertEquals("RSI", indicatorEvents.getFirst().getString("indicator"));
+    assertEquals(14, indicatorEvents.getFirst().getInt("period"));
+    assertEquals(PRICES.length, indicatorEvents.getFirst().getInt("values"));
+
+    var decisionEvents = eventsNamed(events, "org.shadow.StrategyDecision");
+    assertEquals(1, decisionEvents.size());
+    assertFalse(decisionEvents.getFirst().getBoolean("blocked"));
+    assertEquals(0, decisionEvents.getFirst().getInt("severityDifference"));
+  }
+
+  private static List<RecordedEvent> eventsNamed(List<RecordedEvent> events, String name) {
+    return events.stream().filter(event -> event.getEventType().getName().equals(name)).toList();
+  }
+}
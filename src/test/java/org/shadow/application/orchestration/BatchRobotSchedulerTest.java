@@ -0,0 +1,142 @@
+package org.shadow.application.orchestration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.shadow.application.robot.Robot;
+import org.shadow.application.robot.RobotTimeframe;
+import org.shadow.application.robot.common.model.Position;
+
+class BatchRobotSchedulerTest {
+
+  private static final RobotTimeframe TIMEFRAME = new RobotTimeframe(TimeUnit.MINUTES, 1);
+
+  private ForkJoinPool pool;
+  private TaskScheduler taskScheduler;
+
+  @BeforeEach
+  void setUp() {
+    pool = new ForkJoinPool(4);
+    taskScheduler = new TaskScheduler(Executors.newSingleThreadScheduledExecutor());
+  }
+
+  @AfterEach
+  void tearDown() {
+    pool.shutdownNow();
+    taskScheduler.stop();
+  }
+
+  @Test
+  void testRunBatchRunsEveryRobotOnce() {
+    var robots = new ArrayList<Robot>();
+    for (int i = 0; i < 100; i++) {
+      robots.add(new CountingRobot("SYM" + i, 0));
+    }
+    var scheduler = new BatchRobotScheduler(TIMEFRAME, robots, taskScheduler, pool, 1_000);
+
+    var statistics = scheduler.runBatch();
+
+    assertEquals(100, statistics.robotCount());
+    robots.forEach(robot -> assertEquals(1, ((CountingRobot) robot).runs.get()));
+    assertSame(statistics, scheduler.getLastBatchStatistics());
+  }
+
+  @Test
+  void testRunBatchReportsSlowestRobot() {
+    var robots =
+        List.<Robot>of(
+            new CountingRobot("FAST1", 0),
+            new CountingRobot("SLOW", 50),
+            new CountingRobot("FAST2", 0));
+    var scheduler = new BatchRobotScheduler(TIMEFRAME, robots, taskScheduler, pool, 1_000);
+
+    var statistics = scheduler.runBatch();
+
+    assertEquals("SLOW", statistics.worstRobotSymbol());
+    assertTrue(statistics.worstRobotLatencyNanos() >= TimeUnit.MILLISECONDS.toNanos(50));
+    assertTrue(statistics.makespanNanos() >= statistics.worstRobotLatencyNanos());
+  }
+
+  @Test
+  void testFailingRobotDoesNotAbortBatch() {
+    var healthy = new CountingRobot("HEALTHY", 0);
+    var failing =
+        new CountingRobot("FAILING", 0) {
+          @Override
+          public void run() {
+            throw new IllegalStateException("Robot failure");
+          }
+        };
+    var scheduler =
+        new BatchRobotScheduler(TIMEFRAME, List.of(failing, healthy), taskScheduler, pool, 1_000);
+
+    var statistics = scheduler.runBatch();
+
+    assertEquals(2, statistics.robotCount());
+    assertEquals(1, healthy.runs.get());
+  }
+
+  private static class CountingRobot implements Robot {
+
+    private final String symbol;
+    private final long workMillis;
+    private final AtomicInteger runs = new AtomicInteger();
+
+    private CountingRobot(String symbol, long workMillis) {
+      this.symbol = symbol;
+      this.workMillis = workMillis;
+    }
+
+    @Override
+    public void run() {
+      runs.incrementAndGet();
+      if (workMillis > 0) {
+        try {
+          TimeUnit.MILLISECONDS.sleep(workMillis);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    }
+
+    @Override
+    public void init() {}
+
+    @Override
+    public void stop() {}
+
+    @Override
+    public RobotTimeframe getRobotTimeframe() {
+      return TIMEFRAME;
+    }
+
+    @Override
+    public String getSymbol() {
+      return symbol;
+    }
+
+    @Override
+    public List<Position> getPositions() {
+      return List.of();
+    }
+
+    @Override
+    public BigDecimal getPercentageFromDeposit() {
+      return BigDecimal.ONE;
+    }
+
+    @Override
+    public Integer getOrderFuturesMultiplier() {
+      return 1;
+    }
+  }
+}
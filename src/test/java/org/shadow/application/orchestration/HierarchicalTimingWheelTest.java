@@ -0,0 +1,108 @@
+package org.shadow.application.orchestration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimingWheelTest {
+
+  private HierarchicalTimingWheel wheel;
+
+  @BeforeEach
+  void setUp() {
+    // Tiny wheel, so the timers below cascade through every level and beyond the top one
+    wheel = HierarchicalTimingWheel.withDefaultWorkers(1, 4);
+  }
+
+  @AfterEach
+  void tearDown() {
+    wheel.close();
+  }
+
+  @Test
+  void testTimersFireInDeadlineOrderAndNeverEarly() throws InterruptedException {
+    var delaysMillis = new long[] {0, 3, 17, 70, 300, 450};
+    var done = new CountDownLatch(delaysMillis.length);
+    var earlyFirings = new AtomicInteger();
+    var lastFiredDelay = new AtomicLong(-1);
+    var outOfOrder = new AtomicInteger();
+
+    for (var delayMillis : delaysMillis) {
+      var deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+      wheel.schedule(
+          () -> {
+            if (System.nanoTime() < deadlineNanos) {
+              earlyFirings.incrementAndGet();
+            }
+            if (lastFiredDelay.getAndSet(delayMillis) > delayMillis) {
+              outOfOrder.incrementAndGet();
+            }
+            done.countDown();
+          },
+          delayMillis,
+          TimeUnit.MILLISECONDS);
+    }
+
+    assertTrue(done.await(5, TimeUnit.SECONDS), "Not all timers fired");
+    assertEquals(0, earlyFirings.get());
+    assertEquals(0, outOfOrder.get());
+  }
+
+  @Test
+  void testCancelledTimerDoesNotFire() throws InterruptedException {
+    var fired = new AtomicInteger();
+    var timeout = wheel.schedule(fired::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+
+    assertTrue(timeout.cancel(false));
+    assertTrue(timeout.isCancelled());
+    TimeUnit.MILLISECONDS.sleep(150);
+
+    assertEquals(0, fired.get());
+    assertFalse(timeout.cancel(false), "Cancelling twice should fail");
+  }
+
+  @Test
+  void testFixedRateTimerRepeatsUntilCancelled() throws InterruptedException {
+    var runs = new AtomicInteger();
+    var threeRuns = new CountDownLatch(3);
+    var timeout =
+        wheel.scheduleAtFixedRate(
+            () -> {
+              runs.incrementAndGet();
+              threeRuns.countDown();
+            },
+            0,
+            20,
+            TimeUnit.MILLISECONDS);
+
+    assertTrue(threeRuns.await(5, TimeUnit.SECONDS));
+    timeout.cancel(false);
+    var runsAfterCancel = runs.get();
+    TimeUnit.MILLISECONDS.sleep(100);
+
+    assertTrue(runs.get() <= runsAfterCancel + 1, "Timer should stop repeating after cancel");
+  }
+
+  @Test
+  void testExecutorViewShutsDownOnlyItsOwnTimers() throws InterruptedException {
+    var firstView = new TimingWheelExecutor(wheel);
+    var secondView = new TimingWheelExecutor(wheel);
+    var firstFired = new AtomicInteger();
+    var secondFired = new CountDownLatch(1);
+
+    firstView.scheduleAtFixedRate(firstFired::incrementAndGet, 100, 100, TimeUnit.MILLISECONDS);
+    secondView.schedule(secondFired::countDown, 100, TimeUnit.MILLISECONDS);
+
+    firstView.shutdown();
+    assertTrue(firstView.awaitTermination(1, TimeUnit.SECONDS));
+    assertTrue(firstView.isTerminated());
+    assertTrue(secondFired.await(5, TimeUnit.SECONDS));
+    assertEquals(0, firstFired.get());
+  }
+}
@@ -0,0 +1,135 @@
+package org.shadow.application.orchestration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.shadow.application.robot.Robot;
+import org.shadow.application.robot.RobotTimeframe;
+import org.shadow.application.robot.common.model.Position;
+
+class RobotInitializerTest {
+
+  private static final RobotTimeframe TIMEFRAME = new RobotTimeframe(TimeUnit.MINUTES, 1);
+  private static final long INIT_MILLIS = 200;
+
+  @Test
+  void testRobotsAreInitializedConcurrently() throws InterruptedException {
+    var robotSuppliers =
+        List.<Supplier<Robot>>of(
+            () -> new SlowRobot("BTC/USD"),
+            () -> new SlowRobot("ETH/USD"),
+            () -> new SlowRobot("SOL/USD"),
+            () -> new SlowRobot("XRP/USD"));
+
+    var startNanos = System.nanoTime();
+    var robots = new RobotInitializer(4).initialize(robotSuppliers);
+    var elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+    assertEquals(
+        List.of("BTC/USD", "ETH/USD", "SOL/USD", "XRP/USD"),
+        robots.stream().map(Robot::getSymbol).toList());
+    assertTrue(robots.stream().allMatch(Robot::isInitialized));
+    // Bounded by the slowest robot instead of the sum of all of them
+    assertTrue(elapsedMillis < 3 * INIT_MILLIS, "Initialized in " + elapsedMillis + " ms");
+  }
+
+  @Test
+  void testParallelismIsBounded() throws InterruptedException {
+    var running = new AtomicInteger();
+    var maxRunning = new AtomicInteger();
+    Supplier<Robot> robotSupplier =
+        () -> {
+          maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+          var robot = new SlowRobot("BTC/USD");
+          robot.init();
+          running.decrementAndGet();
+          return robot;
+        };
+
+    var robots =
+        new RobotInitializer(2)
+            .initialize(List.of(robotSupplier, robotSupplier, robotSupplier, robotSupplier));
+
+    assertEquals(4, robots.size());
+    assertTrue(maxRunning.get() <= 2, maxRunning.get() + " robots initialized at once");
+  }
+
+  @Test
+  void testRobotFailingToStartFailsStartup() {
+    var initializer = new RobotInitializer(2);
+    List<Supplier<Robot>> robotSuppliers =
+        List.of(
+            () -> new SlowRobot("BTC/USD"),
+            () -> {
+              throw new IllegalStateException("No historical data");
+            },
+            () -> new SlowRobot("SOL/USD"));
+
+    var exception =
+        assertThrows(IllegalStateException.class, () -> initializer.initialize(robotSuppliers));
+
+    assertEquals("No historical data", exception.getCause().getMessage());
+  }
+
+  private static class SlowRobot implements Robot {
+
+    private final String symbol;
+
+    private volatile boolean initialized;
+
+    private SlowRobot(String symbol) {
+      this.symbol = symbol;
+    }
+
+    @Override
+    public void init() {
+      try {
+        TimeUnit.MILLISECONDS.sleep(INIT_MILLIS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      initialized = true;
+    }
+
+    @Override
+    public boolean isInitialized() {
+      return initialized;
+    }
+
+    @Override
+    public void run() {}
+
+    @Override
+    public void stop() {}
+
+    @Override
+    public RobotTimeframe getRobotTimeframe() {
+      return TIMEFRAME;
+    }
+
+    @Override
+    public String getSymbol() {
+      return symbol;
+    }
+
+    @Override
+    public List<Position> getPositions() {
+      return List.of();
+    }
+
+    @Override
+    public BigDecimal getPercentageFromDeposit() {
+      return BigDecimal.ONE;
+    }
+
+    @Override
+    public Integer getOrderFuturesMultiplier() {
+      return 1;
+    }
+  }
+}
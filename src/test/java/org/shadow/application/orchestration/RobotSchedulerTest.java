@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -60,6 +61,17 @@ class RobotSchedulerTest {
     }
   }
 
+  @Test
+  void testStartSkipsInitOfRobotInitializedAtStartup() {
+    when(robot.isInitialized()).thenReturn(true);
+    when(robot.getRobotTimeframe()).thenReturn(new RobotTimeframe(TimeUnit.SECONDS, 5));
+
+    robotScheduler.start();
+
+    verify(robot, never()).init();
+    verify(taskScheduler).start(any(Runnable.class), anyLong(), anyLong());
+  }
+
   @Test
   void testStop() {
     robotScheduler.stop();
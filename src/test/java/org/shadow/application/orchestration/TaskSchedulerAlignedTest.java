@@ -0,0 +1,52 @@
+package org.shadow.application.orchestration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class TaskSchedulerAlignedTest {
+
+  private static final long INTERVAL_MILLIS = 200;
+  private static final long OFFSET_MILLIS = 30;
+  private static final long TOLERANCE_MILLIS = 60;
+
+  @Test
+  void testAlignedTimerFiresAtWallClockBoundariesPlusOffset() throws InterruptedException {
+    var taskScheduler =
+        TaskScheduler.builder(Executors.newSingleThreadScheduledExecutor())
+            .timerMode(TimerMode.ALIGNED)
+            .alignmentOffsetMillis(OFFSET_MILLIS)
+            .build();
+    var firingTimes = new CopyOnWriteArrayList<Long>();
+    var done = new CountDownLatch(3);
+
+    // The initial delay is ignored in aligned mode
+    taskScheduler.start(
+        () -> {
+          firingTimes.add(System.currentTimeMillis());
+          done.countDown();
+        },
+        10_000,
+        INTERVAL_MILLIS);
+    try {
+      assertTrue(done.await(5, TimeUnit.SECONDS), "Aligned task did not fire three times");
+    } finally {
+      taskScheduler.stop();
+    }
+
+    for (var firingTime : firingTimes.subList(0, 3)) {
+      var sinceBoundary = firingTime % INTERVAL_MILLIS;
+      assertTrue(
+          sinceBoundary >= OFFSET_MILLIS && sinceBoundary <= OFFSET_MILLIS + TOLERANCE_MILLIS,
+          "Fired " + sinceBoundary + "ms after the boundary");
+    }
+    assertEquals(0, taskScheduler.getMetrics().getOverruns());
+    assertTrue(
+        taskScheduler.getMetrics().getMaxLatenessNanos()
+            <= TimeUnit.MILLISECONDS.toNanos(TOLERANCE_MILLIS));
+  }
+}
@@ -0,0 +1,110 @@
+package org.shadow.application.orchestration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class TaskSchedulerOverrunTest {
+
+  private static final long INTERVAL_MILLIS = 100;
+  // The first execution overruns boundaries 1 and 2 and ends shortly after boundary 3
+  private static final long OVERRUN_MILLIS = 350;
+
+  @Test
+  void testSkipDropsMissedBoundaries() throws InterruptedException {
+    var taskScheduler =
+        TaskScheduler.builder(Executors.newSingleThreadScheduledExecutor())
+            .overrunPolicy(OverrunPolicy.SKIP)
+            .build();
+
+    var covered = runWithOverrun(taskScheduler, 2);
+
+    var metrics = taskScheduler.getMetrics();
+    assertEquals(1, metrics.getOverruns());
+    assertEquals(2, metrics.getSkippedBoundaries());
+    assertEquals(List.of(1, 1), covered);
+  }
+
+  @Test
+  void testCoalesceFoldsMissedBoundariesIntoOneRun() throws InterruptedException {
+    var taskScheduler =
+        TaskScheduler.builder(Executors.newSingleThreadScheduledExecutor())
+            .overrunPolicy(OverrunPolicy.COALESCE)
+            .build();
+
+    var covered = runWithOverrun(taskScheduler, 2);
+
+    var metrics = taskScheduler.getMetrics();
+    assertEquals(1, metrics.getOverruns());
+    assertEquals(2, metrics.getCoalescedBoundaries());
+    assertEquals(List.of(1, 3), covered);
+    assertTrue(metrics.getMaxLatenessNanos() > 0);
+  }
+
+  @Test
+  void testBacklogRunsMissedBoundariesWithinDeadline() throws InterruptedException {
+    var taskScheduler =
+        TaskScheduler.builder(Executors.newSingleThreadScheduledExecutor())
+            .overrunPolicy(OverrunPolicy.BACKLOG)
+            .backlogDeadlineMillis(10_000)
+            .build();
+
+    var covered = runWithOverrun(taskScheduler, 4);
+
+    var metrics = taskScheduler.getMetrics();
+    assertEquals(1, metrics.getOverruns());
+    assertEquals(0, metrics.getExpiredBoundaries());
+    assertEquals(List.of(1, 1, 1, 1), covered);
+  }
+
+  @Test
+  void testBacklogDropsBoundariesPastDeadline() throws InterruptedException {
+    var taskScheduler =
+        TaskScheduler.builder(Executors.newSingleThreadScheduledExecutor())
+            .overrunPolicy(OverrunPolicy.BACKLOG)
+            .build();
+
+    var covered = runWithOverrun(taskScheduler, 2);
+
+    assertEquals(2, taskScheduler.getMetrics().getExpiredBoundaries());
+    assertEquals(List.of(1, 1), covered);
+  }
+
+  /** Runs the scheduler until the task ran the given number of times; the first run overruns. */
+  private List<Integer> runWithOverrun(TaskScheduler taskScheduler, int runs)
+      throws InterruptedException {
+    var covered = new CopyOnWriteArrayList<Integer>();
+    var executions = new AtomicInteger();
+    var done = new CountDownLatch(runs);
+    taskScheduler.start(
+        () -> {
+          covered.add(taskScheduler.getCoveredBoundaries());
+          if (executions.getAndIncrement() == 0) {
+            sleep(OVERRUN_MILLIS);
+          }
+          done.countDown();
+        },
+        0,
+        INTERVAL_MILLIS);
+    try {
+      assertTrue(done.await(5, TimeUnit.SECONDS), "Task did not run " + runs + " times");
+    } finally {
+      taskScheduler.stop();
+    }
+    return covered.subList(0, runs);
+  }
+
+  private static void sleep(long millis) {
+    try {
+      TimeUnit.MILLISECONDS.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -7,16 +7,20 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.shadow.application.orchestration.HierarchicalTimingWheel;
 import org.shadow.application.robot.common.model.Position;
 import org.shadow.application.robot.common.model.PositionType;
+import org.shadow.application.robot.recovery.StateTransitionType;
 import org.shadow.application.robot.strategy.BinaryStrategy;
 import org.shadow.application.robot.strategy.model.BinaryPositionMomentum;
 import org.shadow.application.robot.strategy.model.BinaryPositionMomentumActionType;
+import org.shadow.domain.client.AsyncExchangeOrderClient;
 import org.shadow.domain.client.ExchangeOrderClient;
 import org.shadow.domain.client.model.Order;
 import org.shadow.domain.client.model.OrderType;
@@ -66,9 +70,15 @@ class ExploringSinglePositionHandlerTest {
             eq(BigDecimal.valueOf(0.01)),
             eq(5));
 
-    verify(robot).setPosition(new Position(PositionType.LONG, order.entry(), List.of(), stopLoss));
+    var position = new Position(PositionType.LONG, order.entry(), List.of(), stopLoss);
+    verify(robot).setPosition(position);
     verify(robot).setOrder(order);
     verify(robot).setRobotPositionState(RobotPositionState.IN_POSITION);
+
+    var inOrder = inOrder(robot, exchangeOrderClient);
+    inOrder.verify(robot).recordTransition(eq(StateTransitionType.OPEN_INTENDED), any(), isNull());
+    inOrder.verify(exchangeOrderClient).openLongOrder(any(), any(), any(), any(), any(), any());
+    inOrder.verify(robot).recordTransition(StateTransitionType.OPEN_CONFIRMED, position, order);
   }
 
   @Test
@@ -101,6 +111,76 @@ class ExploringSinglePositionHandlerTest {
     verify(robot).setRobotPositionState(RobotPositionState.IN_POSITION);
   }
 
+  @Test
+  void testHandle_LongMomentum_UnansweredAsyncOrderRequiresOperatorAction() {
+    var stopLoss = Optional.of(BigDecimal.valueOf(100.0));
+    var momentum = new BinaryPositionMomentum(BinaryPositionMomentumActionType.LONG, stopLoss);
+    when(strategy.calculatePositionMomentum(any())).thenReturn(momentum);
+
+    var asyncClient = mock(AsyncExchangeOrderClient.class);
+    var response = new CompletableFuture<Order>();
+    when(asyncClient.openLongOrderAsync(any(), any(), any(), any(), any(), any()))
+        .thenReturn(response);
+    when(robot.getExchangeOrderClient()).thenReturn(asyncClient);
+    when(robot.getSymbol()).thenReturn("BTCUSD");
+
+    try (var wheel = HierarchicalTimingWheel.withDefaultWorkers(1, 16)) {
+      when(robot.getPendingOrderTimeout()).thenReturn(new PendingOrderTimeout(wheel, 20));
+
+      positionHandler.handle(robot);
+
+      verify(robot).setRobotPositionState(RobotPositionState.ORDER_PENDING);
+      // The order may still be placed, so the open stays intended until an operator resolves it
+      verify(robot, timeout(5_000))
+          .setRobotPositionState(RobotPositionState.OPERATOR_ACTION_REQUIRED);
+      verify(robot, never()).setRobotPositionState(RobotPositionState.EXPLORING);
+      verify(robot, never()).recordTransition(eq(StateTransitionType.OPEN_FAILED), any(), any());
+
+      // The late answer is applied while the robot still waits for the operator
+      when(robot.getRobotPositionState()).thenReturn(RobotPositionState.OPERATOR_ACTION_REQUIRED);
+      var order = new Order(3L, BigDecimal.valueOf(150.0), Instant.now(), OrderType.MARKET);
+      response.complete(order);
+
+      var position = new Position(PositionType.LONG, order.entry(), List.of(), stopLoss);
+      verify(robot).recordTransition(StateTransitionType.OPEN_CONFIRMED, position, order);
+      verify(robot).setPosition(position);
+      verify(robot).setOrder(order);
+      verify(robot).setRobotPositionState(RobotPositionState.IN_POSITION);
+    }
+  }
+
+  @Test
+  void testHandle_LongMomentum_LateOrderAfterResolvedOpenIsClosed() {
+    var stopLoss = Optional.of(BigDecimal.valueOf(100.0));
+    var momentum = new BinaryPositionMomentum(BinaryPositionMomentumActionType.LONG, stopLoss);
+    when(strategy.calculatePositionMomentum(any())).thenReturn(momentum);
+
+    var asyncClient = mock(AsyncExchangeOrderClient.class);
+    var response = new CompletableFuture<Order>();
+    when(asyncClient.openLongOrderAsync(any(), any(), any(), any(), any(), any()))
+        .thenReturn(response);
+    when(asyncClient.closeOrderAsync(any())).thenReturn(CompletableFuture.completedFuture(null));
+    when(robot.getExchangeOrderClient()).thenReturn(asyncClient);
+    when(robot.getSymbol()).thenReturn("BTCUSD");
+
+    try (var wheel = HierarchicalTimingWheel.withDefaultWorkers(1, 16)) {
+      when(robot.getPendingOrderTimeout()).thenReturn(new PendingOrderTimeout(wheel, 20));
+
+      positionHandler.handle(robot);
+      verify(robot, timeout(5_000))
+          .setRobotPositionState(RobotPositionState.OPERATOR_ACTION_REQUIRED);
+
+      // An operator resolved the open before the answer arrived
+      when(robot.getRobotPositionState()).thenReturn(RobotPositionState.EXPLORING);
+      var order = new Order(4L, BigDecimal.valueOf(150.0), Instant.now(), OrderType.MARKET);
+      response.complete(order);
+
+      verify(asyncClient).closeOrderAsync(order);
+      verify(robot, never()).setPosition(any());
+      verify(robot, never()).setRobotPositionState(RobotPositionState.IN_POSITION);
+    }
+  }
+
   @Test
   void testHandle_LongMomentum_WithoutStopLoss() {
     var momentum =
@@ -7,14 +7,18 @@ import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.shadow.application.orchestration.HierarchicalTimingWheel;
 import org.shadow.application.robot.common.model.Position;
 import org.shadow.application.robot.common.model.PositionType;
+import org.shadow.application.robot.recovery.StateTransitionType;
 import org.shadow.application.robot.strategy.BinaryStrategy;
+import org.shadow.domain.client.AsyncExchangeOrderClient;
 import org.shadow.domain.client.ExchangeOrderClient;
 import org.shadow.domain.client.model.Order;
 
@@ -64,6 +68,32 @@ class InSinglePositionHandlerTest {
     verify(robot).setPosition(null);
     verify(robot).setOrder(null);
     verify(robot).setRobotPositionState(RobotPositionState.EXPLORING);
+
+    var inOrder = inOrder(robot, exchangeOrderClient);
+    inOrder
+        .verify(robot)
+        .recordTransition(StateTransitionType.CLOSE_INTENDED, currentPosition, order);
+    inOrder.verify(exchangeOrderClient).closeOrder(order);
+    inOrder.verify(robot).recordTransition(StateTransitionType.CLOSE_CONFIRMED, null, order);
+  }
+
+  @Test
+  void testHandle_UnansweredAsyncCloseReturnsToPosition() {
+    when(strategy.isTimeToClosePositionInAdvance(any(), eq(currentPosition))).thenReturn(true);
+    var asyncClient = mock(AsyncExchangeOrderClient.class);
+    when(asyncClient.closeOrderAsync(order)).thenReturn(new CompletableFuture<>());
+    when(robot.getExchangeOrderClient()).thenReturn(asyncClient);
+
+    try (var wheel = HierarchicalTimingWheel.withDefaultWorkers(1, 16)) {
+      when(robot.getPendingOrderTimeout()).thenReturn(new PendingOrderTimeout(wheel, 20));
+
+      positionHandler.handle(robot);
+
+      verify(robot).setRobotPositionState(RobotPositionState.ORDER_PENDING);
+      verify(robot, timeout(5_000)).setRobotPositionState(RobotPositionState.IN_POSITION);
+      verify(robot).recordTransition(StateTransitionType.CLOSE_FAILED, currentPosition, order);
+      verify(robot, never()).setPosition(any());
+    }
   }
 
   @Test
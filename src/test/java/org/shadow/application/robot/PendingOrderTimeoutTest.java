@@ -0,0 +1,105 @@
+package org.shadow.application.robot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.shadow.application.orchestration.HierarchicalTimingWheel;
+
+class PendingOrderTimeoutTest {
+
+  private static final BiConsumer<Object, Throwable> IGNORE_LATE = (value, throwable) -> {};
+
+  private HierarchicalTimingWheel wheel;
+
+  @BeforeEach
+  void setUp() {
+    wheel = HierarchicalTimingWheel.withDefaultWorkers(1, 16);
+  }
+
+  @AfterEach
+  void tearDown() {
+    wheel.close();
+  }
+
+  @Test
+  void testUnansweredOrderTimesOut() {
+    var response = new CompletableFuture<String>();
+
+    var lateResponses = new ArrayList<String>();
+
+    var bounded = new PendingOrderTimeout(wheel, 20).bound(response, IGNORE_LATE);
+
+    var exception = assertThrows(ExecutionException.class, () -> bounded.get(5, TimeUnit.SECONDS));
+    assertInstanceOf(TimeoutException.class, exception.getCause());
+
+    response.complete("late");
+    assertTrue(bounded.isCompletedExceptionally(), "Late response must not replace the timeout");
+  }
+
+  @Test
+  void testLateResponseIsHandedToLateResponseHandler() {
+    var response = new CompletableFuture<String>();
+    var lateResponses = new ArrayList<String>();
+
+    var bounded =
+        new PendingOrderTimeout(wheel, 20)
+            .bound(response, (value, throwable) -> lateResponses.add(value));
+    assertThrows(ExecutionException.class, () -> bounded.get(5, TimeUnit.SECONDS));
+
+    response.complete("late");
+
+    assertEquals(List.of("late"), lateResponses);
+  }
+
+  @Test
+  void testResponseInTimeIsNotLate() throws Exception {
+    var response = new CompletableFuture<String>();
+    var lateResponses = new ArrayList<String>();
+
+    var bounded =
+        new PendingOrderTimeout(wheel, 5_000)
+            .bound(response, (value, throwable) -> lateResponses.add(value));
+    response.complete("filled");
+
+    assertEquals("filled", bounded.get(1, TimeUnit.SECONDS));
+    assertTrue(lateResponses.isEmpty());
+  }
+
+  @Test
+  void testResponseInTimeIsPassedOn() throws Exception {
+    var response = new CompletableFuture<String>();
+
+    var bounded = new PendingOrderTimeout(wheel, 5_000).bound(response, IGNORE_LATE);
+    response.complete("filled");
+
+    assertEquals("filled", bounded.get(1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void testFailedResponseIsPassedOn() {
+    var response = new CompletableFuture<String>();
+
+    var bounded = new PendingOrderTimeout(wheel, 5_000).bound(response, IGNORE_LATE);
+    response.completeExceptionally(new IllegalStateException("rejected"));
+
+    var exception = assertThrows(ExecutionException.class, () -> bounded.get(1, TimeUnit.SECONDS));
+    assertInstanceOf(IllegalStateException.class, exception.getCause());
+  }
+
+  @Test
+  void testNoneWaitsWithoutBound() {
+    var response = new CompletableFuture<String>();
+
+    assertSame(response, PendingOrderTimeout.NONE.bound(response, IGNORE_LATE));
+    assertSame(response, new PendingOrderTimeout(wheel, 0).bound(response, IGNORE_LATE));
+  }
+}
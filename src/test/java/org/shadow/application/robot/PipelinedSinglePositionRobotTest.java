@@ -0,0 +1,166 @@
+package org.shadow.application.robot;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.shadow.application.metrics.CyclePhaseRecorder;
+import org.shadow.application.robot.common.model.Bar;
+import org.shadow.application.robot.pipeline.StageMetrics;
+import org.shadow.application.robot.strategy.BinaryStrategy;
+import org.shadow.application.robot.strategy.model.BinaryPositionMomentum;
+import org.shadow.application.robot.strategy.model.BinaryPositionMomentumActionType;
+import org.shadow.application.robot.strategy.model.BinaryStrategyEvaluation;
+import org.shadow.domain.client.ExchangeOrderClient;
+import org.shadow.domain.client.model.Order;
+import org.shadow.domain.client.model.OrderType;
+
+class PipelinedSinglePositionRobotTest {
+
+  private static final long TIMEOUT_MILLIS = 5_000;
+
+  @Mock private SinglePositionRobot robot;
+
+  @Mock private BinaryStrategy strategy;
+
+  @Mock private ExchangeOrderClient exchangeOrderClient;
+
+  private final List<Bar> bars =
+      List.of(
+          new Bar(
+              Instant.now(),
+              BigDecimal.ONE,
+              BigDecimal.TEN,
+              BigDecimal.ZERO,
+              BigDecimal.ONE,
+              BigDecimal.TEN));
+  private final BinaryStrategyEvaluation evaluation =
+      new BinaryStrategyEvaluation(false, 2, List.of(), List.of());
+  private final BinaryPositionMomentum longMomentum =
+      new BinaryPositionMomentum(
+          BinaryPositionMomentumActionType.LONG, Optional.of(BigDecimal.valueOf(0.5)));
+
+  private PipelinedSinglePositionRobot pipelinedRobot;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    pipelinedRobot = new PipelinedSinglePositionRobot(robot, 4);
+
+    when(robot.getSymbol()).thenReturn("BTCUSD");
+    when(robot.getStrategy()).thenReturn(strategy);
+    when(robot.getExchangeOrderClient()).thenReturn(exchangeOrderClient);
+    when(robot.getLogger()).thenReturn(mock(Logger.class));
+    when(robot.getCyclePhaseRecorder()).thenReturn(mock(CyclePhaseRecorder.class));
+    when(robot.getPercentageFromDeposit()).thenReturn(BigDecimal.valueOf(0.01));
+    when(robot.getOrderFuturesMultiplier()).thenReturn(5);
+    when(robot.hasRequiredBars()).thenReturn(true);
+    when(robot.getBars()).thenReturn(bars);
+    when(strategy.evaluate(bars)).thenReturn(evaluation);
+    when(strategy.calculatePositionMomentum(evaluation, bars)).thenReturn(longMomentum);
+    when(exchangeOrderClient.openLongOrder(any(), any(), any(), any(), any(), any()))
+        .thenReturn(new Order(1L, BigDecimal.ONE, Instant.now(), OrderType.MARKET));
+  }
+
+  @AfterEach
+  void tearDown() {
+    pipelinedRobot.stop();
+  }
+
+  @Test
+  void testTickIsHandedOffThroughEveryStage() {
+    when(robot.getRobotPositionState()).thenReturn(RobotPositionState.EXPLORING);
+
+    pipelinedRobot.init();
+    pipelinedRobot.run();
+
+    verify(exchangeOrderClient, timeout(TIMEOUT_MILLIS))
+        .openLongOrder(
+            eq("BTCUSD"),
+            eq(null),
+            eq(null),
+            eq(BigDecimal.valueOf(0.5)),
+            eq(BigDecimal.valueOf(0.01)),
+            eq(5));
+    verify(robot, timeout(TIMEOUT_MILLIS)).setRobotPositionState(RobotPositionState.IN_POSITION);
+    var inOrder = inOrder(robot, strategy, exchangeOrderClient);
+    inOrder.verify(robot).collectBars();
+    inOrder.verify(robot).snapshotIfDue();
+    inOrder.verify(strategy).evaluate(bars);
+    inOrder.verify(strategy).calculatePositionMomentum(evaluation, bars);
+    inOrder.verify(exchangeOrderClient).openLongOrder(any(), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void testDecisionIsDroppedWhenStateChangedBeforeSubmission() {
+    // The strategy stage sees EXPLORING, an earlier order confirms before the order stage runs
+    when(robot.getRobotPositionState())
+        .thenReturn(RobotPositionState.EXPLORING, RobotPositionState.IN_POSITION);
+
+    pipelinedRobot.init();
+    pipelinedRobot.run();
+
+    awaitStageProcessedEvents(List.of(1L, 1L, 1L, 1L));
+    verify(strategy).calculatePositionMomentum(evaluation, bars);
+    verifyNoInteractions(exchangeOrderClient);
+    verify(robot, never()).setRobotPositionState(any());
+    verify(robot, never()).recordTransition(any(), any(), any());
+  }
+
+  @Test
+  void testTicksAreDroppedWhenIngestBufferIsFull() {
+    // Stages are not started, so nothing drains the ingest buffer
+    for (var i = 0; i < 6; i++) {
+      pipelinedRobot.run();
+    }
+
+    assertEquals(2, pipelinedRobot.getDroppedTicks());
+    assertEquals(List.of(4, 0, 0, 0), pipelinedRobot.getQueueDepths());
+    verify(robot, never()).collectBars();
+  }
+
+  @Test
+  void testStageMetricsCountEveryProcessedEvent() {
+    when(robot.getRobotPositionState()).thenReturn(RobotPositionState.ORDER_PENDING);
+
+    pipelinedRobot.init();
+    pipelinedRobot.run();
+    pipelinedRobot.run();
+
+    // Pending orders stop the decision at the strategy stage
+    awaitStageProcessedEvents(List.of(2L, 2L, 2L, 0L));
+    assertEquals(
+        List.of("ingest", "indicators", "strategy", "orders"),
+        pipelinedRobot.getStageMetrics().stream().map(StageMetrics::getStageName).toList());
+    assertEquals(List.of(0, 0, 0, 0), pipelinedRobot.getQueueDepths());
+    assertEquals(0, pipelinedRobot.getDroppedTicks());
+    verifyNoInteractions(exchangeOrderClient);
+  }
+
+  private void awaitStageProcessedEvents(List<Long> expected) {
+    var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MILLIS);
+    while (!processedEvents().equals(expected)) {
+      if (System.nanoTime() > deadline) {
+        fail("Expected processed events " + expected + " but was " + processedEvents());
+      }
+      Thread.yield();
+    }
+  }
+
+  private List<Long> processedEvents() {
+    return pipelinedRobot.getStageMetrics().stream()
+        .map(StageMetrics::getProcessedEvents)
+        .toList();
+  }
+}
@@ -13,17 +13,28 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.shadow.application.robot.common.model.Position;
 import org.shadow.application.robot.common.model.PositionType;
+import org.shadow.application.robot.recovery.StateTransition;
+import org.shadow.application.robot.recovery.StateTransitionLog;
+import org.shadow.application.robot.recovery.StateTransitionType;
+import org.shadow.application.robot.snapshot.RobotSnapshot;
+import org.shadow.application.robot.snapshot.RobotSnapshotStore;
 import org.shadow.application.robot.strategy.Strategy;
 import org.shadow.application.robot.strategy.model.BinaryPositionMomentum;
 import org.shadow.application.robot.strategy.model.BinaryPositionMomentumActionType;
+import org.shadow.application.robot.strategy.model.BinaryStrategyEvaluation;
 import org.shadow.domain.client.BarsCollectorClient;
 import org.shadow.domain.client.ExchangeOrderClient;
+import org.shadow.domain.client.OrderFillListener;
 import org.shadow.domain.client.model.Bar;
 import org.shadow.domain.client.model.Order;
+import org.shadow.domain.client.model.OrderFill;
+import org.shadow.domain.client.model.OrderFillType;
+import org.shadow.domain.client.model.OrderType;
 
 class SinglePositionRobotTest {
 
@@ -31,7 +42,7 @@ class SinglePositionRobotTest {
 
   @Mock private ExchangeOrderClient exchangeOrderClient;
 
-  @Mock private Strategy<BinaryPositionMomentum> binaryStrategy;
+  @Mock private Strategy<BinaryPositionMomentum, BinaryStrategyEvaluation> binaryStrategy;
 
   private SinglePositionRobot robot;
   private final RobotTimeframe robotTimeframe = new RobotTimeframe(TimeUnit.MINUTES, 1);
@@ -41,6 +52,19 @@ class SinglePositionRobotTest {
   private final Instant initialBarsCollectionDate = Instant.now();
   private final Integer requiredBarsCount = 1;
 
+  private SinglePositionRobot.Builder robotBuilder() {
+    return SinglePositionRobot.builder()
+        .robotTimeframe(robotTimeframe)
+        .barsCollectorClient(barsCollectorClient)
+        .exchangeOrderClient(exchangeOrderClient)
+        .strategy(binaryStrategy)
+        .symbol(symbol)
+        .percentageFromDeposit(percentageFromDeposit)
+        .futuresMultiplier(futuresMultiplier)
+        .initialBarsCollectionDate(initialBarsCollectionDate)
+        .requiredBarsCount(requiredBarsCount);
+  }
+
   @BeforeEach
   void setUp() {
     MockitoAnnotations.openMocks(this);
@@ -79,6 +103,232 @@ class SinglePositionRobotTest {
 
     verify(barsCollectorClient)
         .collectBars(any(), anyLong(), any(Instant.class), any(Instant.class));
+    verify(exchangeOrderClient, never()).addOrderFillListener(anyLong(), any());
+  }
+
+  @Test
+  void testInitRestoresSnapshotAndOnlyCollectsNewerBars() {
+    var snapshotStore = mock(RobotSnapshotStore.class);
+    var position =
+        new Position(
+            PositionType.LONG,
+            BigDecimal.valueOf(150.0),
+            Collections.emptyList(),
+            Optional.of(BigDecimal.valueOf(100.0)));
+    var lastBar =
+        new org.shadow.application.robot.common.model.Bar(
+            Instant.now().minusSeconds(60),
+            BigDecimal.ONE,
+            BigDecimal.TEN,
+            BigDecimal.ZERO,
+            BigDecimal.ONE,
+            BigDecimal.TEN);
+    when(snapshotStore.load(symbol, robotTimeframe))
+        .thenReturn(
+            Optional.of(
+                new RobotSnapshot(
+                    symbol,
+                    robotTimeframe,
+                    Instant.now(),
+                    RobotPositionState.IN_POSITION,
+                    position,
+                    null,
+                    List.of(lastBar))));
+    when(snapshotStore.getSnapshotIntervalMillis()).thenReturn(Long.MAX_VALUE);
+    var restoredRobot = robotBuilder().requiredBarsCount(2).snapshotStore(snapshotStore).build();
+
+    restoredRobot.init();
+
+    assertEquals(RobotPositionState.IN_POSITION, restoredRobot.getRobotPositionState());
+    assertEquals(List.of(position), restoredRobot.getPositions());
+    assertEquals(2, restoredRobot.getBars().size());
+    assertEquals(lastBar, restoredRobot.getBars().getFirst());
+    verify(barsCollectorClient)
+        .collectBars(any(), anyLong(), eq(lastBar.time()), any(Instant.class));
+
+    restoredRobot.stop();
+    verify(snapshotStore).save(any());
+  }
+
+  @Test
+  void testInitRecoversPositionFromTransitionNewerThanSnapshot() {
+    var snapshotStore = mock(RobotSnapshotStore.class);
+    var transitionLog = mock(StateTransitionLog.class);
+    var snapshotTime = Instant.now().minusSeconds(600);
+    when(snapshotStore.load(symbol, robotTimeframe))
+        .thenReturn(
+            Optional.of(
+                new RobotSnapshot(
+                    symbol,
+                    robotTimeframe,
+                    snapshotTime,
+                    RobotPositionState.EXPLORING,
+                    null,
+                    null,
+                    List.of())));
+    var position =
+        new Position(
+            PositionType.SHORT, null, Collections.emptyList(), Optional.of(BigDecimal.TEN));
+    var order = new Order(3, null, snapshotTime.plusSeconds(60), OrderType.MARKET);
+    when(transitionLog.getLastTransition(symbol, robotTimeframe))
+        .thenReturn(
+            Optional.of(
+                new StateTransition(
+                    snapshotTime.plusSeconds(60),
+                    symbol,
+                    robotTimeframe,
+                    StateTransitionType.OPEN_CONFIRMED,
+                    position,
+                    order)));
+    var recoveredRobot =
+        robotBuilder()
+            .requiredBarsCount(2)
+            .snapshotStore(snapshotStore)
+            .transitionLog(transitionLog)
+            .build();
+
+    recoveredRobot.init();
+
+    assertEquals(RobotPositionState.IN_POSITION, recoveredRobot.getRobotPositionState());
+    assertEquals(List.of(position), recoveredRobot.getPositions());
+    assertEquals(order, recoveredRobot.getOrder());
+  }
+
+  @Test
+  void testInitResolvesPendingCloseOfSnapshot() {
+    var snapshotStore = mock(RobotSnapshotStore.class);
+    var position =
+        new Position(
+            PositionType.LONG,
+            BigDecimal.valueOf(150.0),
+            Collections.emptyList(),
+            Optional.of(BigDecimal.valueOf(100.0)));
+    var order = new Order(4, BigDecimal.valueOf(150.0), Instant.now(), OrderType.MARKET);
+    when(snapshotStore.load(symbol, robotTimeframe))
+        .thenReturn(
+            Optional.of(
+                new RobotSnapshot(
+                    symbol,
+                    robotTimeframe,
+                    Instant.now(),
+                    RobotPositionState.ORDER_PENDING,
+                    position,
+                    order,
+                    List.of())));
+    var restoredRobot = robotBuilder().snapshotStore(snapshotStore).build();
+
+    restoredRobot.init();
+
+    assertEquals(RobotPositionState.IN_POSITION, restoredRobot.getRobotPositionState());
+    assertEquals(List.of(position), restoredRobot.getPositions());
+    assertEquals(order, restoredRobot.getOrder());
+  }
+
+  @Test
+  void testInitStopsTradingOnPendingOpenOfSnapshotUntilResolved() {
+    var snapshotStore = mock(RobotSnapshotStore.class);
+    var transitionLog = mock(StateTransitionLog.class);
+    var snapshotTime = Instant.now().minusSeconds(60);
+    when(snapshotStore.load(symbol, robotTimeframe))
+        .thenReturn(
+            Optional.of(
+                new RobotSnapshot(
+                    symbol,
+                    robotTimeframe,
+                    snapshotTime,
+                    RobotPositionState.ORDER_PENDING,
+                    null,
+                    null,
+                    List.of())));
+    // The intent is durable before the order goes pending, so it is older than the snapshot
+    when(transitionLog.getLastTransition(symbol, robotTimeframe))
+        .thenReturn(
+            Optional.of(
+                new StateTransition(
+                    snapshotTime.minusMillis(5),
+                    symbol,
+                    robotTimeframe,
+                    StateTransitionType.OPEN_INTENDED,
+                    new Position(
+                        PositionType.LONG,
+                        null,
+                        Collections.emptyList(),
+                        Optional.of(BigDecimal.TEN)),
+                    null)));
+    var restoredRobot =
+        robotBuilder().snapshotStore(snapshotStore).transitionLog(transitionLog).build();
+
+    restoredRobot.init();
+
+    assertEquals(
+        RobotPositionState.OPERATOR_ACTION_REQUIRED, restoredRobot.getRobotPositionState());
+    assertTrue(restoredRobot.getPositions().isEmpty());
+    assertNull(restoredRobot.getOrder());
+
+    restoredRobot.resolveInterruptedOpen();
+
+    assertEquals(RobotPositionState.EXPLORING, restoredRobot.getRobotPositionState());
+    verify(transitionLog)
+        .append(argThat(transition -> transition.type() == StateTransitionType.OPEN_FAILED));
+  }
+
+  @Test
+  void testExchangeFillsUpdateEntryAndStopOutThePosition() {
+    var transitionLog = mock(StateTransitionLog.class);
+    var filledRobot = robotBuilder().transitionLog(transitionLog).build();
+    var order = new Order(5, null, Instant.now(), OrderType.MARKET);
+    filledRobot.setOrder(order);
+    filledRobot.setPosition(
+        new Position(
+            PositionType.LONG, null, Collections.emptyList(), Optional.of(BigDecimal.TEN)));
+    filledRobot.setRobotPositionState(RobotPositionState.IN_POSITION);
+
+    filledRobot.onOrderFilled(
+        new OrderFill(5, OrderFillType.ENTRY, BigDecimal.valueOf(12), Instant.now()));
+
+    assertEquals(BigDecimal.valueOf(12), filledRobot.getOrder().entry());
+    assertEquals(BigDecimal.valueOf(12), filledRobot.getPositions().getFirst().entry());
+
+    filledRobot.onOrderFilled(
+        new OrderFill(6, OrderFillType.STOP_LOSS, BigDecimal.TEN, Instant.now()));
+    assertEquals(RobotPositionState.IN_POSITION, filledRobot.getRobotPositionState());
+
+    filledRobot.onOrderFilled(
+        new OrderFill(5, OrderFillType.STOP_LOSS, BigDecimal.TEN, Instant.now()));
+
+    assertEquals(RobotPositionState.EXPLORING, filledRobot.getRobotPositionState());
+    assertTrue(filledRobot.getPositions().isEmpty());
+    assertNull(filledRobot.getOrder());
+    verify(transitionLog)
+        .append(
+            argThat(
+                transition ->
+                    transition.type() == StateTransitionType.CLOSE_CONFIRMED
+                        && transition.order().id() == 5));
+  }
+
+  @Test
+  void testExchangeFillsAreAppliedByTheCycleThread() {
+    var filledRobot = robotBuilder().build();
+    filledRobot.setOrder(new Order(7, null, Instant.now(), OrderType.MARKET));
+    filledRobot.setPosition(
+        new Position(
+            PositionType.LONG, null, Collections.emptyList(), Optional.of(BigDecimal.TEN)));
+    filledRobot.setRobotPositionState(RobotPositionState.IN_POSITION);
+    var listener = ArgumentCaptor.forClass(OrderFillListener.class);
+    verify(exchangeOrderClient).addOrderFillListener(eq(7L), listener.capture());
+
+    listener
+        .getValue()
+        .onOrderFilled(new OrderFill(7, OrderFillType.STOP_LOSS, BigDecimal.TEN, Instant.now()));
+
+    assertEquals(RobotPositionState.IN_POSITION, filledRobot.getRobotPositionState());
+    assertNotNull(filledRobot.getOrder());
+
+    filledRobot.applyOrderFills();
+
+    assertEquals(RobotPositionState.EXPLORING, filledRobot.getRobotPositionState());
+    assertNull(filledRobot.getOrder());
   }
 
   @Test
@@ -95,6 +345,27 @@ class SinglePositionRobotTest {
         .collectBars(any(), anyLong(), any(Instant.class), any(Instant.class));
   }
 
+  @Test
+  void testCatchUpCollectsTheMissedRangeOnceWithoutDuplicates() {
+    var start = Instant.parse("2024-01-01T00:00:00Z");
+    var first = bar(start);
+    var missed = List.of(first, bar(start.plusSeconds(60)), bar(start.plusSeconds(120)));
+    when(barsCollectorClient.collectBars(any(), anyLong(), any(Instant.class), any(Instant.class)))
+        .thenReturn(List.of(first), missed);
+    var catchingUpRobot = robotBuilder().requiredBarsCount(4).build();
+    catchingUpRobot.init();
+
+    catchingUpRobot.catchUp(2);
+
+    // The window already holds the first bar, the client returns it again with the missed ones
+    assertEquals(
+        missed.stream().map(Bar::time).toList(),
+        catchingUpRobot.getBars().stream().map(bar -> bar.time()).toList());
+    verify(barsCollectorClient, times(2))
+        .collectBars(any(), anyLong(), any(Instant.class), any(Instant.class));
+    verify(barsCollectorClient).collectBars(any(), anyLong(), eq(start), any(Instant.class));
+  }
+
   @Test
   void testRun_InPositionState() {
     var order = mock(Order.class);
@@ -172,6 +443,11 @@ class SinglePositionRobotTest {
     assertFalse(getPrivateIsRunning(robot), "isRunning should be false after run execution");
   }
 
+  private static Bar bar(Instant time) {
+    return new Bar(
+        time, BigDecimal.ONE, BigDecimal.TEN, BigDecimal.ZERO, BigDecimal.ONE, BigDecimal.TEN);
+  }
+
   private RobotPositionState getPrivateRobotPositionState(SinglePositionRobot robot) {
     try {
       var field = SinglePositionRobot.class.getDeclaredField("robotPositionState");
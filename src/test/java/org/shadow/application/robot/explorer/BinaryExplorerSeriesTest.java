@@ -0,0 +1,93 @@
+package org.shadow.application.robot.explorer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.shadow.application.robot.common.model.Bar;
+import org.shadow.application.robot.explorer.model.BinaryIsMomentumExplorationState;
+
+class BinaryExplorerSeriesTest {
+
+  private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+  private final List<Bar> bars = createBars(200);
+
+  @Test
+  void testRSISeriesMatchesExploringBarByBar() {
+    assertSeriesMatchesExploringBarByBar(
+        () -> new RSIBinaryExplorer(1, 7, 25.0, 75.0, 35.0, 65.0, 45.0, 55.0));
+  }
+
+  @Test
+  void testMACDSeriesMatchesExploringBarByBar() {
+    assertSeriesMatchesExploringBarByBar(
+        () -> new MACDBinaryExplorer(1, 12, 26, 9, 0.5, 0.2, 0.05));
+  }
+
+  @Test
+  void testBollingerBandsSeriesMatchesExploringBarByBar() {
+    assertSeriesMatchesExploringBarByBar(
+        () -> new BollingerBandsBinaryExplorer(1, 20, 2.0, 0.0, 1.0, 0.2, 0.8, 0.4, 0.6));
+  }
+
+  @Test
+  void testStochasticOscillatorSeriesMatchesExploringBarByBar() {
+    assertSeriesMatchesExploringBarByBar(
+        () -> new StochasticOscillatorExplorer(1, 14, 3, 20.0, 80.0, 30.0, 70.0, 40.0, 60.0));
+  }
+
+  private void assertSeriesMatchesExploringBarByBar(Supplier<BinaryExplorer> explorerSupplier) {
+    var highs = bars.stream().mapToDouble(bar -> bar.high().doubleValue()).toArray();
+    var lows = bars.stream().mapToDouble(bar -> bar.low().doubleValue()).toArray();
+    var closes = bars.stream().mapToDouble(bar -> bar.close().doubleValue()).toArray();
+
+    var series = explorerSupplier.get().exploreSeries(highs, lows, closes);
+
+    assertEquals(bars.size(), series.length());
+    var explorer = explorerSupplier.get();
+    var readyStates = 0;
+    for (var i = 0; i < bars.size(); i++) {
+      var window = bars.subList(0, i + 1);
+      var longState = explorer.isMomentumToLong(window);
+      var shortState = explorer.isMomentumToShort(window);
+
+      assertEquals(longState, series.longStates()[i], "Long state mismatch at index " + i);
+      assertEquals(shortState, series.shortStates()[i], "Short state mismatch at index " + i);
+      if (i + 1 >= explorer.getIndicator().getRequiredPeriodThreshold()) {
+        assertEquals(
+            explorer.getLastIndicatorValue(),
+            series.indicatorValues()[i],
+            1e-9,
+            "Indicator value mismatch at index " + i);
+      } else {
+        assertTrue(Double.isNaN(series.indicatorValues()[i]));
+      }
+      if (longState != BinaryIsMomentumExplorationState.NOT_READY
+          || shortState != BinaryIsMomentumExplorationState.NOT_READY) {
+        readyStates++;
+      }
+    }
+    assertTrue(readyStates > 0, "Expected the series to reach states other than NOT_READY");
+  }
+
+  private static List<Bar> createBars(int count) {
+    var bars = new ArrayList<Bar>(count);
+    for (var i = 0; i < count; i++) {
+      var close = 100.0 + 8.0 * Math.sin(i / 6.0) + 3.0 * Math.sin(i / 1.7);
+      bars.add(
+          new Bar(
+              START.plusSeconds(60L * i),
+              BigDecimal.valueOf(close),
+              BigDecimal.valueOf(close + 0.5 + (i % 5) * 0.1),
+              BigDecimal.valueOf(close - 0.5 - (i % 3) * 0.1),
+              BigDecimal.valueOf(close),
+              BigDecimal.ONE));
+    }
+    return bars;
+  }
+}
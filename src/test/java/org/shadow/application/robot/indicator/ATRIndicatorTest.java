@@ -104,4 +104,24 @@ class ATRIndicatorTest {
     var actualMessage = exception.getMessage();
     assertTrue(actualMessage.contains(expectedMessage));
   }
+
+  @Test
+  void testCalculateSeriesMatchesCalculate() {
+    var highs = new double[] {48.70, 48.72, 48.90, 48.87, 48.82, 49.05, 49.20, 49.35};
+    var lows = new double[] {47.79, 48.14, 48.39, 48.37, 48.24, 48.64, 48.94, 48.86};
+    var closes = new double[] {48.16, 48.61, 48.75, 48.63, 48.74, 49.03, 49.07, 49.32};
+    var atrIndicator = new ATRIndicator(3);
+    var atr = new double[closes.length];
+
+    atrIndicator.calculateSeries(highs, lows, closes, atr);
+
+    var atrValues = atrIndicator.calculate(highs, lows, closes);
+    for (var i = 0; i < closes.length; i++) {
+      if (atrValues.get(i) == null) {
+        assertTrue(Double.isNaN(atr[i]), "Expected NaN ATR value at index " + i);
+      } else {
+        assertEquals(atrValues.get(i).doubleValue(), atr[i], "ATR value mismatch at index " + i);
+      }
+    }
+  }
 }
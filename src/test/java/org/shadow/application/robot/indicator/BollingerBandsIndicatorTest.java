@@ -2,7 +2,9 @@ package org.shadow.application.robot.indicator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 import org.shadow.application.robot.indicator.exception.InsufficientDataException;
 
@@ -107,4 +109,32 @@ class BollingerBandsIndicatorTest {
     var variance = varianceSum / period;
     return Math.sqrt(variance);
   }
+
+  @Test
+  void testCalculateSeries_MatchesCalculateOfEveryWindow() {
+    // Given
+    var period = 5;
+    var prices = new double[200];
+    for (var i = 0; i < prices.length; i++) {
+      prices[i] = 60_000.0 + 150.0 * Math.sin(i / 7.0) + (i % 3) * 2.5;
+    }
+    var indicator = new BollingerBandsIndicator(period, 2.0);
+    var upperBand = new double[prices.length];
+    var middleBand = new double[prices.length];
+    var lowerBand = new double[prices.length];
+
+    // When
+    indicator.calculateSeries(prices, upperBand, middleBand, lowerBand);
+
+    // Then
+    for (var i = 0; i < period - 1; i++) {
+      assertTrue(Double.isNaN(middleBand[i]), "Expected NaN middle band at index " + i);
+    }
+    for (var i = period - 1; i < prices.length; i++) {
+      var result = indicator.calculate(Arrays.copyOfRange(prices, i + 1 - period, i + 1));
+      assertEquals(result.upperBand(), upperBand[i], 1e-6, "Upper band mismatch at index " + i);
+      assertEquals(result.middleBand(), middleBand[i], 1e-6, "Middle band mismatch at index " + i);
+      assertEquals(result.lowerBand(), lowerBand[i], 1e-6, "Lower band mismatch at index " + i);
+    }
+  }
 }
@@ -2,6 +2,7 @@ package org.shadow.application.robot.indicator;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Arrays;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.shadow.application.robot.indicator.exception.InsufficientDataException;
@@ -70,4 +71,26 @@ class MACDIndicatorTest {
 
     assertEquals(expectedMACD, result.getHistogram());
   }
+
+  @Test
+  void testCalculateSeriesMatchesCalculateOfEveryPrefix() {
+    var prices = new double[60];
+    for (var i = 0; i < prices.length; i++) {
+      prices[i] = 100.0 + 10.0 * Math.sin(i / 5.0) + i * 0.25;
+    }
+    var macdLine = new double[prices.length];
+    var signalLine = new double[prices.length];
+
+    macdIndicator.calculateSeries(prices, macdLine, signalLine);
+
+    for (var i = 0; i < 34; i++) {
+      assertTrue(Double.isNaN(macdLine[i]), "Expected NaN MACD at index " + i);
+      assertTrue(Double.isNaN(signalLine[i]), "Expected NaN signal at index " + i);
+    }
+    for (var i = 34; i < prices.length; i++) {
+      var result = macdIndicator.calculate(Arrays.copyOf(prices, i + 1));
+      assertEquals(result.macdLine(), macdLine[i]);
+      assertEquals(result.signalLine(), signalLine[i]);
+    }
+  }
 }
@@ -2,6 +2,7 @@ package org.shadow.application.robot.indicator;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 import org.shadow.application.robot.indicator.exception.InsufficientDataException;
 
@@ -85,4 +86,23 @@ class RSIIndicatorTest {
         () -> rsiIndicator.calculate(prices),
         "Should throw exception for period too short");
   }
+
+  @Test
+  void testCalculateSeriesMatchesCalculateOfEveryPrefix() {
+    double[] prices = {
+      45.00, 46.00, 47.50, 48.00, 47.00, 46.50, 45.75, 46.25, 45.50, 44.50, 43.00, 44.00, 45.00,
+      44.00, 45.50, 46.00, 47.25, 46.75, 48.00, 47.50
+    };
+    var rsiIndicator = new RSIIndicator(14);
+    var rsi = new double[prices.length];
+
+    rsiIndicator.calculateSeries(prices, rsi);
+
+    for (var i = 0; i < 14; i++) {
+      assertTrue(Double.isNaN(rsi[i]), "Expected NaN RSI at index " + i);
+    }
+    for (var i = 14; i < prices.length; i++) {
+      assertEquals(rsiIndicator.calculate(Arrays.copyOf(prices, i + 1)).doubleValue(), rsi[i]);
+    }
+  }
 }
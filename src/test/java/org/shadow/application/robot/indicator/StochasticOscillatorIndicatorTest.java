@@ -54,4 +54,37 @@ class StochasticOscillatorIndicatorTest {
     }
     return bars;
   }
+
+  @Test
+  void testCalculateSeriesMatchesCalculateOfEveryPrefix() {
+    var bars = new ArrayList<Bar>();
+    for (var i = 0; i < 40; i++) {
+      var close = 100 + 10 * Math.sin(i / 3.0);
+      bars.add(
+          new Bar(
+              null,
+              null,
+              BigDecimal.valueOf(close + 1 + i % 4),
+              BigDecimal.valueOf(close - 2 + i % 3),
+              BigDecimal.valueOf(close),
+              null));
+    }
+    var highs = bars.stream().mapToDouble(bar -> bar.high().doubleValue()).toArray();
+    var lows = bars.stream().mapToDouble(bar -> bar.low().doubleValue()).toArray();
+    var closes = bars.stream().mapToDouble(bar -> bar.close().doubleValue()).toArray();
+    var indicator = new StochasticOscillatorIndicator(14, 3);
+    var percentK = new double[bars.size()];
+    var percentD = new double[bars.size()];
+
+    indicator.calculateSeries(highs, lows, closes, percentK, percentD);
+
+    for (var i = 0; i < 15; i++) {
+      Assertions.assertTrue(Double.isNaN(percentD[i]), "Expected NaN %D at index " + i);
+    }
+    for (var i = 15; i < bars.size(); i++) {
+      var result = indicator.calculate(bars.subList(0, i + 1));
+      assertEquals(result.percentK(), percentK[i], 1e-9);
+      assertEquals(result.percentD(), percentD[i], 1e-9);
+    }
+  }
 }
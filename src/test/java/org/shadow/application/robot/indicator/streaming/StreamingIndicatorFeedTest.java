@@ -0,0 +1,230 @@
+package org.shadow.application.robot.indicator.streaming;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.shadow.application.robot.common.model.Bar;
+import org.shadow.application.robot.indicator.ATRIndicator;
+import org.shadow.application.robot.indicator.BollingerBandsIndicator;
+import org.shadow.application.robot.indicator.MACDIndicator;
+import org.shadow.application.robot.indicator.RSIIndicator;
+import org.shadow.application.robot.indicator.StochasticOscillatorIndicator;
+
+class StreamingIndicatorFeedTest {
+
+  private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+  private static final double DELTA = 1e-9;
+
+  @Test
+  void testWarmUpMatchesBatchIndicators() {
+    var history = bars(500, 42);
+    var prices = closes(history);
+
+    var rsi = new StreamingIndicatorFeed<>(new StreamingRSI(14));
+    rsi.warmUp(history);
+    assertEquals(new RSIIndicator(14).calculate(prices), rsi.getIndicator().getRSI(), DELTA);
+
+    var macd = new StreamingIndicatorFeed<>(new StreamingMACD(12, 26, 9));
+    macd.warmUp(history);
+    var macdResult = new MACDIndicator(12, 26, 9).calculate(prices);
+    assertEquals(macdResult.macdLine(), macd.getIndicator().getMACDLine(), DELTA);
+    assertEquals(macdResult.signalLine(), macd.getIndicator().getSignalLine(), DELTA);
+
+    var bands = new StreamingIndicatorFeed<>(new StreamingBollingerBands(20, 2.0));
+    bands.warmUp(history);
+    var bandsResult = new BollingerBandsIndicator(20, 2.0).calculate(prices);
+    assertEquals(bandsResult.upperBand(), bands.getIndicator().getUpperBand(), DELTA);
+    assertEquals(bandsResult.middleBand(), bands.getIndicator().getMiddleBand(), DELTA);
+    assertEquals(bandsResult.lowerBand(), bands.getIndicator().getLowerBand(), DELTA);
+
+    var stochastic = new StreamingIndicatorFeed<>(new StreamingStochasticOscillator(14, 3));
+    stochastic.warmUp(history);
+    var stochasticResult = new StochasticOscillatorIndicator(14, 3).calculate(history);
+    assertEquals(stochasticResult.percentK(), stochastic.getIndicator().getPercentK(), DELTA);
+    assertEquals(stochasticResult.percentD(), stochastic.getIndicator().getPercentD(), DELTA);
+
+    var atr = new StreamingIndicatorFeed<>(new StreamingATR(7));
+    atr.warmUp(history);
+    var atrValues =
+        new ATRIndicator(7).calculate(highs(history), lows(history), closes(history));
+    assertEquals(atrValues.getLast(), atr.getIndicator().getATR(), DELTA);
+  }
+
+  @Test
+  void testStreamedBarsMatchBatchIndicatorsOverTheWholeHistory() {
+    var history = bars(300, 7);
+    var rsi = new StreamingIndicatorFeed<>(new StreamingRSI(14));
+    var macd = new StreamingIndicatorFeed<>(new StreamingMACD(12, 26, 9));
+    var atr = new StreamingIndicatorFeed<>(new StreamingATR(7));
+    var warmUpBars = 60;
+    rsi.warmUp(history.subList(0, warmUpBars));
+    macd.warmUp(history.subList(0, warmUpBars));
+    atr.warmUp(history.subList(0, warmUpBars));
+
+    for (var end = warmUpBars + 1; end <= history.size(); end++) {
+      var seen = history.subList(0, end);
+      var prices = closes(seen);
+      // The robot window only holds the latest bars, the smoothing carries on across it
+      var window = seen.subList(end - warmUpBars, end);
+
+      assertEquals(new RSIIndicator(14).calculate(prices), rsi.sync(window).getRSI(), DELTA);
+      assertEquals(
+          new MACDIndicator(12, 26, 9).calculate(prices).getHistogram(),
+          macd.sync(window).getHistogram(),
+          DELTA);
+      assertEquals(
+          new ATRIndicator(7).calculate(highs(seen), lows(seen), prices).getLast(),
+          atr.sync(window).getATR(),
+          DELTA);
+    }
+  }
+
+  @Test
+  void testStreamedBarsMatchBatchIndicatorsOverTheSlidingWindow() {
+    var history = bars(300, 11);
+    var bands = new StreamingIndicatorFeed<>(new StreamingBollingerBands(20, 2.0));
+    var stochastic = new StreamingIndicatorFeed<>(new StreamingStochasticOscillator(14, 3));
+    var windowSize = 40;
+
+    for (var end = windowSize; end <= history.size(); end++) {
+      var window = history.subList(end - windowSize, end);
+
+      var bandsResult = new BollingerBandsIndicator(20, 2.0).calculate(closes(window));
+      bands.sync(window);
+      assertEquals(bandsResult.upperBand(), bands.getIndicator().getUpperBand(), DELTA);
+      assertEquals(bandsResult.lowerBand(), bands.getIndicator().getLowerBand(), DELTA);
+
+      var stochasticResult = new StochasticOscillatorIndicator(14, 3).calculate(window);
+      stochastic.sync(window);
+      assertEquals(stochasticResult.percentK(), stochastic.getIndicator().getPercentK(), DELTA);
+      assertEquals(stochasticResult.percentD(), stochastic.getIndicator().getPercentD(), DELTA);
+    }
+  }
+
+  @Test
+  void testWindowNotContinuingTheFedBarsIsWarmedUpAgain() {
+    var feed = new StreamingIndicatorFeed<>(new StreamingRSI(14));
+    var first = bars(100, 1);
+    var second = bars(100, 2);
+
+    feed.sync(first);
+    feed.sync(second);
+
+    assertEquals(
+        new RSIIndicator(14).calculate(closes(second)), feed.getIndicator().getRSI(), DELTA);
+  }
+
+  @Test
+  void testIndicatorIsNotReadyBeforeItsRequiredBars() {
+    var feed = new StreamingIndicatorFeed<>(new StreamingMACD(12, 26, 9));
+    var history = bars(40, 3);
+
+    feed.warmUp(history.subList(0, 34));
+    assertFalse(feed.getIndicator().isReady());
+    assertTrue(Double.isNaN(feed.getIndicator().getHistogram()));
+
+    feed.sync(history.subList(0, 35));
+    assertTrue(feed.getIndicator().isReady());
+  }
+
+  @Test
+  void testStreamingUpdatesDisagreeingWithTheBatchKernelFailTheWarmUp() {
+    var feed = new StreamingIndicatorFeed<>(new DivergingIndicator());
+
+    var exception = assertThrows(IllegalStateException.class, () -> feed.warmUp(bars(50, 5)));
+    assertTrue(exception.getMessage().contains("Diverging"), exception.getMessage());
+  }
+
+  private static List<Bar> bars(int count, long seed) {
+    var random = new Random(seed);
+    var bars = new ArrayList<Bar>(count);
+    var price = 60_000.0;
+    for (var i = 0; i < count; i++) {
+      var open = price;
+      price = price * (1 + (random.nextDouble() - 0.5) * 0.004);
+      var high = Math.max(open, price) * (1 + random.nextDouble() * 0.001);
+      var low = Math.min(open, price) * (1 - random.nextDouble() * 0.001);
+      bars.add(
+          new Bar(
+              START.plusSeconds(60L * i),
+              BigDecimal.valueOf(open),
+              BigDecimal.valueOf(high),
+              BigDecimal.valueOf(low),
+              BigDecimal.valueOf(price),
+              BigDecimal.ONE));
+    }
+    return bars;
+  }
+
+  private static double[] highs(List<Bar> bars) {
+    return bars.stream().mapToDouble(bar -> bar.high().doubleValue()).toArray();
+  }
+
+  private static double[] lows(List<Bar> bars) {
+    return bars.stream().mapToDouble(bar -> bar.low().doubleValue()).toArray();
+  }
+
+  private static double[] closes(List<Bar> bars) {
+    return bars.stream().mapToDouble(bar -> bar.close().doubleValue()).toArray();
+  }
+
+  /** Sums the closes in its kernel but counts them in its updates. */
+  private static class DivergingIndicator implements StreamingIndicator {
+
+    private double value;
+
+    @Override
+    public void warmUp(double[] highs, double[] lows, double[] closes, int from, int to) {
+      for (var i = from; i < to; i++) {
+        value += closes[i];
+      }
+    }
+
+    @Override
+    public void update(double high, double low, double close) {
+      value++;
+    }
+
+    @Override
+    public boolean isReady() {
+      return true;
+    }
+
+    @Override
+    public double[] getValues() {
+      return new double[] {value};
+    }
+
+    @Override
+    public void reset() {
+      value = 0;
+    }
+
+    @Override
+    public StreamingIndicator copy() {
+      var copy = new DivergingIndicator();
+      copy.value = value;
+      return copy;
+    }
+
+    @Override
+    public String getName() {
+      return "Diverging";
+    }
+
+    @Override
+    public int getPeriod() {
+      return 1;
+    }
+
+    @Override
+    public int getRequiredPeriodThreshold() {
+      return 1;
+    }
+  }
+}
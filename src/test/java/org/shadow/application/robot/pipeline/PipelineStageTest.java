@@ -0,0 +1,156 @@
+package org.shadow.application.robot.pipeline;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.Test;
+
+class PipelineStageTest {
+
+  private static final long TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+  @Test
+  void testEventsAreHandedOffToTheNextStageInOrder() throws InterruptedException {
+    var input = new SpscRingBuffer<>(4, AtomicLong::new);
+    var middle = new SpscRingBuffer<>(4, AtomicLong::new);
+    var received = new CopyOnWriteArrayList<Long>();
+    var doubling =
+        new PipelineStage<>(
+            "doubling",
+            input,
+            middle,
+            (event, output) -> {
+              output.set(event.get() * 2);
+              return true;
+            });
+    var collecting =
+        new PipelineStage<>(
+            "collecting",
+            middle,
+            null,
+            (event, output) -> {
+              received.add(event.get());
+              return false;
+            });
+    var threads = start(doubling, collecting);
+
+    for (var value = 1L; value <= 10; value++) {
+      publish(input, value);
+    }
+    awaitTrue(() -> received.size() == 10);
+    stop(threads, doubling, collecting);
+
+    assertEquals(List.of(2L, 4L, 6L, 8L, 10L, 12L, 14L, 16L, 18L, 20L), received);
+    assertEquals(10, doubling.getMetrics().getProcessedEvents());
+    assertEquals(10, collecting.getMetrics().getProcessedEvents());
+    assertEquals("doubling", doubling.getMetrics().getStageName());
+    assertEquals(0, input.size());
+    assertEquals(0, middle.size());
+  }
+
+  @Test
+  void testFilteredAndFailedEventsAreNotForwarded() throws InterruptedException {
+    var input = new SpscRingBuffer<>(4, AtomicLong::new);
+    var output = new SpscRingBuffer<>(4, AtomicLong::new);
+    var stage =
+        new PipelineStage<>(
+            "filtering",
+            input,
+            output,
+            (event, slot) -> {
+              if (event.get() == 3) {
+                throw new IllegalStateException("Broken event");
+              }
+              slot.set(event.get());
+              return event.get() % 2 == 0;
+            });
+    var threads = start(stage);
+
+    for (var value = 1L; value <= 4; value++) {
+      publish(input, value);
+    }
+    awaitTrue(() -> stage.getMetrics().getProcessedEvents() == 4);
+    stop(threads, stage);
+
+    assertEquals(2, output.size());
+    assertEquals(2, output.peek().get());
+    output.release();
+    assertEquals(4, output.peek().get());
+    assertEquals(0, input.size(), "A failed event must still be released");
+  }
+
+  @Test
+  void testFullNextStageIsWaitedOnInsteadOfDropping() throws InterruptedException {
+    var input = new SpscRingBuffer<>(8, AtomicLong::new);
+    var output = new SpscRingBuffer<>(2, AtomicLong::new);
+    var stage =
+        new PipelineStage<>(
+            "blocked",
+            input,
+            output,
+            (event, slot) -> {
+              slot.set(event.get());
+              return true;
+            });
+    for (var value = 1L; value <= 4; value++) {
+      publish(input, value);
+    }
+    var threads = start(stage);
+
+    awaitTrue(() -> stage.getMetrics().getBackpressureWaits() > 0);
+    assertEquals(2, stage.getMetrics().getProcessedEvents());
+    assertEquals(2, input.size(), "Events waiting for the next stage must stay queued");
+    assertTrue(stage.getMetrics().getMaxQueueDepth() >= 2);
+
+    output.peek();
+    output.release();
+    awaitTrue(() -> stage.getMetrics().getProcessedEvents() == 3);
+    stop(threads, stage);
+
+    assertEquals(1, input.size());
+    assertEquals(2, output.size());
+  }
+
+  private static void publish(SpscRingBuffer<AtomicLong> buffer, long value) {
+    awaitTrue(() -> buffer.claim() != null);
+    buffer.claim().set(value);
+    buffer.publish();
+  }
+
+  private static List<Thread> start(PipelineStage<?>... stages) {
+    return List.of(stages).stream()
+        .map(
+            stage -> {
+              var thread = new Thread(stage, "test-" + stage.getMetrics().getStageName());
+              thread.setDaemon(true);
+              thread.start();
+              return thread;
+            })
+        .toList();
+  }
+
+  private static void stop(List<Thread> threads, PipelineStage<?>... stages)
+      throws InterruptedException {
+    for (var stage : stages) {
+      stage.stop();
+    }
+    for (var thread : threads) {
+      thread.join(TimeUnit.NANOSECONDS.toMillis(TIMEOUT_NANOS));
+      assertFalse(thread.isAlive(), "Stage " + thread.getName() + " did not stop");
+    }
+  }
+
+  private static void awaitTrue(BooleanSupplier condition) {
+    var deadline = System.nanoTime() + TIMEOUT_NANOS;
+    while (!condition.getAsBoolean()) {
+      if (System.nanoTime() > deadline) {
+        fail("Condition not met within the timeout");
+      }
+      Thread.yield();
+    }
+  }
+}
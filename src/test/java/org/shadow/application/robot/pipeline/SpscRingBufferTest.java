@@ -0,0 +1,141 @@
+package org.shadow.application.robot.pipeline;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class SpscRingBufferTest {
+
+  @Test
+  void testClaimPublishPeekRelease() {
+    var buffer = new SpscRingBuffer<>(4, AtomicLong::new);
+
+    var slot = buffer.claim();
+    slot.set(42);
+    buffer.publish();
+
+    assertEquals(1, buffer.size());
+    assertEquals(42, buffer.peek().get());
+    buffer.release();
+    assertEquals(0, buffer.size());
+    assertNull(buffer.peek());
+  }
+
+  @Test
+  void testClaimReturnsNullWhenFull() {
+    var buffer = new SpscRingBuffer<>(2, AtomicLong::new);
+
+    buffer.claim();
+    buffer.publish();
+    buffer.claim();
+    buffer.publish();
+
+    assertNull(buffer.claim(), "Claim should fail when all slots are published");
+
+    buffer.peek();
+    buffer.release();
+    assertNotNull(buffer.claim(), "Claim should succeed once a slot is released");
+  }
+
+  @Test
+  void testSlotsArePreallocatedAndReused() {
+    var buffer = new SpscRingBuffer<>(2, AtomicLong::new);
+
+    var first = buffer.claim();
+    buffer.publish();
+    buffer.peek();
+    buffer.release();
+    buffer.claim();
+    buffer.publish();
+    buffer.peek();
+    buffer.release();
+
+    assertSame(first, buffer.claim());
+  }
+
+  @Test
+  void testInvalidCapacity() {
+    assertThrows(IllegalArgumentException.class, () -> new SpscRingBuffer<>(3, AtomicLong::new));
+    assertThrows(IllegalArgumentException.class, () -> new SpscRingBuffer<>(0, AtomicLong::new));
+  }
+
+  @Test
+  void testConcurrentProducerAndConsumerPreserveOrder() throws InterruptedException {
+    var buffer = new SpscRingBuffer<>(8, AtomicLong::new);
+    var count = 100_000L;
+    var consumedSum = new AtomicLong();
+    var outOfOrder = new AtomicLong();
+
+    var consumer =
+        new Thread(
+            () -> {
+              var expected = 0L;
+              while (expected < count) {
+                var slot = buffer.peek();
+                if (slot == null) {
+                  Thread.yield();
+                  continue;
+                }
+                if (slot.get() != expected) {
+                  outOfOrder.incrementAndGet();
+                }
+                consumedSum.addAndGet(slot.get());
+                buffer.release();
+                expected++;
+              }
+            });
+    consumer.start();
+
+    for (var i = 0L; i < count; i++) {
+      var slot = buffer.claim();
+      while (slot == null) {
+        Thread.yield();
+        slot = buffer.claim();
+      }
+      slot.set(i);
+      buffer.publish();
+    }
+    consumer.join();
+
+    assertEquals(0, outOfOrder.get());
+    assertEquals(count * (count - 1) / 2, consumedSum.get());
+  }
+
+  @Test
+  void testParkedProducerAndConsumerAreWokenByTheOtherSide() throws InterruptedException {
+    var buffer = new SpscRingBuffer<>(2, AtomicLong::new);
+    var count = 10_000L;
+    var consumedSum = new AtomicLong();
+
+    var consumer =
+        new Thread(
+            () -> {
+              for (var consumed = 0L; consumed < count; consumed++) {
+                var slot = buffer.peek();
+                while (slot == null) {
+                  buffer.awaitPublished();
+                  slot = buffer.peek();
+                }
+                consumedSum.addAndGet(slot.get());
+                buffer.release();
+              }
+            });
+    consumer.setDaemon(true);
+    consumer.start();
+
+    for (var i = 0L; i < count; i++) {
+      var slot = buffer.claim();
+      while (slot == null) {
+        buffer.awaitFree();
+        slot = buffer.claim();
+      }
+      slot.set(i);
+      buffer.publish();
+    }
+    consumer.join(5_000);
+
+    assertFalse(consumer.isAlive(), "Consumer missed a wake-up");
+    assertEquals(count * (count - 1) / 2, consumedSum.get());
+  }
+}
@@ -2,12 +2,15 @@ package org.shadow.config;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.shadow.application.robot.blocker.ATRBlocker;
 import org.shadow.application.robot.explorer.BollingerBandsBinaryExplorer;
 import org.shadow.application.robot.explorer.MACDBinaryExplorer;
 import org.shadow.application.robot.explorer.RSIBinaryExplorer;
@@ -15,6 +18,7 @@ import org.shadow.application.robot.explorer.StochasticOscillatorExplorer;
 import org.shadow.application.robot.explorer.model.BinaryIsMomentumExplorationState;
 import org.shadow.application.robot.strategy.BinaryStrategy;
 import org.shadow.config.factory.SinglePositionRobotFactory;
+import org.shadow.config.model.ATRBlockerConfiguration;
 import org.shadow.config.model.BollingerBandsExplorerConfiguration;
 import org.shadow.config.model.MACDExplorerConfiguration;
 import org.shadow.config.model.OrderConfiguration;
@@ -107,10 +111,8 @@ class SinglePositionRobotFactoryTest {
             "BTCUSD",
             orderConfig,
             Optional.empty(),
-            rsiConfig,
-            macdConfig,
-            bollingerConfig,
-            stochasticConfig,
+            List.of(rsiConfig, macdConfig, bollingerConfig, stochasticConfig),
+            List.of(new ATRBlockerConfiguration(7)),
             0, // notReadyMultiplier
             1, // minorMultiplier
             2, // mediumMultiplier
@@ -152,6 +154,9 @@ class SinglePositionRobotFactoryTest {
         explorers.get(3).getClass(),
         "Fourth explorer should be StochasticOscillatorExplorer");
 
+    assertEquals(1, strategy.getBlockers().size(), "There should be one blocker");
+    assertEquals(ATRBlocker.class, strategy.getBlockers().getFirst().getClass());
+
     // Check multipliers
     var multipliers = strategy.getBinaryIsMomentumExplorationStateIntegerMultiplierMap();
     assertEquals(0, multipliers.get(BinaryIsMomentumExplorationState.NOT_READY));
@@ -159,4 +164,36 @@ class SinglePositionRobotFactoryTest {
     assertEquals(2, multipliers.get(BinaryIsMomentumExplorationState.MEDIUM));
     assertEquals(3, multipliers.get(BinaryIsMomentumExplorationState.MAJOR));
   }
+
+  @Test
+  void testCreateRobotBuildsOnlyListedExplorersAndBlockers() {
+    var rsiConfig = new RSIExplorerConfiguration(1, 7, 25.0, 75.0, 35.0, 65.0, 45.0, 55.0);
+    var robotConfig =
+        new RobotConfiguration(
+            RobotType.SINGLE_POSITION,
+            TimeUnit.MINUTES,
+            1L,
+            "BTCUSD",
+            new OrderConfiguration(0.01, 5, 0.02),
+            Optional.empty(),
+            List.of(rsiConfig),
+            List.of(),
+            0,
+            1,
+            2,
+            3);
+
+    var robot =
+        robotFactory.createRobot(
+            robotConfig, mock(BarsCollectorClient.class), mock(ExchangeOrderClient.class));
+
+    var strategy = (BinaryStrategy) robot.getStrategy();
+    assertEquals(1, strategy.getBinaryExplorers().size());
+    assertEquals(RSIBinaryExplorer.class, strategy.getBinaryExplorers().getFirst().getClass());
+    assertTrue(strategy.getBlockers().isEmpty());
+    // The window only covers the RSI period instead of the longest of all indicators
+    assertEquals(
+        strategy.getBinaryExplorers().getFirst().getIndicator().getRequiredPeriodThreshold(),
+        robot.getRequiredBarsCount());
+  }
 }
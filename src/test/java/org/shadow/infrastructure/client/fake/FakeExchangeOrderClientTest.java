@@ -0,0 +1,167 @@
+package org.shadow.infrastructure.client.fake;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.shadow.domain.client.exception.TooManyInFlightRequestsException;
+import org.shadow.domain.client.model.OrderFill;
+import org.shadow.domain.client.model.OrderFillType;
+import org.shadow.infrastructure.client.fake.matching.MatchingEngine;
+
+class FakeExchangeOrderClientTest {
+
+  @Test
+  void testSyncOrderWithoutLatency() {
+    var client = new FakeExchangeOrderClient();
+
+    var order =
+        client.openLongOrder("BTCUSD", null, null, BigDecimal.ONE, BigDecimal.valueOf(0.01), 1);
+
+    assertNotNull(order);
+    assertEquals(0, client.getInFlightRequests());
+  }
+
+  @Test
+  void testAsyncOrderCompletesAfterLatency() throws Exception {
+    var client = new FakeExchangeOrderClient(LatencyModel.fixed(50), 4);
+
+    var future =
+        client.openShortOrderAsync(
+            "BTCUSD", null, null, BigDecimal.ONE, BigDecimal.valueOf(0.01), 1);
+
+    assertFalse(future.isDone(), "Response should not arrive before the simulated latency");
+    assertEquals(1, client.getInFlightRequests());
+
+    var order = future.get(5, TimeUnit.SECONDS);
+    assertNotNull(order);
+    assertEquals(0, client.getInFlightRequests());
+    assertTrue(client.getAverageRoundTripNanos() >= TimeUnit.MILLISECONDS.toNanos(50));
+  }
+
+  @Test
+  void testRequestsAboveInFlightBoundAreRejected() {
+    var client = new FakeExchangeOrderClient(LatencyModel.fixed(1_000), 1);
+
+    var first =
+        client.openLongOrderAsync(
+            "BTCUSD", null, null, BigDecimal.ONE, BigDecimal.valueOf(0.01), 1);
+    var second =
+        client.openLongOrderAsync(
+            "BTCUSD", null, null, BigDecimal.ONE, BigDecimal.valueOf(0.01), 1);
+
+    assertFalse(first.isDone());
+    assertTrue(second.isCompletedExceptionally());
+    var exception = assertThrows(CompletionException.class, second::join);
+    assertInstanceOf(TooManyInFlightRequestsException.class, exception.getCause());
+  }
+
+  @Test
+  void testRejectedRequestsNeverReachTheMatchingEngine() {
+    var matchingEngine = new MatchingEngine(1_000.0, 0.0, 0.0);
+    var client = new FakeExchangeOrderClient(LatencyModel.fixed(1_000), 1, matchingEngine);
+
+    var first =
+        client.openLongOrderAsync(
+            "BTCUSD", null, null, BigDecimal.ONE, BigDecimal.valueOf(0.01), 1);
+    var second =
+        client.openShortOrderAsync(
+            "BTCUSD", null, null, BigDecimal.ONE, BigDecimal.valueOf(0.01), 1);
+    matchingEngine.onBar("BTCUSD", 100.0, 101.0, 99.0, 100.0);
+
+    assertFalse(first.isDone());
+    var exception = assertThrows(CompletionException.class, second::join);
+    assertInstanceOf(TooManyInFlightRequestsException.class, exception.getCause());
+    var ledger = matchingEngine.getLedger("BTCUSD");
+    assertEquals(1, ledger.openPositions(), "Only the accepted order may be filled");
+    assertEquals(1, ledger.fills());
+    assertEquals(1, client.getInFlightRequests());
+  }
+
+  @Test
+  void testMatchingEngineFillsAreReportedToListeners() {
+    var matchingEngine = new MatchingEngine(1_000.0, 0.0, 0.0);
+    var client = new FakeExchangeOrderClient(LatencyModel.none(), 4, matchingEngine);
+    var fills = new ArrayList<OrderFill>();
+
+    var order =
+        client.openShortOrder(
+            "BTCUSD", null, null, BigDecimal.valueOf(110), BigDecimal.valueOf(0.01), 1);
+    client.addOrderFillListener(order.id(), fills::add);
+    matchingEngine.onBar("BTCUSD", 100.0, 101.0, 99.0, 100.0);
+    matchingEngine.onBar("BTCUSD", 105.0, 112.0, 104.0, 111.0);
+
+    assertEquals(2, fills.size());
+    assertEquals(order.id(), fills.get(0).orderId());
+    assertEquals(OrderFillType.ENTRY, fills.get(0).type());
+    assertEquals(0, BigDecimal.valueOf(100.0).compareTo(fills.get(0).price()));
+    assertEquals(OrderFillType.STOP_LOSS, fills.get(1).type());
+    assertEquals(0, BigDecimal.valueOf(110.0).compareTo(fills.get(1).price()));
+  }
+
+  @Test
+  void testFillsAreReportedToTheOwnerOfTheOrderOnly() {
+    var matchingEngine = new MatchingEngine(1_000.0, 0.0, 0.0);
+    var client = new FakeExchangeOrderClient(LatencyModel.none(), 4, matchingEngine);
+    var firstFills = new ArrayList<OrderFill>();
+    var secondFills = new ArrayList<OrderFill>();
+
+    var first =
+        client.openLongOrder("BTCUSD", null, null, BigDecimal.ONE, BigDecimal.valueOf(0.01), 1);
+    var second =
+        client.openShortOrder(
+            "BTCUSD", null, null, BigDecimal.valueOf(110), BigDecimal.valueOf(0.01), 1);
+    client.addOrderFillListener(first.id(), firstFills::add);
+    // Filled and stopped out before the owner of the second order subscribed
+    matchingEngine.onBar("BTCUSD", 100.0, 101.0, 99.0, 100.0);
+    matchingEngine.onBar("BTCUSD", 105.0, 112.0, 104.0, 111.0);
+    assertTrue(secondFills.isEmpty());
+
+    client.addOrderFillListener(second.id(), secondFills::add);
+
+    assertEquals(List.of(first.id()), firstFills.stream().map(OrderFill::orderId).toList());
+    assertEquals(
+        List.of(OrderFillType.ENTRY, OrderFillType.STOP_LOSS),
+        secondFills.stream().map(OrderFill::type).toList());
+    assertTrue(secondFills.stream().allMatch(fill -> fill.orderId() == second.id()));
+  }
+
+  @Test
+  void testSyncRequestsWaitForAFreeInFlightSlot() throws Exception {
+    var client = new FakeExchangeOrderClient(LatencyModel.fixed(50), 1);
+
+    var first =
+        client.openLongOrderAsync(
+            "BTCUSD", null, null, BigDecimal.ONE, BigDecimal.valueOf(0.01), 1);
+    var second =
+        client.openShortOrder("BTCUSD", null, null, BigDecimal.ONE, BigDecimal.valueOf(0.01), 1);
+
+    assertTrue(first.isDone(), "Sync request should only be sent once the slot was released");
+    assertNotNull(second);
+    client.closeOrder(first.get());
+    assertEquals(0, client.getInFlightRequests());
+  }
+
+  @Test
+  void testResponsesAreCorrelatedByOrderId() throws Exception {
+    var client = new FakeExchangeOrderClient(LatencyModel.uniform(5, 20, 7), 8);
+
+    var first =
+        client.openLongOrderAsync(
+            "BTCUSD", null, null, BigDecimal.ONE, BigDecimal.valueOf(0.01), 1);
+    var second =
+        client.openShortOrderAsync(
+            "ETHUSD", null, null, BigDecimal.ONE, BigDecimal.valueOf(0.01), 1);
+
+    var firstOrder = first.get(5, TimeUnit.SECONDS);
+    var secondOrder = second.get(5, TimeUnit.SECONDS);
+
+    assertNotEquals(firstOrder.id(), secondOrder.id());
+    client.closeOrderAsync(firstOrder).get(5, TimeUnit.SECONDS);
+    assertEquals(0, client.getInFlightRequests());
+  }
+}
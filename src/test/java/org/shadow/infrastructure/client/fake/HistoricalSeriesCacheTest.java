@@ -0,0 +1,73 @@
+package org.shadow.infrastructure.client.fake;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.shadow.infrastructure.file.HistoricalDataLoader;
+import org.shadow.infrastructure.file.model.HistoricalDataBar;
+import org.shadow.infrastructure.series.CompressedBarSeries;
+
+class HistoricalSeriesCacheTest {
+
+  @Test
+  void testConcurrentCollectorsShareOneLoad() throws Exception {
+    var loader = new CountingLoader();
+    var cache = new HistoricalSeriesCache(loader);
+    var executor = Executors.newFixedThreadPool(8);
+    try {
+      var tasks = new ArrayList<Callable<CompressedBarSeries>>();
+      for (int i = 0; i < 16; i++) {
+        tasks.add(() -> cache.load("BTCUSDT.json"));
+      }
+      var loaded = new ArrayList<CompressedBarSeries>();
+      for (var future : executor.invokeAll(tasks)) {
+        loaded.add(future.get());
+      }
+
+      assertEquals(1, loader.loads.get());
+      assertTrue(loaded.stream().allMatch(series -> series == loaded.getFirst()));
+      assertEquals(3, loaded.getFirst().size());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testFailedLoadIsRetried() throws IOException {
+    var loader = new CountingLoader();
+    var cache = new HistoricalSeriesCache(loader);
+
+    assertThrows(IOException.class, () -> cache.load("missing.json"));
+    assertThrows(IOException.class, () -> cache.load("missing.json"));
+    assertEquals(2, loader.loads.get());
+  }
+
+  private static class CountingLoader extends HistoricalDataLoader {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Override
+    public List<HistoricalDataBar> load(String fileName) throws IOException {
+      loads.incrementAndGet();
+      if (fileName.startsWith("missing")) {
+        throw new IOException("File not found: " + fileName);
+      }
+      try {
+        // Gives the other collectors time to ask for the file while it is loaded
+        Thread.sleep(100);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return List.of(
+          new HistoricalDataBar(1_000, "1.5", "2", "1", "1.75", "10"),
+          new HistoricalDataBar(2_000, "1.75", "2.5", "1.5", "2", "12"),
+          new HistoricalDataBar(3_000, "2", "2.25", "1.75", "2.25", "8"));
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package org.shadow.infrastructure.client.fake;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class StripedLongIndexTest {
+
+  @Test
+  void testPutGetAndRemove() {
+    var index = new StripedLongIndex<String>(4);
+
+    assertNull(index.put(1L, "one"));
+    assertEquals("one", index.put(1L, "uno"));
+    index.put(2L, "two");
+
+    assertEquals("uno", index.get(1L));
+    assertEquals("two", index.get(2L));
+    assertNull(index.get(3L));
+    assertEquals(2, index.size());
+
+    assertEquals("uno", index.remove(1L));
+    assertNull(index.remove(1L));
+    assertNull(index.get(1L));
+    assertEquals(1, index.size());
+  }
+
+  @Test
+  void testEntriesSurviveResizeAndRemoval() {
+    var index = new StripedLongIndex<Long>(1);
+
+    for (long key = 0; key < 10_000; key++) {
+      index.put(key, key);
+    }
+    for (long key = 0; key < 10_000; key += 2) {
+      assertEquals(Long.valueOf(key), index.remove(key));
+    }
+
+    assertEquals(5_000, index.size());
+    for (long key = 0; key < 10_000; key++) {
+      assertEquals(key % 2 == 0 ? null : key, index.get(key));
+    }
+  }
+
+  @Test
+  void testConcurrentIdAllocationHasNoDuplicates() throws Exception {
+    var allocator = new OrderIdAllocator(1, 64);
+    var index = new StripedLongIndex<Long>();
+    var duplicates = ConcurrentHashMap.<Long>newKeySet();
+    var threads = 8;
+    var idsPerThread = 10_000;
+    var executor = Executors.newFixedThreadPool(threads);
+    var start = new CountDownLatch(1);
+    var futures = new ArrayList<Future<?>>();
+    try {
+      for (int t = 0; t < threads; t++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  for (int i = 0; i < idsPerThread; i++) {
+                    var id = allocator.nextId();
+                    if (index.put(id, id) != null) {
+                      duplicates.add(id);
+                    }
+                  }
+                  return null;
+                }));
+      }
+      start.countDown();
+      for (var future : futures) {
+        future.get(10, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertTrue(duplicates.isEmpty(), "Order ids must be unique across threads");
+    assertEquals(threads * idsPerThread, index.size());
+  }
+}
@@ -0,0 +1,136 @@
+package org.shadow.infrastructure.client.fake.matching;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MatchingEngineTest {
+
+  private static final double DELTA = 1e-9;
+  private static final String SYMBOL = "BTCUSD";
+
+  @Test
+  void testMarketEntryIsFilledAtNextBarOpen() {
+    var engine = new MatchingEngine(1_000.0, 0.0, 0.0);
+
+    engine.submitEntry(1, SYMBOL, OrderSide.LONG, 1.0, Double.NaN, Double.NaN);
+    assertEquals(0, engine.getLedger(SYMBOL).openPositions());
+
+    engine.onBar(SYMBOL, 100.0, 110.0, 95.0, 105.0);
+
+    var ledger = engine.getLedger(SYMBOL);
+    assertEquals(1, ledger.openPositions());
+    assertEquals(10.0, ledger.netQuantity(), DELTA);
+    assertEquals(1_050.0, ledger.equity(), DELTA);
+    assertEquals(1, ledger.fills());
+  }
+
+  @Test
+  void testSlippageAndFeesAreCharged() {
+    var engine = new MatchingEngine(1_000.0, 100.0, 10.0);
+
+    engine.submitEntry(1, SYMBOL, OrderSide.LONG, 1.0, Double.NaN, Double.NaN);
+    engine.onBar(SYMBOL, 100.0, 100.0, 100.0, 100.0);
+
+    var ledger = engine.getLedger(SYMBOL);
+    // Entry at 101 after 1% slippage; 0.1% fee on the 1000 notional
+    assertEquals(1_000.0 / 101.0, ledger.netQuantity(), DELTA);
+    assertEquals(1.0, ledger.feesPaid(), DELTA);
+  }
+
+  @Test
+  void testLongStopLossIsTriggeredIntrabar() {
+    var engine = new MatchingEngine(1_000.0, 0.0, 0.0);
+
+    engine.submitEntry(1, SYMBOL, OrderSide.LONG, 1.0, 90.0, 120.0);
+    engine.onBar(SYMBOL, 100.0, 101.0, 99.0, 100.0);
+    engine.onBar(SYMBOL, 100.0, 101.0, 85.0, 95.0);
+
+    var ledger = engine.getLedger(SYMBOL);
+    assertEquals(0, ledger.openPositions());
+    assertEquals(1, ledger.stopLossFills());
+    assertEquals(-100.0, ledger.realizedPnl(), DELTA);
+    assertEquals(900.0, ledger.equity(), DELTA);
+  }
+
+  @Test
+  void testStopLossGapFillsAtOpen() {
+    var engine = new MatchingEngine(1_000.0, 0.0, 0.0);
+
+    engine.submitEntry(1, SYMBOL, OrderSide.LONG, 1.0, 90.0, Double.NaN);
+    engine.onBar(SYMBOL, 100.0, 100.0, 100.0, 100.0);
+    engine.onBar(SYMBOL, 80.0, 82.0, 78.0, 81.0);
+
+    assertEquals(-200.0, engine.getLedger(SYMBOL).realizedPnl(), DELTA);
+  }
+
+  @Test
+  void testShortTakeProfitIsTriggeredIntrabar() {
+    var engine = new MatchingEngine(1_000.0, 0.0, 0.0);
+
+    engine.submitEntry(1, SYMBOL, OrderSide.SHORT, 1.0, 110.0, 90.0);
+    engine.onBar(SYMBOL, 100.0, 100.0, 100.0, 100.0);
+    engine.onBar(SYMBOL, 98.0, 99.0, 85.0, 95.0);
+
+    var ledger = engine.getLedger(SYMBOL);
+    assertEquals(0, ledger.openPositions());
+    assertEquals(1, ledger.takeProfitFills());
+    assertEquals(100.0, ledger.realizedPnl(), DELTA);
+  }
+
+  @Test
+  void testStopLossWinsWhenBothLevelsAreInsideOneBar() {
+    var engine = new MatchingEngine(1_000.0, 0.0, 0.0);
+
+    engine.submitEntry(1, SYMBOL, OrderSide.LONG, 1.0, 90.0, 110.0);
+    engine.onBar(SYMBOL, 100.0, 100.0, 100.0, 100.0);
+    engine.onBar(SYMBOL, 100.0, 115.0, 85.0, 100.0);
+
+    var ledger = engine.getLedger(SYMBOL);
+    assertEquals(1, ledger.stopLossFills());
+    assertEquals(0, ledger.takeProfitFills());
+  }
+
+  @Test
+  void testCloseIsFilledAtNextBarOpen() {
+    var engine = new MatchingEngine(1_000.0, 0.0, 0.0);
+
+    engine.submitEntry(1, SYMBOL, OrderSide.SHORT, 1.0, Double.NaN, Double.NaN);
+    engine.onBar(SYMBOL, 100.0, 100.0, 100.0, 100.0);
+    assertTrue(engine.submitClose(1));
+    engine.onBar(SYMBOL, 95.0, 96.0, 94.0, 95.0);
+
+    var ledger = engine.getLedger(SYMBOL);
+    assertEquals(0, ledger.openPositions());
+    assertEquals(50.0, ledger.realizedPnl(), DELTA);
+    assertEquals(1_050.0, ledger.equity(), DELTA);
+    assertFalse(engine.submitClose(1), "Closing twice should be a no-op");
+  }
+
+  @Test
+  void testSymbolsHaveSeparateLedgers() {
+    var engine = new MatchingEngine(1_000.0, 0.0, 0.0);
+
+    engine.submitEntry(1, SYMBOL, OrderSide.LONG, 1.0, Double.NaN, Double.NaN);
+    engine.onBar("ETHUSD", 10.0, 10.0, 10.0, 10.0);
+
+    assertEquals(0, engine.getLedger(SYMBOL).openPositions());
+    assertEquals(0, engine.getLedger("ETHUSD").openPositions());
+  }
+
+  @Test
+  void testFillsAreReportedToTheFillListener() {
+    var engine = new MatchingEngine(1_000.0, 0.0, 0.0);
+    var fills = new ArrayList<String>();
+    engine.setFillListener((orderId, type, price) -> fills.add(orderId + " " + type + " " + price));
+
+    engine.submitEntry(1, SYMBOL, OrderSide.LONG, 1.0, 90.0, 120.0);
+    engine.onBar(SYMBOL, 100.0, 101.0, 99.0, 100.0);
+    engine.onBar(SYMBOL, 100.0, 101.0, 85.0, 95.0);
+
+    assertEquals(List.of("1 ENTRY 100.0", "1 STOP_LOSS 90.0"), fills);
+    assertFalse(engine.submitClose(1), "A stopped out order must no longer be indexed");
+  }
+}
@@ -0,0 +1,102 @@
+package org.shadow.infrastructure.client.synthetic;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+class SyntheticBarGeneratorTest {
+
+  private static final Instant START_TIME = Instant.parse("2024-01-01T00:00:00Z");
+  private static final long INTERVAL_MILLIS = 60_000;
+
+  @Test
+  void testSameSeedYieldsSameSeries() {
+    var first = newGenerator(SyntheticMarketParameters.defaults(), 7);
+    var second = newGenerator(SyntheticMarketParameters.defaults(), 7);
+    var other = newGenerator(SyntheticMarketParameters.defaults(), 8);
+
+    var differs = false;
+    for (int i = 0; i < 1_000; i++) {
+      first.next();
+      second.next();
+      other.next();
+      assertEquals(first.getClose(), second.getClose());
+      assertEquals(first.getVolume(), second.getVolume());
+      differs |= first.getClose() != other.getClose();
+    }
+    assertTrue(differs, "Different seeds should yield different series");
+  }
+
+  @Test
+  void testBarsAreConsistent() {
+    var generator = newGenerator(SyntheticMarketParameters.defaults(), 1);
+
+    for (int i = 0; i < 10_000; i++) {
+      generator.next();
+      assertEquals(START_TIME.toEpochMilli() + i * INTERVAL_MILLIS, generator.getTimestamp());
+      assertTrue(generator.getLow() > 0);
+      assertTrue(generator.getLow() <= Math.min(generator.getOpen(), generator.getClose()));
+      assertTrue(generator.getHigh() >= Math.max(generator.getOpen(), generator.getClose()));
+      assertTrue(generator.getVolume() > 0);
+    }
+  }
+
+  @Test
+  void testGapsOpenAwayFromPreviousClose() {
+    var parameters = new SyntheticMarketParameters(100.0, 0.0, 0.6, 0.0, 0.0, 0.0, 1.0, 0.05, 1.0);
+    var generator = newGenerator(parameters, 3);
+
+    generator.next();
+    var previousClose = generator.getClose();
+    generator.next();
+
+    assertNotEquals(previousClose, generator.getOpen());
+  }
+
+  @Test
+  void testVolatilityClusters() {
+    var parameters =
+        new SyntheticMarketParameters(100.0, 0.0, 0.6, 0.15, 0.8, 0.0, 0.0, 0.0, 1.0);
+    var generator = newGenerator(parameters, 11);
+    var bars = 50_000;
+    var squaredReturns = new double[bars];
+    for (int i = 0; i < bars; i++) {
+      generator.next();
+      var logReturn = Math.log(generator.getClose() / generator.getOpen());
+      squaredReturns[i] = logReturn * logReturn;
+    }
+
+    // Large moves follow large moves: squared returns are positively autocorrelated
+    assertTrue(lagOneAutocorrelation(squaredReturns) > 0.05);
+  }
+
+  @Test
+  void testRejectsExplosiveVolatility() {
+    var parameters = new SyntheticMarketParameters(100.0, 0.0, 0.6, 0.5, 0.5, 0.0, 0.0, 0.0, 1.0);
+
+    assertThrows(IllegalArgumentException.class, () -> newGenerator(parameters, 1));
+  }
+
+  private static SyntheticBarGenerator newGenerator(
+      SyntheticMarketParameters parameters, long seed) {
+    return new SyntheticBarGenerator(parameters, seed, START_TIME, INTERVAL_MILLIS);
+  }
+
+  private static double lagOneAutocorrelation(double[] values) {
+    var mean = 0.0;
+    for (var value : values) {
+      mean += value;
+    }
+    mean /= values.length;
+    var covariance = 0.0;
+    var variance = 0.0;
+    for (int i = 0; i < values.length; i++) {
+      variance += (values[i] - mean) * (values[i] - mean);
+      if (i > 0) {
+        covariance += (values[i] - mean) * (values[i - 1] - mean);
+      }
+    }
+    return covariance / variance;
+  }
+}
@@ -0,0 +1,129 @@
+package org.shadow.infrastructure.file;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.shadow.application.robot.RobotPositionState;
+import org.shadow.application.robot.RobotTimeframe;
+import org.shadow.application.robot.common.model.Bar;
+import org.shadow.application.robot.common.model.Position;
+import org.shadow.application.robot.common.model.PositionType;
+import org.shadow.application.robot.snapshot.RobotSnapshot;
+import org.shadow.domain.client.model.Order;
+import org.shadow.domain.client.model.OrderType;
+
+class FileRobotSnapshotStoreTest {
+
+  private static final RobotTimeframe TIMEFRAME = new RobotTimeframe(TimeUnit.MINUTES, 1);
+
+  @TempDir Path directory;
+
+  @Test
+  void testSnapshotIsLoadedBackAfterClose() throws IOException {
+    var snapshot = snapshot(RobotPositionState.IN_POSITION);
+    try (var store = new FileRobotSnapshotStore(directory, 1_000)) {
+      store.save(snapshot);
+    }
+
+    try (var store = new FileRobotSnapshotStore(directory, 1_000)) {
+      assertEquals(Optional.of(snapshot), store.load("BTC/USD", TIMEFRAME));
+      assertEquals(Optional.empty(), store.load("ETH/USD", TIMEFRAME));
+      assertEquals(
+          Optional.empty(), store.load("BTC/USD", new RobotTimeframe(TimeUnit.MINUTES, 5)));
+    }
+  }
+
+  @Test
+  void testLatestSnapshotReplacesThePreviousOne() throws IOException {
+    try (var store = new FileRobotSnapshotStore(directory, 1_000)) {
+      store.save(snapshot(RobotPositionState.EXPLORING));
+      store.save(snapshot(RobotPositionState.ORDER_PENDING));
+    }
+
+    try (var store = new FileRobotSnapshotStore(directory, 1_000)) {
+      assertEquals(
+          RobotPositionState.ORDER_PENDING,
+          store.load("BTC/USD", TIMEFRAME).orElseThrow().robotPositionState());
+    }
+    try (var files = Files.list(directory)) {
+      assertEquals(1, files.count(), "Temporary files should have been renamed");
+    }
+  }
+
+  @Test
+  void testDamagedSnapshotIsIgnored() throws IOException {
+    try (var store = new FileRobotSnapshotStore(directory, 1_000)) {
+      store.save(snapshot(RobotPositionState.IN_POSITION));
+    }
+    try (var files = Files.list(directory)) {
+      var file = files.findFirst().orElseThrow();
+      var bytes = Files.readAllBytes(file);
+      bytes[bytes.length / 2] ^= 0x55;
+      Files.write(file, bytes);
+    }
+
+    try (var store = new FileRobotSnapshotStore(directory, 1_000)) {
+      assertEquals(Optional.empty(), store.load("BTC/USD", TIMEFRAME));
+    }
+  }
+
+  @Test
+  void testSnapshotOfMarketOrderWithoutEntryIsLoadedBack() throws IOException {
+    var snapshot =
+        new RobotSnapshot(
+            "BTC/USD",
+            TIMEFRAME,
+            Instant.parse("2024-01-01T00:01:30Z"),
+            RobotPositionState.IN_POSITION,
+            new Position(PositionType.SHORT, null, List.of(), Optional.empty()),
+            new Order(8, null, null, OrderType.MARKET),
+            snapshot(RobotPositionState.IN_POSITION).bars());
+    try (var store = new FileRobotSnapshotStore(directory, 1_000)) {
+      store.save(snapshot);
+    }
+
+    try (var store = new FileRobotSnapshotStore(directory, 1_000)) {
+      assertEquals(Optional.of(snapshot), store.load("BTC/USD", TIMEFRAME));
+    }
+  }
+
+  private static RobotSnapshot snapshot(RobotPositionState robotPositionState) {
+    var bars =
+        List.of(
+            new Bar(
+                Instant.parse("2024-01-01T00:00:00Z"),
+                new BigDecimal("42000.5"),
+                new BigDecimal("42100"),
+                new BigDecimal("41950.25"),
+                new BigDecimal("42050"),
+                new BigDecimal("12.345")),
+            new Bar(
+                Instant.parse("2024-01-01T00:01:00Z"),
+                new BigDecimal("42050"),
+                new BigDecimal("42060"),
+                new BigDecimal("-1E+3"),
+                new BigDecimal("42010"),
+                new BigDecimal("0.001")));
+    return new RobotSnapshot(
+        "BTC/USD",
+        TIMEFRAME,
+        Instant.parse("2024-01-01T00:01:30Z"),
+        robotPositionState,
+        new Position(
+            PositionType.LONG,
+            new BigDecimal("42010"),
+            List.of(new BigDecimal("43000")),
+            Optional.of(new BigDecimal("41000"))),
+        new Order(7, new BigDecimal("42010"), null, OrderType.MARKET),
+        bars);
+  }
+}
@@ -0,0 +1,125 @@
+package org.shadow.infrastructure.file;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.shadow.application.robot.RobotTimeframe;
+import org.shadow.application.robot.common.model.Position;
+import org.shadow.application.robot.common.model.PositionType;
+import org.shadow.application.robot.recovery.StateTransition;
+import org.shadow.application.robot.recovery.StateTransitionType;
+import org.shadow.domain.client.model.Order;
+import org.shadow.domain.client.model.OrderType;
+
+class FileStateTransitionLogTest {
+
+  private static final RobotTimeframe TIMEFRAME = new RobotTimeframe(TimeUnit.MINUTES, 1);
+
+  @TempDir Path directory;
+
+  @Test
+  void testConcurrentDurableAppendsShareSyncs() throws Exception {
+    var robots = 16;
+    var executor = Executors.newFixedThreadPool(robots);
+    try (var log = new FileStateTransitionLog(directory.resolve("transitions.wal"), 50)) {
+      var start = new CountDownLatch(1);
+      var appends = new ArrayList<Future<?>>();
+      for (int i = 0; i < robots; i++) {
+        var symbol = "SYM" + i;
+        appends.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  log.appendDurably(transition(symbol, StateTransitionType.OPEN_INTENDED));
+                  return null;
+                }));
+      }
+      start.countDown();
+      for (var append : appends) {
+        append.get(10, TimeUnit.SECONDS);
+      }
+
+      assertTrue(log.getSyncs() < robots, "Expected shared syncs but got " + log.getSyncs());
+      for (int i = 0; i < robots; i++) {
+        assertEquals(
+            StateTransitionType.OPEN_INTENDED,
+            log.getLastTransition("SYM" + i, TIMEFRAME).orElseThrow().type());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testLastTransitionOfEveryRobotIsReplayedAfterReopen() throws IOException {
+    var file = directory.resolve("transitions.wal");
+    var confirmed = transition("BTC/USD", StateTransitionType.OPEN_CONFIRMED);
+    try (var log = new FileStateTransitionLog(file, 0)) {
+      log.appendDurably(transition("BTC/USD", StateTransitionType.OPEN_INTENDED));
+      log.append(confirmed);
+      log.appendDurably(transition("ETH/USD", StateTransitionType.CLOSE_INTENDED));
+      log.append(transition("ETH/USD", StateTransitionType.CLOSE_CONFIRMED));
+    }
+
+    try (var log = new FileStateTransitionLog(file, 0)) {
+      assertEquals(Optional.of(confirmed), log.getLastTransition("BTC/USD", TIMEFRAME));
+      assertEquals(
+          StateTransitionType.CLOSE_CONFIRMED,
+          log.getLastTransition("ETH/USD", TIMEFRAME).orElseThrow().type());
+      assertEquals(
+          Optional.empty(),
+          log.getLastTransition("BTC/USD", new RobotTimeframe(TimeUnit.MINUTES, 5)));
+    }
+  }
+
+  @Test
+  void testTornTailIsIgnoredAndAppendingContinues() throws IOException {
+    var file = directory.resolve("transitions.wal");
+    try (var log = new FileStateTransitionLog(file, 0)) {
+      log.appendDurably(transition("BTC/USD", StateTransitionType.OPEN_INTENDED));
+    }
+    // A crash in the middle of a record leaves its length without the whole payload
+    Files.write(file, new byte[] {0, 0, 0, 100, 1, 2, 3}, StandardOpenOption.APPEND);
+
+    try (var log = new FileStateTransitionLog(file, 0)) {
+      assertEquals(
+          StateTransitionType.OPEN_INTENDED,
+          log.getLastTransition("BTC/USD", TIMEFRAME).orElseThrow().type());
+      log.appendDurably(transition("BTC/USD", StateTransitionType.OPEN_FAILED));
+    }
+
+    try (var log = new FileStateTransitionLog(file, 0)) {
+      assertEquals(
+          StateTransitionType.OPEN_FAILED,
+          log.getLastTransition("BTC/USD", TIMEFRAME).orElseThrow().type());
+    }
+  }
+
+  private static StateTransition transition(String symbol, StateTransitionType type) {
+    // Market orders are opened without an entry price
+    return new StateTransition(
+        Instant.parse("2024-01-01T00:01:00Z"),
+        symbol,
+        TIMEFRAME,
+        type,
+        new Position(
+            PositionType.SHORT, null, List.of(), Optional.of(new BigDecimal("42100.5"))),
+        type == StateTransitionType.OPEN_INTENDED
+            ? null
+            : new Order(7, null, Instant.parse("2024-01-01T00:01:00.250Z"), OrderType.MARKET));
+  }
+}
@@ -0,0 +1,39 @@
+package org.shadow.infrastructure.file;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.shadow.infrastructure.client.synthetic.SyntheticBarGenerator;
+import org.shadow.infrastructure.client.synthetic.SyntheticMarketParameters;
+
+class SyntheticDataWriterTest {
+
+  @Test
+  void testWrittenFileIsReadableByHistoricalDataLoader() throws IOException {
+    var startTime = Instant.parse("2024-01-01T00:00:00Z");
+    var generator =
+        new SyntheticBarGenerator(SyntheticMarketParameters.defaults(), 42, startTime, 60_000);
+    var expected =
+        new SyntheticBarGenerator(SyntheticMarketParameters.defaults(), 42, startTime, 60_000);
+    var tempFile = Files.createTempFile("synthetic", ".json");
+
+    try {
+      new SyntheticDataWriter().write(generator, 100, tempFile);
+      var historicalDataBars =
+          new HistoricalDataLoader().load(tempFile.toAbsolutePath().toString());
+
+      assertEquals(100, historicalDataBars.size());
+      for (var historicalDataBar : historicalDataBars) {
+        expected.next();
+        assertEquals(expected.getTimestamp(), historicalDataBar.timestamp());
+        assertEquals(expected.getOpen(), Double.parseDouble(historicalDataBar.open()));
+        assertEquals(expected.getClose(), Double.parseDouble(historicalDataBar.close()));
+      }
+    } finally {
+      Files.deleteIfExists(tempFile);
+    }
+  }
+}
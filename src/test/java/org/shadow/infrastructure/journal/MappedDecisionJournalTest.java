@@ -0,0 +1,107 @@
+package org.shadow.infrastructure.journal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.shadow.application.robot.explorer.model.BinaryIsMomentumExplorationState;
+import org.shadow.application.robot.strategy.model.BinaryDecisionAction;
+import org.shadow.application.robot.strategy.model.BinaryStrategyEvaluation;
+
+class MappedDecisionJournalTest {
+
+  private static final Instant BAR_TIME = Instant.parse("2024-01-01T00:01:00Z");
+
+  @TempDir Path directory;
+
+  @Test
+  void testDecisionsAreReadBackInAppendOrder() throws IOException {
+    var file = directory.resolve("decisions.journal");
+    try (var journal = new MappedDecisionJournal(file, 16)) {
+      assertTrue(journal.append("BTC/USD", evaluation(3), BinaryDecisionAction.LONG));
+      assertTrue(
+          journal.append(
+              "ETH/USD", BinaryStrategyEvaluation.ofBlocked(), BinaryDecisionAction.DO_NOTHING));
+    }
+
+    try (var reader = new DecisionJournalReader(file)) {
+      assertEquals(2, reader.getRecords());
+      var decisions = new ArrayList<String>();
+      reader.forEach(
+          entry ->
+              decisions.add(
+                  entry.getSymbol()
+                      + " "
+                      + entry.getAction()
+                      + " "
+                      + entry.isBlocked()
+                      + " "
+                      + entry.getSeverityDifference()
+                      + " "
+                      + entry.getBarTimeMillis()
+                      + " "
+                      + entry.getExplorerCount()
+                      + (entry.getExplorerCount() > 0
+                          ? " " + entry.getLongState(1) + "/" + entry.getShortState(1)
+                          : "")));
+
+      assertEquals(
+          List.of(
+              "BTC/USD LONG false 3 " + BAR_TIME.toEpochMilli() + " 2 MEDIUM/NOT_READY",
+              "ETH/USD DO_NOTHING true 0 " + Long.MIN_VALUE + " 0"),
+          decisions);
+    }
+  }
+
+  @Test
+  void testReopenedJournalIsAppendedTo() throws IOException {
+    var file = directory.resolve("decisions.journal");
+    for (int run = 0; run < 2; run++) {
+      try (var journal = new MappedDecisionJournal(file, 16)) {
+        for (int i = 0; i < 5; i++) {
+          journal.append("BTC/USD", evaluation(run * 5 + i), BinaryDecisionAction.HOLD);
+        }
+      }
+    }
+
+    try (var reader = new DecisionJournalReader(file)) {
+      var severityDifferences = new ArrayList<Integer>();
+      var matching = new int[1];
+      reader.forEach(
+          entry -> {
+            severityDifferences.add(entry.getSeverityDifference());
+            if (entry.hasSymbol("BTC/USD") && !entry.hasSymbol("BTC")) {
+              matching[0]++;
+            }
+          });
+
+      assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), severityDifferences);
+      assertEquals(10, matching[0]);
+    }
+  }
+
+  @Test
+  void testFileOfAnotherFormatIsRejected() throws IOException {
+    var file = directory.resolve("decisions.journal");
+    Files.write(file, new byte[128]);
+
+    assertThrows(IOException.class, () -> new MappedDecisionJournal(file, 16));
+    assertThrows(IOException.class, () -> new DecisionJournalReader(file));
+  }
+
+  private static BinaryStrategyEvaluation evaluation(int severityDifference) {
+    return new BinaryStrategyEvaluation(
+        false,
+        severityDifference,
+        List.of(BinaryIsMomentumExplorationState.MAJOR, BinaryIsMomentumExplorationState.MEDIUM),
+        List.of(BinaryIsMomentumExplorationState.MINOR, BinaryIsMomentumExplorationState.NOT_READY),
+        new double[] {10, 20},
+        BAR_TIME);
+  }
+}
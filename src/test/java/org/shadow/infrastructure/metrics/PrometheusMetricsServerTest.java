@@ -0,0 +1,111 @@
+package org.shadow.infrastructure.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.shadow.application.metrics.CycleMetricsRegistry;
+import org.shadow.application.metrics.CyclePhase;
+import org.shadow.application.orchestration.Scheduler;
+import org.shadow.application.orchestration.TaskSchedulerMetrics;
+import org.shadow.application.robot.RobotTimeframe;
+
+class PrometheusMetricsServerTest {
+
+  private final HttpClient httpClient = HttpClient.newHttpClient();
+  private PrometheusMetricsServer server;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    var registry = new CycleMetricsRegistry();
+    var metrics = registry.register("BTCUSD", new RobotTimeframe(TimeUnit.MINUTES, 1));
+    metrics.record(CyclePhase.TOTAL, 5_000);
+    metrics.recordBarsCollected(3);
+    metrics.recordOrderSubmission(2_000_000);
+
+    server =
+        new PrometheusMetricsServer(
+            0, new PrometheusMetricsWriter(registry, List.of(new IdleScheduler())));
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.close();
+  }
+
+  @Test
+  void testScrapeExposesRobotSchedulerAndJvmMetrics() throws Exception {
+    var response =
+        httpClient.send(
+            HttpRequest.newBuilder(metricsUri()).GET().build(),
+            HttpResponse.BodyHandlers.ofString());
+
+    assertEquals(200, response.statusCode());
+    assertTrue(
+        response.headers().firstValue("Content-Type").orElseThrow().startsWith("text/plain"));
+    var body = response.body();
+    var robotLabels = "symbol=\"BTCUSD\",timeframe=\"1 MINUTES\"";
+    assertTrue(body.contains("trading_robot_robots 1\n"));
+    assertTrue(body.contains("trading_robot_bars_collected_total{" + robotLabels + "} 3\n"));
+    // 5 us falls into the first power of two bucket above it, 8192 ns
+    assertTrue(
+        body.contains(
+            "trading_robot_cycle_phase_seconds_bucket{"
+                + robotLabels
+                + ",phase=\"total\",le=\"4.096E-6\"} 0\n"));
+    assertTrue(
+        body.contains(
+            "trading_robot_cycle_phase_seconds_bucket{"
+                + robotLabels
+                + ",phase=\"total\",le=\"8.192E-6\"} 1\n"));
+    assertTrue(
+        body.contains("trading_robot_order_submission_seconds_count{" + robotLabels + "} 1\n"));
+    assertTrue(
+        body.contains("trading_robot_scheduler_overruns_total{scheduler=\"batch 1 MINUTES\"} 0\n"));
+    assertTrue(body.contains("jvm_memory_used_bytes{area=\"heap\"}"));
+    assertTrue(body.contains("# TYPE jvm_gc_collections_total counter\n"));
+  }
+
+  @Test
+  void testOnlyGetIsAllowed() throws Exception {
+    var response =
+        httpClient.send(
+            HttpRequest.newBuilder(metricsUri()).POST(HttpRequest.BodyPublishers.noBody()).build(),
+            HttpResponse.BodyHandlers.discarding());
+
+    assertEquals(405, response.statusCode());
+  }
+
+  private URI metricsUri() {
+    return URI.create("http://localhost:" + server.getPort() + "/metrics");
+  }
+
+  private static final class IdleScheduler implements Scheduler {
+
+    private final TaskSchedulerMetrics metrics = new TaskSchedulerMetrics();
+
+    @Override
+    public void start() {}
+
+    @Override
+    public void stop() {}
+
+    @Override
+    public String getName() {
+      return "batch 1 MINUTES";
+    }
+
+    @Override
+    public TaskSchedulerMetrics getMetrics() {
+      return metrics;
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package org.shadow.infrastructure.replay;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.shadow.domain.client.model.Bar;
+import org.shadow.infrastructure.store.PartitionedBarStore;
+
+class MergedBarReplayTest {
+
+  private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+  private static final long MINUTE_MILLIS = 60_000L;
+
+  @TempDir Path directory;
+
+  @Test
+  void testBarsOfAllSymbolsAreReplayedInGlobalTimeOrder() throws IOException {
+    try (var barStore = new PartitionedBarStore(directory)) {
+      // Two days of bars at different intervals, so partitions and chunks interleave
+      barStore.append("BTC/USD", bars(0, 2_880, 1));
+      barStore.append("ETH/USD", bars(0, 2_880, 3));
+      barStore.append("SOL/USD", bars(1_000, 1_100, 1));
+
+      var replayed = new ArrayList<String>();
+      var times = new ArrayList<Long>();
+      var replay =
+          new MergedBarReplay(
+              barStore, List.of("ETH/USD", "BTC/USD", "SOL/USD", "XRP/USD"), START, minute(5_000));
+      var count =
+          replay.replay(
+              (symbol, bar) -> {
+                replayed.add(symbol);
+                times.add(bar.time().toEpochMilli());
+              });
+
+      assertEquals(2_880 + 960 + 100, count);
+      assertEquals(count, replayed.size());
+      for (int i = 1; i < times.size(); i++) {
+        assertTrue(times.get(i - 1) <= times.get(i), "Bar " + i + " replayed out of order");
+      }
+      // Bars of the same time follow the order of the symbols
+      assertEquals(List.of("ETH/USD", "BTC/USD"), replayed.subList(0, 2));
+      assertEquals(2_880, replayed.stream().filter("BTC/USD"::equals).count());
+      assertEquals(100, replayed.stream().filter("SOL/USD"::equals).count());
+    }
+  }
+
+  @Test
+  void testOnlyBarsOfTheRangeAreReplayed() throws IOException {
+    try (var barStore = new PartitionedBarStore(directory)) {
+      barStore.append("BTC/USD", bars(0, 2_880, 1));
+      barStore.append("ETH/USD", bars(0, 2_880, 2));
+
+      var times = new ArrayList<Instant>();
+      var replay =
+          new MergedBarReplay(
+              barStore, List.of("BTC/USD", "ETH/USD"), minute(1_430), minute(1_450));
+      assertEquals(30, replay.replay((symbol, bar) -> times.add(bar.time())));
+      assertEquals(minute(1_430), times.getFirst());
+      assertEquals(minute(1_449), times.getLast());
+    }
+  }
+
+  @Test
+  void testDispatcherHandsBarsToTheCollectorsOfTheirSymbol() throws IOException {
+    try (var barStore = new PartitionedBarStore(directory)) {
+      barStore.append("BTC/USD", bars(0, 10, 1));
+      barStore.append("ETH/USD", bars(0, 10, 1));
+
+      var btcClient = new ReplayedBarsCollectorClient();
+      var ethClient = new ReplayedBarsCollectorClient();
+      var collected = new ArrayList<Bar>();
+      var dispatcher = new ReplayDispatcher();
+      dispatcher.subscribe("BTC/USD", btcClient);
+      // Stands in for the robot, collecting right after each bar was handed over
+      dispatcher.subscribe(
+          "BTC/USD",
+          (symbol, bar) ->
+              collected.addAll(btcClient.collectBars(TimeUnit.MINUTES, 1, null, null)));
+      dispatcher.subscribe("ETH/USD", ethClient);
+
+      new MergedBarReplay(barStore, dispatcher.getSymbols(), START, minute(10)).replay(dispatcher);
+
+      assertEquals(bars(0, 10, 1), collected);
+      assertEquals(10, ethClient.collectBars(TimeUnit.MINUTES, 1, null, null).size());
+      assertTrue(btcClient.collectBars(TimeUnit.MINUTES, 1, null, null).isEmpty());
+    }
+  }
+
+  private static Instant minute(int minute) {
+    return START.plusMillis(minute * MINUTE_MILLIS);
+  }
+
+  private static List<Bar> bars(int fromMinute, int toMinute, int intervalMinutes) {
+    var bars = new ArrayList<Bar>();
+    for (int i = fromMinute; i < toMinute; i += intervalMinutes) {
+      bars.add(
+          new Bar(
+              minute(i),
+              BigDecimal.valueOf(100.5 + i),
+              BigDecimal.valueOf(101.25 + i),
+              BigDecimal.valueOf(99.75 + i),
+              BigDecimal.valueOf(100.0 + i),
+              BigDecimal.valueOf(0.125 * i)));
+    }
+    return bars;
+  }
+}
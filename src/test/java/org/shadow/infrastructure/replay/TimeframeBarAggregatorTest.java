@@ -0,0 +1,98 @@
+package org.shadow.infrastructure.replay;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.shadow.domain.client.model.Bar;
+
+class TimeframeBarAggregatorTest {
+
+  private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+  private static final long MINUTE_MILLIS = 60_000L;
+
+  @Test
+  void testBarsAreAggregatedIntoClosedBarsOfTheTimeframe() {
+    var aggregator = new TimeframeBarAggregator(5 * MINUTE_MILLIS, MINUTE_MILLIS);
+    var completed = new ArrayList<Bar>();
+    var completedAt = new ArrayList<Integer>();
+
+    for (int minute = 0; minute < 12; minute++) {
+      var before = completed.size();
+      aggregator.add(bar(minute, 100 + minute, 100 - minute), completed::add);
+      if (completed.size() > before) {
+        completedAt.add(minute);
+      }
+    }
+
+    // A bucket is complete with its last bar, the bars of minutes 10 and 11 stay open
+    assertEquals(List.of(4, 9), completedAt);
+    assertEquals(
+        new Bar(
+            START,
+            BigDecimal.valueOf(0),
+            BigDecimal.valueOf(104),
+            BigDecimal.valueOf(96),
+            BigDecimal.valueOf(4),
+            BigDecimal.valueOf(5)),
+        completed.getFirst());
+    assertEquals(minute(5), completed.get(1).time());
+    assertEquals(BigDecimal.valueOf(5), completed.get(1).open());
+    assertEquals(BigDecimal.valueOf(9), completed.get(1).close());
+  }
+
+  @Test
+  void testBucketIsCompletedByTheNextBucketAfterAGap() {
+    var aggregator = new TimeframeBarAggregator(5 * MINUTE_MILLIS, MINUTE_MILLIS);
+    var completed = new ArrayList<Bar>();
+
+    aggregator.add(bar(0, 100, 100), completed::add);
+    aggregator.add(bar(1, 100, 100), completed::add);
+    assertTrue(completed.isEmpty());
+
+    // Minutes 2 to 8 are missing, minute 9 completes both buckets
+    aggregator.add(bar(9, 100, 100), completed::add);
+
+    assertEquals(List.of(START, minute(5)), completed.stream().map(Bar::time).toList());
+    assertEquals(BigDecimal.valueOf(2), completed.getFirst().volume());
+    assertEquals(BigDecimal.valueOf(1), completed.get(1).volume());
+  }
+
+  @Test
+  void testBarsOfTheTimeframeArePassedOn() {
+    var aggregator = new TimeframeBarAggregator(MINUTE_MILLIS, MINUTE_MILLIS);
+    var completed = new ArrayList<Bar>();
+
+    aggregator.add(bar(0, 101, 99), completed::add);
+    aggregator.add(bar(1, 102, 98), completed::add);
+
+    assertEquals(List.of(bar(0, 101, 99), bar(1, 102, 98)), completed);
+  }
+
+  @Test
+  void testTimeframeNotMadeOfWholeBarsIsRejected() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new TimeframeBarAggregator(MINUTE_MILLIS, 5 * MINUTE_MILLIS));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new TimeframeBarAggregator(5 * MINUTE_MILLIS, 2 * MINUTE_MILLIS));
+  }
+
+  private static Instant minute(int minute) {
+    return START.plusMillis(minute * MINUTE_MILLIS);
+  }
+
+  private static Bar bar(int minute, int high, int low) {
+    return new Bar(
+        minute(minute),
+        BigDecimal.valueOf(minute),
+        BigDecimal.valueOf(high),
+        BigDecimal.valueOf(low),
+        BigDecimal.valueOf(minute),
+        BigDecimal.ONE);
+  }
+}
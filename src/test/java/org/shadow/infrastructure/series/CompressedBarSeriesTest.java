@@ -0,0 +1,132 @@
+package org.shadow.infrastructure.series;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class CompressedBarSeriesTest {
+
+  private static final long START_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+  private static final long MINUTE_MILLIS = 60_000L;
+  private static final int FIELDS = 6;
+
+  @Test
+  void testBarsAreDecodedBitExact() {
+    var expected = irregularBars(3_000);
+    var series = seriesOf(expected);
+
+    assertEquals(expected.length, series.size());
+    var cursor = series.cursor();
+    for (var bar : expected) {
+      assertTrue(cursor.next());
+      assertBar(bar, cursor);
+    }
+    assertFalse(cursor.next());
+  }
+
+  @Test
+  void testCursorStartsAtAnyBar() {
+    var expected = irregularBars(2_600);
+    var series = seriesOf(expected);
+
+    for (var index : new int[] {0, 1, 1023, 1024, 1025, 2048, 2599}) {
+      var cursor = series.cursor(index);
+      assertTrue(cursor.next(), "Bar " + index);
+      assertBar(expected[index], cursor);
+    }
+    assertFalse(series.cursor(expected.length).next());
+    assertThrows(IndexOutOfBoundsException.class, () -> series.cursor(expected.length + 1));
+  }
+
+  @Test
+  void testCursorAtTimeFindsTheFirstBarNotBefore() {
+    var expected = irregularBars(2_600);
+    var series = seriesOf(expected);
+
+    var exact = series.cursorAt(Instant.ofEpochMilli((long) expected[1500][0]));
+    assertTrue(exact.next());
+    assertBar(expected[1500], exact);
+
+    var between = series.cursorAt(Instant.ofEpochMilli((long) expected[1023][0] + 1));
+    assertTrue(between.next());
+    assertBar(expected[1024], between);
+
+    var before = series.cursorAt(Instant.EPOCH);
+    assertTrue(before.next());
+    assertBar(expected[0], before);
+
+    var after = series.cursorAt(Instant.ofEpochMilli((long) expected[2599][0] + 1));
+    assertFalse(after.next());
+  }
+
+  @Test
+  void testRegularBarsCompressWell() {
+    var random = new SplittableRandom(42);
+    var series = new CompressedBarSeries();
+    var price = 42_000.0;
+    var bars = 100_000;
+    for (int i = 0; i < bars; i++) {
+      var open = price;
+      price = cents(price * (1 + 0.001 * random.nextGaussian()));
+      var high = cents(Math.max(open, price) * (1 + 0.0005 * random.nextDouble()));
+      var low = cents(Math.min(open, price) * (1 - 0.0005 * random.nextDouble()));
+      series.append(
+          START_MILLIS + i * MINUTE_MILLIS, open, high, low, price, random.nextInt(1_000));
+    }
+
+    // Six raw 8-byte fields, before the object overhead of a Bar with BigDecimals and an Instant
+    var bytesPerBar = (double) series.getCompressedBytes() / bars;
+    assertTrue(bytesPerBar < 30, "Compressed to " + bytesPerBar + " bytes per bar");
+  }
+
+  private static CompressedBarSeries seriesOf(double[][] bars) {
+    var series = new CompressedBarSeries();
+    for (var bar : bars) {
+      series.append((long) bar[0], bar[1], bar[2], bar[3], bar[4], bar[5]);
+    }
+    return series;
+  }
+
+  /** Bars with gaps, jitter and special doubles, in ascending time order. */
+  private static double[][] irregularBars(int count) {
+    var random = new SplittableRandom(7);
+    var bars = new double[count][FIELDS];
+    var time = START_MILLIS;
+    var price = 100.0;
+    for (int i = 0; i < count; i++) {
+      time += i % 100 == 99 ? 7 * 24 * 3_600_000L : MINUTE_MILLIS + random.nextInt(-3, 4);
+      price *= 1 + 0.002 * random.nextGaussian();
+      bars[i][0] = time;
+      bars[i][1] = price;
+      bars[i][2] = price * 1.001;
+      bars[i][3] = i % 10 == 0 ? price : price * 0.999;
+      bars[i][4] = cents(price);
+      bars[i][5] = random.nextInt(1_000);
+    }
+    bars[5][1] = Double.NaN;
+    bars[6][2] = Double.POSITIVE_INFINITY;
+    bars[7][3] = -0.0;
+    bars[8][4] = Double.MIN_VALUE;
+    bars[9][5] = -Double.MAX_VALUE;
+    return bars;
+  }
+
+  private static double cents(double value) {
+    return Math.round(value * 100) / 100.0;
+  }
+
+  private static void assertBar(double[] expected, CompressedBarSeries.Cursor cursor) {
+    assertEquals((long) expected[0], cursor.getTimeMillis());
+    assertBits(expected[1], cursor.getOpen());
+    assertBits(expected[2], cursor.getHigh());
+    assertBits(expected[3], cursor.getLow());
+    assertBits(expected[4], cursor.getClose());
+    assertBits(expected[5], cursor.getVolume());
+  }
+
+  private static void assertBits(double expected, double actual) {
+    assertEquals(Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(actual));
+  }
+}
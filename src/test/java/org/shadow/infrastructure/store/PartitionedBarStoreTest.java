@@ -0,0 +1,100 @@
+package org.shadow.infrastructure.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.shadow.domain.client.model.Bar;
+
+class PartitionedBarStoreTest {
+
+  private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+  private static final long HOUR_MILLIS = 3_600_000L;
+
+  @TempDir Path directory;
+
+  @Test
+  void testBarsArePartitionedByDayAndScannedByRange() throws IOException {
+    try (var barStore = new PartitionedBarStore(directory)) {
+      // Three days of hourly bars
+      assertEquals(72, barStore.append("BTC/USD", hourlyBars(0, 72)));
+    }
+
+    try (var barStore = new PartitionedBarStore(directory)) {
+      var partitions = barStore.getPartitions("BTC/USD", hour(30), hour(40));
+      assertEquals(1, partitions.size());
+      assertEquals(LocalDate.parse("2024-01-02"), partitions.getFirst().day());
+      assertEquals(24, partitions.getFirst().bars());
+      assertEquals(3, barStore.getPartitions("BTC/USD", START, hour(72)).size());
+
+      var scanned = new ArrayList<Bar>();
+      assertEquals(30, barStore.scan("BTC/USD", hour(20), hour(50), scanned::add));
+      assertEquals(hourlyBars(20, 50), scanned);
+      assertEquals(0, barStore.scan("ETH/USD", START, hour(72), bar -> {}));
+    }
+  }
+
+  @Test
+  void testOverlappingCollectionsAreOnlyStoredOnce() throws IOException {
+    try (var barStore = new PartitionedBarStore(directory)) {
+      assertEquals(10, barStore.append("BTC/USD", hourlyBars(0, 10)));
+      assertEquals(5, barStore.append("BTC/USD", hourlyBars(5, 15)));
+    }
+
+    try (var barStore = new PartitionedBarStore(directory)) {
+      assertEquals(0, barStore.append("BTC/USD", hourlyBars(0, 15)));
+      assertEquals(2, barStore.append("BTC/USD", hourlyBars(14, 17)));
+      var scanned = new ArrayList<Bar>();
+      barStore.scan("BTC/USD", START, hour(24), scanned::add);
+      assertEquals(hourlyBars(0, 17), scanned);
+    }
+  }
+
+  @Test
+  void testTornRecordIsIgnoredAndOverwritten() throws IOException {
+    try (var barStore = new PartitionedBarStore(directory)) {
+      barStore.append("BTC/USD", hourlyBars(0, 3));
+    }
+    var partition = directory.resolve("BTC_USD").resolve("2024-01-01.bars");
+    Files.write(partition, new byte[] {1, 2, 3, 4, 5}, StandardOpenOption.APPEND);
+
+    try (var barStore = new PartitionedBarStore(directory)) {
+      assertEquals(3, barStore.getPartitions("BTC/USD", START, hour(24)).getFirst().bars());
+      barStore.append("BTC/USD", hourlyBars(3, 5));
+    }
+
+    try (var barStore = new PartitionedBarStore(directory)) {
+      var scanned = new ArrayList<Bar>();
+      barStore.scan("BTC/USD", START, hour(24), scanned::add);
+      assertEquals(hourlyBars(0, 5), scanned);
+    }
+  }
+
+  private static Instant hour(int hour) {
+    return START.plusMillis(hour * HOUR_MILLIS);
+  }
+
+  private static List<Bar> hourlyBars(int fromHour, int toHour) {
+    var bars = new ArrayList<Bar>();
+    for (int i = fromHour; i < toHour; i++) {
+      bars.add(
+          new Bar(
+              hour(i),
+              BigDecimal.valueOf(100.5 + i),
+              BigDecimal.valueOf(101.25 + i),
+              BigDecimal.valueOf(99.75 + i),
+              BigDecimal.valueOf(100.0 + i),
+              BigDecimal.valueOf(0.125 * i)));
+    }
+    return bars;
+  }
+}